@@ -89,6 +89,46 @@ public interface Calendar extends java.io.Serializable, java.lang.Cloneable {
      */
     long getNextIncludedTime(long timeStamp);
 
+    /**
+     * <p>
+     * Determine the end of the range of excluded times that the given time
+     * (in milliseconds) falls in: a time, at or after the given one, such
+     * that the Calendar excludes every time from the given one up to (but
+     * not including) it.  <code>Long.MAX_VALUE</code> means that it
+     * excludes all later times.
+     * </p>
+     * 
+     * <p>
+     * Triggers use it to skip a whole range of excluded times at once,
+     * rather than one fire time at a time.  Returning the given time itself
+     * is always correct (if slower for triggers), and is what the default
+     * implementation does.
+     * </p>
+     */
+    default long getExcludedRangeEnd(long timeStamp) {
+        return timeStamp;
+    }
+
+    /**
+     * <p>
+     * Determine the end of the range of included times that the given time
+     * (in milliseconds), which the Calendar includes, falls in: a time after
+     * the given one such that the Calendar includes every time from the
+     * given one up to (but not including) it.  <code>Long.MAX_VALUE</code>
+     * means that it includes all later times.
+     * </p>
+     * 
+     * <p>
+     * Returning the time following the given one is always correct, and is
+     * what the default implementation does.
+     * </p>
+     * 
+     * @see org.quartz.impl.calendar.CompiledCalendar
+     */
+    default long getIncludedRangeEnd(long timeStamp) {
+        return timeStamp + 1;
+    }
+
     /**
      * <p>
      * Return the description given to the <code>Calendar</code> instance by
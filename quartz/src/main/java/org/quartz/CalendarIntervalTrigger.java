@@ -38,7 +38,9 @@ import org.quartz.DateBuilder.IntervalUnit;
  * if you choose a start time that occurs on January 31st, and have a trigger with unit
  * <code>MONTH</code> and interval <code>1</code>, then the next fire time will be February 28th, 
  * and the next time after that will be March 28th - and essentially each subsequent firing will 
- * occur on the 28th of the month, even if a 31st day exists.  If you want a trigger that always
+ * occur on the 28th of the month, even if a 31st day exists.  Likewise, a trigger with unit
+ * <code>YEAR</code> that starts on February 29th fires on February 28th from the following year on.
+ * If you want a trigger that always
  * fires on the last day of the month - regardless of the number of days in the month, 
  * you should use <code>CronTrigger</code>.</p> 
  * 
@@ -0,0 +1,53 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * An annotation that marks a {@link Job} class as one whose fires are
+ * coalesced while an instance of it (based upon its {@link JobKey}) is
+ * executing.
+ *
+ * <p>
+ * When a trigger of such a job fires while the job is still executing, the
+ * fire does not start another execution.  Instead it becomes the single
+ * pending execution of the job, and any further fires are merged into it,
+ * until the running execution completes and the pending one is run (in the
+ * same worker thread).  The pending execution reports the number of fires
+ * merged into it through {@link JobExecutionContext#getFireCount()}.
+ * </p>
+ *
+ * <p>
+ * This bounds the threads and memory used by jobs that are triggered more
+ * often than they can complete (e.g. a <code>SimpleTrigger</code> repeating
+ * every 100 ms), well before the triggers' misfire threshold is reached.
+ * </p>
+ *
+ * @see DisallowConcurrentExecution
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface CoalesceFires {
+
+}
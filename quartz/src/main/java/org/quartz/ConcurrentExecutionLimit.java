@@ -0,0 +1,57 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * An annotation that marks a {@link Job} class as one that must not have more
+ * than the given number of instances executed concurrently (where instance is
+ * based-upon a {@link JobDetail} definition - or in other words based upon a
+ * {@link JobKey}).
+ *
+ * <p>
+ * Unlike {@link DisallowConcurrentExecution}, the limit is enforced by the
+ * <code>JobStore</code> when triggers are acquired: a trigger whose job already
+ * has the given number of executions in progress is simply not acquired, and
+ * stays queued (in its normal waiting state) until one of them completes.  No
+ * worker thread is occupied while a trigger waits for a permit.
+ * </p>
+ *
+ * <p>
+ * Limits for whole job groups can be configured on the <code>JobStore</code>
+ * with the <code>jobGroupConcurrencyLimits</code> property.
+ * </p>
+ *
+ * @see DisallowConcurrentExecution
+ * @see JobDetail#getConcurrentExecutionLimit()
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ConcurrentExecutionLimit {
+
+    /**
+     * The maximum number of concurrent executions, must be &gt; 0.
+     */
+    int value();
+}
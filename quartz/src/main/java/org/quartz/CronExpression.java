@@ -20,6 +20,14 @@ package org.quartz;
 
 import java.io.Serializable;
 import java.text.ParseException;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.BitSet;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.HashMap;
@@ -31,6 +39,9 @@ import java.util.SortedSet;
 import java.util.StringTokenizer;
 import java.util.TimeZone;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.quartz.utils.EpochDays;
 
 /**
  * Provides a parser and evaluator for unix-like cron expressions. Cron 
@@ -249,6 +260,16 @@ public final class CronExpression implements Serializable, Cloneable {
         dayMap.put("SAT", 7);
     }
 
+    /**
+     * The expressions parsed so far, by their upper case string, up to
+     * <code>MAX_PARSED_EXPRESSIONS</code> of them.  The sets of an expression
+     * are not modified once it is parsed, so an equal expression shares them
+     * rather than parsing its own.  The time zone is not part of the parsed
+     * expression, so the expressions sharing them may be in different ones.
+     */
+    private static final Map<String, CronExpression> parsedExpressions = new ConcurrentHashMap<>();
+    private static final int MAX_PARSED_EXPRESSIONS = 4096;
+
     private final String cronExpression;
     private TimeZone timeZone = null;
     protected transient TreeSet<Integer> seconds;
@@ -263,9 +284,23 @@ public final class CronExpression implements Serializable, Cloneable {
     protected transient boolean lastDayOfWeek = false;
     protected transient int nthDayOfWeek = 0;
     protected transient boolean expressionParsed = false;
+
+    /**
+     * The seconds of the day the expression matches, if it matches more
+     * often than hourly and its days are chosen without 'L', 'W' or '#':
+     * see <code>getTimeAfterBySecondOfDay()</code>.  Shared, like the sets.
+     */
+    private transient BitSet secondsOfDay;
+
+    private transient volatile BitSet allSecondsOfDay;
+
+    private transient volatile TimeZoneRules timeZoneRules;
     
     public static final int MAX_YEAR = Calendar.getInstance().get(Calendar.YEAR) + 100;
 
+    static final long SECONDS_PER_DAY = 24 * 60 * 60;
+    static final long NO_SUCH_TIME = Long.MIN_VALUE;
+
     /**
      * Constructs a new <CODE>CronExpression</CODE> based on the specified 
      * parameter.
@@ -283,7 +318,7 @@ public final class CronExpression implements Serializable, Cloneable {
         
         this.cronExpression = cronExpression.toUpperCase(Locale.US);
         
-        buildExpression(this.cronExpression);
+        parseExpression();
     }
     
     /**
@@ -301,7 +336,7 @@ public final class CronExpression implements Serializable, Cloneable {
          */
         this.cronExpression = expression.getCronExpression();
         try {
-            buildExpression(cronExpression);
+            parseExpression();
         } catch (ParseException ex) {
             throw new AssertionError("Could not parse expression!", ex);
         }
@@ -353,34 +388,149 @@ public final class CronExpression implements Serializable, Cloneable {
      * @return the next valid date/time
      */
     public Date getNextInvalidTimeAfter(Date date) {
-        long difference = 1000;
-        
-        //move back to the nearest second so differences will be accurate
-        Calendar adjustCal = Calendar.getInstance(getTimeZone());
-        adjustCal.setTime(date);
-        adjustCal.set(Calendar.MILLISECOND, 0);
-        Date lastDate = adjustCal.getTime();
-        
-        Date newDate;
-        
-        //FUTURE_TODO: (QUARTZ-481) IMPROVE THIS! The following is a BAD solution to this problem. Performance will be very bad here, depending on the cron expression. It is, however A solution.
-        
-        //keep getting the next included time until it's farther than one second
-        // apart. At that point, lastDate is the last valid fire time. We return
-        // the second immediately following it.
-        while (difference == 1000) {
-            newDate = getTimeAfter(lastDate);
-            if(newDate == null)
-                break;
-            
-            difference = newDate.getTime() - lastDate.getTime();
-            
-            if (difference == 1000) {
-                lastDate = newDate;
+        TimeZone tz = getTimeZone();
+        ZoneRules rules = getZoneRules(tz);
+        BitSet times = (secondsOfDay != null) ? secondsOfDay : getAllSecondsOfDay();
+
+        // keep getting the next included time until it's farther than one
+        // second apart. At that point, lastSecond is the last valid fire time,
+        // and we return the second immediately following it.
+        long lastSecond = Math.floorDiv(date.getTime(), 1000L);
+        while (true) {
+            Date next = getTimeAfter(new Date(lastSecond * 1000L));
+            if (next == null || next.getTime() != (lastSecond + 1) * 1000L) {
+                return new Date((lastSecond + 1) * 1000L);
+            }
+
+            // the seconds after a valid one are valid too, as long as they are
+            // on the same day, their times of the day match, and the offset of
+            // the time zone stays the same
+            long second = lastSecond + 1;
+            LocalFields local = new LocalFields(toLocalSecond(second, tz, rules));
+            int secondOfDay = local.hour * 3600 + local.minute * 60 + local.second;
+            long run = times.nextClearBit(secondOfDay) - secondOfDay;
+            lastSecond = second + Math.min(run, getSecondsOfSameOffset(second, tz, rules)) - 1;
+        }
+    }
+
+    /**
+     * Returns the next date/time <I>after</I> the given date/time which
+     * satisfies the expression as <code>{@link #isSatisfiedBy(Date)}</code>
+     * does: unlike <code>{@link #getNextValidTimeAfter(Date)}</code>, which
+     * gives the later occurrence of a local time that the time zone repeats,
+     * both of its occurrences are returned.
+     * 
+     * @param date the date/time at which to begin the search
+     * @return the next date/time satisfying the expression, or null
+     */
+    public Date getNextSatisfyingTimeAfter(Date date) {
+        TimeZone tz = getTimeZone();
+        ZoneRules rules = getZoneRules(tz);
+        long second = Math.floorDiv(date.getTime(), 1000L);
+
+        long satisfied = Long.MAX_VALUE;
+        Date next = getTimeAfter(new Date(second * 1000L));
+        if (next != null) {
+            satisfied = next.getTime() / 1000L;
+            long earlier = getEarlierOccurrence(satisfied, tz, rules);
+            if (earlier > second) {
+                satisfied = earlier;
             }
         }
-        
-        return new Date(lastDate.getTime() + 1000);
+
+        // the local times from the given one on that the next transition
+        // repeats, and those before them, come again after it
+        long repeatedStart = getStartOfRepeatedRange(second, tz, rules);
+        if (repeatedStart != NO_SUCH_TIME) {
+            Date again = getTimeAfter(new Date((repeatedStart - 1) * 1000L));
+            if (again != null) {
+                satisfied = Math.min(satisfied, again.getTime() / 1000L);
+            }
+        }
+        return (satisfied == Long.MAX_VALUE) ? null : new Date(satisfied * 1000L);
+    }
+
+    /**
+     * Returns the earlier occurrence of the local time of the given second,
+     * if the time zone repeats it, or the given second otherwise.
+     */
+    private static long getEarlierOccurrence(long epochSecond, TimeZone tz, ZoneRules rules) {
+        if (rules == null) {
+            int offset = getOffsetSeconds(tz, epochSecond);
+            int offsetBefore = getOffsetSeconds(tz, epochSecond - SECONDS_PER_DAY);
+            long earlier = epochSecond - (offsetBefore - offset);
+            if (offsetBefore > offset && getOffsetSeconds(tz, earlier) == offsetBefore) {
+                return earlier;
+            }
+            return epochSecond;
+        }
+        long localSecond = toLocalSecond(epochSecond, tz, rules);
+        ZoneOffsetTransition transition = rules.getTransition(LocalDateTime.ofEpochSecond(localSecond, 0, ZoneOffset.UTC));
+        if (transition != null && transition.isOverlap()) {
+            return localSecond - transition.getOffsetBefore().getTotalSeconds();
+        }
+        return epochSecond;
+    }
+
+    /**
+     * Returns the second the local times that the next transition repeats
+     * start at, if the given second is one of them (the earlier occurrence),
+     * or <code>NO_SUCH_TIME</code> otherwise.
+     */
+    private static long getStartOfRepeatedRange(long epochSecond, TimeZone tz, ZoneRules rules) {
+        long transitionSecond;
+        long overlap;
+        if (rules == null) {
+            int offsetBefore = getOffsetSeconds(tz, epochSecond);
+            int offsetAfter = getOffsetSeconds(tz, epochSecond + SECONDS_PER_DAY);
+            overlap = offsetBefore - offsetAfter;
+            if (overlap <= 0 || getOffsetSeconds(tz, epochSecond + overlap) != offsetAfter) {
+                return NO_SUCH_TIME;
+            }
+            // the transition is after the given second, and no later than
+            // its local time's next occurrence
+            long low = epochSecond;
+            long high = epochSecond + overlap;
+            while (high - low > 1) {
+                long mid = low + (high - low) / 2;
+                if (getOffsetSeconds(tz, mid) == offsetAfter) {
+                    high = mid;
+                } else {
+                    low = mid;
+                }
+            }
+            transitionSecond = high;
+        } else {
+            ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochSecond(epochSecond));
+            if (transition == null || !transition.isOverlap()) {
+                return NO_SUCH_TIME;
+            }
+            transitionSecond = transition.toEpochSecond();
+            overlap = transition.getOffsetBefore().getTotalSeconds() - transition.getOffsetAfter().getTotalSeconds();
+        }
+        long start = transitionSecond - overlap;
+        return (epochSecond >= start) ? start : NO_SUCH_TIME;
+    }
+
+    /**
+     * Returns the number of seconds from the given one on that the offset of
+     * the time zone stays the same, stopping short of the local times that a
+     * following transition repeats.  At least one.
+     */
+    private static long getSecondsOfSameOffset(long epochSecond, TimeZone tz, ZoneRules rules) {
+        if (rules == null) {
+            int offset = getOffsetSeconds(tz, epochSecond);
+            return (getOffsetSeconds(tz, epochSecond + 2 * SECONDS_PER_DAY) == offset) ? SECONDS_PER_DAY : 1;
+        }
+        ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochSecond(epochSecond));
+        if (transition == null) {
+            return Long.MAX_VALUE;
+        }
+        long end = transition.toEpochSecond();
+        if (transition.isOverlap()) {
+            end -= transition.getOffsetBefore().getTotalSeconds() - transition.getOffsetAfter().getTotalSeconds();
+        }
+        return Math.max(1, end - epochSecond);
     }
     
     /**
@@ -444,6 +594,72 @@ public final class CronExpression implements Serializable, Cloneable {
     //
     ////////////////////////////////////////////////////////////////////////////
 
+    /**
+     * Takes the sets of an equal expression parsed before, if there is one,
+     * and parses the expression otherwise.
+     */
+    private void parseExpression() throws ParseException {
+        CronExpression parsed = parsedExpressions.get(cronExpression);
+        if (parsed == null) {
+            buildExpression(cronExpression);
+            secondsOfDay = buildSecondsOfDay();
+            if (parsedExpressions.size() < MAX_PARSED_EXPRESSIONS) {
+                parsedExpressions.putIfAbsent(cronExpression, this);
+            }
+            return;
+        }
+
+        seconds = parsed.seconds;
+        minutes = parsed.minutes;
+        hours = parsed.hours;
+        daysOfMonth = parsed.daysOfMonth;
+        nearestWeekdays = parsed.nearestWeekdays;
+        months = parsed.months;
+        daysOfWeek = parsed.daysOfWeek;
+        years = parsed.years;
+        lastDayOfWeek = parsed.lastDayOfWeek;
+        nthDayOfWeek = parsed.nthDayOfWeek;
+        secondsOfDay = parsed.secondsOfDay;
+        expressionParsed = true;
+    }
+
+    // whether the days are chosen without 'L', 'W' or '#'
+    boolean hasSimpleDays() {
+        return nearestWeekdays.isEmpty() && !lastDayOfWeek && nthDayOfWeek == 0
+                && daysOfMonth.subSet(LAST_DAY_OFFSET_START, LAST_DAY_OFFSET_END + 1).isEmpty();
+    }
+
+    private BitSet buildSecondsOfDay() {
+        if (!hasSimpleDays()
+                || seconds.headSet(60).size() * minutes.headSet(60).size() * hours.headSet(24).size() <= 24) {
+            return null;
+        }
+        return buildAllSecondsOfDay();
+    }
+
+    // the seconds of the day the expression matches on the days it matches,
+    // kept for getNextInvalidTimeAfter() if there is no secondsOfDay
+    private BitSet getAllSecondsOfDay() {
+        BitSet bits = allSecondsOfDay;
+        if (bits == null) {
+            bits = buildAllSecondsOfDay();
+            allSecondsOfDay = bits;
+        }
+        return bits;
+    }
+
+    private BitSet buildAllSecondsOfDay() {
+        BitSet bits = new BitSet((int) SECONDS_PER_DAY);
+        for (int hr : hours.headSet(24)) {
+            for (int min : minutes.headSet(60)) {
+                for (int sec : seconds.headSet(60)) {
+                    bits.set(hr * 3600 + min * 60 + sec);
+                }
+            }
+        }
+        return bits;
+    }
+
     protected void buildExpression(String expression) throws ParseException {
         expressionParsed = true;
 
@@ -1178,51 +1394,63 @@ public final class CronExpression implements Serializable, Cloneable {
     //
     ////////////////////////////////////////////////////////////////////////////
 
+    /**
+     * Returns the time <I>after</I> the given time at which the expression
+     * matches, or null if it never does.
+     * <p>
+     * The expression is matched against the local date and time in its time
+     * zone. A local time that a transition of the time zone skips (such as
+     * the start of daylight saving time) never matches: the search goes on
+     * from the end of the skipped range. A local time that a transition
+     * repeats (such as the end of daylight saving time) matches once, at its
+     * later occurrence.
+     * </p>
+     */
     public Date getTimeAfter(Date afterTime) {
-
-        // Computation is based on Gregorian year only.
-        Calendar cl = new java.util.GregorianCalendar(getTimeZone()); 
+        TimeZone tz = getTimeZone();
+        ZoneRules rules = getZoneRules(tz);
 
         // move ahead one second, since we're computing the time *after* the
-        // given time
-        afterTime = new Date(afterTime.getTime() + 1000);
-        // CronTrigger does not deal with milliseconds
-        cl.setTime(afterTime);
-        cl.set(Calendar.MILLISECOND, 0);
-
-        boolean gotOne = false;
-        // loop until we've computed the next time, or we've past the endTime
-        while (!gotOne) {
-
-            //if (endTime != null && cl.getTime().after(endTime)) return null;
-            if(cl.get(Calendar.YEAR) > 2999) { // prevent endless loop...
+        // given time; CronTrigger does not deal with milliseconds
+        long afterSecond = Math.floorDiv(afterTime.getTime(), 1000L) + 1;
+        LocalFields cl = new LocalFields(toLocalSecond(afterSecond, tz, rules));
+        if (secondsOfDay != null) {
+            return getTimeAfterBySecondOfDay(cl, tz, rules);
+        }
+        long afterLocal = cl.getLocalSecond();
+
+        // loop until we've computed the next time
+        while (true) {
+            cl.normalize();
+            if (cl.year > 2999) { // prevent endless loop...
                 return null;
             }
 
-            SortedSet<Integer> st = null;
-            int t = 0;
+            SortedSet<Integer> st;
+            int t;
 
-            int sec = cl.get(Calendar.SECOND);
-            int min = cl.get(Calendar.MINUTE);
+            int sec = cl.second;
+            int min = cl.minute;
 
             // get second.................................................
             st = seconds.tailSet(sec);
-            if (st != null && !st.isEmpty()) {
+            if (!st.isEmpty()) {
                 sec = st.first();
             } else {
                 sec = seconds.first();
                 min++;
-                cl.set(Calendar.MINUTE, min);
+                cl.minute = min;
             }
-            cl.set(Calendar.SECOND, sec);
+            cl.second = sec;
+            cl.normalize();
 
-            min = cl.get(Calendar.MINUTE);
-            int hr = cl.get(Calendar.HOUR_OF_DAY);
+            min = cl.minute;
+            int hr = cl.hour;
             t = -1;
 
             // get minute.................................................
             st = minutes.tailSet(min);
-            if (st != null && !st.isEmpty()) {
+            if (!st.isEmpty()) {
                 t = min;
                 min = st.first();
             } else {
@@ -1230,20 +1458,18 @@ public final class CronExpression implements Serializable, Cloneable {
                 hr++;
             }
             if (min != t) {
-                cl.set(Calendar.SECOND, 0);
-                cl.set(Calendar.MINUTE, min);
-                setCalendarHour(cl, hr);
+                cl.second = 0;
+                cl.minute = min;
+                cl.hour = hr;
                 continue;
             }
-            cl.set(Calendar.MINUTE, min);
 
-            hr = cl.get(Calendar.HOUR_OF_DAY);
-            int day = cl.get(Calendar.DAY_OF_MONTH);
+            int day = cl.day;
             t = -1;
 
             // get hour...................................................
             st = hours.tailSet(hr);
-            if (st != null && !st.isEmpty()) {
+            if (!st.isEmpty()) {
                 t = hr;
                 hr = st.first();
             } else {
@@ -1251,18 +1477,14 @@ public final class CronExpression implements Serializable, Cloneable {
                 day++;
             }
             if (hr != t) {
-                cl.set(Calendar.SECOND, 0);
-                cl.set(Calendar.MINUTE, 0);
-                cl.set(Calendar.DAY_OF_MONTH, day);
-                setCalendarHour(cl, hr);
+                cl.second = 0;
+                cl.minute = 0;
+                cl.day = day;
+                cl.hour = hr;
                 continue;
             }
-            cl.set(Calendar.HOUR_OF_DAY, hr);
 
-            day = cl.get(Calendar.DAY_OF_MONTH);
-            int mon = cl.get(Calendar.MONTH) + 1;
-            // '+ 1' because calendar is 0-based for this field, and we are
-            // 1-based
+            int mon = cl.month;
             t = -1;
             int tmon = mon;
             
@@ -1270,23 +1492,15 @@ public final class CronExpression implements Serializable, Cloneable {
             boolean dayOfMSpec = !daysOfMonth.contains(NO_SPEC);
             boolean dayOfWSpec = !daysOfWeek.contains(NO_SPEC);
             if (dayOfMSpec && !dayOfWSpec) { // get day by day of month rule
-                Optional<Integer> smallestDay = findSmallestDay(day, mon, cl.get(Calendar.YEAR), daysOfMonth);
-                Optional<Integer> smallestDayForWeekday = findSmallestDay(day, mon, cl.get(Calendar.YEAR), nearestWeekdays);
+                Optional<Integer> smallestDay = findSmallestDay(day, mon, cl.year, daysOfMonth);
+                Optional<Integer> smallestDayForWeekday = findSmallestDay(day, mon, cl.year, nearestWeekdays);
                 t = day;
                 day = -1;
                 if (smallestDayForWeekday.isPresent()) {
                     day = smallestDayForWeekday.get();
 
-                    java.util.Calendar tcal = java.util.Calendar.getInstance(getTimeZone());
-                    tcal.set(Calendar.SECOND, 0);
-                    tcal.set(Calendar.MINUTE, 0);
-                    tcal.set(Calendar.HOUR_OF_DAY, 0);
-                    tcal.set(Calendar.DAY_OF_MONTH, day);
-                    tcal.set(Calendar.MONTH, mon - 1);
-                    tcal.set(Calendar.YEAR, cl.get(Calendar.YEAR));
-                    
-                    int ldom = getLastDayOfMonth(mon, cl.get(Calendar.YEAR));
-                    int dow = tcal.get(Calendar.DAY_OF_WEEK);
+                    int ldom = getLastDayOfMonth(mon, cl.year);
+                    int dow = LocalFields.getDayOfWeek(EpochDays.of(cl.year, mon, day));
 
                     if(dow == Calendar.SATURDAY && day == 1) {
                         day += 2;
@@ -1297,15 +1511,10 @@ public final class CronExpression implements Serializable, Cloneable {
                     } else if(dow == Calendar.SUNDAY) { 
                         day += 1;
                     }
-                        
-                
-                    tcal.set(Calendar.SECOND, sec);
-                    tcal.set(Calendar.MINUTE, min);
-                    tcal.set(Calendar.HOUR_OF_DAY, hr);
-                    tcal.set(Calendar.DAY_OF_MONTH, day);
-                    tcal.set(Calendar.MONTH, mon - 1);
-                    Date nTime = tcal.getTime();
-                    if(nTime.before(afterTime)) {
+
+                    long nTime = EpochDays.of(cl.year, mon, day) * SECONDS_PER_DAY
+                            + hr * 3600L + min * 60L + sec;
+                    if (nTime < afterLocal) {
                         day = -1;
                     }
                 }
@@ -1318,13 +1527,11 @@ public final class CronExpression implements Serializable, Cloneable {
                     mon++;
                 }
                 if (day != t || mon != tmon) {
-                    cl.set(Calendar.SECOND, 0);
-                    cl.set(Calendar.MINUTE, 0);
-                    cl.set(Calendar.HOUR_OF_DAY, 0);
-                    cl.set(Calendar.DAY_OF_MONTH, day);
-                    cl.set(Calendar.MONTH, mon - 1);
-                    // '- 1' because calendar is 0-based for this field, and we
-                    // are 1-based
+                    cl.second = 0;
+                    cl.minute = 0;
+                    cl.hour = 0;
+                    cl.day = day;
+                    cl.month = mon;
                     continue;
                 }
             } else if (dayOfWSpec && !dayOfMSpec) { // get day by day of week rule
@@ -1332,7 +1539,7 @@ public final class CronExpression implements Serializable, Cloneable {
                     // the month?
                     int dow = daysOfWeek.first(); // desired
                     // d-o-w
-                    int cDow = cl.get(Calendar.DAY_OF_WEEK); // current d-o-w
+                    int cDow = cl.dayOfWeek; // current d-o-w
                     int daysToAdd = 0;
                     if (cDow < dow) {
                         daysToAdd = dow - cDow;
@@ -1341,16 +1548,15 @@ public final class CronExpression implements Serializable, Cloneable {
                         daysToAdd = dow + (7 - cDow);
                     }
 
-                    int lDay = getLastDayOfMonth(mon, cl.get(Calendar.YEAR));
+                    int lDay = getLastDayOfMonth(mon, cl.year);
 
                     if (day + daysToAdd > lDay) { // did we already miss the
                         // last one?
-                        cl.set(Calendar.SECOND, 0);
-                        cl.set(Calendar.MINUTE, 0);
-                        cl.set(Calendar.HOUR_OF_DAY, 0);
-                        cl.set(Calendar.DAY_OF_MONTH, 1);
-                        cl.set(Calendar.MONTH, mon);
-                        // no '- 1' here because we are promoting the month
+                        cl.second = 0;
+                        cl.minute = 0;
+                        cl.hour = 0;
+                        cl.day = 1;
+                        cl.month = mon + 1;
                         continue;
                     }
 
@@ -1362,12 +1568,10 @@ public final class CronExpression implements Serializable, Cloneable {
                     day += daysToAdd;
 
                     if (daysToAdd > 0) {
-                        cl.set(Calendar.SECOND, 0);
-                        cl.set(Calendar.MINUTE, 0);
-                        cl.set(Calendar.HOUR_OF_DAY, 0);
-                        cl.set(Calendar.DAY_OF_MONTH, day);
-                        cl.set(Calendar.MONTH, mon - 1);
-                        // '- 1' here because we are not promoting the month
+                        cl.second = 0;
+                        cl.minute = 0;
+                        cl.hour = 0;
+                        cl.day = day;
                         continue;
                     }
 
@@ -1375,7 +1579,7 @@ public final class CronExpression implements Serializable, Cloneable {
                     // are we looking for the Nth XXX day in the month?
                     int dow = daysOfWeek.first(); // desired
                     // d-o-w
-                    int cDow = cl.get(Calendar.DAY_OF_WEEK); // current d-o-w
+                    int cDow = cl.dayOfWeek; // current d-o-w
                     int daysToAdd = 0;
                     if (cDow < dow) {
                         daysToAdd = dow - cDow;
@@ -1394,30 +1598,26 @@ public final class CronExpression implements Serializable, Cloneable {
                     daysToAdd = (nthDayOfWeek - weekOfMonth) * 7;
                     day += daysToAdd;
                     if (daysToAdd < 0
-                            || day > getLastDayOfMonth(mon, cl
-                                    .get(Calendar.YEAR))) {
-                        cl.set(Calendar.SECOND, 0);
-                        cl.set(Calendar.MINUTE, 0);
-                        cl.set(Calendar.HOUR_OF_DAY, 0);
-                        cl.set(Calendar.DAY_OF_MONTH, 1);
-                        cl.set(Calendar.MONTH, mon);
-                        // no '- 1' here because we are promoting the month
+                            || day > getLastDayOfMonth(mon, cl.year)) {
+                        cl.second = 0;
+                        cl.minute = 0;
+                        cl.hour = 0;
+                        cl.day = 1;
+                        cl.month = mon + 1;
                         continue;
                     } else if (daysToAdd > 0 || dayShifted) {
-                        cl.set(Calendar.SECOND, 0);
-                        cl.set(Calendar.MINUTE, 0);
-                        cl.set(Calendar.HOUR_OF_DAY, 0);
-                        cl.set(Calendar.DAY_OF_MONTH, day);
-                        cl.set(Calendar.MONTH, mon - 1);
-                        // '- 1' here because we are NOT promoting the month
+                        cl.second = 0;
+                        cl.minute = 0;
+                        cl.hour = 0;
+                        cl.day = day;
                         continue;
                     }
                 } else {
-                    int cDow = cl.get(Calendar.DAY_OF_WEEK); // current d-o-w
+                    int cDow = cl.dayOfWeek; // current d-o-w
                     int dow = daysOfWeek.first(); // desired
                     // d-o-w
                     st = daysOfWeek.tailSet(cDow);
-                    if (st != null && !st.isEmpty()) {
+                    if (!st.isEmpty()) {
                         dow = st.first();
                     }
 
@@ -1429,25 +1629,21 @@ public final class CronExpression implements Serializable, Cloneable {
                         daysToAdd = dow + (7 - cDow);
                     }
 
-                    int lDay = getLastDayOfMonth(mon, cl.get(Calendar.YEAR));
+                    int lDay = getLastDayOfMonth(mon, cl.year);
 
                     if (day + daysToAdd > lDay) { // will we pass the end of
                         // the month?
-                        cl.set(Calendar.SECOND, 0);
-                        cl.set(Calendar.MINUTE, 0);
-                        cl.set(Calendar.HOUR_OF_DAY, 0);
-                        cl.set(Calendar.DAY_OF_MONTH, 1);
-                        cl.set(Calendar.MONTH, mon);
-                        // no '- 1' here because we are promoting the month
+                        cl.second = 0;
+                        cl.minute = 0;
+                        cl.hour = 0;
+                        cl.day = 1;
+                        cl.month = mon + 1;
                         continue;
                     } else if (daysToAdd > 0) { // are we switching days?
-                        cl.set(Calendar.SECOND, 0);
-                        cl.set(Calendar.MINUTE, 0);
-                        cl.set(Calendar.HOUR_OF_DAY, 0);
-                        cl.set(Calendar.DAY_OF_MONTH, day + daysToAdd);
-                        cl.set(Calendar.MONTH, mon - 1);
-                        // '- 1' because calendar is 0-based for this field,
-                        // and we are 1-based
+                        cl.second = 0;
+                        cl.minute = 0;
+                        cl.hour = 0;
+                        cl.day = day + daysToAdd;
                         continue;
                     }
                 }
@@ -1455,12 +1651,11 @@ public final class CronExpression implements Serializable, Cloneable {
                 throw new UnsupportedOperationException(
                         "Support for specifying both a day-of-week AND a day-of-month parameter is not implemented.");
             }
-            cl.set(Calendar.DAY_OF_MONTH, day);
+            cl.day = day;
+            cl.normalize();
 
-            mon = cl.get(Calendar.MONTH) + 1;
-            // '+ 1' because calendar is 0-based for this field, and we are
-            // 1-based
-            int year = cl.get(Calendar.YEAR);
+            mon = cl.month;
+            int year = cl.year;
             t = -1;
 
             // test for expressions that never generate a valid fire date,
@@ -1471,7 +1666,7 @@ public final class CronExpression implements Serializable, Cloneable {
 
             // get month...................................................
             st = months.tailSet(mon);
-            if (st != null && !st.isEmpty()) {
+            if (!st.isEmpty()) {
                 t = mon;
                 mon = st.first();
             } else {
@@ -1479,26 +1674,20 @@ public final class CronExpression implements Serializable, Cloneable {
                 year++;
             }
             if (mon != t) {
-                cl.set(Calendar.SECOND, 0);
-                cl.set(Calendar.MINUTE, 0);
-                cl.set(Calendar.HOUR_OF_DAY, 0);
-                cl.set(Calendar.DAY_OF_MONTH, 1);
-                cl.set(Calendar.MONTH, mon - 1);
-                // '- 1' because calendar is 0-based for this field, and we are
-                // 1-based
-                cl.set(Calendar.YEAR, year);
+                cl.second = 0;
+                cl.minute = 0;
+                cl.hour = 0;
+                cl.day = 1;
+                cl.month = mon;
+                cl.year = year;
                 continue;
             }
-            cl.set(Calendar.MONTH, mon - 1);
-            // '- 1' because calendar is 0-based for this field, and we are
-            // 1-based
 
-            year = cl.get(Calendar.YEAR);
             t = -1;
 
             // get year...................................................
             st = years.tailSet(year);
-            if (st != null && !st.isEmpty()) {
+            if (!st.isEmpty()) {
                 t = year;
                 year = st.first();
             } else {
@@ -1506,35 +1695,247 @@ public final class CronExpression implements Serializable, Cloneable {
             }
 
             if (year != t) {
-                cl.set(Calendar.SECOND, 0);
-                cl.set(Calendar.MINUTE, 0);
-                cl.set(Calendar.HOUR_OF_DAY, 0);
-                cl.set(Calendar.DAY_OF_MONTH, 1);
-                cl.set(Calendar.MONTH, 0);
-                // '- 1' because calendar is 0-based for this field, and we are
-                // 1-based
-                cl.set(Calendar.YEAR, year);
+                cl.second = 0;
+                cl.minute = 0;
+                cl.hour = 0;
+                cl.day = 1;
+                cl.month = 1;
+                cl.year = year;
+                continue;
+            }
+
+            long time = toEpochSecond(cl, tz, rules);
+            if (time != NO_SUCH_TIME) {
+                return new Date(time * 1000L);
+            }
+            // the local time was skipped, and the fields now hold the local
+            // time at the end of the skipped range
+        }
+    }
+
+    /**
+     * <code>{@link #getTimeAfter(Date)}</code> for an expression with
+     * <code>secondsOfDay</code>: steps a day at a time to a day the
+     * expression matches, and looks up the next second it matches on it.
+     */
+    private Date getTimeAfterBySecondOfDay(LocalFields cl, TimeZone tz, ZoneRules rules) {
+        boolean dayOfMSpec = !daysOfMonth.contains(NO_SPEC);
+        while (true) {
+            if (cl.year > MAX_YEAR) {
+                return null;
+            }
+            if (!years.contains(cl.year)) {
+                SortedSet<Integer> st = years.tailSet(cl.year);
+                if (st.isEmpty()) {
+                    return null; // ran out of years...
+                }
+                cl.setDate(st.first(), 1, 1);
+                continue;
+            }
+            if (!months.contains(cl.month)) {
+                SortedSet<Integer> st = months.tailSet(cl.month);
+                if (st.isEmpty()) {
+                    cl.setDate(cl.year + 1, months.first(), 1);
+                } else {
+                    cl.setDate(cl.year, st.first(), 1);
+                }
+                continue;
+            }
+
+            boolean dayMatches = dayOfMSpec ? daysOfMonth.contains(cl.day) : daysOfWeek.contains(cl.dayOfWeek);
+            int secondOfDay = dayMatches
+                    ? secondsOfDay.nextSetBit(cl.hour * 3600 + cl.minute * 60 + cl.second) : -1;
+            if (secondOfDay < 0) {
+                cl.setDate(cl.year, cl.month, cl.day + 1);
                 continue;
             }
-            cl.set(Calendar.YEAR, year);
 
-            gotOne = true;
-        } // while( !done )
+            cl.hour = secondOfDay / 3600;
+            cl.minute = secondOfDay / 60 % 60;
+            cl.second = secondOfDay % 60;
+            long time = toEpochSecond(cl, tz, rules);
+            if (time != NO_SUCH_TIME) {
+                return new Date(time * 1000L);
+            }
+            // the local time was skipped, and the fields now hold the local
+            // time at the end of the skipped range
+        }
+    }
+
+    /**
+     * Returns the rules of the given time zone, if java.time has the same
+     * rules for it as the <code>TimeZone</code> itself, or null otherwise.
+     */
+    private ZoneRules getZoneRules(TimeZone tz) {
+        TimeZoneRules cached = timeZoneRules;
+        if (cached == null || cached.timeZone != tz) {
+            cached = new TimeZoneRules(tz, getZoneRulesOf(tz));
+            timeZoneRules = cached;
+        }
+        return cached.rules;
+    }
 
-        return cl.getTime();
+    // getZoneRules(), without caching the rules
+    static ZoneRules getZoneRulesOf(TimeZone tz) {
+        try {
+            ZoneId zoneId = tz.toZoneId();
+            if (TimeZone.getTimeZone(zoneId).hasSameRules(tz)) {
+                return zoneId.getRules();
+            }
+        } catch (DateTimeException ignore) {
+            // a custom zone: fall back to its own rules
+        }
+        return null;
     }
 
     /**
-     * Advance the calendar to the particular hour paying particular attention
-     * to daylight saving problems.
-     * 
-     * @param cal the calendar to operate on
-     * @param hour the hour to set
+     * Returns the local time, in seconds since the epoch, of the given time.
      */
-    protected void setCalendarHour(Calendar cal, int hour) {
-        cal.set(java.util.Calendar.HOUR_OF_DAY, hour);
-        if (cal.get(java.util.Calendar.HOUR_OF_DAY) != hour && hour != 24) {
-            cal.set(java.util.Calendar.HOUR_OF_DAY, hour + 1);
+    static long toLocalSecond(long epochSecond, TimeZone tz, ZoneRules rules) {
+        if (rules == null) {
+            return epochSecond + getOffsetSeconds(tz, epochSecond);
+        }
+        return epochSecond + rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+    }
+
+    /**
+     * Returns the time, in seconds since the epoch, of the given local time:
+     * its later occurrence if the time zone repeats it.  If the time zone
+     * skips it, returns <code>NO_SUCH_TIME</code> and sets the fields to the
+     * local time the skipped range ends at.
+     */
+    static long toEpochSecond(LocalFields local, TimeZone tz, ZoneRules rules) {
+        long localSecond = local.getLocalSecond();
+        if (rules == null) {
+            return toEpochSecond(local, tz);
+        }
+        if (rules.isFixedOffset()) {
+            return localSecond - rules.getOffset(Instant.EPOCH).getTotalSeconds();
+        }
+
+        LocalDateTime dateTime = LocalDateTime.ofEpochSecond(localSecond, 0, ZoneOffset.UTC);
+        ZoneOffsetTransition transition = rules.getTransition(dateTime);
+        if (transition == null) {
+            return localSecond - rules.getOffset(dateTime).getTotalSeconds();
+        }
+        if (transition.isGap()) {
+            local.setLocalSecond(transition.getDateTimeAfter().toEpochSecond(ZoneOffset.UTC));
+            return NO_SUCH_TIME;
+        }
+        return localSecond - transition.getOffsetAfter().getTotalSeconds();
+    }
+
+    /**
+     * <code>{@link #toEpochSecond(LocalFields, TimeZone, ZoneRules)}</code>
+     * for a time zone java.time has no rules for, assuming it has at most
+     * one transition within a day of any time.
+     */
+    private static long toEpochSecond(LocalFields local, TimeZone tz) {
+        long localSecond = local.getLocalSecond();
+        long guess = localSecond - tz.getRawOffset() / 1000;
+        int offsetBefore = getOffsetSeconds(tz, guess - SECONDS_PER_DAY);
+        int offsetAfter = getOffsetSeconds(tz, guess + SECONDS_PER_DAY);
+        if (offsetBefore == offsetAfter
+                || getOffsetSeconds(tz, localSecond - offsetAfter) == offsetAfter) {
+            return localSecond - offsetAfter; // the later occurrence, if repeated
+        }
+        if (getOffsetSeconds(tz, localSecond - offsetBefore) == offsetBefore) {
+            return localSecond - offsetBefore;
+        }
+
+        // skipped: find the transition, which is after localSecond - offsetAfter
+        long low = localSecond - offsetAfter;
+        long high = localSecond - offsetBefore;
+        while (high - low > 1) {
+            long mid = low + (high - low) / 2;
+            if (getOffsetSeconds(tz, mid) == offsetAfter) {
+                high = mid;
+            } else {
+                low = mid;
+            }
+        }
+        local.setLocalSecond(high + offsetAfter);
+        return NO_SUCH_TIME;
+    }
+
+    private static int getOffsetSeconds(TimeZone tz, long epochSecond) {
+        return tz.getOffset(epochSecond * 1000L) / 1000;
+    }
+
+    /**
+     * The rules java.time has for a time zone, or null if it has none the
+     * same as the time zone's own.
+     */
+    private static final class TimeZoneRules {
+        private final TimeZone timeZone;
+        private final ZoneRules rules;
+
+        private TimeZoneRules(TimeZone timeZone, ZoneRules rules) {
+            this.timeZone = timeZone;
+            this.rules = rules;
+        }
+    }
+
+    /**
+     * A local date and time, as the fields an expression matches: months and
+     * days of the month start at 1, and days of the week at 1 for Sunday, as
+     * in <code>java.util.Calendar</code>.  Like a lenient
+     * <code>java.util.Calendar</code>, the fields may be set out of their
+     * range, and {@link #normalize()} carries them over into the next field;
+     * unlike it, they are not in any time zone, so no local time is skipped
+     * or repeated.
+     */
+    static final class LocalFields {
+        int year;
+        int month;
+        int day;
+        int hour;
+        int minute;
+        int second;
+        int dayOfWeek;
+
+        LocalFields(long localSecond) {
+            setLocalSecond(localSecond);
+        }
+
+        /**
+         * Returns the local time in seconds since 1970-01-01T00:00.
+         */
+        long getLocalSecond() {
+            long months = (long) year * 12 + month - 1;
+            long epochDay = EpochDays.of((int) Math.floorDiv(months, 12), Math.floorMod(months, 12) + 1, 1)
+                    + day - 1;
+            return epochDay * SECONDS_PER_DAY + hour * 3600L + minute * 60L + second;
+        }
+
+        void setLocalSecond(long localSecond) {
+            long epochDay = Math.floorDiv(localSecond, SECONDS_PER_DAY);
+            int secondOfDay = (int) Math.floorMod(localSecond, SECONDS_PER_DAY);
+            hour = secondOfDay / 3600;
+            minute = secondOfDay / 60 % 60;
+            second = secondOfDay % 60;
+            dayOfWeek = getDayOfWeek(epochDay);
+
+            long date = EpochDays.toDate(epochDay);
+            year = EpochDays.getYear(date);
+            month = EpochDays.getMonth(date);
+            day = EpochDays.getDayOfMonth(date);
+        }
+
+        void normalize() {
+            setLocalSecond(getLocalSecond());
+        }
+
+        /**
+         * Sets the fields to the start of the given day, which may be past
+         * the end of the month.
+         */
+        void setDate(int year, int month, int day) {
+            setLocalSecond(EpochDays.of(year, month, day) * SECONDS_PER_DAY);
+        }
+
+        static int getDayOfWeek(long epochDay) {
+            return (int) Math.floorMod(epochDay + 4, 7L) + 1; // 1970-01-01 was a Thursday
         }
     }
 
@@ -1665,7 +2066,7 @@ public final class CronExpression implements Serializable, Cloneable {
         
         stream.defaultReadObject();
         try {
-            buildExpression(cronExpression);
+            parseExpression();
         } catch (Exception ignore) {
         } // never happens
     }    
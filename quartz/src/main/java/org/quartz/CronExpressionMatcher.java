@@ -0,0 +1,313 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.quartz;
+
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+
+/**
+ * <p>
+ * Matches many <code>{@link CronExpression}</code>s at once: finds which of
+ * them are satisfied by a time, or fire within a period, without evaluating
+ * each of them in turn.
+ * </p>
+ *
+ * <p>
+ * The parsed fields of the expressions are indexed by value: for each
+ * second, minute, hour, day of the month, month, day of the week and year,
+ * a <code>BitSet</code> of the expressions that include it.  Matching a
+ * time is then an <code>and</code> of one of these per field, for each of
+ * the time zones the expressions are in.  Expressions whose days are chosen
+ * with 'L', 'W' or '#' are only narrowed down this way, then evaluated one
+ * at a time.
+ * </p>
+ *
+ * <p>
+ * Expressions are identified by their index in the collection the matcher
+ * is created with.  The matcher works on copies of the expressions, so
+ * changing their time zones afterwards does not affect it.
+ * </p>
+ *
+ * @see CronExpression#isSatisfiedBy(Date)
+ * @see CronExpression#getTimeAfter(Date)
+ */
+public class CronExpressionMatcher {
+
+    private final CronExpression[] expressions;
+
+    private final BitSet[] seconds = columns(60);
+
+    private final BitSet[] minutes = columns(60);
+
+    private final BitSet[] hours = columns(24);
+
+    // by day of the month, of the expressions choosing days by it
+    private final BitSet[] daysOfMonth = columns(32);
+
+    private final BitSet[] months = columns(13);
+
+    // by day of the week (1 for Sunday), of the expressions choosing days by it
+    private final BitSet[] daysOfWeek = columns(8);
+
+    private final BitSet allYears = new BitSet();
+
+    // by year, of the expressions not matching all years
+    private final Map<Integer, BitSet> years = new HashMap<>();
+
+    // the expressions with days chosen with 'L', 'W' or '#'
+    private final BitSet others = new BitSet();
+
+    private final List<Zone> zones = new ArrayList<>();
+
+    /**
+     * Creates a matcher for the given expressions, in the time zones they
+     * are in now.
+     */
+    public CronExpressionMatcher(Collection<CronExpression> expressions) {
+        this.expressions = new CronExpression[expressions.size()];
+        Map<TimeZone, Zone> zonesByTimeZone = new LinkedHashMap<>();
+        int i = 0;
+        for (CronExpression expression : expressions) {
+            CronExpression copy = new CronExpression(expression);
+            this.expressions[i] = copy;
+
+            index(seconds, copy.seconds, i);
+            index(minutes, copy.minutes, i);
+            index(hours, copy.hours, i);
+            index(months, copy.months, i);
+            if (!copy.hasSimpleDays()) {
+                others.set(i);
+            } else if (copy.daysOfMonth.contains(CronExpression.NO_SPEC)) {
+                index(daysOfWeek, copy.daysOfWeek, i);
+            } else {
+                index(daysOfMonth, copy.daysOfMonth, i);
+            }
+            if (copy.years.contains(CronExpression.ALL_SPEC)) {
+                allYears.set(i);
+            } else {
+                for (int year : copy.years) {
+                    years.computeIfAbsent(year, y -> new BitSet()).set(i);
+                }
+            }
+
+            zonesByTimeZone.computeIfAbsent(copy.getTimeZone(), Zone::new).expressions.set(i);
+            i++;
+        }
+        zones.addAll(zonesByTimeZone.values());
+    }
+
+    /**
+     * Returns the number of expressions.
+     */
+    public int size() {
+        return expressions.length;
+    }
+
+    /**
+     * Returns a copy of the expression at the given index.
+     */
+    public CronExpression getExpression(int index) {
+        return new CronExpression(expressions[index]);
+    }
+
+    /**
+     * <p>
+     * Returns the indexes of the expressions satisfied by the given time:
+     * those for which <code>{@link CronExpression#isSatisfiedBy(Date)}</code>
+     * returns true.  Milliseconds are ignored, and a local time that the
+     * time zone repeats is satisfied by both of its occurrences.
+     * </p>
+     */
+    public BitSet getSatisfiedBy(Date date) {
+        long second = Math.floorDiv(date.getTime(), 1000L);
+        BitSet satisfied = new BitSet();
+        for (Zone zone : zones) {
+            CronExpression.LocalFields local = new CronExpression.LocalFields(zone.toLocalSecond(second));
+            BitSet bits = matchDay(zone, local);
+            bits.and(hours[local.hour]);
+            bits.and(minutes[local.minute]);
+            bits.and(seconds[local.second]);
+            if (!bits.isEmpty()) {
+                BitSet candidates = and(bits, others);
+                bits.andNot(others);
+                satisfied.or(bits);
+                for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+                    if (expressions[i].isSatisfiedBy(date)) {
+                        satisfied.set(i);
+                    }
+                }
+            }
+        }
+        return satisfied;
+    }
+
+    /**
+     * <p>
+     * Returns the indexes of the expressions that fire within the given
+     * period, from <code>from</code> (inclusive) to <code>to</code>
+     * (exclusive): those whose
+     * <code>{@link CronExpression#getTimeAfter(Date)}</code> the second
+     * before <code>from</code> is before <code>to</code>.
+     * </p>
+     */
+    public BitSet getFiringBetween(Date from, Date to) {
+        long first = -Math.floorDiv(-from.getTime(), 1000L);
+        long end = -Math.floorDiv(-to.getTime(), 1000L);
+        BitSet firing = new BitSet();
+        if (first >= end) {
+            return firing;
+        }
+
+        for (Zone zone : zones) {
+            CronExpression.LocalFields local = new CronExpression.LocalFields(0L);
+            // like getTimeAfter(), only looking at local times from the
+            // first one on, which may come again if the time zone repeats it
+            long localFirst = zone.toLocalSecond(first);
+            long day = Long.MIN_VALUE;
+            int hour = -1;
+            BitSet dayBits = null;
+            BitSet hourBits = null;
+            // a minute (or what of it is within the period) at a time
+            for (long second = first; second < end; ) {
+                long localSecond = zone.toLocalSecond(second);
+                local.setLocalSecond(localSecond);
+                int count = (int) Math.min(60 - local.second, end - second);
+                int skipped = (int) Math.max(0, Math.min(count, localFirst - localSecond));
+
+                long localDay = Math.floorDiv(localSecond, CronExpression.SECONDS_PER_DAY);
+                if (localDay != day) {
+                    dayBits = matchDay(zone, local);
+                    dayBits.andNot(others);
+                    dayBits.andNot(firing);
+                    day = localDay;
+                    hour = -1;
+                }
+                if (local.hour != hour) {
+                    hourBits = and(dayBits, hours[local.hour]);
+                    hour = local.hour;
+                }
+                if (!hourBits.isEmpty() && skipped < count) {
+                    BitSet bits = and(hourBits, minutes[local.minute]);
+                    if (count - skipped < 60 && !bits.isEmpty()) {
+                        BitSet secondBits = new BitSet();
+                        for (int s = local.second + skipped; s < local.second + count; s++) {
+                            secondBits.or(seconds[s]);
+                        }
+                        bits.and(secondBits);
+                    }
+                    if (!bits.isEmpty() && zone.isMatchedAt(local, second)) {
+                        firing.or(bits);
+                        dayBits.andNot(bits);
+                        hourBits.andNot(bits);
+                    }
+                }
+                second += count;
+            }
+        }
+
+        Date before = new Date((first - 1) * 1000L);
+        for (int i = others.nextSetBit(0); i >= 0; i = others.nextSetBit(i + 1)) {
+            Date fireTime = expressions[i].getTimeAfter(before);
+            if (fireTime != null && fireTime.getTime() < end * 1000L) {
+                firing.set(i);
+            }
+        }
+        return firing;
+    }
+
+    // the expressions of the zone matching the local date, with the
+    // expressions with other days as candidates
+    private BitSet matchDay(Zone zone, CronExpression.LocalFields local) {
+        if (local.year > CronExpression.MAX_YEAR) {
+            return new BitSet();
+        }
+        BitSet bits = and(zone.expressions, months[local.month]);
+
+        BitSet days = (BitSet) daysOfMonth[local.day].clone();
+        days.or(daysOfWeek[local.dayOfWeek]);
+        days.or(others);
+        bits.and(days);
+
+        BitSet yearBits = (BitSet) allYears.clone();
+        BitSet year = years.get(local.year);
+        if (year != null) {
+            yearBits.or(year);
+        }
+        bits.and(yearBits);
+        return bits;
+    }
+
+    private static BitSet and(BitSet a, BitSet b) {
+        BitSet bits = (BitSet) a.clone();
+        bits.and(b);
+        return bits;
+    }
+
+    private static BitSet[] columns(int size) {
+        BitSet[] columns = new BitSet[size];
+        for (int i = 0; i < size; i++) {
+            columns[i] = new BitSet();
+        }
+        return columns;
+    }
+
+    // the values past the end of the columns are markers, such as '*'
+    private static void index(BitSet[] columns, Set<Integer> values, int expression) {
+        for (int value : values) {
+            if (value >= 0 && value < columns.length) {
+                columns[value].set(expression);
+            }
+        }
+    }
+
+    /**
+     * The expressions in one time zone.
+     */
+    private static final class Zone {
+
+        private final TimeZone timeZone;
+
+        private final ZoneRules rules;
+
+        private final BitSet expressions = new BitSet();
+
+        private Zone(TimeZone timeZone) {
+            this.timeZone = timeZone;
+            this.rules = CronExpression.getZoneRulesOf(timeZone);
+        }
+
+        long toLocalSecond(long second) {
+            return CronExpression.toLocalSecond(second, timeZone, rules);
+        }
+
+        // whether the local time of the given second is matched at it: not
+        // if the time zone repeats the local time, and this is its earlier
+        // occurrence
+        boolean isMatchedAt(CronExpression.LocalFields local, long second) {
+            return CronExpression.toEpochSecond(local, timeZone, rules) == second;
+        }
+    }
+}
@@ -74,6 +74,7 @@ public class DailyTimeIntervalScheduleBuilder extends ScheduleBuilder<DailyTimeI
     private TimeOfDay startTimeOfDay;
     private TimeOfDay endTimeOfDay;
     private int repeatCount = DailyTimeIntervalTrigger.REPEAT_INDEFINITELY;
+    private boolean cacheDaySchedule;
 
     private int misfireInstruction = CalendarIntervalTrigger.MISFIRE_INSTRUCTION_SMART_POLICY;
     
@@ -144,6 +145,7 @@ public class DailyTimeIntervalScheduleBuilder extends ScheduleBuilder<DailyTimeI
         st.setRepeatIntervalUnit(intervalUnit);
         st.setMisfireInstruction(misfireInstruction);
         st.setRepeatCount(repeatCount);
+        st.setCacheDaySchedule(cacheDaySchedule);
         
         if(daysOfWeek != null)
             st.setDaysOfWeek(daysOfWeek);
@@ -407,6 +409,19 @@ public class DailyTimeIntervalScheduleBuilder extends ScheduleBuilder<DailyTimeI
         return this;
     }
 
+    /**
+     * Keep the fire times of the day the Trigger last fired on, so that its
+     * next fire time within the same day is found without recomputing the
+     * day's start and end times of day.  Default value is false.
+     * 
+     * @return the updated DailyTimeIntervalScheduleBuilder
+     * @see DailyTimeIntervalTriggerImpl#setCacheDaySchedule(boolean)
+     */
+    public DailyTimeIntervalScheduleBuilder cacheDaySchedule(boolean cacheDaySchedule) {
+        this.cacheDaySchedule = cacheDaySchedule;
+        return this;
+    }
+
     private void validateInterval(int timeInterval) {
         if(timeInterval <= 0)
             throw new IllegalArgumentException("Interval must be a positive value.");
@@ -0,0 +1,189 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.quartz.utils.Key;
+
+/**
+ * A snapshot of the statistics a <code>{@link Scheduler}</code> keeps about
+ * the executions of a given job, or of the jobs fired by a given trigger.
+ * All durations are in milliseconds.
+ *
+ * @see Scheduler#getJobExecutionStatistics(JobKey)
+ * @see Scheduler#getTriggerExecutionStatistics(TriggerKey)
+ */
+public class ExecutionStatistics implements java.io.Serializable {
+
+    private static final long serialVersionUID = -2380515463640712938L;
+
+    private final Key<?> key;
+
+    private final long executionCount;
+
+    private final long failureCount;
+
+    private final double meanRunTime;
+
+    private final long p50RunTime;
+
+    private final long p99RunTime;
+
+    private final long maxRunTime;
+
+    private final Date lastFireTime;
+
+    private final long lastFireLateness;
+
+    private final List<Execution> recentExecutions;
+
+    public ExecutionStatistics(Key<?> key, long executionCount, long failureCount,
+            double meanRunTime, long p50RunTime, long p99RunTime, long maxRunTime,
+            Date lastFireTime, long lastFireLateness, List<Execution> recentExecutions) {
+        this.key = key;
+        this.executionCount = executionCount;
+        this.failureCount = failureCount;
+        this.meanRunTime = meanRunTime;
+        this.p50RunTime = p50RunTime;
+        this.p99RunTime = p99RunTime;
+        this.maxRunTime = maxRunTime;
+        this.lastFireTime = lastFireTime;
+        this.lastFireLateness = lastFireLateness;
+        this.recentExecutions = Collections.unmodifiableList(recentExecutions);
+    }
+
+    /**
+     * @return the <code>JobKey</code> or <code>TriggerKey</code> these
+     * statistics are about.
+     */
+    public Key<?> getKey() {
+        return key;
+    }
+
+    public long getExecutionCount() {
+        return executionCount;
+    }
+
+    /**
+     * @return the number of executions whose job threw an exception.
+     */
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * @return the exponentially decayed mean run time, which weighs recent
+     * executions more than older ones.
+     */
+    public double getMeanRunTime() {
+        return meanRunTime;
+    }
+
+    /**
+     * @return the (approximate) median run time.
+     */
+    public long getP50RunTime() {
+        return p50RunTime;
+    }
+
+    /**
+     * @return the (approximate) 99th percentile of the run time.
+     */
+    public long getP99RunTime() {
+        return p99RunTime;
+    }
+
+    public long getMaxRunTime() {
+        return maxRunTime;
+    }
+
+    public Date getLastFireTime() {
+        return lastFireTime;
+    }
+
+    /**
+     * @return how late, after its scheduled fire time, the last execution
+     * was fired.
+     */
+    public long getLastFireLateness() {
+        return lastFireLateness;
+    }
+
+    /**
+     * @return the most recent executions, most recent first.
+     */
+    public List<Execution> getRecentExecutions() {
+        return recentExecutions;
+    }
+
+    @Override
+    public String toString() {
+        return "ExecutionStatistics [key=" + key + ", executionCount=" + executionCount + ", failureCount="
+                + failureCount + ", meanRunTime=" + meanRunTime + ", p50RunTime=" + p50RunTime + ", p99RunTime="
+                + p99RunTime + ", maxRunTime=" + maxRunTime + ", lastFireTime=" + lastFireTime
+                + ", lastFireLateness=" + lastFireLateness + "]";
+    }
+
+    /**
+     * A single execution of a job.
+     */
+    public static class Execution implements java.io.Serializable {
+
+        private static final long serialVersionUID = 6417750356244137530L;
+
+        private final long fireTime;
+
+        private final long runTime;
+
+        private final long fireLateness;
+
+        private final boolean failed;
+
+        public Execution(long fireTime, long runTime, long fireLateness, boolean failed) {
+            this.fireTime = fireTime;
+            this.runTime = runTime;
+            this.fireLateness = fireLateness;
+            this.failed = failed;
+        }
+
+        public Date getFireTime() {
+            return new Date(fireTime);
+        }
+
+        public long getRunTime() {
+            return runTime;
+        }
+
+        public long getFireLateness() {
+            return fireLateness;
+        }
+
+        public boolean isFailed() {
+            return failed;
+        }
+
+        @Override
+        public String toString() {
+            return "Execution [fireTime=" + getFireTime() + ", runTime=" + runTime + ", fireLateness="
+                    + fireLateness + ", failed=" + failed + "]";
+        }
+    }
+}
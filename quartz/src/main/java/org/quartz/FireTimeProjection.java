@@ -0,0 +1,430 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.quartz.impl.calendar.CompiledCalendar;
+import org.quartz.impl.triggers.CalendarIntervalTriggerImpl;
+import org.quartz.impl.triggers.CronTriggerImpl;
+import org.quartz.impl.triggers.DailyTimeIntervalTriggerImpl;
+import org.quartz.impl.triggers.SimpleTriggerImpl;
+import org.quartz.spi.OperableTrigger;
+
+/**
+ * <p>
+ * The fire times of many triggers within a period, in time order (and, for
+ * equal times, in the order the triggers were given in), as computed by
+ * <code>{@link TriggerUtils#projectFireTimes(Collection, Map, Date, Date)}</code>.
+ * </p>
+ *
+ * <p>
+ * The period is projected a slice at a time, as the fire times are read:
+ * the fire times of all of the triggers within a slice are computed in
+ * parallel, then merged.  The given triggers are cloned, and the calendars
+ * compiled over the period, before any work is done.  Simple triggers
+ * without a calendar have their fire times computed arithmetically; the
+ * other triggers skip straight to the start of the period, unless their
+ * fire times depend on how many times they fired (as those of a daily time
+ * interval trigger with a repeat count do).
+ * </p>
+ */
+public class FireTimeProjection implements Iterator<FireTimeProjection.FireTime> {
+
+    // the number of slices the period is projected in
+    private static final int SLICES = 64;
+
+    // the number of triggers below which a task does not split
+    private static final int MIN_TASK_SIZE = 256;
+
+    private final ForkJoinPool pool;
+
+    private final Cursor[] cursors;
+
+    private final long to;
+
+    private final long sliceLength;
+
+    // the start of the next slice to project
+    private long sliceStart;
+
+    // the fire times of the current slice, and the index of their trigger
+    private long[] times = new long[0];
+
+    private int[] triggerIndexes = new int[0];
+
+    private int size;
+
+    private int position;
+
+    FireTimeProjection(Collection<? extends OperableTrigger> triggers, Map<String, ? extends Calendar> calendars,
+            Date from, Date to, ForkJoinPool pool) {
+        if (from == null || to == null || to.before(from)) {
+            throw new IllegalArgumentException("The period must have a start and an end, not before its start");
+        }
+        this.pool = pool;
+        this.to = to.getTime();
+        this.sliceStart = from.getTime();
+        this.sliceLength = Math.max(1, (this.to - this.sliceStart) / SLICES + 1);
+
+        Map<String, CompiledCalendar> compiled = new HashMap<>();
+        this.cursors = new Cursor[triggers.size()];
+        int i = 0;
+        for (OperableTrigger trigger : triggers) {
+            Calendar cal = null;
+            String calName = trigger.getCalendarName();
+            if (calName != null) {
+                cal = compiled.get(calName);
+                if (cal == null) {
+                    Calendar source = (calendars == null) ? null : calendars.get(calName);
+                    if (source == null) {
+                        throw new IllegalArgumentException("Calendar '" + calName + "' of trigger "
+                                + trigger.getKey() + " is not given");
+                    }
+                    CompiledCalendar c = new CompiledCalendar(source, from.getTime(), this.to + 1);
+                    compiled.put(calName, c);
+                    cal = c;
+                }
+            }
+            cursors[i] = newCursor(i, trigger, cal, from.getTime());
+            i++;
+        }
+    }
+
+    private static Cursor newCursor(int index, OperableTrigger trigger, Calendar cal, long from) {
+        OperableTrigger t = (OperableTrigger) trigger.clone();
+        if (t.getNextFireTime() == null) {
+            t.computeFirstFireTime(cal);
+        }
+        Cursor cursor = (cal == null && t.getClass() == SimpleTriggerImpl.class)
+                ? new SimpleCursor(index, trigger, (SimpleTriggerImpl) t)
+                : new TriggerCursor(index, trigger, t, cal);
+        cursor.skipTo(from);
+        return cursor;
+    }
+
+    public boolean hasNext() {
+        while (position == size && sliceStart <= to) {
+            projectSlice();
+        }
+        return position < size;
+    }
+
+    public FireTime next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        int p = position++;
+        return new FireTime(cursors[triggerIndexes[p]].trigger, times[p]);
+    }
+
+    private void projectSlice() {
+        long sliceEnd = (to - sliceStart < sliceLength) ? to : sliceStart + sliceLength - 1;
+        pool.invoke(new CollectTask(cursors, 0, cursors.length, sliceEnd));
+        sliceStart = sliceEnd + 1;
+
+        // merge the sorted fire times of each trigger
+        int total = 0;
+        PriorityQueue<Cursor> queue = new PriorityQueue<>(Math.max(1, cursors.length), (a, b) -> {
+            int c = Long.compare(a.buffer[a.read], b.buffer[b.read]);
+            return (c != 0) ? c : Integer.compare(a.index, b.index);
+        });
+        for (Cursor cursor : cursors) {
+            if (cursor.count > 0) {
+                total += cursor.count;
+                queue.add(cursor);
+            }
+        }
+        if (times.length < total) {
+            times = new long[total];
+            triggerIndexes = new int[total];
+        }
+        int n = 0;
+        while (!queue.isEmpty()) {
+            Cursor cursor = queue.poll();
+            times[n] = cursor.buffer[cursor.read];
+            triggerIndexes[n] = cursor.index;
+            n++;
+            if (++cursor.read < cursor.count) {
+                queue.add(cursor);
+            }
+        }
+        size = n;
+        position = 0;
+    }
+
+    /**
+     * A fire time of a trigger.
+     */
+    public static class FireTime {
+
+        private final Trigger trigger;
+
+        private final long time;
+
+        FireTime(Trigger trigger, long time) {
+            this.trigger = trigger;
+            this.time = time;
+        }
+
+        /**
+         * @return the trigger, as it was given.
+         */
+        public Trigger getTrigger() {
+            return trigger;
+        }
+
+        public TriggerKey getTriggerKey() {
+            return trigger.getKey();
+        }
+
+        public Date getFireTime() {
+            return new Date(time);
+        }
+
+        public long getFireTimeMillis() {
+            return time;
+        }
+
+        @Override
+        public String toString() {
+            return "FireTime [triggerKey=" + getTriggerKey() + ", fireTime=" + getFireTime() + "]";
+        }
+    }
+
+    private static class CollectTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Cursor[] cursors;
+
+        private final int start;
+
+        private final int end;
+
+        private final long sliceEnd;
+
+        CollectTask(Cursor[] cursors, int start, int end, long sliceEnd) {
+            this.cursors = cursors;
+            this.start = start;
+            this.end = end;
+            this.sliceEnd = sliceEnd;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= MIN_TASK_SIZE) {
+                for (int i = start; i < end; i++) {
+                    cursors[i].collect(sliceEnd);
+                }
+                return;
+            }
+            int middle = (start + end) >>> 1;
+            invokeAll(new CollectTask(cursors, start, middle, sliceEnd),
+                    new CollectTask(cursors, middle, end, sliceEnd));
+        }
+    }
+
+    /**
+     * The fire times of one trigger, computed up to the end of a slice at a
+     * time into a buffer.
+     */
+    private abstract static class Cursor {
+
+        final int index;
+
+        final Trigger trigger;
+
+        // the next fire time, Long.MAX_VALUE if there is none
+        long next;
+
+        long[] buffer = new long[4];
+
+        int count;
+
+        int read;
+
+        Cursor(int index, Trigger trigger) {
+            this.index = index;
+            this.trigger = trigger;
+        }
+
+        abstract void advance();
+
+        /**
+         * Advance to the first fire time at or after the given time.
+         */
+        void skipTo(long time) {
+            while (next < time) {
+                advance();
+            }
+        }
+
+        void collect(long sliceEnd) {
+            count = 0;
+            read = 0;
+            while (next <= sliceEnd) {
+                if (count == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, count * 2);
+                }
+                buffer[count++] = next;
+                advance();
+            }
+        }
+    }
+
+    private static class TriggerCursor extends Cursor {
+
+        private final OperableTrigger t;
+
+        private final Calendar cal;
+
+        TriggerCursor(int index, Trigger trigger, OperableTrigger t, Calendar cal) {
+            super(index, trigger);
+            this.t = t;
+            this.cal = cal;
+            this.next = millis(t.getNextFireTime());
+        }
+
+        private static long millis(Date time) {
+            return (time == null) ? Long.MAX_VALUE : time.getTime();
+        }
+
+        @Override
+        void advance() {
+            t.triggered(cal);
+            next = millis(t.getNextFireTime());
+        }
+
+        @Override
+        void skipTo(long time) {
+            if (next >= time) {
+                return;
+            }
+            if (isIndependentOfTimesTriggered()) {
+                long d = getFireTimeAtOrAfter(time);
+                while (d != OperableTrigger.NO_FIRE_TIME && cal != null && !cal.isTimeIncluded(d)) {
+                    long end = cal.getExcludedRangeEnd(d);
+                    d = (end == Long.MAX_VALUE) ? OperableTrigger.NO_FIRE_TIME : getFireTimeAtOrAfter(Math.max(d + 1, end));
+                }
+                t.setNextFireTime((d == OperableTrigger.NO_FIRE_TIME) ? null : new Date(d));
+                next = d;
+                return;
+            }
+            super.skipTo(time);
+        }
+
+        // whether the fire times of the trigger do not depend on how many
+        // times it fired, so that they can be computed from any time
+        private boolean isIndependentOfTimesTriggered() {
+            Class<?> c = t.getClass();
+            if (c == DailyTimeIntervalTriggerImpl.class) {
+                return ((DailyTimeIntervalTriggerImpl) t).getRepeatCount() == DailyTimeIntervalTrigger.REPEAT_INDEFINITELY;
+            }
+            // a simple trigger only stops repeating after as many intervals
+            // as its repeat count, whether it fired at all of them or not
+            return c == CronTriggerImpl.class || c == CalendarIntervalTriggerImpl.class || c == SimpleTriggerImpl.class;
+        }
+
+        private long getFireTimeAtOrAfter(long time) {
+            // a daily time interval trigger only looks from a second after
+            // the given time
+            long d = t.getFireTimeAfter(time - 1001);
+            while (d != OperableTrigger.NO_FIRE_TIME && d < time) {
+                d = t.getFireTimeAfter(d);
+            }
+            return d;
+        }
+    }
+
+    /**
+     * The fire times of a <code>SimpleTrigger</code> without a calendar,
+     * computed as <code>SimpleTriggerImpl.triggered()</code> does.
+     */
+    private static class SimpleCursor extends Cursor {
+
+        private final long start;
+
+        private final long end;
+
+        private final long interval;
+
+        private final int repeatCount;
+
+        private int timesTriggered;
+
+        SimpleCursor(int index, Trigger trigger, SimpleTriggerImpl t) {
+            super(index, trigger);
+            this.start = t.getStartTime().getTime();
+            this.end = (t.getEndTime() == null) ? Long.MAX_VALUE : t.getEndTime().getTime();
+            this.interval = t.getRepeatInterval();
+            this.repeatCount = t.getRepeatCount();
+            this.timesTriggered = t.getTimesTriggered();
+            this.next = (t.getNextFireTime() == null) ? Long.MAX_VALUE : t.getNextFireTime().getTime();
+        }
+
+        private boolean repeatsFewerTimesThan(long times) {
+            return repeatCount != SimpleTrigger.REPEAT_INDEFINITELY && times > repeatCount;
+        }
+
+        @Override
+        void advance() {
+            timesTriggered++;
+            if (next == Long.MAX_VALUE || repeatsFewerTimesThan(timesTriggered)
+                    || (repeatCount == 0 && next >= start) || end <= next) {
+                next = Long.MAX_VALUE;
+            } else if (next < start) {
+                next = start;
+            } else {
+                long numberOfTimesExecuted = ((next - start) / interval) + 1;
+                long time = start + numberOfTimesExecuted * interval;
+                next = (repeatsFewerTimesThan(numberOfTimesExecuted) || end <= time) ? Long.MAX_VALUE : time;
+            }
+        }
+
+        @Override
+        void skipTo(long time) {
+            if (next >= time) {
+                return;
+            }
+            // align to the repeat interval first
+            advance();
+            if (next >= time || next == Long.MAX_VALUE || interval <= 0) {
+                return;
+            }
+            // then jump to the last fire time before the given time, as
+            // whether there are more only ever changes from yes to no
+            long current = (next - start) / interval;
+            long target = Math.floorDiv(time - 1 - start, interval);
+            if (target > current) {
+                timesTriggered += (int) Math.min(Integer.MAX_VALUE - timesTriggered, target - current);
+                next = start + target * interval;
+            }
+            advance();
+        }
+    }
+}
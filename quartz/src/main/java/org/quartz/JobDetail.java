@@ -102,6 +102,17 @@ public interface JobDetail extends Serializable, Cloneable {
      */
     boolean isConcurrentExecutionDisallowed();
 
+    /**
+     * @see ConcurrentExecutionLimit
+     * @return the maximum number of concurrent executions declared by the
+     * {@link ConcurrentExecutionLimit} annotation of the associated Job class,
+     * or 0 if the Job class does not carry the annotation.  The default
+     * implementation returns 0, no limit.
+     */
+    default int getConcurrentExecutionLimit() {
+        return 0;
+    }
+
     /**
      * <p>
      * Instructs the <code>Scheduler</code> whether or not the <code>Job</code>
@@ -112,6 +112,22 @@ public interface JobExecutionContext {
 
     int getRefireCount();
 
+    /**
+     * <p>
+     * The number of trigger fires this execution stands for.  This is 1,
+     * unless the job is annotated with {@link CoalesceFires} and further fires
+     * were merged into this execution while a previous one was still running.
+     * </p>
+     *
+     * <p>
+     * The default implementation returns 1, for contexts that do not coalesce
+     * fires.
+     * </p>
+     */
+    default int getFireCount() {
+        return 1;
+    }
+
     /**
      * <p>
      * Get the convenience <code>JobDataMap</code> of this execution context.
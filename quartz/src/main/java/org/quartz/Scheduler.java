@@ -368,6 +368,44 @@ public interface Scheduler {
      */
     List<JobExecutionContext> getCurrentlyExecutingJobs() throws SchedulerException;
 
+    /**
+     * Get the statistics of the executions of the identified <code>Job</code>
+     * within this Scheduler instance.
+     * 
+     * <p>
+     * Statistics are kept in memory, for a bounded number of the jobs executed
+     * most recently (see the <code>org.quartz.scheduler.executionStatistics</code>
+     * configuration properties), and are not cluster aware.
+     * </p>
+     * 
+     * <p>
+     * The default implementation throws a <code>SchedulerException</code>, for
+     * schedulers that keep no statistics.
+     * </p>
+     * 
+     * @return the statistics of the job, or null if none are kept for it.
+     * @see #getTriggerExecutionStatistics(TriggerKey)
+     */
+    default ExecutionStatistics getJobExecutionStatistics(JobKey jobKey) throws SchedulerException {
+        throw new SchedulerException("Operation not supported by this scheduler.");
+    }
+
+    /**
+     * Get the statistics of the executions of the jobs fired by the identified
+     * <code>Trigger</code> within this Scheduler instance.
+     * 
+     * <p>
+     * The default implementation throws a <code>SchedulerException</code>, for
+     * schedulers that keep no statistics.
+     * </p>
+     * 
+     * @return the statistics of the trigger, or null if none are kept for it.
+     * @see #getJobExecutionStatistics(JobKey)
+     */
+    default ExecutionStatistics getTriggerExecutionStatistics(TriggerKey triggerKey) throws SchedulerException {
+        throw new SchedulerException("Operation not supported by this scheduler.");
+    }
+
     /**
      * Set the <code>JobFactory</code> that will be responsible for producing 
      * instances of <code>Job</code> classes.
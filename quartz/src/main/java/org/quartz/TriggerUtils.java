@@ -19,9 +19,12 @@
 
 package org.quartz;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import org.quartz.spi.OperableTrigger;
 
@@ -199,4 +202,45 @@ public class TriggerUtils {
         return java.util.Collections.unmodifiableList(lst);
     }
 
+    /**
+     * Returns the fire times of all of the given triggers that fall within
+     * the given date range (inclusive of both ends), in time order.  The
+     * input triggers will be cloned, so you need not worry about their state
+     * being altered by this method.
+     *
+     * <p>
+     * Unlike <code>{@link #computeFireTimesBetween(OperableTrigger, Calendar, Date, Date)}</code>,
+     * the triggers keep their own start and end times, so that the fire
+     * times are those they would be fired at.  The fire times are computed
+     * in parallel, in the common <code>ForkJoinPool</code>, a part of the
+     * date range at a time as they are read.
+     * </p>
+     *
+     * @param triggers
+     *          The triggers upon which to do the work
+     * @param calendars
+     *          The calendars of the triggers, by name
+     * @param from
+     *          The starting date at which to find fire times
+     * @param to
+     *          The ending date at which to stop finding fire times
+     * @throws IllegalArgumentException if the calendar of a trigger is not
+     *          given
+     */
+    public static FireTimeProjection projectFireTimes(Collection<? extends OperableTrigger> triggers,
+            Map<String, ? extends org.quartz.Calendar> calendars, Date from, Date to) {
+        return projectFireTimes(triggers, calendars, from, to, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns the fire times of all of the given triggers that fall within
+     * the given date range, computing them in the given pool.
+     *
+     * @see #projectFireTimes(Collection, Map, Date, Date)
+     */
+    public static FireTimeProjection projectFireTimes(Collection<? extends OperableTrigger> triggers,
+            Map<String, ? extends org.quartz.Calendar> calendars, Date from, Date to, ForkJoinPool pool) {
+        return new FireTimeProjection(triggers, calendars, from, to, pool);
+    }
+
 }
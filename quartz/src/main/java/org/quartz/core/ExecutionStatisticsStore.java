@@ -0,0 +1,325 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.core;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.quartz.ExecutionStatistics;
+import org.quartz.JobKey;
+import org.quartz.TriggerKey;
+import org.quartz.utils.Key;
+
+/**
+ * <p>
+ * Keeps <code>{@link ExecutionStatistics}</code> for the most recently
+ * executed jobs and triggers of a scheduler, in a fixed amount of memory.
+ * </p>
+ *
+ * <p>
+ * Jobs and triggers each have a table of a fixed capacity (rounded up to a
+ * power of two), in which every key may occupy one of two slots.  When both
+ * are taken by other keys, the statistics of the one that was executed least
+ * recently are discarded.  The statistics of the jobs and triggers executed
+ * most recently hence stay in the tables, whatever the number of distinct
+ * jobs; those of a job that is executed often, but was not executed lately,
+ * may be discarded all the same.  Executions are recorded without locking.
+ * </p>
+ */
+public class ExecutionStatisticsStore {
+
+    /**
+     * The weight of the latest execution in the decayed mean run time.
+     */
+    static final double DECAY = 0.2;
+
+    private final int historySize;
+
+    private final int mask;
+
+    private final AtomicReferenceArray<Entry> jobs;
+
+    private final AtomicReferenceArray<Entry> triggers;
+
+    /**
+     * @param capacity the number of jobs, and of triggers, to keep statistics
+     * for; 0 to keep none.
+     * @param historySize the number of recent executions to keep for each
+     * job and trigger.
+     */
+    public ExecutionStatisticsStore(int capacity, int historySize) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity (" + capacity + ") must not be negative");
+        }
+        this.historySize = Math.max(0, historySize);
+        int size = capacity <= 1 ? capacity : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = size - 1;
+        this.jobs = new AtomicReferenceArray<>(size);
+        this.triggers = new AtomicReferenceArray<>(size);
+    }
+
+    /**
+     * @return the number of jobs, and of triggers, statistics are kept for.
+     */
+    public int getCapacity() {
+        return jobs.length();
+    }
+
+    public int getHistorySize() {
+        return historySize;
+    }
+
+    /**
+     * Record an execution of the given job, fired by the given trigger.
+     *
+     * @param fireTime the time at which the trigger was fired.
+     * @param fireLateness how late the trigger was fired, in milliseconds.
+     * @param runTime the run time of the job, in milliseconds.
+     * @param failed whether the job threw an exception.
+     */
+    public void record(JobKey jobKey, TriggerKey triggerKey, long fireTime, long fireLateness, long runTime,
+            boolean failed) {
+        if (jobs.length() == 0) {
+            return;
+        }
+        ExecutionStatistics.Execution execution = historySize > 0
+                ? new ExecutionStatistics.Execution(fireTime, runTime, fireLateness, failed) : null;
+        entry(jobs, jobKey).record(fireTime, fireLateness, runTime, failed, execution);
+        if (triggerKey != null) {
+            entry(triggers, triggerKey).record(fireTime, fireLateness, runTime, failed, execution);
+        }
+    }
+
+    /**
+     * @return the statistics of the given job, or null if none are kept.
+     */
+    public ExecutionStatistics getJobStatistics(JobKey jobKey) {
+        Entry entry = find(jobs, jobKey);
+        return entry == null ? null : entry.toStatistics();
+    }
+
+    /**
+     * @return the statistics of the given trigger, or null if none are kept.
+     */
+    public ExecutionStatistics getTriggerStatistics(TriggerKey triggerKey) {
+        Entry entry = find(triggers, triggerKey);
+        return entry == null ? null : entry.toStatistics();
+    }
+
+    public List<ExecutionStatistics> getAllJobStatistics() {
+        return toStatistics(jobs);
+    }
+
+    public List<ExecutionStatistics> getAllTriggerStatistics() {
+        return toStatistics(triggers);
+    }
+
+    /**
+     * Discard all statistics.  Executions recorded concurrently may be lost.
+     */
+    public void reset() {
+        for (int i = 0; i < jobs.length(); i++) {
+            jobs.set(i, null);
+            triggers.set(i, null);
+        }
+    }
+
+    private static List<ExecutionStatistics> toStatistics(AtomicReferenceArray<Entry> table) {
+        List<ExecutionStatistics> result = new ArrayList<>();
+        for (int i = 0; i < table.length(); i++) {
+            Entry entry = table.get(i);
+            if (entry != null) {
+                result.add(entry.toStatistics());
+            }
+        }
+        return result;
+    }
+
+    private int firstSlot(Key<?> key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private int secondSlot(Key<?> key, int first) {
+        int second = (key.hashCode() * 0x9E3779B9 >>> 16) & mask;
+        return second == first ? (first + 1) & mask : second;
+    }
+
+    private Entry find(AtomicReferenceArray<Entry> table, Key<?> key) {
+        if (table.length() == 0 || key == null) {
+            return null;
+        }
+        int first = firstSlot(key);
+        Entry entry = table.get(first);
+        if (entry != null && entry.key.equals(key)) {
+            return entry;
+        }
+        entry = table.get(secondSlot(key, first));
+        if (entry != null && entry.key.equals(key)) {
+            return entry;
+        }
+        return null;
+    }
+
+    private Entry entry(AtomicReferenceArray<Entry> table, Key<?> key) {
+        int first = firstSlot(key);
+        int second = secondSlot(key, first);
+        while (true) {
+            Entry firstEntry = table.get(first);
+            if (firstEntry != null && firstEntry.key.equals(key)) {
+                return firstEntry;
+            }
+            Entry secondEntry = table.get(second);
+            if (secondEntry != null && secondEntry.key.equals(key)) {
+                return secondEntry;
+            }
+            // take a free slot, or else the one executed least recently
+            int slot;
+            Entry evicted;
+            if (firstEntry == null || (secondEntry != null && firstEntry.lastFireTime <= secondEntry.lastFireTime)) {
+                slot = first;
+                evicted = firstEntry;
+            } else {
+                slot = second;
+                evicted = secondEntry;
+            }
+            Entry created = new Entry(key, historySize);
+            if (table.compareAndSet(slot, evicted, created)) {
+                return created;
+            }
+        }
+    }
+
+    static final class Entry {
+
+        // run times below this are counted exactly, larger ones in 4 buckets per power of two
+        private static final int LINEAR_LIMIT = 8;
+
+        private static final int MAX_EXPONENT = 40;
+
+        private static final int BUCKET_COUNT = LINEAR_LIMIT + (MAX_EXPONENT - 2) * 4;
+
+        final Key<?> key;
+
+        private final AtomicLong executionCount = new AtomicLong();
+
+        private final AtomicLong failureCount = new AtomicLong();
+
+        private final AtomicLong meanRunTimeBits = new AtomicLong(Double.doubleToRawLongBits(Double.NaN));
+
+        private final AtomicLong maxRunTime = new AtomicLong();
+
+        private final AtomicIntegerArray runTimes = new AtomicIntegerArray(BUCKET_COUNT);
+
+        private final AtomicReferenceArray<ExecutionStatistics.Execution> recent;
+
+        private final AtomicInteger recentCount = new AtomicInteger();
+
+        volatile long lastFireTime;
+
+        private volatile long lastFireLateness;
+
+        Entry(Key<?> key, int historySize) {
+            this.key = key;
+            this.recent = new AtomicReferenceArray<>(historySize);
+        }
+
+        void record(long fireTime, long fireLateness, long runTime, boolean failed,
+                ExecutionStatistics.Execution execution) {
+            executionCount.incrementAndGet();
+            if (failed) {
+                failureCount.incrementAndGet();
+            }
+            long prev;
+            long next;
+            do {
+                prev = meanRunTimeBits.get();
+                double mean = Double.longBitsToDouble(prev);
+                next = Double.doubleToRawLongBits(Double.isNaN(mean) ? runTime : mean + DECAY * (runTime - mean));
+            } while (!meanRunTimeBits.compareAndSet(prev, next));
+            runTimes.incrementAndGet(bucketIndex(runTime));
+            if (runTime > maxRunTime.get()) {
+                maxRunTime.accumulateAndGet(runTime, Math::max);
+            }
+            lastFireTime = fireTime;
+            lastFireLateness = fireLateness;
+            if (execution != null) {
+                recent.set(Math.floorMod(recentCount.getAndIncrement(), recent.length()), execution);
+            }
+        }
+
+        ExecutionStatistics toStatistics() {
+            double mean = Double.longBitsToDouble(meanRunTimeBits.get());
+            List<ExecutionStatistics.Execution> executions = new ArrayList<>(recent.length());
+            int count = recentCount.get();
+            for (int i = 1; i <= Math.min(count, recent.length()); i++) {
+                ExecutionStatistics.Execution execution = recent.get(Math.floorMod(count - i, recent.length()));
+                if (execution != null) {
+                    executions.add(execution);
+                }
+            }
+            long fireTime = lastFireTime;
+            return new ExecutionStatistics(key, executionCount.get(), failureCount.get(),
+                    Double.isNaN(mean) ? 0 : mean, runTimeAtPercentile(50), runTimeAtPercentile(99),
+                    maxRunTime.get(), fireTime == 0 ? null : new Date(fireTime), lastFireLateness, executions);
+        }
+
+        private long runTimeAtPercentile(double percentile) {
+            long total = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                total += runTimes.get(i);
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+            long seen = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                seen += runTimes.get(i);
+                if (seen >= rank) {
+                    return Math.min(bucketValue(i), maxRunTime.get());
+                }
+            }
+            return maxRunTime.get();
+        }
+
+        static int bucketIndex(long value) {
+            if (value < LINEAR_LIMIT) {
+                return (int) Math.max(0, value);
+            }
+            int exponent = Math.min(63 - Long.numberOfLeadingZeros(value), MAX_EXPONENT);
+            int subBucket = (int) (value >>> (exponent - 2)) & 3;
+            return LINEAR_LIMIT + (exponent - 3) * 4 + subBucket;
+        }
+
+        // the middle of the range of values counted by the given bucket
+        static long bucketValue(int index) {
+            if (index < LINEAR_LIMIT) {
+                return index;
+            }
+            int exponent = 3 + (index - LINEAR_LIMIT) / 4;
+            long lowest = (4L + (index - LINEAR_LIMIT) % 4) << (exponent - 2);
+            return lowest + (1L << (exponent - 3));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.core;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.quartz.CoalesceFires;
+import org.quartz.JobDetail;
+import org.quartz.JobKey;
+import org.quartz.spi.TriggerFiredBundle;
+import org.quartz.utils.ClassUtils;
+
+/**
+ * <p>
+ * Keeps track of the executing jobs annotated with
+ * <code>{@link CoalesceFires}</code>, and of the single pending execution
+ * their further fires are merged into.
+ * </p>
+ *
+ * @see QuartzSchedulerThread
+ */
+class FireCoalescer {
+
+    // jobs with an execution in progress, mapped to their pending fire (or null)
+    private final Map<JobKey, TriggerFiredBundle> executing = new HashMap<>();
+
+    static boolean isCoalescing(JobDetail job) {
+        return ClassUtils.isAnnotationPresent(job.getJobClass(), CoalesceFires.class);
+    }
+
+    /**
+     * Offer a fire of a coalescing job.
+     *
+     * @param superseded receives the previously pending fire, if the offered
+     * fire replaces it (taking over its fire count).
+     * @return true if no execution of the job is in progress, in which case
+     * the fire must be dispatched now, false if it became the pending fire.
+     */
+    synchronized boolean offer(TriggerFiredBundle bundle, List<TriggerFiredBundle> superseded) {
+        JobKey jobKey = bundle.getJobDetail().getKey();
+        if (!executing.containsKey(jobKey)) {
+            executing.put(jobKey, null);
+            return true;
+        }
+        TriggerFiredBundle pending = executing.put(jobKey, bundle);
+        if (pending != null) {
+            bundle.setFireCount(pending.getFireCount() + bundle.getFireCount());
+            superseded.add(pending);
+        }
+        return false;
+    }
+
+    /**
+     * Inform the coalescer that an execution of the given job completed.
+     *
+     * @return the pending fire, that must be run next (the job then remains
+     * executing), or null if there is none (the job is no longer executing).
+     */
+    synchronized TriggerFiredBundle next(JobKey jobKey) {
+        TriggerFiredBundle pending = executing.get(jobKey);
+        if (pending == null) {
+            executing.remove(jobKey);
+        } else {
+            executing.put(jobKey, null);
+        }
+        return pending;
+    }
+}
@@ -0,0 +1,388 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.core;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.quartz.utils.CircularSampleBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>
+ * Measures which job classes keep the worker threads of a scheduler busy:
+ * for each job class and job group, the share of the thread pool that was
+ * busy executing its jobs over the last minute, five minutes and fifteen
+ * minutes.
+ * </p>
+ *
+ * <p>
+ * <code>{@link JobRunShell}</code> reports the beginning and the end of
+ * each execution, which only updates a few counters of the job class and
+ * group, without allocating.  The busy time of each of them is sampled every
+ * five seconds by a daemon thread, which also logs the top consumers at
+ * INFO level, if asked to.
+ * </p>
+ */
+public class JobClassProfiler {
+
+    /**
+     * The number of milliseconds between samples of the busy times.
+     */
+    public static final long SAMPLE_INTERVAL = 5000L;
+
+    /**
+     * The name job classes are reported under once <code>MAX_ENTRIES</code>
+     * job classes and groups are profiled.
+     */
+    public static final String OTHER_JOB_CLASSES = "(other)";
+
+    static final int MAX_ENTRIES = 1024;
+
+    private static final long[] WINDOWS = {
+            TimeUnit.MINUTES.toNanos(1), TimeUnit.MINUTES.toNanos(5), TimeUnit.MINUTES.toNanos(15) };
+
+    private static final int HISTORY_SIZE = (int) (TimeUnit.NANOSECONDS.toMillis(WINDOWS[2]) / SAMPLE_INTERVAL) + 1;
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final String schedulerName;
+
+    private final int poolSize;
+
+    private final int topCount;
+
+    private final long logInterval;
+
+    private final ConcurrentHashMap<Class<?>, ConcurrentHashMap<String, Entry>> entries = new ConcurrentHashMap<>();
+
+    private final AtomicInteger entryCount = new AtomicInteger();
+
+    private volatile Entry otherEntry = new Entry(OTHER_JOB_CLASSES, null, System.nanoTime());
+
+    private ScheduledExecutorService executor;
+
+    /**
+     * @param poolSize the number of worker threads shares are computed of.
+     * @param topCount the number of job classes and groups to log.
+     * @param logInterval the number of milliseconds between summaries of the
+     * top consumers, or 0 not to log them.
+     */
+    public JobClassProfiler(String schedulerName, int poolSize, int topCount, long logInterval) {
+        this.schedulerName = schedulerName;
+        this.poolSize = Math.max(1, poolSize);
+        this.topCount = topCount;
+        this.logInterval = logInterval;
+    }
+
+    /**
+     * Start sampling the busy times, and logging them if configured to.
+     */
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        final String threadName = schedulerName + "_JobClassProfiler";
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, threadName);
+            t.setDaemon(true);
+            return t;
+        });
+        executor.scheduleAtFixedRate(() -> sample(System.nanoTime()),
+                SAMPLE_INTERVAL, SAMPLE_INTERVAL, TimeUnit.MILLISECONDS);
+        if (logInterval > 0) {
+            executor.scheduleAtFixedRate(this::logSummary, logInterval, logInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public synchronized void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * Record the beginning of an execution of a job.
+     *
+     * @param startNanos the <code>System.nanoTime()</code> at which the job
+     * began executing.
+     * @return the entry to pass to <code>{@link #end(Entry, long, long)}</code>.
+     */
+    public Entry begin(Class<?> jobClass, String group, long startNanos) {
+        Entry entry = entry(jobClass, group, startNanos);
+        entry.begin(startNanos);
+        return entry;
+    }
+
+    /**
+     * Record the end of an execution of a job.
+     */
+    public void end(Entry entry, long startNanos, long endNanos) {
+        entry.end(startNanos, endNanos);
+    }
+
+    private Entry entry(Class<?> jobClass, String group, long nowNanos) {
+        ConcurrentHashMap<String, Entry> groups = entries.get(jobClass);
+        if (groups == null) {
+            groups = entries.computeIfAbsent(jobClass, c -> new ConcurrentHashMap<>());
+        }
+        Entry entry = groups.get(group);
+        if (entry != null) {
+            return entry;
+        }
+        if (entryCount.get() >= MAX_ENTRIES) {
+            return otherEntry;
+        }
+        return groups.computeIfAbsent(group, g -> {
+            entryCount.incrementAndGet();
+            return new Entry(jobClass.getName(), g, nowNanos);
+        });
+    }
+
+    /**
+     * @return the job classes and groups that kept the most worker threads
+     * busy over the last minute, most first, and at most <code>count</code>
+     * of them.
+     */
+    public List<Profile> getTopJobClasses(int count) {
+        return getTopJobClasses(count, System.nanoTime());
+    }
+
+    List<Profile> getTopJobClasses(int count, long now) {
+        List<Profile> profiles = new ArrayList<>();
+        for (ConcurrentHashMap<String, Entry> groups : entries.values()) {
+            for (Entry entry : groups.values()) {
+                profiles.add(entry.toProfile(now, poolSize));
+            }
+        }
+        if (entryCount.get() >= MAX_ENTRIES) {
+            profiles.add(otherEntry.toProfile(now, poolSize));
+        }
+        profiles.sort(Comparator.comparingDouble(Profile::getOneMinuteShare)
+                .thenComparingDouble(Profile::getFifteenMinuteShare).reversed());
+        return profiles.subList(0, Math.min(Math.max(0, count), profiles.size()));
+    }
+
+    /**
+     * Discard all measurements.  Executions in progress are no longer
+     * accounted for.
+     */
+    public void reset() {
+        entries.clear();
+        entryCount.set(0);
+        otherEntry = new Entry(OTHER_JOB_CLASSES, null, System.nanoTime());
+    }
+
+    void sample(long nowNanos) {
+        for (ConcurrentHashMap<String, Entry> groups : entries.values()) {
+            for (Entry entry : groups.values()) {
+                entry.sample(nowNanos);
+            }
+        }
+        otherEntry.sample(nowNanos);
+    }
+
+    void logSummary() {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        List<Profile> profiles = getTopJobClasses(topCount);
+        if (profiles.isEmpty() || profiles.get(0).getFifteenMinuteShare() == 0) {
+            return;
+        }
+        StringBuilder sb = new StringBuilder("Busiest job classes of scheduler ").append(schedulerName)
+                .append(" (share of ").append(poolSize).append(" threads over 1/5/15 minutes):");
+        for (Profile profile : profiles) {
+            sb.append("\n  ").append(profile.getJobClassName());
+            if (profile.getJobGroup() != null) {
+                sb.append(" [").append(profile.getJobGroup()).append("]");
+            }
+            sb.append(String.format(": %.1f%% / %.1f%% / %.1f%%, executing=%d, executions=%d",
+                    profile.getOneMinuteShare() * 100, profile.getFiveMinuteShare() * 100,
+                    profile.getFifteenMinuteShare() * 100, profile.getExecutingCount(), profile.getExecutionCount()));
+        }
+        log.info(sb.toString());
+    }
+
+    /**
+     * The busy time of the worker threads executing the jobs of a job class
+     * and group.
+     */
+    public static final class Entry {
+
+        private final String jobClassName;
+
+        private final String group;
+
+        private final CircularSampleBuffer samples = new CircularSampleBuffer(HISTORY_SIZE);
+
+        // busy time of the completed executions, plus of those in progress up to now is
+        // busyNanos + executing * now - startNanosSum
+        private int executing;
+
+        private long executions;
+
+        private long busyNanos;
+
+        private long startNanosSum;
+
+        Entry(String jobClassName, String group, long nowNanos) {
+            this.jobClassName = jobClassName;
+            this.group = group;
+            samples.push(nowNanos, 0L);
+        }
+
+        synchronized void begin(long startNanos) {
+            executing++;
+            startNanosSum += startNanos;
+        }
+
+        synchronized void end(long startNanos, long endNanos) {
+            executing--;
+            executions++;
+            startNanosSum -= startNanos;
+            busyNanos += endNanos - startNanos;
+        }
+
+        synchronized long busyNanos(long nowNanos) {
+            return busyNanos + executing * nowNanos - startNanosSum;
+        }
+
+        void sample(long nowNanos) {
+            samples.push(nowNanos, busyNanos(nowNanos));
+        }
+
+        Profile toProfile(long nowNanos, int poolSize) {
+            int executingCount;
+            long executionCount;
+            long busy;
+            synchronized (this) {
+                executingCount = executing;
+                executionCount = executions;
+                busy = busyNanos(nowNanos);
+            }
+            double[] shares = new double[WINDOWS.length];
+            for (int i = 0; i < WINDOWS.length; i++) {
+                shares[i] = share(busy, nowNanos, WINDOWS[i], poolSize);
+            }
+            return new Profile(jobClassName, group, executingCount, executionCount, shares[0], shares[1], shares[2]);
+        }
+
+        // the share of the pool that was busy since the oldest sample within the window
+        private double share(long busy, long nowNanos, long window, int poolSize) {
+            int age = Math.min((int) (window / TimeUnit.MILLISECONDS.toNanos(SAMPLE_INTERVAL)), samples.depth() - 1);
+            long elapsed = nowNanos - samples.peekTimestamp(age);
+            if (elapsed <= 0) {
+                return 0;
+            }
+            return Math.max(0, busy - samples.peekValue(age)) / ((double) elapsed * poolSize);
+        }
+    }
+
+    /**
+     * A snapshot of the busy share of a job class and group.
+     */
+    public static class Profile {
+
+        private final String jobClassName;
+
+        private final String jobGroup;
+
+        private final int executingCount;
+
+        private final long executionCount;
+
+        private final double oneMinuteShare;
+
+        private final double fiveMinuteShare;
+
+        private final double fifteenMinuteShare;
+
+        Profile(String jobClassName, String jobGroup, int executingCount, long executionCount,
+                double oneMinuteShare, double fiveMinuteShare, double fifteenMinuteShare) {
+            this.jobClassName = jobClassName;
+            this.jobGroup = jobGroup;
+            this.executingCount = executingCount;
+            this.executionCount = executionCount;
+            this.oneMinuteShare = oneMinuteShare;
+            this.fiveMinuteShare = fiveMinuteShare;
+            this.fifteenMinuteShare = fifteenMinuteShare;
+        }
+
+        public String getJobClassName() {
+            return jobClassName;
+        }
+
+        /**
+         * @return the job group, or null for <code>OTHER_JOB_CLASSES</code>.
+         */
+        public String getJobGroup() {
+            return jobGroup;
+        }
+
+        /**
+         * @return the number of jobs of the class and group executing now.
+         */
+        public int getExecutingCount() {
+            return executingCount;
+        }
+
+        /**
+         * @return the number of completed executions of jobs of the class and
+         * group.
+         */
+        public long getExecutionCount() {
+            return executionCount;
+        }
+
+        /**
+         * @return the share (between 0 and 1) of the worker threads busy
+         * executing jobs of the class and group over the last minute.
+         */
+        public double getOneMinuteShare() {
+            return oneMinuteShare;
+        }
+
+        public double getFiveMinuteShare() {
+            return fiveMinuteShare;
+        }
+
+        public double getFifteenMinuteShare() {
+            return fifteenMinuteShare;
+        }
+
+        @Override
+        public String toString() {
+            return "Profile [jobClassName=" + jobClassName + ", jobGroup=" + jobGroup + ", executingCount="
+                    + executingCount + ", executionCount=" + executionCount + ", oneMinuteShare=" + oneMinuteShare
+                    + ", fiveMinuteShare=" + fiveMinuteShare + ", fifteenMinuteShare=" + fifteenMinuteShare + "]";
+        }
+    }
+}
@@ -19,6 +19,8 @@
 
 package org.quartz.core;
 
+import java.util.Date;
+
 import org.quartz.Job;
 import org.quartz.JobDetail;
 import org.quartz.JobExecutionContext;
@@ -26,10 +28,12 @@ import org.quartz.JobExecutionException;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
 import org.quartz.Trigger.CompletedExecutionInstruction;
+import org.quartz.core.jfr.JobExecutionEvent;
 import org.quartz.impl.JobExecutionContextImpl;
 import org.quartz.listeners.SchedulerListenerSupport;
 import org.quartz.spi.OperableTrigger;
 import org.quartz.spi.TriggerFiredBundle;
+import org.quartz.utils.PipelineMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -75,6 +79,9 @@ public class JobRunShell extends SchedulerListenerSupport implements Runnable {
 
     protected volatile boolean shutdownRequested = false;
 
+    // System.nanoTime() at which the shell was handed to the thread pool, or 0
+    private long handOffTime;
+
     private final Logger log = LoggerFactory.getLogger(getClass());
 
     /*
@@ -148,7 +155,18 @@ public class JobRunShell extends SchedulerListenerSupport implements Runnable {
         shutdownRequested = true;
     }
 
+    /**
+     * Record the <code>System.nanoTime()</code> at which this shell is handed
+     * to the thread pool, to measure how long it waits for a worker thread.
+     */
+    public void setHandOffTime(long handOffTime) {
+        this.handOffTime = handOffTime;
+    }
+
     public void run() {
+        if (handOffTime != 0) {
+            qs.getPipelineMetrics().record(PipelineMetrics.Stage.THREAD_POOL_HANDOFF, (System.nanoTime() - handOffTime) / 1000L);
+        }
         qs.addInternalSchedulerListener(this);
 
         try {
@@ -194,9 +212,20 @@ public class JobRunShell extends SchedulerListenerSupport implements Runnable {
                     break;
                 }
 
+                JobExecutionEvent executionEvent = null;
+                if (qs.isFlightRecorderEvents()) {
+                    executionEvent = new JobExecutionEvent();
+                    executionEvent.begin();
+                }
+
                 long startTime = System.currentTimeMillis();
+                long startNanos = System.nanoTime();
                 long endTime;
 
+                JobClassProfiler profiler = qs.getJobClassProfiler();
+                JobClassProfiler.Entry profile = profiler == null ? null
+                        : profiler.begin(jobDetail.getJobClass(), jobDetail.getKey().getGroup(), startNanos);
+
                 // execute the job
                 try {
                     log.debug("Calling execute on job {}", jobDetail.getKey());
@@ -216,7 +245,17 @@ public class JobRunShell extends SchedulerListenerSupport implements Runnable {
                     jobExEx = new JobExecutionException(se, false);
                 }
 
+                long endNanos = System.nanoTime();
+                if (profile != null) {
+                    profiler.end(profile, startNanos, endNanos);
+                }
+
                 jec.setJobRunTime(endTime - startTime);
+                qs.getPipelineMetrics().recordJobRunTime(jobDetail.getKey().getGroup(), (endNanos - startNanos) / 1000L);
+                recordExecutionStatistics(jobExEx != null);
+                if (executionEvent != null) {
+                    commitExecutionEvent(executionEvent, jobExEx != null);
+                }
 
                 // notify all job listeners
                 if (!notifyJobListenersComplete(jec, jobExEx)) {
@@ -273,6 +312,28 @@ public class JobRunShell extends SchedulerListenerSupport implements Runnable {
         }
     }
 
+    private void commitExecutionEvent(JobExecutionEvent event, boolean failed) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.schedulerName = qs.getSchedulerName();
+            event.jobKey = jec.getJobDetail().getKey().toString();
+            event.triggerKey = jec.getTrigger().getKey().toString();
+            event.fireInstanceId = jec.getFireInstanceId();
+            event.refireCount = jec.getRefireCount();
+            event.outcome = failed ? JobExecutionEvent.FAILED : JobExecutionEvent.SUCCEEDED;
+            event.commit();
+        }
+    }
+
+    private void recordExecutionStatistics(boolean failed) {
+        Date fireTime = jec.getFireTime();
+        Date scheduledFireTime = jec.getScheduledFireTime();
+        long fireLateness = scheduledFireTime == null ? 0L
+                : Math.max(0L, fireTime.getTime() - scheduledFireTime.getTime());
+        qs.getExecutionStatisticsStore().record(jec.getJobDetail().getKey(), jec.getTrigger().getKey(),
+                fireTime.getTime(), fireLateness, jec.getJobRunTime(), failed);
+    }
+
     protected void begin() throws SchedulerException {
     }
 
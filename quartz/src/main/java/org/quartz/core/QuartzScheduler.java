@@ -37,11 +37,13 @@ import java.util.Random;
 import java.util.Set;
 import java.util.Map.Entry;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.management.MBeanServer;
 import javax.management.ObjectName;
 
 import org.quartz.Calendar;
+import org.quartz.ExecutionStatistics;
 import org.quartz.InterruptableJob;
 import org.quartz.Job;
 import org.quartz.JobDataMap;
@@ -50,6 +52,7 @@ import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
 import org.quartz.JobKey;
 import org.quartz.JobListener;
+import org.quartz.JobPersistenceException;
 import org.quartz.ListenerManager;
 import org.quartz.Matcher;
 import org.quartz.ObjectAlreadyExistsException;
@@ -69,12 +72,22 @@ import org.quartz.core.jmx.QuartzSchedulerMBean;
 import org.quartz.impl.SchedulerRepository;
 import org.quartz.impl.matchers.GroupMatcher;
 import org.quartz.listeners.SchedulerListenerSupport;
+import org.quartz.management.MetricsRegistry;
 import org.quartz.simpl.PropertySettingJobFactory;
+import org.quartz.spi.BacklogAwareJobStore;
 import org.quartz.spi.JobFactory;
+import org.quartz.spi.JobStore;
+import org.quartz.spi.LockStatisticsAwareJobStore;
+import org.quartz.spi.MetricsExporter;
 import org.quartz.spi.OperableTrigger;
+import org.quartz.spi.RateLimitAwareJobStore;
 import org.quartz.spi.SchedulerPlugin;
 import org.quartz.spi.SchedulerSignaler;
 import org.quartz.spi.ThreadExecutor;
+import org.quartz.spi.TriggerBacklog;
+import org.quartz.spi.TriggerRateLimiter;
+import org.quartz.utils.LockStatistics;
+import org.quartz.utils.PipelineMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -166,6 +179,16 @@ public class QuartzScheduler implements RemotableQuartzScheduler {
 
     private final Random random = new Random();
 
+    private final PipelineMetrics pipelineMetrics = new PipelineMetrics();
+
+    private final MetricsRegistry metricsRegistry = new MetricsRegistry(pipelineMetrics);
+
+    private final LongAdder numTriggersMisfired = new LongAdder();
+
+    private final ExecutionStatisticsStore executionStatistics;
+
+    private final JobClassProfiler jobClassProfiler;
+
     private final ArrayList<Object> holdToPreventGC = new ArrayList<>(5);
 
     private boolean signalOnSchedulingChange = true;
@@ -203,6 +226,15 @@ public class QuartzScheduler implements RemotableQuartzScheduler {
     public QuartzScheduler(QuartzSchedulerResources resources, long idleWaitTime, @Deprecated long dbRetryInterval)
         throws SchedulerException {
         this.resources = resources;
+        this.executionStatistics = new ExecutionStatisticsStore(
+                resources.getExecutionStatisticsCapacity(), resources.getExecutionStatisticsHistorySize());
+        if (resources.isJobClassProfilerEnabled()) {
+            this.jobClassProfiler = new JobClassProfiler(resources.getName(), resources.getThreadPool().getPoolSize(),
+                    resources.getJobClassProfilerTopCount(), resources.getJobClassProfilerLogInterval());
+            this.jobClassProfiler.start();
+        } else {
+            this.jobClassProfiler = null;
+        }
         if (resources.getJobStore() instanceof JobListener) {
             addInternalJobListener((JobListener)resources.getJobStore());
         }
@@ -221,6 +253,8 @@ public class QuartzScheduler implements RemotableQuartzScheduler {
 
         signaler = new SchedulerSignalerImpl(this, this.schedThread);
 
+        registerMetrics();
+
         getLog().info("Quartz Scheduler v{} created.", getVersion());
     }
 
@@ -600,6 +634,136 @@ public class QuartzScheduler implements RemotableQuartzScheduler {
         return resources.getJobStore().getClass();
     }
 
+    /**
+     * @return the latency histograms of the stages triggers go through, from
+     * their acquisition to the completion of their jobs.
+     */
+    public PipelineMetrics getPipelineMetrics() {
+        return pipelineMetrics;
+    }
+
+    /**
+     * @return whether the sampled statistics of the scheduler's JMX MBean are
+     * only sampled when they are read.
+     */
+    boolean isSampledStatisticsLazy() {
+        return resources.isSampledStatisticsLazy();
+    }
+
+    /**
+     * @return the metrics handed to the scheduler's
+     * <code>{@link MetricsExporter}</code>s, to which applications may add
+     * their own.
+     */
+    public MetricsRegistry getMetricsRegistry() {
+        return metricsRegistry;
+    }
+
+    private void registerMetrics() {
+        final double micros = 1.0e-6;
+        metricsRegistry.addGauge("quartz_thread_pool_size",
+                "Number of threads of the thread pool.", () -> resources.getThreadPool().getPoolSize());
+        metricsRegistry.addGauge("quartz_thread_pool_busy_threads",
+                "Number of threads of the thread pool executing a job.", jobMgr::getNumJobsRunning);
+        metricsRegistry.addCounter("quartz_jobs_fired_total",
+                "Number of jobs fired.", jobMgr::getNumJobsFired);
+        metricsRegistry.addCounter("quartz_jobs_failed_total",
+                "Number of job executions that threw an exception.", jobMgr::getNumJobsFailed);
+        metricsRegistry.addCounter("quartz_triggers_misfired_total",
+                "Number of triggers found to have misfired.", numTriggersMisfired::sum);
+        metricsRegistry.addSummary("quartz_acquire_triggers_seconds",
+                "Duration of acquiring the next triggers from the job store.",
+                pipelineMetrics.getHistogram(PipelineMetrics.Stage.ACQUIRE_TRIGGERS), micros);
+        metricsRegistry.addSummary("quartz_acquire_batch_size",
+                "Number of triggers acquired from the job store at once.",
+                pipelineMetrics.getHistogram(PipelineMetrics.Stage.ACQUIRE_BATCH_SIZE), 1.0);
+        metricsRegistry.addSummary("quartz_lock_wait_seconds",
+                "Time spent waiting for the locks of the job store.",
+                pipelineMetrics.getHistogram(PipelineMetrics.Stage.LOCK_WAIT), micros);
+        metricsRegistry.addSummary("quartz_triggers_fired_seconds",
+                "Duration of marking acquired triggers as fired in the job store.",
+                pipelineMetrics.getHistogram(PipelineMetrics.Stage.TRIGGERS_FIRED), micros);
+        metricsRegistry.addSummary("quartz_fire_lateness_seconds",
+                "Time between the scheduled fire time of a trigger and the hand-off of its job to the thread pool.",
+                pipelineMetrics.getHistogram(PipelineMetrics.Stage.FIRE_LATENESS), micros);
+        metricsRegistry.addSummary("quartz_thread_pool_handoff_seconds",
+                "Time between the hand-off of a job to the thread pool and the start of its execution.",
+                pipelineMetrics.getHistogram(PipelineMetrics.Stage.THREAD_POOL_HANDOFF), micros);
+        metricsRegistry.addSummary("quartz_triggered_job_complete_seconds",
+                "Duration of updating the job store when a job completes.",
+                pipelineMetrics.getHistogram(PipelineMetrics.Stage.TRIGGERED_JOB_COMPLETE), micros);
+        metricsRegistry.addSummary("quartz_job_run_time_seconds",
+                "Run time of the jobs, by job group.", "group", pipelineMetrics.getJobRunTimes(), micros);
+    }
+
+    /**
+     * @return the statistics kept about the executions of jobs and triggers.
+     */
+    public ExecutionStatisticsStore getExecutionStatisticsStore() {
+        return executionStatistics;
+    }
+
+    /**
+     * @return the profiler of the share of the worker threads each job class
+     * keeps busy, or null if it is not enabled.
+     */
+    public JobClassProfiler getJobClassProfiler() {
+        return jobClassProfiler;
+    }
+
+    /**
+     * @return whether the scheduler emits JDK Flight Recorder events.
+     */
+    public boolean isFlightRecorderEvents() {
+        return resources.isFlightRecorderEvents();
+    }
+
+    public ExecutionStatistics getJobExecutionStatistics(JobKey jobKey) {
+        return executionStatistics.getJobStatistics(jobKey);
+    }
+
+    public ExecutionStatistics getTriggerExecutionStatistics(TriggerKey triggerKey) {
+        return executionStatistics.getTriggerStatistics(triggerKey);
+    }
+
+    /**
+     * @return the limiter enforced by the job store when acquiring triggers,
+     * or null if it has none.
+     */
+    public TriggerRateLimiter getTriggerRateLimiter() {
+        JobStore jobStore = resources.getJobStore();
+        if (jobStore instanceof RateLimitAwareJobStore) {
+            return ((RateLimitAwareJobStore) jobStore).getTriggerRateLimiter();
+        }
+        return null;
+    }
+
+    /**
+     * @param dueWindow the window, in milliseconds from now, to count the
+     * triggers due within.
+     * @return the backlog of the triggers waiting to be acquired, or null if
+     * the job store cannot count it.
+     */
+    public TriggerBacklog getTriggerBacklog(long dueWindow) throws JobPersistenceException {
+        JobStore jobStore = resources.getJobStore();
+        if (jobStore instanceof BacklogAwareJobStore) {
+            return ((BacklogAwareJobStore) jobStore).getTriggerBacklog(dueWindow);
+        }
+        return null;
+    }
+
+    /**
+     * @return the statistics of the locks taken by the job store, or null if
+     * it keeps none.
+     */
+    public LockStatistics getLockStatistics() {
+        JobStore jobStore = resources.getJobStore();
+        if (jobStore instanceof LockStatisticsAwareJobStore) {
+            return ((LockStatisticsAwareJobStore) jobStore).getLockStatistics();
+        }
+        return null;
+    }
+
     public boolean supportsPersistence() {
         return resources.getJobStore().supportsPersistence();
     }
@@ -717,6 +881,12 @@ public class QuartzScheduler implements RemotableQuartzScheduler {
         
         shutdownPlugins();
 
+        shutdownMetricsExporters();
+
+        if (jobClassProfiler != null) {
+            jobClassProfiler.shutdown();
+        }
+
         resources.getJobStore().shutdown();
 
         notifySchedulerListenersShutdown();
@@ -1467,6 +1637,23 @@ public class QuartzScheduler implements RemotableQuartzScheduler {
         return resources.getJobStore().getTriggerKeys(matcher);
     }
 
+    /**
+     * <p>
+     * Get the names of all the <code>{@link org.quartz.Trigger}s</code> in
+     * the matching groups that are in the given state.
+     * </p>
+     */
+    public Set<TriggerKey> getTriggerKeys(GroupMatcher<TriggerKey> matcher, TriggerState state)
+        throws SchedulerException {
+        validateState();
+
+        if(matcher == null) {
+            matcher = GroupMatcher.groupEquals(Scheduler.DEFAULT_GROUP);
+        }
+
+        return resources.getJobStore().getTriggerKeys(matcher, state);
+    }
+
     /**
      * <p>
      * Get the <code>{@link JobDetail}</code> for the <code>Job</code>
@@ -1769,7 +1956,9 @@ J     *
     }
 
     protected void notifyJobStoreJobComplete(OperableTrigger trigger, JobDetail detail, CompletedExecutionInstruction instCode) {
+        long start = System.nanoTime();
         resources.getJobStore().triggeredJobComplete(trigger, detail, instCode);
+        pipelineMetrics.record(PipelineMetrics.Stage.TRIGGERED_JOB_COMPLETE, (System.nanoTime() - start) / 1000L);
     }
 
     protected void notifyJobStoreJobVetoed(OperableTrigger trigger, JobDetail detail, CompletedExecutionInstruction instCode) {
@@ -1859,6 +2048,8 @@ J     *
 
     public void notifyTriggerListenersMisfired(Trigger trigger)
         throws SchedulerException {
+        numTriggersMisfired.increment();
+
         // build a list of all trigger listeners that are to be notified...
         List<TriggerListener> triggerListeners = buildTriggerListenerList();
 
@@ -2327,6 +2518,12 @@ J     *
         }
     }
 
+    private void shutdownMetricsExporters() {
+        for (MetricsExporter exporter : resources.getMetricsExporters()) {
+            exporter.shutdown();
+        }
+    }
+
     private void startPlugins() {
         for (SchedulerPlugin plugin : resources.getSchedulerPlugins()) {
             plugin.start();
@@ -2363,6 +2560,11 @@ class ExecutingJobsManager implements JobListener {
 
     final AtomicInteger numJobsFired = new AtomicInteger(0);
 
+    // kept apart from executingJobs, to be read without locking
+    final AtomicInteger numJobsRunning = new AtomicInteger(0);
+
+    final AtomicInteger numJobsFailed = new AtomicInteger(0);
+
     ExecutingJobsManager() {
     }
 
@@ -2380,15 +2582,22 @@ class ExecutingJobsManager implements JobListener {
         numJobsFired.incrementAndGet();
 
         synchronized (executingJobs) {
-            executingJobs
-                    .put(((OperableTrigger)context.getTrigger()).getFireInstanceId(), context);
+            if (executingJobs
+                    .put(((OperableTrigger)context.getTrigger()).getFireInstanceId(), context) == null) {
+                numJobsRunning.incrementAndGet();
+            }
         }
     }
 
     public void jobWasExecuted(JobExecutionContext context,
             JobExecutionException jobException) {
+        if (jobException != null) {
+            numJobsFailed.incrementAndGet();
+        }
         synchronized (executingJobs) {
-            executingJobs.remove(((OperableTrigger)context.getTrigger()).getFireInstanceId());
+            if (executingJobs.remove(((OperableTrigger)context.getTrigger()).getFireInstanceId()) != null) {
+                numJobsRunning.decrementAndGet();
+            }
         }
     }
 
@@ -2396,6 +2605,14 @@ class ExecutingJobsManager implements JobListener {
         return numJobsFired.get();
     }
 
+    public int getNumJobsRunning() {
+        return numJobsRunning.get();
+    }
+
+    public int getNumJobsFailed() {
+        return numJobsFailed.get();
+    }
+
     public List<JobExecutionContext> getExecutingJobs() {
         synchronized (executingJobs) {
             return java.util.Collections.unmodifiableList(new ArrayList<>(
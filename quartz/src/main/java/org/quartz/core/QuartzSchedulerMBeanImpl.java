@@ -11,9 +11,11 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
@@ -41,13 +43,27 @@ import org.quartz.SchedulerListener;
 import org.quartz.Trigger;
 import org.quartz.Trigger.TriggerState;
 import org.quartz.TriggerKey;
+import org.quartz.core.SchedulingChangeFeed.Kind;
+import org.quartz.core.SchedulingChangeFeed.Type;
+import org.quartz.core.jmx.ExecutionStatisticsSupport;
+import org.quartz.core.jmx.JobClassProfileSupport;
 import org.quartz.core.jmx.JobDetailSupport;
 import org.quartz.core.jmx.JobExecutionContextSupport;
+import org.quartz.core.jmx.LockStatisticsSupport;
+import org.quartz.core.jmx.PipelineMetricsSupport;
 import org.quartz.core.jmx.QuartzSchedulerMBean;
+import org.quartz.core.jmx.SchedulingChangeSupport;
+import org.quartz.core.jmx.TriggerRateLimitSupport;
 import org.quartz.core.jmx.TriggerSupport;
 import org.quartz.impl.matchers.GroupMatcher;
 import org.quartz.impl.triggers.AbstractTrigger;
 import org.quartz.spi.OperableTrigger;
+import org.quartz.spi.TriggerBacklog;
+import org.quartz.spi.TriggerRateLimiter;
+import org.quartz.utils.Key;
+import org.quartz.utils.LatencyHistogram;
+import org.quartz.utils.LockStatistics;
+import org.quartz.utils.PipelineMetrics;
 
 public class QuartzSchedulerMBeanImpl extends StandardMBean implements
         NotificationEmitter, QuartzSchedulerMBean, JobListener,
@@ -55,14 +71,18 @@ public class QuartzSchedulerMBeanImpl extends StandardMBean implements
     private static final MBeanNotificationInfo[] NOTIFICATION_INFO;
 
     private final QuartzScheduler scheduler;
-    private boolean sampledStatisticsEnabled;
+    private volatile boolean sampledStatisticsEnabled;
     private SampledStatistics sampledStatistics;
 
     private final static SampledStatistics NULL_SAMPLED_STATISTICS = new NullSampledStatisticsImpl();
 
+    private static final int CHANGE_FEED_CAPACITY = 10000;
+
+    private final SchedulingChangeFeed changeFeed = new SchedulingChangeFeed(CHANGE_FEED_CAPACITY);
+
     static {
         final String[] notificationTypes = new String[] { SCHEDULER_STARTED,
-                SCHEDULER_PAUSED, SCHEDULER_SHUTDOWN, };
+                SCHEDULER_PAUSED, SCHEDULER_SHUTDOWN, SCHEDULING_DATA_CHANGED, };
         final String name = Notification.class.getName();
         final String description = "QuartzScheduler JMX Event";
         NOTIFICATION_INFO = new MBeanNotificationInfo[] { new MBeanNotificationInfo(
@@ -117,6 +137,212 @@ public class QuartzSchedulerMBeanImpl extends StandardMBean implements
         }
     }
 
+    public TabularData getJobDetails(String groupPattern, int offset, int limit) throws Exception {
+        try {
+            List<JobDetail> detailList = new ArrayList<>();
+            for (JobKey jobKey : page(sortedKeys(scheduler.getJobKeys(groupMatcher(groupPattern))), offset, limit)) {
+                JobDetail jobDetail = scheduler.getJobDetail(jobKey);
+                if (jobDetail != null) {
+                    detailList.add(jobDetail);
+                }
+            }
+            return JobDetailSupport.toTabularData(detailList.toArray(new JobDetail[detailList.size()]));
+        } catch (Exception e) {
+            throw newPlainException(e);
+        }
+    }
+
+    public int getJobCount(String groupPattern) throws Exception {
+        try {
+            return scheduler.getJobKeys(groupMatcher(groupPattern)).size();
+        } catch (Exception e) {
+            throw newPlainException(e);
+        }
+    }
+
+    public List<CompositeData> getTriggers(String groupPattern, String state, int offset, int limit) throws Exception {
+        try {
+            List<Trigger> triggerList = new ArrayList<>();
+            for (TriggerKey triggerKey : page(triggerKeys(groupPattern, state), offset, limit)) {
+                Trigger trigger = scheduler.getTrigger(triggerKey);
+                if (trigger != null) {
+                    triggerList.add(trigger);
+                }
+            }
+            return TriggerSupport.toCompositeList(triggerList);
+        } catch (Exception e) {
+            throw newPlainException(e);
+        }
+    }
+
+    public int getTriggerCount(String groupPattern, String state) throws Exception {
+        try {
+            return triggerKeys(groupPattern, state).size();
+        } catch (Exception e) {
+            throw newPlainException(e);
+        }
+    }
+
+    private List<TriggerKey> triggerKeys(String groupPattern, String state) throws SchedulerException {
+        if (state == null || state.isEmpty()) {
+            return sortedKeys(scheduler.getTriggerKeys(groupMatcher(groupPattern)));
+        }
+        TriggerState triggerState = TriggerState.valueOf(state.toUpperCase(Locale.ROOT));
+        return sortedKeys(scheduler.getTriggerKeys(groupMatcher(groupPattern), triggerState));
+    }
+
+    private static <T extends Key<T>> GroupMatcher<T> groupMatcher(String pattern) {
+        if (pattern == null || pattern.isEmpty() || pattern.equals("*")) {
+            return GroupMatcher.anyGroup();
+        }
+        boolean leading = pattern.startsWith("*");
+        boolean trailing = pattern.endsWith("*") && pattern.length() > 1;
+        String compareTo = pattern.substring(leading ? 1 : 0, pattern.length() - (trailing ? 1 : 0));
+        if (leading && trailing) {
+            return GroupMatcher.groupContains(compareTo);
+        } else if (leading) {
+            return GroupMatcher.groupEndsWith(compareTo);
+        } else if (trailing) {
+            return GroupMatcher.groupStartsWith(compareTo);
+        }
+        return GroupMatcher.groupEquals(compareTo);
+    }
+
+    private static <T extends Comparable<? super T>> List<T> sortedKeys(Set<T> keys) {
+        List<T> sorted = new ArrayList<>(keys);
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    private static <T> List<T> page(List<T> list, int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("Offset and limit must not be negative.");
+        }
+        int from = Math.min(offset, list.size());
+        return list.subList(from, (int) Math.min((long) from + limit, list.size()));
+    }
+
+    public long getLastChangeSequence() {
+        return changeFeed.getLastSequence();
+    }
+
+    public CompositeData[] getChangesSince(long sequence, int limit) throws Exception {
+        try {
+            return SchedulingChangeSupport.toCompositeData(changeFeed.getChangesSince(sequence, limit));
+        } catch (Exception e) {
+            throw newPlainException(e);
+        }
+    }
+
+    private void recordChange(SchedulingChangeFeed.Kind kind, SchedulingChangeFeed.Type type, String group, String name) {
+        recordChange(kind, type, group, name, true);
+    }
+
+    private void recordChange(SchedulingChangeFeed.Kind kind, SchedulingChangeFeed.Type type, String group, String name,
+            boolean notify) {
+        SchedulingChangeFeed.Change change = changeFeed.record(kind, type, group, name);
+        if (notify) {
+            sendNotification(SCHEDULING_DATA_CHANGED, SchedulingChangeSupport.toCompositeData(change));
+        }
+    }
+
+    public TabularData getTriggerRateLimits() throws Exception {
+        try {
+            TriggerRateLimiter rateLimiter = scheduler.getTriggerRateLimiter();
+            List<TriggerRateLimiter.Limit> limits = rateLimiter != null
+                    ? rateLimiter.getLimits() : new ArrayList<TriggerRateLimiter.Limit>();
+            return TriggerRateLimitSupport.toTabularData(limits);
+        } catch (Exception e) {
+            throw newPlainException(e);
+        }
+    }
+
+    public TabularData getPipelineMetrics() throws Exception {
+        try {
+            return PipelineMetricsSupport.toTabularData(scheduler.getPipelineMetrics());
+        } catch (Exception e) {
+            throw newPlainException(e);
+        }
+    }
+
+    public void resetPipelineMetrics() {
+        scheduler.getPipelineMetrics().reset();
+    }
+
+    public TabularData getLockStatistics() throws Exception {
+        try {
+            LockStatistics lockStatistics = scheduler.getLockStatistics();
+            return LockStatisticsSupport.toTabularData(lockStatistics == null
+                    ? Collections.<LockStatistics.Snapshot>emptyList() : lockStatistics.getSnapshots());
+        } catch (Exception e) {
+            throw newPlainException(e);
+        }
+    }
+
+    public void resetLockStatistics() {
+        LockStatistics lockStatistics = scheduler.getLockStatistics();
+        if (lockStatistics != null) {
+            lockStatistics.reset();
+        }
+    }
+
+    public TabularData getJobExecutionStatistics() throws Exception {
+        try {
+            return ExecutionStatisticsSupport.toTabularData(scheduler.getExecutionStatisticsStore().getAllJobStatistics());
+        } catch (Exception e) {
+            throw newPlainException(e);
+        }
+    }
+
+    public TabularData getTriggerExecutionStatistics() throws Exception {
+        try {
+            return ExecutionStatisticsSupport.toTabularData(scheduler.getExecutionStatisticsStore().getAllTriggerStatistics());
+        } catch (Exception e) {
+            throw newPlainException(e);
+        }
+    }
+
+    public void resetExecutionStatistics() {
+        scheduler.getExecutionStatisticsStore().reset();
+    }
+
+    public TabularData getTopJobClasses(int count) throws Exception {
+        try {
+            JobClassProfiler profiler = scheduler.getJobClassProfiler();
+            return JobClassProfileSupport.toTabularData(
+                    profiler == null ? Collections.<JobClassProfiler.Profile>emptyList() : profiler.getTopJobClasses(count));
+        } catch (Exception e) {
+            throw newPlainException(e);
+        }
+    }
+
+    public int getOverdueTriggerCount() throws Exception {
+        try {
+            TriggerBacklog backlog = scheduler.getTriggerBacklog(0L);
+            return backlog == null ? -1 : backlog.getOverdueCount();
+        } catch (Exception e) {
+            throw newPlainException(e);
+        }
+    }
+
+    public long getOldestOverdueTriggerAge() throws Exception {
+        try {
+            TriggerBacklog backlog = scheduler.getTriggerBacklog(0L);
+            return backlog == null ? -1L : backlog.getOldestOverdueAge();
+        } catch (Exception e) {
+            throw newPlainException(e);
+        }
+    }
+
+    public int getTriggersDueWithin(int seconds) throws Exception {
+        try {
+            TriggerBacklog backlog = scheduler.getTriggerBacklog(seconds * 1000L);
+            return backlog == null ? -1 : backlog.getDueCount();
+        } catch (Exception e) {
+            throw newPlainException(e);
+        }
+    }
+
     public List<CompositeData> getAllTriggers() throws Exception {
         try {
             List<Trigger> triggerList = new ArrayList<>();
@@ -733,6 +959,7 @@ public class QuartzSchedulerMBeanImpl extends StandardMBean implements
 
     public void jobAdded(JobDetail jobDetail) {
         sendNotification(JOB_ADDED, JobDetailSupport.toCompositeData(jobDetail));
+        recordChange(Kind.JOB, Type.ADDED, jobDetail.getKey().getGroup(), jobDetail.getKey().getName());
     }
 
     public void jobDeleted(JobKey jobKey) {
@@ -740,10 +967,12 @@ public class QuartzSchedulerMBeanImpl extends StandardMBean implements
         map.put("jobName", jobKey.getName());
         map.put("jobGroup", jobKey.getGroup());
         sendNotification(JOB_DELETED, map);
+        recordChange(Kind.JOB, Type.REMOVED, jobKey.getGroup(), jobKey.getName());
     }
 
     public void jobScheduled(Trigger trigger) {
         sendNotification(JOB_SCHEDULED, TriggerSupport.toCompositeData(trigger));
+        recordChange(Kind.TRIGGER, Type.ADDED, trigger.getKey().getGroup(), trigger.getKey().getName());
     }
 
     public void jobUnscheduled(TriggerKey triggerKey) {
@@ -751,10 +980,12 @@ public class QuartzSchedulerMBeanImpl extends StandardMBean implements
         map.put("triggerName", triggerKey.getName());
         map.put("triggerGroup", triggerKey.getGroup());
         sendNotification(JOB_UNSCHEDULED, map);
+        recordChange(Kind.TRIGGER, Type.REMOVED, triggerKey.getGroup(), triggerKey.getName());
     }
     
     public void schedulingDataCleared() {
         sendNotification(SCHEDULING_DATA_CLEARED);
+        recordChange(Kind.ALL, Type.CLEARED, null, null);
     }
     
     public void jobPaused(JobKey jobKey) {
@@ -762,6 +993,7 @@ public class QuartzSchedulerMBeanImpl extends StandardMBean implements
         map.put("jobName", jobKey.getName());
         map.put("jobGroup", jobKey.getGroup());
         sendNotification(JOBS_PAUSED, map);
+        recordChange(Kind.JOB, Type.UPDATED, jobKey.getGroup(), jobKey.getName());
     }
 
     public void jobsPaused(String jobGroup) {
@@ -769,6 +1001,7 @@ public class QuartzSchedulerMBeanImpl extends StandardMBean implements
         map.put("jobName", null);
         map.put("jobGroup", jobGroup);
         sendNotification(JOBS_PAUSED, map);
+        recordChange(Kind.JOB, Type.UPDATED, jobGroup, null);
     }
     
     public void jobsResumed(String jobGroup) {
@@ -776,6 +1009,7 @@ public class QuartzSchedulerMBeanImpl extends StandardMBean implements
         map.put("jobName", null);
         map.put("jobGroup", jobGroup);
         sendNotification(JOBS_RESUMED, map);
+        recordChange(Kind.JOB, Type.UPDATED, jobGroup, null);
     }
 
     public void jobResumed(JobKey jobKey) {
@@ -783,6 +1017,7 @@ public class QuartzSchedulerMBeanImpl extends StandardMBean implements
         map.put("jobName", jobKey.getName());
         map.put("jobGroup", jobKey.getGroup());
         sendNotification(JOBS_RESUMED, map);
+        recordChange(Kind.JOB, Type.UPDATED, jobKey.getGroup(), jobKey.getName());
     }
     
     public void schedulerError(String msg, SchedulerException cause) {
@@ -816,6 +1051,7 @@ public class QuartzSchedulerMBeanImpl extends StandardMBean implements
         map.put("triggerName", trigger.getKey().getName());
         map.put("triggerGroup", trigger.getKey().getGroup());
         sendNotification(TRIGGER_FINALIZED, map);
+        recordChange(Kind.TRIGGER, Type.UPDATED, trigger.getKey().getGroup(), trigger.getKey().getName());
     }
 
     public void triggersPaused(String triggerGroup) {
@@ -823,6 +1059,7 @@ public class QuartzSchedulerMBeanImpl extends StandardMBean implements
         map.put("triggerName", null);
         map.put("triggerGroup", triggerGroup);
         sendNotification(TRIGGERS_PAUSED, map);
+        recordChange(Kind.TRIGGER, Type.UPDATED, triggerGroup, null);
     }
 
     public void triggerPaused(TriggerKey triggerKey) {
@@ -830,6 +1067,7 @@ public class QuartzSchedulerMBeanImpl extends StandardMBean implements
         if(triggerKey != null) {
             map.put("triggerName", triggerKey.getName());
             map.put("triggerGroup", triggerKey.getGroup());
+            recordChange(Kind.TRIGGER, Type.UPDATED, triggerKey.getGroup(), triggerKey.getName());
         }
         sendNotification(TRIGGERS_PAUSED, map);
     }
@@ -839,6 +1077,7 @@ public class QuartzSchedulerMBeanImpl extends StandardMBean implements
         map.put("triggerName", null);
         map.put("triggerGroup", triggerGroup);
         sendNotification(TRIGGERS_RESUMED, map);
+        recordChange(Kind.TRIGGER, Type.UPDATED, triggerGroup, null);
     }
 
     public void triggerResumed(TriggerKey triggerKey) {
@@ -846,6 +1085,7 @@ public class QuartzSchedulerMBeanImpl extends StandardMBean implements
         if(triggerKey != null) {
             map.put("triggerName", triggerKey.getName());
             map.put("triggerGroup", triggerKey.getGroup());
+            recordChange(Kind.TRIGGER, Type.UPDATED, triggerKey.getGroup(), triggerKey.getName());
         }
         sendNotification(TRIGGERS_RESUMED, map);
     }
@@ -857,6 +1097,9 @@ public class QuartzSchedulerMBeanImpl extends StandardMBean implements
     }
 
     public void jobExecutionVetoed(JobExecutionContext context) {
+        if (!sampledStatisticsEnabled) {
+            return;
+        }
         try {
             sendNotification(JOB_EXECUTION_VETOED, JobExecutionContextSupport
                     .toCompositeData(context));
@@ -866,9 +1109,17 @@ public class QuartzSchedulerMBeanImpl extends StandardMBean implements
     }
 
     public void jobToBeExecuted(JobExecutionContext context) {
+        // notifications for each execution are only sent along with the
+        // sampled statistics, so as not to flood listeners
+        boolean notify = sampledStatisticsEnabled;
         try {
-            sendNotification(JOB_TO_BE_EXECUTED, JobExecutionContextSupport
-                    .toCompositeData(context));
+            if (notify) {
+                sendNotification(JOB_TO_BE_EXECUTED, JobExecutionContextSupport
+                        .toCompositeData(context));
+            }
+            // the fire times of the trigger have changed
+            TriggerKey triggerKey = context.getTrigger().getKey();
+            recordChange(Kind.TRIGGER, Type.UPDATED, triggerKey.getGroup(), triggerKey.getName(), notify);
         } catch (Exception e) {
             throw new RuntimeException(newPlainException(e));
         }
@@ -876,6 +1127,9 @@ public class QuartzSchedulerMBeanImpl extends StandardMBean implements
 
     public void jobWasExecuted(JobExecutionContext context,
             JobExecutionException jobException) {
+        if (!sampledStatisticsEnabled) {
+            return;
+        }
         try {
             sendNotification(JOB_WAS_EXECUTED, JobExecutionContextSupport
                     .toCompositeData(context));
@@ -1003,6 +1257,13 @@ public class QuartzSchedulerMBeanImpl extends StandardMBean implements
         result.put("JobsCompleted", getJobsCompletedMostRecentSample());
         result.put("JobsExecuted", getJobsExecutedMostRecentSample());
         result.put("JobsScheduled", getJobsScheduledMostRecentSample());
+        LatencyHistogram fireLateness = scheduler.getPipelineMetrics().getHistogram(PipelineMetrics.Stage.FIRE_LATENESS);
+        result.put("FireLatenessCount", fireLateness.getCount());
+        result.put("FireLatenessMeanMicros", fireLateness.getMean());
+        result.put("FireLatenessP50Micros", fireLateness.getValueAtPercentile(50));
+        result.put("FireLatenessP99Micros", fireLateness.getValueAtPercentile(99));
+        result.put("FireLatenessP999Micros", fireLateness.getValueAtPercentile(99.9));
+        result.put("FireLatenessMaxMicros", fireLateness.getMax());
         return result;
     }
 }
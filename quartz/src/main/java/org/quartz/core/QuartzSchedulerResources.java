@@ -24,6 +24,7 @@ import java.util.List;
 
 import org.quartz.management.ManagementRESTServiceConfiguration;
 import org.quartz.spi.JobStore;
+import org.quartz.spi.MetricsExporter;
 import org.quartz.spi.SchedulerPlugin;
 import org.quartz.spi.ThreadExecutor;
 import org.quartz.spi.ThreadPool;
@@ -75,9 +76,27 @@ public class QuartzSchedulerResources {
     private JobRunShellFactory jobRunShellFactory;
 
     private final List<SchedulerPlugin> schedulerPlugins = new ArrayList<>(10);
+
+    private final List<MetricsExporter> metricsExporters = new ArrayList<>(2);
     
     private boolean makeSchedulerThreadDaemon = false;
 
+    private boolean preciseFiring = false;
+
+    private boolean flightRecorderEvents = false;
+
+    private int executionStatisticsCapacity = 1024;
+
+    private int executionStatisticsHistorySize = 10;
+
+    private boolean jobClassProfilerEnabled = false;
+
+    private int jobClassProfilerTopCount = 10;
+
+    private long jobClassProfilerLogInterval = 0L;
+
+    private boolean sampledStatisticsLazy = false;
+
     private boolean threadsInheritInitializersClassLoadContext = false;
 
     private String rmiBindName;
@@ -420,6 +439,28 @@ public class QuartzSchedulerResources {
         return schedulerPlugins;
     }
 
+    /**
+     * <p>
+     * Add the given <code>{@link org.quartz.spi.MetricsExporter}</code> for the
+     * <code>{@link QuartzScheduler}</code> to shut down with it. This method
+     * expects the exporter's "initialize" method to be invoked externally.
+     * </p>
+     */
+    public void addMetricsExporter(MetricsExporter exporter) {
+        metricsExporters.add(exporter);
+    }
+
+    /**
+     * <p>
+     * Get the <code>List</code> of all
+     * <code>{@link org.quartz.spi.MetricsExporter}</code>s of the
+     * <code>{@link QuartzScheduler}</code>.
+     * </p>
+     */
+    public List<MetricsExporter> getMetricsExporters() {
+        return metricsExporters;
+    }
+
     /**
      * Get whether to mark the Quartz scheduling thread as daemon.
      * 
@@ -438,6 +479,159 @@ public class QuartzSchedulerResources {
         this.makeSchedulerThreadDaemon = makeSchedulerThreadDaemon;
     }
 
+    /**
+     * Get whether the scheduling thread hands each fired trigger to the
+     * thread pool at its exact scheduled fire time.
+     */
+    public boolean isPreciseFiring() {
+        return preciseFiring;
+    }
+
+    /**
+     * Set whether the scheduling thread hands each fired trigger to the
+     * thread pool at its exact scheduled fire time, parking (rather than
+     * waiting on a monitor) for the last few milliseconds before it.
+     */
+    public void setPreciseFiring(boolean preciseFiring) {
+        this.preciseFiring = preciseFiring;
+    }
+
+    /**
+     * Get whether the scheduler emits JDK Flight Recorder events.
+     */
+    public boolean isFlightRecorderEvents() {
+        return flightRecorderEvents;
+    }
+
+    /**
+     * Set whether the scheduler emits JDK Flight Recorder events, which
+     * requires the <code>jdk.jfr</code> module.
+     * 
+     * @see org.quartz.core.jfr.TriggerAcquisitionEvent
+     */
+    public void setFlightRecorderEvents(boolean flightRecorderEvents) {
+        this.flightRecorderEvents = flightRecorderEvents;
+    }
+
+    /**
+     * Get the number of jobs, and of triggers, the scheduler keeps
+     * execution statistics for.
+     */
+    public int getExecutionStatisticsCapacity() {
+        return executionStatisticsCapacity;
+    }
+
+    /**
+     * Set the number of jobs, and of triggers, the scheduler keeps
+     * execution statistics for, 0 to keep none.
+     * 
+     * @see ExecutionStatisticsStore
+     */
+    public void setExecutionStatisticsCapacity(int executionStatisticsCapacity) {
+        if (executionStatisticsCapacity < 0) {
+            throw new IllegalArgumentException(
+                    "Execution statistics capacity must not be negative.");
+        }
+        this.executionStatisticsCapacity = executionStatisticsCapacity;
+    }
+
+    /**
+     * Get the number of recent executions kept in the statistics of each
+     * job and trigger.
+     */
+    public int getExecutionStatisticsHistorySize() {
+        return executionStatisticsHistorySize;
+    }
+
+    /**
+     * Set the number of recent executions kept in the statistics of each
+     * job and trigger.
+     */
+    public void setExecutionStatisticsHistorySize(int executionStatisticsHistorySize) {
+        if (executionStatisticsHistorySize < 0) {
+            throw new IllegalArgumentException(
+                    "Execution statistics history size must not be negative.");
+        }
+        this.executionStatisticsHistorySize = executionStatisticsHistorySize;
+    }
+
+    /**
+     * Get whether the scheduler measures the share of the worker threads
+     * each job class keeps busy.
+     */
+    public boolean isJobClassProfilerEnabled() {
+        return jobClassProfilerEnabled;
+    }
+
+    /**
+     * Set whether the scheduler measures the share of the worker threads
+     * each job class keeps busy.
+     * 
+     * @see JobClassProfiler
+     */
+    public void setJobClassProfilerEnabled(boolean jobClassProfilerEnabled) {
+        this.jobClassProfilerEnabled = jobClassProfilerEnabled;
+    }
+
+    /**
+     * Get the number of the busiest job classes logged by the job class
+     * profiler.
+     */
+    public int getJobClassProfilerTopCount() {
+        return jobClassProfilerTopCount;
+    }
+
+    /**
+     * Set the number of the busiest job classes logged by the job class
+     * profiler.
+     */
+    public void setJobClassProfilerTopCount(int jobClassProfilerTopCount) {
+        if (jobClassProfilerTopCount < 1) {
+            throw new IllegalArgumentException(
+                    "Job class profiler top count must be greater than 0.");
+        }
+        this.jobClassProfilerTopCount = jobClassProfilerTopCount;
+    }
+
+    /**
+     * Get the number of milliseconds between logged summaries of the
+     * busiest job classes, 0 if they are not logged.
+     */
+    public long getJobClassProfilerLogInterval() {
+        return jobClassProfilerLogInterval;
+    }
+
+    /**
+     * Set the number of milliseconds between logged summaries of the
+     * busiest job classes, 0 not to log them.
+     */
+    public void setJobClassProfilerLogInterval(long jobClassProfilerLogInterval) {
+        if (jobClassProfilerLogInterval < 0) {
+            throw new IllegalArgumentException(
+                    "Job class profiler log interval must not be negative.");
+        }
+        this.jobClassProfilerLogInterval = jobClassProfilerLogInterval;
+    }
+
+    /**
+     * Get whether the sampled statistics of the scheduler's JMX MBean are
+     * only sampled when they are read.
+     * 
+     * @see org.quartz.utils.counter.sampled.CounterSampler#lazy()
+     */
+    public boolean isSampledStatisticsLazy() {
+        return sampledStatisticsLazy;
+    }
+
+    /**
+     * Set whether the sampled statistics of the scheduler's JMX MBean are
+     * only sampled when they are read, rather than every second by the
+     * sampling thread shared by all schedulers.
+     */
+    public void setSampledStatisticsLazy(boolean sampledStatisticsLazy) {
+        this.sampledStatisticsLazy = sampledStatisticsLazy;
+    }
+
     /**
      * Get whether to set the class load context of spawned threads to that
      * of the initializing thread.
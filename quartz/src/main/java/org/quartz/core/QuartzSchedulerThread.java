@@ -19,19 +19,35 @@
 
 package org.quartz.core;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
 
+import org.quartz.JobKey;
 import org.quartz.JobPersistenceException;
 import org.quartz.SchedulerException;
 import org.quartz.Trigger;
 import org.quartz.Trigger.CompletedExecutionInstruction;
+import org.quartz.core.jfr.LockAcquisitionEvent;
+import org.quartz.core.jfr.TriggerAcquisitionEvent;
+import org.quartz.core.jfr.TriggerFiredEvent;
+import org.quartz.spi.ExecutionLane;
 import org.quartz.spi.JobStore;
+import org.quartz.spi.LaneAwareThreadPool;
 import org.quartz.spi.OperableTrigger;
+import org.quartz.spi.RateLimitAwareJobStore;
 import org.quartz.spi.TriggerFiredBundle;
 import org.quartz.spi.TriggerFiredResult;
+import org.quartz.spi.TriggerRateLimiter;
+import org.quartz.utils.PipelineMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -80,6 +96,17 @@ public class QuartzSchedulerThread extends Thread {
 
     private final Logger log = LoggerFactory.getLogger(getClass());
 
+    // stride scheduling state of the execution lanes, only accessed by this thread
+    private static final long LANE_STRIDE = 1L << 20;
+
+    private final Map<String, Long> lanePasses = new HashMap<>();
+
+    private final FireCoalescer coalescer = new FireCoalescer();
+
+    // in precise firing mode, the final stretch before a fire time is spun
+    // rather than parked, as parkNanos itself overshoots by tens of microseconds
+    private static final long PRECISE_FIRING_SPIN_NANOS = 50_000L;
+
     /*
      * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
      *
@@ -286,14 +313,38 @@ public class QuartzSchedulerThread extends Thread {
                 if(availThreadCount > 0) { // will always be true, due to semantics of blockForAvailableThreads...
 
                     List<OperableTrigger> triggers;
+                    Map<OperableTrigger, ExecutionLane> triggerLanes = null;
 
                     long now = System.currentTimeMillis();
 
                     clearSignaledSchedulingChange();
+                    TriggerAcquisitionEvent acquisitionEvent = null;
+                    if (qsRsrcs.isFlightRecorderEvents()) {
+                        LockAcquisitionEvent.takeLockWait();
+                        acquisitionEvent = new TriggerAcquisitionEvent();
+                        acquisitionEvent.begin();
+                    }
+                    long acquireStart = System.nanoTime();
                     try {
-                        triggers = qsRsrcs.getJobStore().acquireNextTriggers(
-                                now + idleWaitTime, Math.min(availThreadCount, qsRsrcs.getMaxBatchSize()), qsRsrcs.getBatchTimeWindow());
+                        if (qsRsrcs.getThreadPool() instanceof LaneAwareThreadPool) {
+                            triggerLanes = new IdentityHashMap<>();
+                            triggers = acquireNextTriggersByLane(
+                                    (LaneAwareThreadPool) qsRsrcs.getThreadPool(), now, triggerLanes);
+                        } else {
+                            triggers = qsRsrcs.getJobStore().acquireNextTriggers(
+                                    now + idleWaitTime, Math.min(availThreadCount, qsRsrcs.getMaxBatchSize()), qsRsrcs.getBatchTimeWindow());
+                        }
                         acquiresFailed = 0;
+                        PipelineMetrics metrics = qs.getPipelineMetrics();
+                        metrics.record(PipelineMetrics.Stage.ACQUIRE_TRIGGERS, (System.nanoTime() - acquireStart) / 1000L);
+                        metrics.record(PipelineMetrics.Stage.ACQUIRE_BATCH_SIZE, triggers == null ? 0 : triggers.size());
+                        if (acquisitionEvent != null) {
+                            acquisitionEvent.schedulerName = qs.getSchedulerName();
+                            acquisitionEvent.maxCount = Math.min(availThreadCount, qsRsrcs.getMaxBatchSize());
+                            acquisitionEvent.count = triggers == null ? 0 : triggers.size();
+                            acquisitionEvent.lockWait = LockAcquisitionEvent.takeLockWait();
+                            acquisitionEvent.commit();
+                        }
                         if (log.isDebugEnabled())
                             log.debug("batch acquisition of {} triggers", triggers == null ? 0 : triggers.size());
                     } catch (JobPersistenceException jpe) {
@@ -330,8 +381,10 @@ public class QuartzSchedulerThread extends Thread {
                                         // on 'synchronize', so we must recompute
                                         now = System.currentTimeMillis();
                                         timeUntilTrigger = triggerTime - now;
-                                        if(timeUntilTrigger >= 1)
-                                            sigLock.wait(timeUntilTrigger);
+                                        // in precise firing mode, the last couple of milliseconds are parked instead
+                                        long timeToWait = qsRsrcs.isPreciseFiring() ? timeUntilTrigger - 2 : timeUntilTrigger;
+                                        if(timeToWait >= 1)
+                                            sigLock.wait(timeToWait);
                                     } catch (InterruptedException ignore) {
                                     }
                                 }
@@ -361,7 +414,9 @@ public class QuartzSchedulerThread extends Thread {
                         }
                         if(goAhead) {
                             try {
+                                long firedStart = System.nanoTime();
                                 List<TriggerFiredResult> res = qsRsrcs.getJobStore().triggersFired(triggers);
+                                qs.getPipelineMetrics().record(PipelineMetrics.Stage.TRIGGERS_FIRED, (System.nanoTime() - firedStart) / 1000L);
                                 if(res != null)
                                     bundles = res;
                             } catch (SchedulerException se) {
@@ -397,22 +452,50 @@ public class QuartzSchedulerThread extends Thread {
                                 continue;
                             }
 
+                            // fires of a coalescing job that is still executing are merged
+                            // into its pending execution, rather than dispatched
+                            boolean coalescing = FireCoalescer.isCoalescing(bundle.getJobDetail());
+                            if (coalescing && !offerCoalescedFire(bundle)) {
+                                continue;
+                            }
+
                             JobRunShell shell;
                             try {
                                 shell = qsRsrcs.getJobRunShellFactory().createJobRunShell(bundle);
                                 shell.initialize(qs);
                             } catch (SchedulerException se) {
                                 qsRsrcs.getJobStore().triggeredJobComplete(triggers.get(i), bundle.getJobDetail(), CompletedExecutionInstruction.SET_ALL_JOB_TRIGGERS_ERROR);
+                                if (coalescing) {
+                                    abandonCoalescedFires(bundle.getJobDetail().getKey());
+                                }
                                 continue;
                             }
 
-                            if (!qsRsrcs.getThreadPool().runInThread(shell)) {
+                            Runnable work = coalescing ? coalescingRunnable(shell, bundle.getJobDetail().getKey()) : shell;
+                            if (qsRsrcs.isPreciseFiring() && bundle.getScheduledFireTime() != null) {
+                                // triggers acquired ahead within the batch time window wait for their own fire time
+                                parkUntil(bundle.getScheduledFireTime().getTime());
+                            }
+                            recordFire(bundle);
+                            shell.setHandOffTime(System.nanoTime());
+                            boolean handedOff;
+                            if (triggerLanes != null) {
+                                ExecutionLane lane = triggerLanes.get(triggers.get(i));
+                                handedOff = ((LaneAwareThreadPool) qsRsrcs.getThreadPool()).runInThread(lane, work);
+                                recordLaneDispatch(lane);
+                            } else {
+                                handedOff = qsRsrcs.getThreadPool().runInThread(work);
+                            }
+                            if (!handedOff) {
                                 // this case should never happen, as it is indicative of the
                                 // scheduler being shutdown or a bug in the thread pool or
                                 // a thread pool being used concurrently - which the docs
                                 // say not to do...
                                 getLog().error("ThreadPool.runInThread() return false!");
                                 qsRsrcs.getJobStore().triggeredJobComplete(triggers.get(i), bundle.getJobDetail(), CompletedExecutionInstruction.SET_ALL_JOB_TRIGGERS_ERROR);
+                                if (coalescing) {
+                                    abandonCoalescedFires(bundle.getJobDetail().getKey());
+                                }
                             }
 
                         }
@@ -426,6 +509,11 @@ public class QuartzSchedulerThread extends Thread {
 
                 long now = System.currentTimeMillis();
                 long waitTime = now + getRandomizedIdleWaitTime();
+                // retry triggers deferred by a rate limit as soon as a permit is available
+                long rateLimitRetryTime = getRateLimitRetryTime(now);
+                if (rateLimitRetryTime >= 0 && rateLimitRetryTime < waitTime) {
+                    waitTime = Math.max(rateLimitRetryTime, now + 1);
+                }
                 long timeUntilContinue = waitTime - now;
                 synchronized(sigLock) {
                     try {
@@ -452,6 +540,240 @@ public class QuartzSchedulerThread extends Thread {
         qsRsrcs = null;
     }
 
+    /**
+     * <p>
+     * Acquire the next triggers for each lane of the given thread pool, limited
+     * by the threads available in that lane.
+     * </p>
+     *
+     * <p>
+     * Lanes are visited in stride-scheduling order, so that over time each lane
+     * receives a share of the acquisition batch proportional to its weight.  The
+     * batch window is narrowed to the earliest trigger found so far, and any
+     * trigger that would fire outside the final batch window is released again.
+     * </p>
+     */
+    private List<OperableTrigger> acquireNextTriggersByLane(LaneAwareThreadPool threadPool, long now,
+            Map<OperableTrigger, ExecutionLane> triggerLanes) throws JobPersistenceException {
+        JobStore jobStore = qsRsrcs.getJobStore();
+        long timeWindow = qsRsrcs.getBatchTimeWindow();
+        long noLaterThan = now + idleWaitTime;
+
+        List<ExecutionLane> lanes = new ArrayList<>();
+        int totalWeight = 0;
+        for (ExecutionLane lane : threadPool.getLanes()) {
+            if (threadPool.getAvailableThreads(lane) > 0) {
+                lanes.add(lane);
+                totalWeight += lane.getWeight();
+            }
+        }
+        lanes.sort(Comparator.comparingLong(this::getLanePass));
+
+        List<OperableTrigger> acquired = new ArrayList<>();
+        try {
+            for (ExecutionLane lane : lanes) {
+                int share = Math.max(1, qsRsrcs.getMaxBatchSize() * lane.getWeight() / totalWeight);
+                int maxCount = Math.min(threadPool.getAvailableThreads(lane), share);
+                if (maxCount <= 0) {
+                    continue;
+                }
+                List<OperableTrigger> laneTriggers = jobStore.acquireNextTriggers(noLaterThan, maxCount, timeWindow, lane);
+                if (laneTriggers == null || laneTriggers.isEmpty()) {
+                    continue;
+                }
+                for (OperableTrigger trigger : laneTriggers) {
+                    triggerLanes.put(trigger, lane);
+                }
+                acquired.addAll(laneTriggers);
+                noLaterThan = Math.min(noLaterThan,
+                        Math.max(laneTriggers.get(0).getNextFireTime().getTime(), now) + timeWindow);
+            }
+        } catch (JobPersistenceException | RuntimeException e) {
+            for (OperableTrigger trigger : acquired) {
+                jobStore.releaseAcquiredTrigger(trigger);
+            }
+            triggerLanes.clear();
+            throw e;
+        }
+
+        if (!acquired.isEmpty()) {
+            acquired.sort(new Trigger.TriggerTimeComparator());
+            long batchEnd = Math.max(acquired.get(0).getNextFireTime().getTime(), now) + timeWindow;
+            for (Iterator<OperableTrigger> it = acquired.iterator(); it.hasNext(); ) {
+                OperableTrigger trigger = it.next();
+                if (trigger.getNextFireTime().getTime() > batchEnd) {
+                    jobStore.releaseAcquiredTrigger(trigger);
+                    triggerLanes.remove(trigger);
+                    it.remove();
+                }
+            }
+        }
+
+        // lanes without work must not bank credit while idle
+        long minPass = Long.MAX_VALUE;
+        for (ExecutionLane lane : triggerLanes.values()) {
+            minPass = Math.min(minPass, getLanePass(lane));
+        }
+        if (minPass != Long.MAX_VALUE) {
+            for (ExecutionLane lane : threadPool.getLanes()) {
+                if (!triggerLanes.containsValue(lane) && getLanePass(lane) < minPass) {
+                    lanePasses.put(lane.getName(), minPass);
+                }
+            }
+        }
+
+        return acquired;
+    }
+
+    private long getLanePass(ExecutionLane lane) {
+        Long pass = lanePasses.get(lane.getName());
+        return pass == null ? 0L : pass;
+    }
+
+    private void recordLaneDispatch(ExecutionLane lane) {
+        lanePasses.put(lane.getName(), getLanePass(lane) + LANE_STRIDE / lane.getWeight());
+    }
+
+    /**
+     * @return true if the fire must be dispatched, false if it was merged
+     * into the pending execution of its (still executing) job.
+     */
+    private boolean offerCoalescedFire(TriggerFiredBundle bundle) {
+        List<TriggerFiredBundle> superseded = new ArrayList<>(1);
+        boolean dispatch = coalescer.offer(bundle, superseded);
+        for (TriggerFiredBundle merged : superseded) {
+            completeCoalescedFire(merged);
+        }
+        if (!dispatch) {
+            getLog().debug("Coalesced fire of trigger {} into the pending execution of job {} (fire count {})",
+                    bundle.getTrigger().getKey(), bundle.getJobDetail().getKey(), bundle.getFireCount());
+        }
+        return dispatch;
+    }
+
+    /**
+     * A fire that was merged into a later one is complete as far as the
+     * <code>JobStore</code> is concerned.
+     */
+    private void completeCoalescedFire(TriggerFiredBundle merged) {
+        OperableTrigger trigger = merged.getTrigger();
+        qsRsrcs.getJobStore().triggeredJobComplete(trigger, merged.getJobDetail(),
+                trigger.mayFireAgain() ? CompletedExecutionInstruction.NOOP : CompletedExecutionInstruction.DELETE_TRIGGER);
+    }
+
+    /**
+     * The execution of a coalescing job could not be dispatched, complete the
+     * fires merged into its pending execution instead of running them.
+     */
+    private void abandonCoalescedFires(JobKey jobKey) {
+        TriggerFiredBundle next;
+        while ((next = coalescer.next(jobKey)) != null) {
+            completeCoalescedFire(next);
+        }
+    }
+
+    private Runnable coalescingRunnable(final JobRunShell shell, final JobKey jobKey) {
+        return () -> runCoalescedFires(shell, jobKey);
+    }
+
+    /**
+     * Run the given execution of a coalescing job, followed by the pending
+     * executions merged while it (or its successors) ran, in the calling thread.
+     */
+    private void runCoalescedFires(JobRunShell shell, JobKey jobKey) {
+        JobRunShell current = shell;
+        while (true) {
+            if (current != null) {
+                try {
+                    current.run();
+                } catch (RuntimeException | Error e) {
+                    abandonCoalescedFires(jobKey);
+                    throw e;
+                }
+            }
+            TriggerFiredBundle next = coalescer.next(jobKey);
+            if (next == null) {
+                return;
+            }
+            try {
+                current = qsRsrcs.getJobRunShellFactory().createJobRunShell(next);
+                current.initialize(qs);
+            } catch (SchedulerException se) {
+                qsRsrcs.getJobStore().triggeredJobComplete(next.getTrigger(), next.getJobDetail(), CompletedExecutionInstruction.SET_ALL_JOB_TRIGGERS_ERROR);
+                current = null;
+            }
+        }
+    }
+
+    /**
+     * Park the scheduling thread until the given fire time, with sub-millisecond
+     * precision, or until it is halted.  An interrupt does not end the wait,
+     * but is kept for the caller.
+     */
+    private void parkUntil(long fireTime) {
+        long deadline = System.nanoTime() + (fireTime * 1_000_000L - currentTimeNanos());
+        boolean interrupted = false;
+        try {
+            while (!halted.get()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return;
+                }
+                if (remaining > PRECISE_FIRING_SPIN_NANOS) {
+                    LockSupport.parkNanos(remaining - PRECISE_FIRING_SPIN_NANOS);
+                    // parkNanos returns at once while the interrupt flag is set
+                    if (Thread.interrupted()) {
+                        interrupted = true;
+                    }
+                } else {
+                    Thread.onSpinWait();
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void recordFire(TriggerFiredBundle bundle) {
+        if (bundle.getScheduledFireTime() != null) {
+            long latenessNanos = currentTimeNanos() - bundle.getScheduledFireTime().getTime() * 1_000_000L;
+            qs.getPipelineMetrics().record(PipelineMetrics.Stage.FIRE_LATENESS, latenessNanos / 1000L);
+        }
+        if (qsRsrcs.isFlightRecorderEvents()) {
+            TriggerFiredEvent event = new TriggerFiredEvent();
+            if (event.shouldCommit()) {
+                long now = System.currentTimeMillis();
+                event.schedulerName = qs.getSchedulerName();
+                event.triggerKey = bundle.getTrigger().getKey().toString();
+                event.jobKey = bundle.getJobDetail().getKey().toString();
+                event.fireTime = now;
+                if (bundle.getScheduledFireTime() != null) {
+                    event.scheduledFireTime = bundle.getScheduledFireTime().getTime();
+                    event.lateness = now - event.scheduledFireTime;
+                }
+                event.commit();
+            }
+        }
+    }
+
+    private static long currentTimeNanos() {
+        Instant now = Instant.now();
+        return now.getEpochSecond() * 1_000_000_000L + now.getNano();
+    }
+
+    private long getRateLimitRetryTime(long now) {
+        JobStore jobStore = qsRsrcs.getJobStore();
+        if (jobStore instanceof RateLimitAwareJobStore) {
+            TriggerRateLimiter rateLimiter = ((RateLimitAwareJobStore) jobStore).getTriggerRateLimiter();
+            if (rateLimiter != null) {
+                return rateLimiter.getRetryTime(now);
+            }
+        }
+        return -1;
+    }
+
     private static final long MIN_DELAY = 20;
     private static final long MAX_DELAY = 600000;
 
@@ -27,6 +27,7 @@ import java.util.Map;
 import java.util.Set;
 
 import org.quartz.Calendar;
+import org.quartz.ExecutionStatistics;
 import org.quartz.JobDataMap;
 import org.quartz.JobDetail;
 import org.quartz.JobExecutionContext;
@@ -93,6 +94,14 @@ public interface RemotableQuartzScheduler extends Remote {
     
     List<JobExecutionContext> getCurrentlyExecutingJobs() throws SchedulerException, RemoteException;
 
+    default ExecutionStatistics getJobExecutionStatistics(JobKey jobKey) throws RemoteException {
+        throw new RemoteException("Operation not supported by this scheduler.");
+    }
+
+    default ExecutionStatistics getTriggerExecutionStatistics(TriggerKey triggerKey) throws RemoteException {
+        throw new RemoteException("Operation not supported by this scheduler.");
+    }
+
     Date scheduleJob(JobDetail jobDetail, Trigger trigger) throws SchedulerException, RemoteException;
 
     Date scheduleJob(Trigger trigger) throws SchedulerException, RemoteException;
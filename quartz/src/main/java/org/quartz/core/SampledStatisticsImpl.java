@@ -1,7 +1,5 @@
 package org.quartz.core;
 
-import java.util.Timer;
-
 import org.quartz.JobDetail;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
@@ -12,9 +10,11 @@ import org.quartz.listeners.SchedulerListenerSupport;
 import org.quartz.utils.counter.CounterConfig;
 import org.quartz.utils.counter.CounterManager;
 import org.quartz.utils.counter.CounterManagerImpl;
+import org.quartz.utils.counter.sampled.CounterSampler;
 import org.quartz.utils.counter.sampled.SampledCounter;
 import org.quartz.utils.counter.sampled.SampledCounterConfig;
 import org.quartz.utils.counter.sampled.SampledRateCounterConfig;
+import org.quartz.utils.counter.sampled.StripedSampledCounterConfig;
 
 public class SampledStatisticsImpl extends SchedulerListenerSupport implements SampledStatistics, JobListener, SchedulerListener {
     @SuppressWarnings("unused")
@@ -24,7 +24,8 @@ public class SampledStatisticsImpl extends SchedulerListenerSupport implements S
     
     private static final int DEFAULT_HISTORY_SIZE = 30;
     private static final int DEFAULT_INTERVAL_SECS = 1;
-    private final static SampledCounterConfig DEFAULT_SAMPLED_COUNTER_CONFIG = new SampledCounterConfig(DEFAULT_INTERVAL_SECS,
+    // striped, as every worker thread updates the counters on every job start and completion
+    private final static SampledCounterConfig DEFAULT_SAMPLED_COUNTER_CONFIG = new StripedSampledCounterConfig(DEFAULT_INTERVAL_SECS,
             DEFAULT_HISTORY_SIZE, true, 0L);
     @SuppressWarnings("unused")
     private final static SampledRateCounterConfig DEFAULT_SAMPLED_RATE_COUNTER_CONFIG = new SampledRateCounterConfig(DEFAULT_INTERVAL_SECS,
@@ -38,7 +39,9 @@ public class SampledStatisticsImpl extends SchedulerListenerSupport implements S
     SampledStatisticsImpl(QuartzScheduler scheduler) {
         this.scheduler = scheduler;
         
-        counterManager = new CounterManagerImpl(new Timer(NAME+"Timer"));
+        // sampled by the thread shared by all schedulers, or on demand
+        counterManager = new CounterManagerImpl(scheduler.isSampledStatisticsLazy()
+                ? CounterSampler.lazy() : CounterSampler.shared());
         jobsScheduledCount = createSampledCounter(DEFAULT_SAMPLED_COUNTER_CONFIG);
         jobsExecutingCount = createSampledCounter(DEFAULT_SAMPLED_COUNTER_CONFIG);
         jobsCompletedCount = createSampledCounter(DEFAULT_SAMPLED_COUNTER_CONFIG);
@@ -82,7 +85,7 @@ public class SampledStatisticsImpl extends SchedulerListenerSupport implements S
 
     @Override
     public void jobScheduled(Trigger trigger) {
-        jobsScheduledCount.increment();
+        jobsScheduledCount.add(1);
     }
     
     public void jobExecutionVetoed(JobExecutionContext context) {
@@ -90,12 +93,12 @@ public class SampledStatisticsImpl extends SchedulerListenerSupport implements S
     }
 
     public void jobToBeExecuted(JobExecutionContext context) {
-        jobsExecutingCount.increment();
+        jobsExecutingCount.add(1);
     }
 
     public void jobWasExecuted(JobExecutionContext context,
             JobExecutionException jobException) {
-        jobsCompletedCount.increment();
+        jobsCompletedCount.add(1);
     }
 
     @Override
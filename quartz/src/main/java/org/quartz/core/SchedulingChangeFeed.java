@@ -0,0 +1,160 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * A bounded, ordered log of the changes made to the jobs and triggers of a
+ * scheduler, which lets monitoring tools keep an incremental view of them
+ * rather than repeatedly reading all of them.
+ * </p>
+ *
+ * <p>
+ * Every change gets a sequence number, one greater than that of the
+ * previous change.  Only the most recent changes are retained: a reader
+ * that finds a gap between the last sequence number it saw and the first
+ * one it is returned has missed changes, and must reload its view.
+ * </p>
+ */
+public class SchedulingChangeFeed {
+
+    public enum Kind {
+        JOB, TRIGGER, ALL
+    }
+
+    public enum Type {
+        /** A job or trigger was added, or replaced. */
+        ADDED,
+        /** The state or fire times of a job or trigger (or of a whole group, if the change has no name) changed. */
+        UPDATED,
+        /** A job or trigger was removed. */
+        REMOVED,
+        /** All scheduling data was cleared. */
+        CLEARED
+    }
+
+    private final Change[] changes;
+
+    private long lastSequence = 0;
+
+    public SchedulingChangeFeed(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity (" + capacity + ") must be greater than or equal to 1");
+        }
+        this.changes = new Change[capacity];
+    }
+
+    /**
+     * Record a change.
+     *
+     * @param name the name of the job or trigger, or null if the whole group
+     * changed.
+     * @return the recorded change.
+     */
+    public synchronized Change record(Kind kind, Type type, String group, String name) {
+        Change change = new Change(++lastSequence, System.currentTimeMillis(), kind, type, group, name);
+        changes[(int) (lastSequence % changes.length)] = change;
+        return change;
+    }
+
+    /**
+     * @return the sequence number of the latest change, 0 if there was none.
+     */
+    public synchronized long getLastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * @return the retained changes whose sequence number is greater than the
+     * given one, oldest first, and at most <code>limit</code> of them.
+     */
+    public synchronized List<Change> getChangesSince(long sequence, int limit) {
+        long from = Math.max(sequence + 1, Math.max(1, lastSequence - changes.length + 1));
+        long to = Math.min(lastSequence, from + Math.max(0, limit) - 1);
+        List<Change> result = new ArrayList<>((int) Math.max(0, to - from + 1));
+        for (long s = from; s <= to; s++) {
+            result.add(changes[(int) (s % changes.length)]);
+        }
+        return result;
+    }
+
+    public static class Change {
+
+        private final long sequence;
+
+        private final long time;
+
+        private final Kind kind;
+
+        private final Type type;
+
+        private final String group;
+
+        private final String name;
+
+        Change(long sequence, long time, Kind kind, Type type, String group, String name) {
+            this.sequence = sequence;
+            this.time = time;
+            this.kind = kind;
+            this.type = type;
+            this.group = group;
+            this.name = name;
+        }
+
+        public long getSequence() {
+            return sequence;
+        }
+
+        public long getTime() {
+            return time;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        public Type getType() {
+            return type;
+        }
+
+        /**
+         * @return the group of the job or trigger, or null for a change of
+         * kind <code>ALL</code>.
+         */
+        public String getGroup() {
+            return group;
+        }
+
+        /**
+         * @return the name of the job or trigger, or null if the whole group
+         * changed.
+         */
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String toString() {
+            return "Change [sequence=" + sequence + ", kind=" + kind + ", type=" + type + ", group=" + group
+                    + ", name=" + name + "]";
+        }
+    }
+}
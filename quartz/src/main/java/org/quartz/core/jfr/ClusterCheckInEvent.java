@@ -0,0 +1,43 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emitted by a clustered JDBC job store for every check-in of its instance.
+ */
+@Name("org.quartz.ClusterCheckIn")
+@Label("Cluster Check-In")
+@Category("Quartz")
+@Description("Check-in of a scheduler instance into its cluster")
+public class ClusterCheckInEvent extends jdk.jfr.Event {
+
+    @Label("Scheduler Name")
+    public String schedulerName;
+
+    @Label("Instance Id")
+    public String instanceId;
+
+    @Label("Recovered")
+    @Description("Whether failed instances were recovered")
+    public boolean recovered;
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emitted by a clustered JDBC job store for every failed instance whose
+ * jobs it recovers.
+ */
+@Name("org.quartz.ClusterRecovery")
+@Label("Cluster Recovery")
+@Category("Quartz")
+@Description("Recovery of the in-progress jobs of a failed scheduler instance")
+public class ClusterRecoveryEvent extends jdk.jfr.Event {
+
+    @Label("Scheduler Name")
+    public String schedulerName;
+
+    @Label("Failed Instance Id")
+    public String failedInstanceId;
+
+    @Label("Freed Triggers")
+    @Description("Number of acquired triggers released")
+    public int freedCount;
+
+    @Label("Recovered Jobs")
+    @Description("Number of jobs scheduled for recovery")
+    public int recoveredCount;
+
+    @Label("Deleted Triggers")
+    @Description("Number of complete triggers deleted")
+    public int deletedCount;
+
+    @Label("Other Jobs")
+    @Description("Number of other failed jobs cleaned up")
+    public int otherCount;
+}
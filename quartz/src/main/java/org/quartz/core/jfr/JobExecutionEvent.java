@@ -0,0 +1,57 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emitted by a <code>JobRunShell</code> for every execution of a job; the
+ * duration of the event is the run time of the job.
+ */
+@Name("org.quartz.JobExecution")
+@Label("Job Execution")
+@Category("Quartz")
+@Description("Execution of a job")
+public class JobExecutionEvent extends jdk.jfr.Event {
+
+    public static final String SUCCEEDED = "SUCCEEDED";
+
+    public static final String FAILED = "FAILED";
+
+    @Label("Scheduler Name")
+    public String schedulerName;
+
+    @Label("Job")
+    public String jobKey;
+
+    @Label("Trigger")
+    public String triggerKey;
+
+    @Label("Fire Instance Id")
+    public String fireInstanceId;
+
+    @Label("Refire Count")
+    public int refireCount;
+
+    @Label("Outcome")
+    @Description("SUCCEEDED, or FAILED if the job threw an exception")
+    public String outcome;
+}
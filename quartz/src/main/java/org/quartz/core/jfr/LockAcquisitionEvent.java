@@ -0,0 +1,65 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emitted by a JDBC job store for every lock it obtains from its
+ * <code>Semaphore</code>; the duration of the event is the time spent
+ * waiting for the lock.
+ */
+@Name("org.quartz.LockAcquisition")
+@Label("Lock Acquisition")
+@Category("Quartz")
+@Description("Acquisition of a job store lock")
+public class LockAcquisitionEvent extends jdk.jfr.Event {
+
+    private static final ThreadLocal<long[]> LOCK_WAIT = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Label("Scheduler Name")
+    public String schedulerName;
+
+    @Label("Lock Name")
+    public String lockName;
+
+    @Label("Semaphore")
+    public Class<?> semaphoreClass;
+
+    /**
+     * Add to the time the current thread spent waiting for locks, reported
+     * by the next <code>{@link TriggerAcquisitionEvent}</code> it emits.
+     */
+    public static void addLockWait(long nanos) {
+        LOCK_WAIT.get()[0] += nanos;
+    }
+
+    /**
+     * @return the time the current thread spent waiting for locks since the
+     * last call, in nanoseconds.
+     */
+    public static long takeLockWait() {
+        long[] lockWait = LOCK_WAIT.get();
+        long nanos = lockWait[0];
+        lockWait[0] = 0;
+        return nanos;
+    }
+}
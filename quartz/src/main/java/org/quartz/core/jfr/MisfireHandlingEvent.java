@@ -0,0 +1,45 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emitted by a JDBC job store for every batch of misfired triggers it
+ * recovers.
+ */
+@Name("org.quartz.MisfireHandling")
+@Label("Misfire Handling")
+@Category("Quartz")
+@Description("Recovery of a batch of misfired triggers")
+public class MisfireHandlingEvent extends jdk.jfr.Event {
+
+    @Label("Scheduler Name")
+    public String schedulerName;
+
+    @Label("Count")
+    @Description("Number of misfired triggers recovered")
+    public int count;
+
+    @Label("Has More")
+    @Description("Whether more misfired triggers are left to recover")
+    public boolean hasMore;
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Emitted by the scheduler thread for every call to
+ * <code>JobStore.acquireNextTriggers</code>.
+ */
+@Name("org.quartz.TriggerAcquisition")
+@Label("Trigger Acquisition")
+@Category("Quartz")
+@Description("Acquisition of the next triggers to fire from the job store")
+public class TriggerAcquisitionEvent extends jdk.jfr.Event {
+
+    @Label("Scheduler Name")
+    public String schedulerName;
+
+    @Label("Max Count")
+    @Description("Maximum number of triggers that could be acquired")
+    public int maxCount;
+
+    @Label("Count")
+    @Description("Number of triggers acquired")
+    public int count;
+
+    @Label("Lock Wait")
+    @Description("Time spent waiting for the locks of a JDBC job store")
+    @Timespan(Timespan.NANOSECONDS)
+    public long lockWait;
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+import jdk.jfr.Timestamp;
+
+/**
+ * Emitted by the scheduler thread when it hands the job of a fired trigger
+ * to the thread pool.
+ */
+@Name("org.quartz.TriggerFired")
+@Label("Trigger Fired")
+@Category("Quartz")
+@Description("Firing of a trigger, compared to its scheduled fire time")
+public class TriggerFiredEvent extends jdk.jfr.Event {
+
+    @Label("Scheduler Name")
+    public String schedulerName;
+
+    @Label("Trigger")
+    public String triggerKey;
+
+    @Label("Job")
+    public String jobKey;
+
+    @Label("Scheduled Fire Time")
+    @Timestamp(Timestamp.MILLISECONDS_SINCE_EPOCH)
+    public long scheduledFireTime;
+
+    @Label("Fire Time")
+    @Timestamp(Timestamp.MILLISECONDS_SINCE_EPOCH)
+    public long fireTime;
+
+    @Label("Lateness")
+    @Description("Time between the scheduled fire time and the hand-off of the job to the thread pool")
+    @Timespan(Timespan.MILLISECONDS)
+    public long lateness;
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.core.jmx;
+
+import static javax.management.openmbean.SimpleType.DATE;
+import static javax.management.openmbean.SimpleType.DOUBLE;
+import static javax.management.openmbean.SimpleType.LONG;
+import static javax.management.openmbean.SimpleType.STRING;
+
+import java.util.List;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.OpenDataException;
+import javax.management.openmbean.OpenType;
+import javax.management.openmbean.TabularData;
+import javax.management.openmbean.TabularDataSupport;
+import javax.management.openmbean.TabularType;
+
+import org.quartz.ExecutionStatistics;
+
+public class ExecutionStatisticsSupport {
+    private static final String COMPOSITE_TYPE_NAME = "ExecutionStatistics";
+    private static final String COMPOSITE_TYPE_DESCRIPTION = "Job or Trigger Execution Statistics";
+    private static final String[] ITEM_NAMES = new String[] { "group", "name",
+            "executionCount", "failureCount", "meanRunTime", "p50RunTime",
+            "p99RunTime", "maxRunTime", "lastFireTime", "lastFireLateness" };
+    private static final String[] ITEM_DESCRIPTIONS = new String[] { "group",
+            "name", "executionCount", "failureCount", "meanRunTime",
+            "p50RunTime", "p99RunTime", "maxRunTime", "lastFireTime",
+            "lastFireLateness" };
+    private static final OpenType[] ITEM_TYPES = new OpenType[] { STRING,
+            STRING, LONG, LONG, DOUBLE, LONG, LONG, LONG, DATE, LONG };
+    private static final CompositeType COMPOSITE_TYPE;
+    private static final String TABULAR_TYPE_NAME = "ExecutionStatisticsArray";
+    private static final String TABULAR_TYPE_DESCRIPTION = "Array of composite ExecutionStatistics";
+    private static final String[] INDEX_NAMES = new String[] { "group", "name" };
+    private static final TabularType TABULAR_TYPE;
+
+    static {
+        try {
+            COMPOSITE_TYPE = new CompositeType(COMPOSITE_TYPE_NAME,
+                    COMPOSITE_TYPE_DESCRIPTION, ITEM_NAMES, ITEM_DESCRIPTIONS,
+                    ITEM_TYPES);
+            TABULAR_TYPE = new TabularType(TABULAR_TYPE_NAME,
+                    TABULAR_TYPE_DESCRIPTION, COMPOSITE_TYPE, INDEX_NAMES);
+        } catch (OpenDataException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * @return composite data
+     */
+    public static CompositeData toCompositeData(ExecutionStatistics statistics) {
+        try {
+            return new CompositeDataSupport(COMPOSITE_TYPE, ITEM_NAMES,
+                    new Object[] {
+                            statistics.getKey().getGroup(),
+                            statistics.getKey().getName(),
+                            statistics.getExecutionCount(),
+                            statistics.getFailureCount(),
+                            statistics.getMeanRunTime(),
+                            statistics.getP50RunTime(),
+                            statistics.getP99RunTime(),
+                            statistics.getMaxRunTime(),
+                            statistics.getLastFireTime(),
+                            statistics.getLastFireLateness() });
+        } catch (OpenDataException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * @return array of execution statistics, indexed by group and name
+     */
+    public static TabularData toTabularData(List<ExecutionStatistics> statistics) {
+        TabularData td = new TabularDataSupport(TABULAR_TYPE);
+        for (ExecutionStatistics s : statistics) {
+            td.put(toCompositeData(s));
+        }
+        return td;
+    }
+}
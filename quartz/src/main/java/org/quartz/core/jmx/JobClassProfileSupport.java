@@ -0,0 +1,99 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.core.jmx;
+
+import static javax.management.openmbean.SimpleType.DOUBLE;
+import static javax.management.openmbean.SimpleType.INTEGER;
+import static javax.management.openmbean.SimpleType.LONG;
+import static javax.management.openmbean.SimpleType.STRING;
+
+import java.util.List;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.OpenDataException;
+import javax.management.openmbean.OpenType;
+import javax.management.openmbean.TabularData;
+import javax.management.openmbean.TabularDataSupport;
+import javax.management.openmbean.TabularType;
+
+import org.quartz.core.JobClassProfiler;
+
+public class JobClassProfileSupport {
+    private static final String COMPOSITE_TYPE_NAME = "JobClassProfile";
+    private static final String COMPOSITE_TYPE_DESCRIPTION = "Share of the worker threads kept busy by a job class and group";
+    private static final String[] ITEM_NAMES = new String[] { "rank", "jobClass",
+            "jobGroup", "executingCount", "executionCount", "oneMinuteShare",
+            "fiveMinuteShare", "fifteenMinuteShare" };
+    private static final String[] ITEM_DESCRIPTIONS = new String[] { "rank",
+            "jobClass", "jobGroup", "executingCount", "executionCount",
+            "oneMinuteShare", "fiveMinuteShare", "fifteenMinuteShare" };
+    private static final OpenType[] ITEM_TYPES = new OpenType[] { INTEGER,
+            STRING, STRING, INTEGER, LONG, DOUBLE, DOUBLE, DOUBLE };
+    private static final CompositeType COMPOSITE_TYPE;
+    private static final String TABULAR_TYPE_NAME = "JobClassProfileArray";
+    private static final String TABULAR_TYPE_DESCRIPTION = "Array of composite JobClassProfile";
+    private static final String[] INDEX_NAMES = new String[] { "rank" };
+    private static final TabularType TABULAR_TYPE;
+
+    static {
+        try {
+            COMPOSITE_TYPE = new CompositeType(COMPOSITE_TYPE_NAME,
+                    COMPOSITE_TYPE_DESCRIPTION, ITEM_NAMES, ITEM_DESCRIPTIONS,
+                    ITEM_TYPES);
+            TABULAR_TYPE = new TabularType(TABULAR_TYPE_NAME,
+                    TABULAR_TYPE_DESCRIPTION, COMPOSITE_TYPE, INDEX_NAMES);
+        } catch (OpenDataException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * @return composite data
+     */
+    public static CompositeData toCompositeData(int rank, JobClassProfiler.Profile profile) {
+        try {
+            return new CompositeDataSupport(COMPOSITE_TYPE, ITEM_NAMES,
+                    new Object[] {
+                            rank,
+                            profile.getJobClassName(),
+                            profile.getJobGroup(),
+                            profile.getExecutingCount(),
+                            profile.getExecutionCount(),
+                            profile.getOneMinuteShare(),
+                            profile.getFiveMinuteShare(),
+                            profile.getFifteenMinuteShare() });
+        } catch (OpenDataException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * @return array of job class profiles, indexed by rank (1 for the
+     * busiest)
+     */
+    public static TabularData toTabularData(List<JobClassProfiler.Profile> profiles) {
+        TabularData td = new TabularDataSupport(TABULAR_TYPE);
+        int rank = 1;
+        for (JobClassProfiler.Profile profile : profiles) {
+            td.put(toCompositeData(rank++, profile));
+        }
+        return td;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.core.jmx;
+
+import static javax.management.openmbean.SimpleType.LONG;
+import static javax.management.openmbean.SimpleType.STRING;
+
+import java.util.List;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.OpenDataException;
+import javax.management.openmbean.OpenType;
+import javax.management.openmbean.TabularData;
+import javax.management.openmbean.TabularDataSupport;
+import javax.management.openmbean.TabularType;
+
+import org.quartz.utils.LockStatistics;
+
+public class LockStatisticsSupport {
+    private static final String COMPOSITE_TYPE_NAME = "LockStatistics";
+    private static final String COMPOSITE_TYPE_DESCRIPTION = "Job Store Lock Statistics";
+    private static final String[] ITEM_NAMES = new String[] { "lockName",
+            "acquisitionCount", "meanWaitTime", "p99WaitTime", "maxWaitTime",
+            "meanHoldTime", "p99HoldTime", "maxHoldTime", "retryCount",
+            "failureCount", "deadlockCount", "holderThread", "holderOperation",
+            "heldFor" };
+    private static final String[] ITEM_DESCRIPTIONS = new String[] { "lockName",
+            "acquisitionCount", "meanWaitTime", "p99WaitTime", "maxWaitTime",
+            "meanHoldTime", "p99HoldTime", "maxHoldTime", "retryCount",
+            "failureCount", "deadlockCount", "holderThread", "holderOperation",
+            "heldFor" };
+    private static final OpenType[] ITEM_TYPES = new OpenType[] { STRING,
+            LONG, LONG, LONG, LONG, LONG, LONG, LONG, LONG, LONG, LONG, STRING,
+            STRING, LONG };
+    private static final CompositeType COMPOSITE_TYPE;
+    private static final String TABULAR_TYPE_NAME = "LockStatisticsArray";
+    private static final String TABULAR_TYPE_DESCRIPTION = "Array of composite LockStatistics";
+    private static final String[] INDEX_NAMES = new String[] { "lockName" };
+    private static final TabularType TABULAR_TYPE;
+
+    static {
+        try {
+            COMPOSITE_TYPE = new CompositeType(COMPOSITE_TYPE_NAME,
+                    COMPOSITE_TYPE_DESCRIPTION, ITEM_NAMES, ITEM_DESCRIPTIONS,
+                    ITEM_TYPES);
+            TABULAR_TYPE = new TabularType(TABULAR_TYPE_NAME,
+                    TABULAR_TYPE_DESCRIPTION, COMPOSITE_TYPE, INDEX_NAMES);
+        } catch (OpenDataException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * @return composite data
+     */
+    public static CompositeData toCompositeData(LockStatistics.Snapshot snapshot) {
+        try {
+            return new CompositeDataSupport(COMPOSITE_TYPE, ITEM_NAMES,
+                    new Object[] {
+                            snapshot.getLockName(),
+                            snapshot.getAcquisitionCount(),
+                            snapshot.getMeanWaitTime(),
+                            snapshot.getP99WaitTime(),
+                            snapshot.getMaxWaitTime(),
+                            snapshot.getMeanHoldTime(),
+                            snapshot.getP99HoldTime(),
+                            snapshot.getMaxHoldTime(),
+                            snapshot.getRetryCount(),
+                            snapshot.getFailureCount(),
+                            snapshot.getDeadlockCount(),
+                            snapshot.getHolderThread(),
+                            snapshot.getHolderOperation(),
+                            snapshot.getHeldFor() });
+        } catch (OpenDataException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * @return array of lock statistics, indexed by lock name
+     */
+    public static TabularData toTabularData(List<LockStatistics.Snapshot> snapshots) {
+        TabularData td = new TabularDataSupport(TABULAR_TYPE);
+        for (LockStatistics.Snapshot snapshot : snapshots) {
+            td.put(toCompositeData(snapshot));
+        }
+        return td;
+    }
+}
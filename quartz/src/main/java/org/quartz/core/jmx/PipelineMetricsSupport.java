@@ -0,0 +1,101 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.core.jmx;
+
+import static javax.management.openmbean.SimpleType.LONG;
+import static javax.management.openmbean.SimpleType.STRING;
+
+import java.util.Map;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.OpenDataException;
+import javax.management.openmbean.OpenType;
+import javax.management.openmbean.TabularData;
+import javax.management.openmbean.TabularDataSupport;
+import javax.management.openmbean.TabularType;
+
+import org.quartz.utils.LatencyHistogram;
+import org.quartz.utils.PipelineMetrics;
+
+public class PipelineMetricsSupport {
+    public static final String JOB_RUN_TIME = "JOB_RUN_TIME";
+
+    private static final String COMPOSITE_TYPE_NAME = "PipelineMetric";
+    private static final String COMPOSITE_TYPE_DESCRIPTION = "Pipeline Stage Latency Histogram";
+    private static final String[] ITEM_NAMES = new String[] { "stage", "group",
+            "count", "mean", "p50", "p90", "p99", "p999", "max" };
+    private static final String[] ITEM_DESCRIPTIONS = new String[] { "stage",
+            "group", "count", "mean", "p50", "p90", "p99", "p999", "max" };
+    private static final OpenType[] ITEM_TYPES = new OpenType[] { STRING,
+            STRING, LONG, LONG, LONG, LONG, LONG, LONG, LONG };
+    private static final CompositeType COMPOSITE_TYPE;
+    private static final String TABULAR_TYPE_NAME = "PipelineMetricArray";
+    private static final String TABULAR_TYPE_DESCRIPTION = "Array of composite PipelineMetric";
+    private static final String[] INDEX_NAMES = new String[] { "stage", "group" };
+    private static final TabularType TABULAR_TYPE;
+
+    static {
+        try {
+            COMPOSITE_TYPE = new CompositeType(COMPOSITE_TYPE_NAME,
+                    COMPOSITE_TYPE_DESCRIPTION, ITEM_NAMES, ITEM_DESCRIPTIONS,
+                    ITEM_TYPES);
+            TABULAR_TYPE = new TabularType(TABULAR_TYPE_NAME,
+                    TABULAR_TYPE_DESCRIPTION, COMPOSITE_TYPE, INDEX_NAMES);
+        } catch (OpenDataException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * @return composite data
+     */
+    public static CompositeData toCompositeData(String stage, String group, LatencyHistogram histogram) {
+        try {
+            return new CompositeDataSupport(COMPOSITE_TYPE, ITEM_NAMES,
+                    new Object[] {
+                            stage,
+                            group,
+                            histogram.getCount(),
+                            histogram.getMean(),
+                            histogram.getValueAtPercentile(50),
+                            histogram.getValueAtPercentile(90),
+                            histogram.getValueAtPercentile(99),
+                            histogram.getValueAtPercentile(99.9),
+                            histogram.getMax() });
+        } catch (OpenDataException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * @return array of stage histograms, followed by the job run time
+     * histograms of each job group (with the stage <code>JOB_RUN_TIME</code>)
+     */
+    public static TabularData toTabularData(PipelineMetrics metrics) {
+        TabularData td = new TabularDataSupport(TABULAR_TYPE);
+        for (PipelineMetrics.Stage stage : PipelineMetrics.Stage.values()) {
+            td.put(toCompositeData(stage.name(), "", metrics.getHistogram(stage)));
+        }
+        for (Map.Entry<String, LatencyHistogram> entry : metrics.getJobRunTimes().entrySet()) {
+            td.put(toCompositeData(JOB_RUN_TIME, entry.getKey(), entry.getValue()));
+        }
+        return td;
+    }
+}
@@ -33,6 +33,8 @@ public interface QuartzSchedulerMBean {
 
     String SCHEDULING_DATA_CLEARED = "schedulingDataCleared";
 
+    String SCHEDULING_DATA_CHANGED = "schedulingDataChanged";
+
     String SAMPLED_STATISTICS_ENABLED = "sampledStatisticsEnabled";
     String SAMPLED_STATISTICS_RESET = "sampledStatisticsReset";
 
@@ -73,6 +75,83 @@ public interface QuartzSchedulerMBean {
      */
     TabularData getAllJobDetails() throws Exception;
 
+    /**
+     * @return TabularData of CompositeData:TriggerRateLimit, empty if the
+     * job store does not limit the rate triggers are acquired at
+     * @throws Exception
+     * @see TriggerRateLimitSupport
+     */
+    TabularData getTriggerRateLimits() throws Exception;
+
+    /**
+     * @return TabularData of CompositeData:PipelineMetric, the latency
+     * histograms (in microseconds) of the stages triggers go through, and of
+     * the run time of the jobs of each job group
+     * @throws Exception
+     * @see PipelineMetricsSupport
+     */
+    TabularData getPipelineMetrics() throws Exception;
+
+    void resetPipelineMetrics();
+
+    /**
+     * @return TabularData of CompositeData:LockStatistics, the wait and hold
+     * times (in microseconds), retries, failures and current holder of each
+     * lock taken by the job store, empty if it keeps no such statistics
+     * @throws Exception
+     * @see LockStatisticsSupport
+     */
+    TabularData getLockStatistics() throws Exception;
+
+    void resetLockStatistics();
+
+    /**
+     * @return the execution statistics of the jobs the scheduler keeps
+     * statistics for, in milliseconds
+     * @throws Exception
+     * @see ExecutionStatisticsSupport
+     */
+    TabularData getJobExecutionStatistics() throws Exception;
+
+    /**
+     * @return the execution statistics of the triggers the scheduler keeps
+     * statistics for, in milliseconds
+     * @throws Exception
+     * @see ExecutionStatisticsSupport
+     */
+    TabularData getTriggerExecutionStatistics() throws Exception;
+
+    void resetExecutionStatistics();
+
+    /**
+     * @return TabularData of CompositeData:JobClassProfile, the job classes
+     * and groups that kept the most worker threads busy over the last
+     * minute, at most <code>count</code> of them, empty if the job class
+     * profiler is not enabled
+     * @throws Exception
+     * @see JobClassProfileSupport
+     */
+    TabularData getTopJobClasses(int count) throws Exception;
+
+    /**
+     * @return the number of waiting triggers whose next fire time has
+     * passed, or -1 if the job store cannot count them
+     */
+    int getOverdueTriggerCount() throws Exception;
+
+    /**
+     * @return the age, in milliseconds, of the next fire time of the oldest
+     * overdue trigger, 0 if none is overdue, or -1 if the job store cannot
+     * tell
+     */
+    long getOldestOverdueTriggerAge() throws Exception;
+
+    /**
+     * @return the number of waiting triggers due within the given number of
+     * seconds (and not overdue), or -1 if the job store cannot count them
+     */
+    int getTriggersDueWithin(int seconds) throws Exception;
+
     /**
      * @return List of CompositeData:[CronTrigger|SimpleTrigger]
      * @throws Exception
@@ -80,6 +159,67 @@ public interface QuartzSchedulerMBean {
      */
     List<CompositeData> getAllTriggers() throws Exception;
 
+    /**
+     * Get a page of the job details, sorted by group and name.
+     * 
+     * @param groupPattern a job group name, optionally starting and/or ending
+     * with '*' to match the groups ending with, starting with or containing
+     * the rest of it; null or "*" for all groups
+     * @param offset the number of matching jobs to skip
+     * @param limit the maximum number of jobs to return
+     * @return TabularData of CompositeData:JobDetail
+     * @throws Exception
+     * @see JobDetailSupport
+     */
+    TabularData getJobDetails(String groupPattern, int offset, int limit) throws Exception;
+
+    /**
+     * @return the number of jobs in the groups matching the given pattern
+     * @see #getJobDetails(String, int, int)
+     */
+    int getJobCount(String groupPattern) throws Exception;
+
+    /**
+     * Get a page of the triggers, sorted by group and name.
+     * 
+     * @param groupPattern a trigger group pattern, as for
+     * <code>getJobDetails</code>
+     * @param state the name of a <code>TriggerState</code>, or null for all
+     * @param offset the number of matching triggers to skip
+     * @param limit the maximum number of triggers to return
+     * @return List of CompositeData:[CronTrigger|SimpleTrigger]
+     * @throws Exception
+     * @see TriggerSupport
+     * @see #getJobDetails(String, int, int)
+     */
+    List<CompositeData> getTriggers(String groupPattern, String state, int offset, int limit) throws Exception;
+
+    /**
+     * @return the number of triggers in the groups matching the given
+     * pattern, and in the given state (if not null)
+     * @see #getTriggers(String, String, int, int)
+     */
+    int getTriggerCount(String groupPattern, String state) throws Exception;
+
+    /**
+     * @return the sequence number of the latest change to the jobs and
+     * triggers, which is also sent as a <code>schedulingDataChanged</code>
+     * notification
+     */
+    long getLastChangeSequence();
+
+    /**
+     * Get the changes made to the jobs and triggers since the given one, to
+     * keep an incremental view of them.  Only the most recent changes are
+     * retained: if the first change returned does not directly follow the
+     * given one, some were missed and the view must be reloaded.
+     * 
+     * @return array of CompositeData:SchedulingChange, at most
+     * <code>limit</code> of them, oldest first
+     * @see SchedulingChangeSupport
+     */
+    CompositeData[] getChangesSince(long sequence, int limit) throws Exception;
+
     List<String> getJobGroupNames() throws Exception;
 
     List<String> getJobNames(String groupName)
@@ -313,6 +453,15 @@ public interface QuartzSchedulerMBean {
 
     void deleteCalendar(String name) throws Exception;
 
+    /**
+     * Enable or disable the sampled statistics.  While they are disabled, no
+     * notifications are sent for each job execution
+     * (<code>jobToBeExecuted</code>, <code>jobWasExecuted</code>,
+     * <code>jobExecutionVetoed</code> and the
+     * <code>schedulingDataChanged</code> of a fired trigger), so that
+     * listeners are not flooded by a busy scheduler; the change is still
+     * returned by {@link #getChangesSince(long, int)}.
+     */
     void setSampledStatisticsEnabled(boolean enabled);
 
     boolean isSampledStatisticsEnabled();
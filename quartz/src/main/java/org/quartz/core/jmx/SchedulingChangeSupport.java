@@ -0,0 +1,85 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.core.jmx;
+
+import static javax.management.openmbean.SimpleType.DATE;
+import static javax.management.openmbean.SimpleType.LONG;
+import static javax.management.openmbean.SimpleType.STRING;
+
+import java.util.Date;
+import java.util.List;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.OpenDataException;
+import javax.management.openmbean.OpenType;
+
+import org.quartz.core.SchedulingChangeFeed;
+
+public class SchedulingChangeSupport {
+    private static final String COMPOSITE_TYPE_NAME = "SchedulingChange";
+    private static final String COMPOSITE_TYPE_DESCRIPTION = "Change to a Job or Trigger";
+    private static final String[] ITEM_NAMES = new String[] { "sequence",
+            "time", "kind", "type", "group", "name" };
+    private static final String[] ITEM_DESCRIPTIONS = new String[] {
+            "sequence", "time", "kind", "type", "group", "name" };
+    private static final OpenType[] ITEM_TYPES = new OpenType[] { LONG, DATE,
+            STRING, STRING, STRING, STRING };
+    private static final CompositeType COMPOSITE_TYPE;
+
+    static {
+        try {
+            COMPOSITE_TYPE = new CompositeType(COMPOSITE_TYPE_NAME,
+                    COMPOSITE_TYPE_DESCRIPTION, ITEM_NAMES, ITEM_DESCRIPTIONS,
+                    ITEM_TYPES);
+        } catch (OpenDataException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * @return composite data, with an empty name for a change of a whole
+     * group, and an empty group for a change of all scheduling data
+     */
+    public static CompositeData toCompositeData(SchedulingChangeFeed.Change change) {
+        try {
+            return new CompositeDataSupport(COMPOSITE_TYPE, ITEM_NAMES,
+                    new Object[] {
+                            change.getSequence(),
+                            new Date(change.getTime()),
+                            change.getKind().name(),
+                            change.getType().name(),
+                            change.getGroup() != null ? change.getGroup() : "",
+                            change.getName() != null ? change.getName() : "" });
+        } catch (OpenDataException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * @return array of changes, in the order of the given list
+     */
+    public static CompositeData[] toCompositeData(List<SchedulingChangeFeed.Change> changes) {
+        CompositeData[] result = new CompositeData[changes.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = toCompositeData(changes.get(i));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.core.jmx;
+
+import static javax.management.openmbean.SimpleType.BOOLEAN;
+import static javax.management.openmbean.SimpleType.DOUBLE;
+import static javax.management.openmbean.SimpleType.INTEGER;
+import static javax.management.openmbean.SimpleType.LONG;
+import static javax.management.openmbean.SimpleType.STRING;
+
+import java.util.List;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.OpenDataException;
+import javax.management.openmbean.OpenType;
+import javax.management.openmbean.TabularData;
+import javax.management.openmbean.TabularDataSupport;
+import javax.management.openmbean.TabularType;
+
+import org.quartz.spi.TriggerRateLimiter;
+import org.quartz.utils.TokenBucket;
+
+public class TriggerRateLimitSupport {
+    private static final String COMPOSITE_TYPE_NAME = "TriggerRateLimit";
+    private static final String COMPOSITE_TYPE_DESCRIPTION = "Trigger Rate Limit Details";
+    private static final String[] ITEM_NAMES = new String[] { "name", "scope",
+            "group", "permitsPerSecond", "burst", "availablePermits",
+            "grantedCount", "deferredCount", "deferring" };
+    private static final String[] ITEM_DESCRIPTIONS = new String[] { "name",
+            "scope", "group", "permitsPerSecond", "burst", "availablePermits",
+            "grantedCount", "deferredCount", "deferring" };
+    private static final OpenType[] ITEM_TYPES = new OpenType[] { STRING,
+            STRING, STRING, DOUBLE, INTEGER, DOUBLE, LONG, LONG, BOOLEAN };
+    private static final CompositeType COMPOSITE_TYPE;
+    private static final String TABULAR_TYPE_NAME = "TriggerRateLimitArray";
+    private static final String TABULAR_TYPE_DESCRIPTION = "Array of composite TriggerRateLimit";
+    private static final String[] INDEX_NAMES = new String[] { "name" };
+    private static final TabularType TABULAR_TYPE;
+
+    static {
+        try {
+            COMPOSITE_TYPE = new CompositeType(COMPOSITE_TYPE_NAME,
+                    COMPOSITE_TYPE_DESCRIPTION, ITEM_NAMES, ITEM_DESCRIPTIONS,
+                    ITEM_TYPES);
+            TABULAR_TYPE = new TabularType(TABULAR_TYPE_NAME,
+                    TABULAR_TYPE_DESCRIPTION, COMPOSITE_TYPE, INDEX_NAMES);
+        } catch (OpenDataException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * @return composite data
+     */
+    public static CompositeData toCompositeData(TriggerRateLimiter.Limit limit, long now) {
+        TokenBucket bucket = limit.getBucket();
+        try {
+            return new CompositeDataSupport(COMPOSITE_TYPE, ITEM_NAMES,
+                    new Object[] {
+                            limit.getName(),
+                            limit.getScope().name(),
+                            limit.getGroup(),
+                            bucket.getPermitsPerSecond(),
+                            bucket.getBurst(),
+                            bucket.getAvailablePermits(now),
+                            bucket.getGrantedCount(),
+                            bucket.getDeferredCount(),
+                            bucket.isDeferring() });
+        } catch (OpenDataException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * @return array of rate limit statistics
+     */
+    public static TabularData toTabularData(final List<TriggerRateLimiter.Limit> limits) {
+        long now = System.currentTimeMillis();
+        TabularData td = new TabularDataSupport(TABULAR_TYPE);
+        for (TriggerRateLimiter.Limit limit : limits) {
+            td.put(toCompositeData(limit, now));
+        }
+        return td;
+    }
+}
@@ -19,6 +19,7 @@
 
 package org.quartz.impl;
 
+import org.quartz.ConcurrentExecutionLimit;
 import org.quartz.DisallowConcurrentExecution;
 import org.quartz.Job;
 import org.quartz.JobBuilder;
@@ -392,6 +393,16 @@ public class JobDetailImpl implements Cloneable, java.io.Serializable, JobDetail
         return ClassUtils.isAnnotationPresent(jobClass, DisallowConcurrentExecution.class);
     }
 
+    /**
+     * @return the limit declared by the {@link ConcurrentExecutionLimit} annotation of the
+     * associated Job class, or 0 if the Job class does not carry the annotation.
+     */
+    public int getConcurrentExecutionLimit() {
+
+        ConcurrentExecutionLimit limit = ClassUtils.getAnnotation(jobClass, ConcurrentExecutionLimit.class);
+        return limit == null ? 0 : Math.max(limit.value(), 0);
+    }
+
     /* (non-Javadoc)
      * @see org.quartz.JobDetailI#requestsRecovery()
      */
@@ -62,6 +62,8 @@ public class JobExecutionContextImpl implements java.io.Serializable, JobExecuti
 
     private int numRefires = 0;
 
+    private final int fireCount;
+
     private final Date fireTime;
 
     private final Date scheduledFireTime;
@@ -101,6 +103,7 @@ public class JobExecutionContextImpl implements java.io.Serializable, JobExecuti
         this.scheduledFireTime = firedBundle.getScheduledFireTime();
         this.prevFireTime = firedBundle.getPrevFireTime();
         this.nextFireTime = firedBundle.getNextFireTime();
+        this.fireCount = firedBundle.getFireCount();
         
         this.jobDataMap = new JobDataMap();
         this.jobDataMap.putAll(jobDetail.getJobDataMap());
@@ -163,6 +166,13 @@ public class JobExecutionContextImpl implements java.io.Serializable, JobExecuti
         return numRefires;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    public int getFireCount() {
+        return fireCount;
+    }
+
     /**
      * {@inheritDoc}
      */
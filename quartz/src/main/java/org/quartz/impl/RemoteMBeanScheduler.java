@@ -30,6 +30,7 @@ import javax.management.ObjectName;
 import javax.management.openmbean.CompositeData;
 
 import org.quartz.Calendar;
+import org.quartz.ExecutionStatistics;
 import org.quartz.JobDataMap;
 import org.quartz.JobDetail;
 import org.quartz.JobExecutionContext;
@@ -332,6 +333,26 @@ public abstract class RemoteMBeanScheduler implements Scheduler {
         throw new SchedulerException("Operation not supported for remote schedulers.");
     }
 
+    /**
+     * <p>
+     * Not supported; use the <code>JobExecutionStatistics</code> attribute
+     * of the scheduler's MBean instead.
+     * </p>
+     */
+    public ExecutionStatistics getJobExecutionStatistics(JobKey jobKey) throws SchedulerException {
+        throw new SchedulerException("Operation not supported for remote schedulers.");
+    }
+
+    /**
+     * <p>
+     * Not supported; use the <code>TriggerExecutionStatistics</code> attribute
+     * of the scheduler's MBean instead.
+     * </p>
+     */
+    public ExecutionStatistics getTriggerExecutionStatistics(TriggerKey triggerKey) throws SchedulerException {
+        throw new SchedulerException("Operation not supported for remote schedulers.");
+    }
+
     ///////////////////////////////////////////////////////////////////////////
     ///
     /// Scheduling-related Methods
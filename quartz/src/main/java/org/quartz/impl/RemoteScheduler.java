@@ -27,6 +27,7 @@ import java.util.Map;
 import java.util.Set;
 
 import org.quartz.Calendar;
+import org.quartz.ExecutionStatistics;
 import org.quartz.JobDataMap;
 import org.quartz.JobDetail;
 import org.quartz.JobExecutionContext;
@@ -338,6 +339,34 @@ public class RemoteScheduler implements Scheduler {
         }
     }
 
+    /**
+     * <p>
+     * Calls the equivalent method on the 'proxied' <code>QuartzScheduler</code>.
+     * </p>
+     */
+    public ExecutionStatistics getJobExecutionStatistics(JobKey jobKey) throws SchedulerException {
+        try {
+            return getRemoteScheduler().getJobExecutionStatistics(jobKey);
+        } catch (RemoteException re) {
+            throw invalidateHandleCreateException(
+                    "Error communicating with remote scheduler.", re);
+        }
+    }
+
+    /**
+     * <p>
+     * Calls the equivalent method on the 'proxied' <code>QuartzScheduler</code>.
+     * </p>
+     */
+    public ExecutionStatistics getTriggerExecutionStatistics(TriggerKey triggerKey) throws SchedulerException {
+        try {
+            return getRemoteScheduler().getTriggerExecutionStatistics(triggerKey);
+        } catch (RemoteException re) {
+            throw invalidateHandleCreateException(
+                    "Error communicating with remote scheduler.", re);
+        }
+    }
+
     ///////////////////////////////////////////////////////////////////////////
     ///
     /// Scheduling-related Methods
@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.Set;
 
 import org.quartz.Calendar;
+import org.quartz.ExecutionStatistics;
 import org.quartz.JobDataMap;
 import org.quartz.JobDetail;
 import org.quartz.JobExecutionContext;
@@ -225,6 +226,24 @@ public class StdScheduler implements Scheduler {
         return sched.getCurrentlyExecutingJobs();
     }
 
+    /**
+     * <p>
+     * Calls the equivalent method on the 'proxied' <code>QuartzScheduler</code>.
+     * </p>
+     */
+    public ExecutionStatistics getJobExecutionStatistics(JobKey jobKey) {
+        return sched.getJobExecutionStatistics(jobKey);
+    }
+
+    /**
+     * <p>
+     * Calls the equivalent method on the 'proxied' <code>QuartzScheduler</code>.
+     * </p>
+     */
+    public ExecutionStatistics getTriggerExecutionStatistics(TriggerKey triggerKey) {
+        return sched.getTriggerExecutionStatistics(triggerKey);
+    }
+
     ///////////////////////////////////////////////////////////////////////////
     ///
     /// Scheduling-related Methods
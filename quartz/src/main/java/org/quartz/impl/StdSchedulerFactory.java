@@ -35,15 +35,21 @@ import org.quartz.impl.jdbcjobstore.Semaphore;
 import org.quartz.impl.jdbcjobstore.TablePrefixAware;
 import org.quartz.impl.matchers.EverythingMatcher;
 import org.quartz.management.ManagementRESTServiceConfiguration;
+import org.quartz.simpl.LaneThreadPool;
 import org.quartz.simpl.RAMJobStore;
 import org.quartz.simpl.SimpleThreadPool;
 import org.quartz.spi.ClassLoadHelper;
+import org.quartz.spi.ExecutionLane;
 import org.quartz.spi.InstanceIdGenerator;
 import org.quartz.spi.JobFactory;
 import org.quartz.spi.JobStore;
+import org.quartz.spi.LaneAwareThreadPool;
+import org.quartz.spi.MetricsExporter;
+import org.quartz.spi.RateLimitAwareJobStore;
 import org.quartz.spi.SchedulerPlugin;
 import org.quartz.spi.ThreadExecutor;
 import org.quartz.spi.ThreadPool;
+import org.quartz.spi.TriggerRateLimiter;
 import org.quartz.utils.ConnectionProvider;
 import org.quartz.utils.DBConnectionManager;
 import org.quartz.utils.JNDIConnectionProvider;
@@ -65,10 +71,13 @@ import java.io.InputStream;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.security.AccessControlException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Enumeration;
+import java.util.LinkedHashSet;
 import java.util.Locale;
 import java.util.Properties;
+import java.util.Set;
 
 /**
  * <p>
@@ -147,6 +156,22 @@ public class StdSchedulerFactory implements SchedulerFactory {
 
     public static final String PROP_SCHED_MAX_BATCH_SIZE = "org.quartz.scheduler.batchTriggerAcquisitionMaxCount";
 
+    public static final String PROP_SCHED_PRECISE_FIRING = "org.quartz.scheduler.preciseFiring";
+
+    public static final String PROP_SCHED_FLIGHT_RECORDER_EVENTS = "org.quartz.scheduler.flightRecorderEvents";
+
+    public static final String PROP_SCHED_EXECUTION_STATISTICS_CAPACITY = "org.quartz.scheduler.executionStatistics.capacity";
+
+    public static final String PROP_SCHED_EXECUTION_STATISTICS_HISTORY_SIZE = "org.quartz.scheduler.executionStatistics.historySize";
+
+    public static final String PROP_SCHED_JOB_CLASS_PROFILER_ENABLED = "org.quartz.scheduler.jobClassProfiler.enabled";
+
+    public static final String PROP_SCHED_JOB_CLASS_PROFILER_TOP_COUNT = "org.quartz.scheduler.jobClassProfiler.topCount";
+
+    public static final String PROP_SCHED_JOB_CLASS_PROFILER_LOG_INTERVAL = "org.quartz.scheduler.jobClassProfiler.logInterval";
+
+    public static final String PROP_SCHED_SAMPLED_STATISTICS_LAZY = "org.quartz.scheduler.sampledStatistics.lazy";
+
     public static final String PROP_SCHED_JMX_EXPORT = "org.quartz.scheduler.jmx.export";
 
     public static final String PROP_SCHED_JMX_OBJECT_NAME = "org.quartz.scheduler.jmx.objectName";
@@ -197,12 +222,34 @@ public class StdSchedulerFactory implements SchedulerFactory {
 
     public static final String PROP_THREAD_POOL_CLASS = "org.quartz.threadPool.class";
 
+    public static final String PROP_THREAD_POOL_LANE_PREFIX = "org.quartz.threadPool.lane";
+
+    public static final String PROP_LANE_THREAD_COUNT = "threadCount";
+
+    public static final String PROP_LANE_WEIGHT = "weight";
+
+    public static final String PROP_LANE_TRIGGER_GROUPS = "triggerGroups";
+
+    public static final String PROP_LANE_MIN_PRIORITY = "minPriority";
+
+    public static final String PROP_LANE_MAX_PRIORITY = "maxPriority";
+
     public static final String PROP_JOB_STORE_PREFIX = "org.quartz.jobStore";
 
     public static final String PROP_JOB_STORE_LOCK_HANDLER_PREFIX = PROP_JOB_STORE_PREFIX + ".lockHandler";
 
     public static final String PROP_JOB_STORE_LOCK_HANDLER_CLASS = PROP_JOB_STORE_LOCK_HANDLER_PREFIX + ".class";
 
+    public static final String PROP_JOB_STORE_RATE_LIMIT_PREFIX = PROP_JOB_STORE_PREFIX + ".rateLimit";
+
+    public static final String PROP_RATE_LIMIT_TRIGGER_GROUP = "triggerGroup";
+
+    public static final String PROP_RATE_LIMIT_JOB_GROUP = "jobGroup";
+
+    public static final String PROP_RATE_LIMIT_PERMITS_PER_SECOND = "permitsPerSecond";
+
+    public static final String PROP_RATE_LIMIT_BURST = "burst";
+
     public static final String PROP_TABLE_PREFIX = "tablePrefix";
 
     public static final String PROP_SCHED_NAME = "schedName";
@@ -267,6 +314,10 @@ public class StdSchedulerFactory implements SchedulerFactory {
 
     public static final String PROP_PLUGIN_CLASS = "class";
 
+    public static final String PROP_METRICS_EXPORTER_PREFIX = "org.quartz.metricsExporter";
+
+    public static final String PROP_METRICS_EXPORTER_CLASS = "class";
+
     public static final String PROP_JOB_LISTENER_PREFIX = "org.quartz.jobListener";
 
     public static final String PROP_TRIGGER_LISTENER_PREFIX = "org.quartz.triggerListener";
@@ -693,6 +744,30 @@ public class StdSchedulerFactory implements SchedulerFactory {
         long batchTimeWindow = cfg.getLongProperty(PROP_SCHED_BATCH_TIME_WINDOW, 0L);
         int maxBatchSize = cfg.getIntProperty(PROP_SCHED_MAX_BATCH_SIZE, 1);
 
+        boolean preciseFiring = cfg.getBooleanProperty(PROP_SCHED_PRECISE_FIRING, false);
+
+        boolean flightRecorderEvents = cfg.getBooleanProperty(PROP_SCHED_FLIGHT_RECORDER_EVENTS, false);
+        if (flightRecorderEvents && !isFlightRecorderAvailable()) {
+            getLog().warn("Flight Recorder events disabled: the jdk.jfr module is not available.");
+            flightRecorderEvents = false;
+        }
+
+        int executionStatisticsCapacity = cfg.getIntProperty(PROP_SCHED_EXECUTION_STATISTICS_CAPACITY, 1024);
+        int executionStatisticsHistorySize = cfg.getIntProperty(PROP_SCHED_EXECUTION_STATISTICS_HISTORY_SIZE, 10);
+        if (executionStatisticsCapacity < 0 || executionStatisticsHistorySize < 0) {
+            throw new SchedulerConfigException("Execution statistics capacity and history size must not be negative.");
+        }
+
+        boolean jobClassProfilerEnabled = cfg.getBooleanProperty(PROP_SCHED_JOB_CLASS_PROFILER_ENABLED, false);
+        int jobClassProfilerTopCount = cfg.getIntProperty(PROP_SCHED_JOB_CLASS_PROFILER_TOP_COUNT, 10);
+        long jobClassProfilerLogInterval = cfg.getLongProperty(PROP_SCHED_JOB_CLASS_PROFILER_LOG_INTERVAL, 0L);
+        if (jobClassProfilerTopCount < 1 || jobClassProfilerLogInterval < 0) {
+            throw new SchedulerConfigException(
+                    "Job class profiler top count must be greater than 0, and log interval must not be negative.");
+        }
+
+        boolean sampledStatisticsLazy = cfg.getBooleanProperty(PROP_SCHED_SAMPLED_STATISTICS_LAZY, false);
+
         boolean interruptJobsOnShutdown = cfg.getBooleanProperty(PROP_SCHED_INTERRUPT_JOBS_ON_SHUTDOWN, false);
         boolean interruptJobsOnShutdownWithWait = cfg.getBooleanProperty(PROP_SCHED_INTERRUPT_JOBS_ON_SHUTDOWN_WITH_WAIT, false);
 
@@ -854,7 +929,7 @@ public class StdSchedulerFactory implements SchedulerFactory {
                     + tpClass + "' could not be instantiated.", e);
             throw initException;
         }
-        tProps = cfg.getPropertyGroup(PROP_THREAD_POOL_PREFIX, true);
+        tProps = cfg.getPropertyGroup(PROP_THREAD_POOL_PREFIX, true, new String[] {PROP_THREAD_POOL_LANE_PREFIX});
         try {
             setBeanProps(tp, tProps);
         } catch (Exception e) {
@@ -863,6 +938,40 @@ public class StdSchedulerFactory implements SchedulerFactory {
             throw initException;
         }
 
+        // Set up any execution lanes of the ThreadPool
+        // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+        String[] laneNames = cfg.getPropertyGroups(PROP_THREAD_POOL_LANE_PREFIX);
+        if (laneNames.length > 0) {
+            if (!(tp instanceof LaneAwareThreadPool)) {
+                initException = new SchedulerConfigException("ThreadPool class '"
+                        + tpClass + "' does not support execution lanes, use "
+                        + LaneThreadPool.class.getName() + " instead.");
+                throw initException;
+            }
+            Arrays.sort(laneNames);
+            for (String laneName : laneNames) {
+                PropertiesParser lp = new PropertiesParser(cfg.getPropertyGroup(
+                        PROP_THREAD_POOL_LANE_PREFIX + "." + laneName, true));
+                try {
+                    Set<String> groups = new LinkedHashSet<>();
+                    for (String group : lp.getStringArrayProperty(PROP_LANE_TRIGGER_GROUPS, new String[0])) {
+                        groups.add(group.trim());
+                    }
+                    ((LaneAwareThreadPool) tp).addLane(new ExecutionLane(laneName,
+                            lp.getIntProperty(PROP_LANE_THREAD_COUNT),
+                            lp.getIntProperty(PROP_LANE_WEIGHT, 1),
+                            groups,
+                            lp.getIntProperty(PROP_LANE_MIN_PRIORITY, Integer.MIN_VALUE),
+                            lp.getIntProperty(PROP_LANE_MAX_PRIORITY, Integer.MAX_VALUE)));
+                } catch (IllegalArgumentException e) {
+                    initException = new SchedulerConfigException("Execution lane '"
+                            + laneName + "' could not be configured: " + e.getMessage(), e);
+                    throw initException;
+                }
+            }
+        }
+
         // Get JobStore Properties
         // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
@@ -885,7 +994,8 @@ public class StdSchedulerFactory implements SchedulerFactory {
 
         SchedulerDetailsSetter.setDetails(js, schedName, schedInstId);
 
-        tProps = cfg.getPropertyGroup(PROP_JOB_STORE_PREFIX, true, new String[] {PROP_JOB_STORE_LOCK_HANDLER_PREFIX});
+        tProps = cfg.getPropertyGroup(PROP_JOB_STORE_PREFIX, true,
+                new String[] {PROP_JOB_STORE_LOCK_HANDLER_PREFIX, PROP_JOB_STORE_RATE_LIMIT_PREFIX});
         try {
             setBeanProps(js, tProps);
         } catch (Exception e) {
@@ -894,6 +1004,54 @@ public class StdSchedulerFactory implements SchedulerFactory {
             throw initException;
         }
 
+        // Set up any trigger rate limits of the JobStore
+        // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+        String[] rateLimitNames = cfg.getPropertyGroups(PROP_JOB_STORE_RATE_LIMIT_PREFIX);
+        if (rateLimitNames.length > 0) {
+            if (!(js instanceof RateLimitAwareJobStore)) {
+                initException = new SchedulerConfigException("JobStore class '"
+                        + jsClass + "' does not support trigger rate limits.");
+                throw initException;
+            }
+            TriggerRateLimiter rateLimiter = new TriggerRateLimiter();
+            Arrays.sort(rateLimitNames);
+            for (String limitName : rateLimitNames) {
+                PropertiesParser rp = new PropertiesParser(cfg.getPropertyGroup(
+                        PROP_JOB_STORE_RATE_LIMIT_PREFIX + "." + limitName, true));
+                String triggerGroup = rp.getStringProperty(PROP_RATE_LIMIT_TRIGGER_GROUP);
+                String jobGroup = rp.getStringProperty(PROP_RATE_LIMIT_JOB_GROUP);
+                if ((triggerGroup == null) == (jobGroup == null)) {
+                    initException = new SchedulerConfigException("Trigger rate limit '"
+                            + limitName + "' must specify exactly one of '" + PROP_RATE_LIMIT_TRIGGER_GROUP
+                            + "' and '" + PROP_RATE_LIMIT_JOB_GROUP + "'.");
+                    throw initException;
+                }
+                if (rp.getStringProperty(PROP_RATE_LIMIT_PERMITS_PER_SECOND) == null) {
+                    initException = new SchedulerConfigException("Trigger rate limit '"
+                            + limitName + "' must specify '" + PROP_RATE_LIMIT_PERMITS_PER_SECOND + "'.");
+                    throw initException;
+                }
+                try {
+                    double permitsPerSecond = rp.getDoubleProperty(PROP_RATE_LIMIT_PERMITS_PER_SECOND);
+                    int burst = rp.getIntProperty(PROP_RATE_LIMIT_BURST,
+                            (int) Math.max(1, Math.ceil(permitsPerSecond)));
+                    if (triggerGroup != null) {
+                        rateLimiter.addLimit(limitName, TriggerRateLimiter.Scope.TRIGGER_GROUP,
+                                triggerGroup, permitsPerSecond, burst);
+                    } else {
+                        rateLimiter.addLimit(limitName, TriggerRateLimiter.Scope.JOB_GROUP,
+                                jobGroup, permitsPerSecond, burst);
+                    }
+                } catch (IllegalArgumentException e) {
+                    initException = new SchedulerConfigException("Trigger rate limit '"
+                            + limitName + "' could not be configured: " + e.getMessage(), e);
+                    throw initException;
+                }
+            }
+            ((RateLimitAwareJobStore) js).setTriggerRateLimiter(rateLimiter);
+        }
+
         if (js instanceof JobStoreSupport) {
             // Install custom lock handler (Semaphore)
             String lockHandlerClass = cfg.getStringProperty(PROP_JOB_STORE_LOCK_HANDLER_CLASS);
@@ -1101,6 +1259,45 @@ public class StdSchedulerFactory implements SchedulerFactory {
             plugins[i] = plugin;
         }
 
+        // Set up any MetricsExporters
+        // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+        String[] exporterNames = cfg.getPropertyGroups(PROP_METRICS_EXPORTER_PREFIX);
+        MetricsExporter[] exporters = new MetricsExporter[exporterNames.length];
+        for (int i = 0; i < exporterNames.length; i++) {
+            Properties ep = cfg.getPropertyGroup(PROP_METRICS_EXPORTER_PREFIX + "."
+                    + exporterNames[i], true);
+
+            String exporterClass = ep.getProperty(PROP_METRICS_EXPORTER_CLASS, null);
+
+            if (exporterClass == null) {
+                initException = new SchedulerException(
+                        "MetricsExporter class not specified for exporter '"
+                                + exporterNames[i] + "'");
+                throw initException;
+            }
+            MetricsExporter exporter;
+            try {
+                exporter = (MetricsExporter)
+                        loadHelper.loadClass(exporterClass).getDeclaredConstructor().newInstance();
+            } catch (Exception e) {
+                initException = new SchedulerException(
+                        "MetricsExporter class '" + exporterClass
+                                + "' could not be instantiated.", e);
+                throw initException;
+            }
+            try {
+                setBeanProps(exporter, ep);
+            } catch (Exception e) {
+                initException = new SchedulerException(
+                        "MetricsExporter '" + exporterClass
+                                + "' props could not be configured.", e);
+                throw initException;
+            }
+
+            exporters[i] = exporter;
+        }
+
         // Set up any JobListeners
         // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
@@ -1292,6 +1489,14 @@ public class StdSchedulerFactory implements SchedulerFactory {
             rsrcs.setThreadsInheritInitializersClassLoadContext(threadsInheritInitializersClassLoader);
             rsrcs.setBatchTimeWindow(batchTimeWindow);
             rsrcs.setMaxBatchSize(maxBatchSize);
+            rsrcs.setPreciseFiring(preciseFiring);
+            rsrcs.setFlightRecorderEvents(flightRecorderEvents);
+            rsrcs.setExecutionStatisticsCapacity(executionStatisticsCapacity);
+            rsrcs.setExecutionStatisticsHistorySize(executionStatisticsHistorySize);
+            rsrcs.setJobClassProfilerEnabled(jobClassProfilerEnabled);
+            rsrcs.setJobClassProfilerTopCount(jobClassProfilerTopCount);
+            rsrcs.setJobClassProfilerLogInterval(jobClassProfilerLogInterval);
+            rsrcs.setSampledStatisticsLazy(sampledStatisticsLazy);
             rsrcs.setInterruptJobsOnShutdown(interruptJobsOnShutdown);
             rsrcs.setInterruptJobsOnShutdownWithWait(interruptJobsOnShutdownWithWait);
             rsrcs.setJMXExport(jmxExport);
@@ -1321,6 +1526,9 @@ public class StdSchedulerFactory implements SchedulerFactory {
             if(tp instanceof SimpleThreadPool) {
                 if(threadsInheritInitializersClassLoader)
                     ((SimpleThreadPool)tp).setThreadsInheritContextClassLoaderOfInitializingThread(threadsInheritInitializersClassLoader);
+            } else if(tp instanceof LaneThreadPool) {
+                if(threadsInheritInitializersClassLoader)
+                    ((LaneThreadPool)tp).setThreadsInheritContextClassLoaderOfInitializingThread(threadsInheritInitializersClassLoader);
             }
             tp.initialize();
             tpInited = true;
@@ -1331,9 +1539,19 @@ public class StdSchedulerFactory implements SchedulerFactory {
             for (SchedulerPlugin plugin : plugins) {
                 rsrcs.addSchedulerPlugin(plugin);
             }
+
+            // add metrics exporters
+            for (MetricsExporter exporter : exporters) {
+                rsrcs.addMetricsExporter(exporter);
+            }
     
             qs = new QuartzScheduler(rsrcs, idleWaitTime, dbFailureRetry);
             qsInited = true;
+
+            if (js instanceof JobStoreSupport) {
+                ((JobStoreSupport) js).setPipelineMetrics(qs.getPipelineMetrics());
+                ((JobStoreSupport) js).setFlightRecorderEvents(flightRecorderEvents);
+            }
     
             // Create Scheduler ref...
             Scheduler scheduler = instantiate(rsrcs, qs);
@@ -1347,6 +1565,11 @@ public class StdSchedulerFactory implements SchedulerFactory {
             for (int i = 0; i < plugins.length; i++) {
                 plugins[i].initialize(pluginNames[i], scheduler, loadHelper);
             }
+
+            // Initialize metrics exporters
+            for (int i = 0; i < exporters.length; i++) {
+                exporters[i].initialize(exporterNames[i], scheduler, qs.getMetricsRegistry());
+            }
     
             // add listeners
             for (JobListener jobListener : jobListeners) {
@@ -1526,6 +1749,15 @@ public class StdSchedulerFactory implements SchedulerFactory {
         }
     }
 
+    private static boolean isFlightRecorderAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event");
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
     private ClassLoader findClassLoader() {
         // work-around set context loader for windows-service started jvms (QUARTZ-748)
         if(Thread.currentThread().getContextClassLoader() == null && getClass().getClassLoader() != null) {
@@ -25,6 +25,7 @@ import java.util.Comparator;
 import java.util.TimeZone;
 
 import org.quartz.Calendar;
+import org.quartz.utils.EpochDays;
 
 /**
  * <p>
@@ -47,6 +48,14 @@ public class AnnualCalendar extends BaseCalendar implements Calendar,
     // true, if excludeDays is sorted
     private boolean dataSorted = false;
 
+    // Leap year day of the year (from 0) of the first day of each month
+    private static final int[] DAYS_BEFORE_MONTH = {0, 31, 60, 91, 121, 152, 182, 213, 244, 274, 305, 335};
+
+    // excludeDays as a bit per (leap year) day of the year, built when first
+    // needed; excludeDays and its elements are never handed out, so that
+    // they cannot be changed without it being rebuilt
+    private transient volatile long[] excludeMask;
+
     public AnnualCalendar() {
     }
 
@@ -73,9 +82,23 @@ public class AnnualCalendar extends BaseCalendar implements Calendar,
      * <p>
      * Get the array which defines the exclude-value of each day of month
      * </p>
+     * 
+     * <p>
+     * The list, and the days in it, are copies: changing them does not
+     * change the days excluded, use {@link #setDaysExcluded(ArrayList)} or
+     * {@link #setDayExcluded(java.util.Calendar, boolean)} to do so.
+     * </p>
      */
     public ArrayList<java.util.Calendar> getDaysExcluded() {
-        return excludeDays;
+        return copyOf(excludeDays);
+    }
+
+    private static ArrayList<java.util.Calendar> copyOf(ArrayList<java.util.Calendar> days) {
+        ArrayList<java.util.Calendar> copy = new ArrayList<>(days.size());
+        for (java.util.Calendar day : days) {
+            copy.add((java.util.Calendar) day.clone());
+        }
+        return copy;
     }
 
     /**
@@ -95,48 +118,58 @@ public class AnnualCalendar extends BaseCalendar implements Calendar,
          return true;
         } 
         
-        int dmonth = day.get(java.util.Calendar.MONTH);
-        int dday = day.get(java.util.Calendar.DAY_OF_MONTH);
+        return isExcludedDayOfYear(day);
+    }
 
-        if (!dataSorted) {
-            Collections.sort(excludeDays, new CalendarComparator());
-            dataSorted = true;
-        }
+    // whether this calendar itself excludes the day, ignoring its base calendar
+    private boolean isExcludedDayOfYear(java.util.Calendar day) {
+        return isExcludedDayOfYear(day.get(java.util.Calendar.MONTH), day.get(java.util.Calendar.DAY_OF_MONTH));
+    }
 
-        for (java.util.Calendar cl : excludeDays) {
-            // remember, the list is sorted
-            if (dmonth < cl.get(java.util.Calendar.MONTH)) {
-                return false;
-            }
+    private boolean isExcludedDayOfYear(int month, int dayOfMonth) {
+        int dayOfYear = DAYS_BEFORE_MONTH[month] + dayOfMonth - 1;
+        return (getExcludeMask()[dayOfYear >> 6] & (1L << dayOfYear)) != 0;
+    }
 
-            if (dday != cl.get(java.util.Calendar.DAY_OF_MONTH)) {
-                continue;
-            }
+    private boolean isExcludedEpochDay(long epochDay) {
+        long date = EpochDays.toDate(epochDay);
+        return isExcludedDayOfYear(EpochDays.getMonth(date) - 1, EpochDays.getDayOfMonth(date));
+    }
 
-            if (dmonth != cl.get(java.util.Calendar.MONTH)) {
-                continue;
+    private long[] getExcludeMask() {
+        long[] mask = excludeMask;
+        if (mask == null) {
+            if (!dataSorted) {
+                Collections.sort(excludeDays, new CalendarComparator());
+                dataSorted = true;
             }
-
-            return true;
+            mask = new long[(366 + 63) / 64];
+            for (java.util.Calendar cl : excludeDays) {
+                int dayOfYear = DAYS_BEFORE_MONTH[cl.get(java.util.Calendar.MONTH)]
+                        + cl.get(java.util.Calendar.DAY_OF_MONTH) - 1;
+                mask[dayOfYear >> 6] |= 1L << dayOfYear;
+            }
+            excludeMask = mask;
         }
-
-        return false;
+        return mask;
     }
 
     /**
      * <p>
      * Redefine the list of days excluded. The ArrayList 
-     * should contain <code>java.util.Calendar</code> objects. 
+     * should contain <code>java.util.Calendar</code> objects, which are
+     * copied.
      * </p>
      */
     public void setDaysExcluded(ArrayList<java.util.Calendar> days) {
         if (days == null) {
             excludeDays = new ArrayList<>();
         } else {
-            excludeDays = days;
+            excludeDays = copyOf(days);
         }
 
         dataSorted = false;
+        excludeMask = null;
     }
 
     /**
@@ -150,8 +183,9 @@ public class AnnualCalendar extends BaseCalendar implements Calendar,
                 return;
             }
 
-            excludeDays.add(day);
+            excludeDays.add((java.util.Calendar) day.clone());
             dataSorted = false;
+            excludeMask = null;
         } else {
             if (!isDayExcluded(day)) {
                 return;
@@ -176,6 +210,8 @@ public class AnnualCalendar extends BaseCalendar implements Calendar,
             return;
         }
         
+        excludeMask = null;
+
         // Fast way, see if exact day object was already in list
         if (this.excludeDays.remove(day)) {
             return;
@@ -219,9 +255,52 @@ public class AnnualCalendar extends BaseCalendar implements Calendar,
         // excludes the time/date, continue evaluating this calendar instance.
         if (!super.isTimeIncluded(timeStamp)) { return false; }
 
-        java.util.Calendar day = createJavaCalendar(timeStamp);
+        return !isExcludedEpochDay(getEpochDay(timeStamp, getEffectiveTimeZone()));
+    }
 
-        return !(isDayExcluded(day));
+    /**
+     * <p>
+     * Determine the end of the range of days this Calendar excludes that
+     * the given time falls in: the start of the next day that is not
+     * excluded.
+     * </p>
+     */
+    @Override
+    protected long getOwnExcludedRangeEnd(long timeStamp) {
+        TimeZone timeZone = getEffectiveTimeZone();
+        long day = getEpochDay(timeStamp, timeZone);
+        if (!isExcludedEpochDay(day)) {
+            return timeStamp;
+        }
+
+        // a year at most, should every day be excluded
+        for (int i = 0; i < 366 && isExcludedEpochDay(day); i++) {
+            day++;
+        }
+
+        return getStartOfEpochDay(day, timeZone);
+    }
+
+    /**
+     * <p>
+     * Determine the end of the range of days this Calendar includes that
+     * the given time falls in: the start of the next day that is excluded.
+     * </p>
+     */
+    @Override
+    protected long getOwnIncludedRangeEnd(long timeStamp) {
+        TimeZone timeZone = getEffectiveTimeZone();
+        long day = getEpochDay(timeStamp, timeZone);
+
+        // a year at most, as the range may be ended later still
+        for (int i = 0; i < 366; i++) {
+            day++;
+            if (isExcludedEpochDay(day)) {
+                break;
+            }
+        }
+
+        return getStartOfEpochDay(day, timeZone);
     }
 
     /**
@@ -243,17 +322,23 @@ public class AnnualCalendar extends BaseCalendar implements Calendar,
             timeStamp = baseTime;
         }
 
-        // Get timestamp for 00:00:00
-        java.util.Calendar day = getStartOfDayJavaCalendar(timeStamp);
-        if (!isDayExcluded(day)) {
+        TimeZone timeZone = getEffectiveTimeZone();
+        long day = getEpochDay(timeStamp, timeZone);
+        if (!isDayExcluded(day, timeZone)) {
             return timeStamp; // return the original value
         }
 
-        while (isDayExcluded(day)) {
-            day.add(java.util.Calendar.DATE, 1);
+        while (isDayExcluded(day, timeZone)) {
+            day++;
         }
 
-        return day.getTime().getTime();
+        // Get timestamp for 00:00:00
+        return getStartOfEpochDay(day, timeZone);
+    }
+
+    // isDayExcluded() for the start of the given epoch day
+    private boolean isDayExcluded(long epochDay, TimeZone timeZone) {
+        return isExcludedEpochDay(epochDay) || !super.isTimeIncluded(getStartOfEpochDay(epochDay, timeZone));
     }
 }
 
@@ -48,6 +48,12 @@ public class BaseCalendar implements Calendar, Serializable, Cloneable {
 
     private static final long serialVersionUID = 3106623404629760239L;
 
+    private static final int MAX_EXCLUDED_RANGE_HOPS = 64;
+
+    private static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+
+    private static final long MILLIS_PER_4_HOURS = 4L * 60 * 60 * 1000;
+
     // <p>A optional base calendar.</p>
     private Calendar baseCalendar;
 
@@ -179,6 +185,85 @@ public class BaseCalendar implements Calendar, Serializable, Cloneable {
         return true;
     }
 
+    /**
+     * <p>
+     * Determine the end of the range of times excluded by the Calendar, or
+     * by its base calendar, that the given time falls in.
+     * </p>
+     *
+     * @see org.quartz.Calendar#getExcludedRangeEnd(long)
+     * @see #getOwnExcludedRangeEnd(long)
+     */
+    public long getExcludedRangeEnd(long timeStamp) {
+        long end = timeStamp;
+        // the range excluded by one calendar may end where the other one's
+        // starts; the number of such hops is bounded, as a shorter range is
+        // still a correct answer
+        for (int i = 0; i < MAX_EXCLUDED_RANGE_HOPS; i++) {
+            long next = getOwnExcludedRangeEnd(end);
+            if (baseCalendar != null && next != Long.MAX_VALUE) {
+                next = baseCalendar.getExcludedRangeEnd(next);
+            }
+            if (next == end) {
+                break;
+            }
+            end = next;
+        }
+        return end;
+    }
+
+    /**
+     * <p>
+     * Determine the end of the range of times included by the Calendar, and
+     * by its base calendar, that the given (included) time falls in.
+     * </p>
+     *
+     * @see org.quartz.Calendar#getIncludedRangeEnd(long)
+     * @see #getOwnIncludedRangeEnd(long)
+     */
+    public long getIncludedRangeEnd(long timeStamp) {
+        long end = getOwnIncludedRangeEnd(timeStamp);
+        if (baseCalendar != null) {
+            end = Math.min(end, baseCalendar.getIncludedRangeEnd(timeStamp));
+        }
+        return end;
+    }
+
+    /**
+     * <p>
+     * Determine the end of the range of times excluded by this Calendar
+     * itself (ignoring its base calendar) that the given time falls in, as
+     * defined by <code>{@link org.quartz.Calendar#getExcludedRangeEnd(long)}</code>.
+     * </p>
+     *
+     * <p>
+     * The implementation of BaseCalendar returns the given time, as it
+     * excludes none.  Subclasses that exclude times should override it, or
+     * their triggers skip the times they exclude one fire time at a time.
+     * </p>
+     */
+    protected long getOwnExcludedRangeEnd(long timeStamp) {
+        return timeStamp;
+    }
+
+    /**
+     * <p>
+     * Determine the end of the range of times included by this Calendar
+     * itself (ignoring its base calendar) that the given time, which it
+     * includes, falls in, as defined by
+     * <code>{@link org.quartz.Calendar#getIncludedRangeEnd(long)}</code>.
+     * </p>
+     *
+     * <p>
+     * The implementation of BaseCalendar returns the following time, as
+     * subclasses that exclude times but do not override it must not claim
+     * more.
+     * </p>
+     */
+    protected long getOwnIncludedRangeEnd(long timeStamp) {
+        return timeStamp + 1;
+    }
+
     /**
      * <p>
      * Determine the next time (in milliseconds) that is 'included' by the
@@ -262,4 +347,46 @@ public class BaseCalendar implements Calendar, Serializable, Cloneable {
         endOfDay.set(java.util.Calendar.MILLISECOND, 999);
         return endOfDay;
     }
+
+    /**
+     * Returns the time zone of this calendar, or the default time zone if it
+     * has none.
+     */
+    protected TimeZone getEffectiveTimeZone() {
+        return (getTimeZone() == null) ? TimeZone.getDefault() : getTimeZone();
+    }
+
+    /**
+     * Returns the day of the given time, in the given time zone, as the
+     * number of days since 1970-01-01, without allocating a
+     * <code>{@link java.util.Calendar}</code>.
+     */
+    protected static long getEpochDay(long timeInMillis, TimeZone timeZone) {
+        return Math.floorDiv(timeInMillis + timeZone.getOffset(timeInMillis), MILLIS_PER_DAY);
+    }
+
+    /**
+     * Returns the start of the given day (as counted by
+     * <code>{@link #getEpochDay(long, TimeZone)}</code>) in the given time
+     * zone, as <code>{@link #getStartOfDayJavaCalendar(long)}</code> would.
+     */
+    protected static long getStartOfEpochDay(long epochDay, TimeZone timeZone) {
+        long localMidnight = epochDay * MILLIS_PER_DAY;
+        int offset = timeZone.getOffset(localMidnight - timeZone.getOffset(localMidnight));
+        long start = localMidnight - offset;
+        if (timeZone.getOffset(start - MILLIS_PER_4_HOURS) == offset
+                && timeZone.getOffset(start + MILLIS_PER_4_HOURS) == offset) {
+            return start;
+        }
+
+        // the offset changes around midnight, which may then be skipped or
+        // repeated: leave it to java.util.Calendar
+        java.util.Calendar startOfDay = java.util.Calendar.getInstance(timeZone);
+        startOfDay.setTimeInMillis(localMidnight - offset + MILLIS_PER_DAY / 2);
+        startOfDay.set(java.util.Calendar.HOUR_OF_DAY, 0);
+        startOfDay.set(java.util.Calendar.MINUTE, 0);
+        startOfDay.set(java.util.Calendar.SECOND, 0);
+        startOfDay.set(java.util.Calendar.MILLISECOND, 0);
+        return startOfDay.getTimeInMillis();
+    }
 }
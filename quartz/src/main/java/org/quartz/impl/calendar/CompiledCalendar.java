@@ -0,0 +1,398 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.impl.calendar;
+
+import java.util.Arrays;
+
+import org.quartz.Calendar;
+
+/**
+ * <p>
+ * An immutable, compiled form of a <code>{@link Calendar}</code> and of the
+ * chain of its base calendars: the times at which they switch between
+ * including and excluding times are computed once, over a horizon rolling
+ * with the current time, so that whether a time within it is included is
+ * found by a binary search, whatever the depth of the chain.  Many triggers
+ * may share it, from any thread.
+ * </p>
+ *
+ * <p>
+ * The calendar is copied when compiled: later changes to it (or to its base
+ * calendars) are not seen, a new <code>CompiledCalendar</code> has to be
+ * made from it.  Times outside of the horizon are evaluated by the copy.
+ * A <code>CompiledCalendar</code> itself cannot be changed, so it is handed
+ * out through <code>{@link #newView()}</code>.
+ * </p>
+ *
+ * <p>
+ * Ranges are found with <code>{@link Calendar#getExcludedRangeEnd(long)}</code>
+ * and <code>{@link Calendar#getIncludedRangeEnd(long)}</code>, so calendars
+ * that do not implement them compile into many short ranges, and only part
+ * of the horizon may then be compiled.
+ * </p>
+ *
+ * @see org.quartz.simpl.RAMJobStore#setCompileCalendars(boolean)
+ */
+public class CompiledCalendar implements Calendar {
+
+    private static final long serialVersionUID = 5049364520981542817L;
+
+    public static final long DEFAULT_HORIZON = 7L * 24 * 60 * 60 * 1000;
+
+    // the number of ranges looked up at most per compilation
+    private static final int MAX_STEPS = 10000;
+
+    // how long before the current time the compiled ranges start, as
+    // triggers also look up times they have just fired at
+    private static final long LOOK_BEHIND = 60L * 60 * 1000;
+
+    private final Calendar calendar;
+
+    private final long horizon;
+
+    // whether the ranges were compiled once, for a given period
+    private final boolean fixed;
+
+    private transient volatile Ranges ranges;
+
+    public CompiledCalendar(Calendar calendar) {
+        this(calendar, DEFAULT_HORIZON);
+    }
+
+    /**
+     * @param horizon how far after the current time to compile the calendar
+     * to, in milliseconds.
+     */
+    public CompiledCalendar(Calendar calendar, long horizon) {
+        if (calendar == null) {
+            throw new IllegalArgumentException("Calendar must not be null");
+        }
+        if (horizon < 1) {
+            throw new IllegalArgumentException("Horizon (" + horizon + ") must be greater than or equal to 1");
+        }
+        this.calendar = (Calendar) calendar.clone();
+        this.horizon = horizon;
+        this.fixed = false;
+    }
+
+    /**
+     * Compiles the calendar over the given period only, rather than over a
+     * horizon rolling with the current time.
+     *
+     * @param from the start of the period, in milliseconds.
+     * @param to the end of the period (exclusive), in milliseconds.
+     */
+    public CompiledCalendar(Calendar calendar, long from, long to) {
+        if (calendar == null) {
+            throw new IllegalArgumentException("Calendar must not be null");
+        }
+        if (to <= from) {
+            throw new IllegalArgumentException("End (" + to + ") must be after start (" + from + ")");
+        }
+        this.calendar = (Calendar) calendar.clone();
+        this.horizon = to - from;
+        this.fixed = true;
+        this.ranges = compile(from, from, to);
+    }
+
+    /**
+     * @return a copy of the calendar this one was compiled from.
+     */
+    public Calendar getCalendar() {
+        synchronized (calendar) {
+            return (Calendar) calendar.clone();
+        }
+    }
+
+    public long getHorizon() {
+        return horizon;
+    }
+
+    public boolean isTimeIncluded(long timeStamp) {
+        Ranges r = getRanges(timeStamp);
+        if (r == null) {
+            synchronized (calendar) {
+                return calendar.isTimeIncluded(timeStamp);
+            }
+        }
+        return r.isIncluded(r.indexOf(timeStamp));
+    }
+
+    @Override
+    public long getExcludedRangeEnd(long timeStamp) {
+        Ranges r = getRanges(timeStamp);
+        if (r == null) {
+            synchronized (calendar) {
+                return calendar.getExcludedRangeEnd(timeStamp);
+            }
+        }
+        int i = r.indexOf(timeStamp);
+        return r.isIncluded(i) ? timeStamp : r.getEnd(i);
+    }
+
+    @Override
+    public long getIncludedRangeEnd(long timeStamp) {
+        Ranges r = getRanges(timeStamp);
+        if (r == null) {
+            synchronized (calendar) {
+                return calendar.getIncludedRangeEnd(timeStamp);
+            }
+        }
+        int i = r.indexOf(timeStamp);
+        return r.isIncluded(i) ? r.getEnd(i) : timeStamp + 1;
+    }
+
+    /**
+     * Evaluated by the calendar this one was compiled from, as calendars do
+     * not agree on whether the result may be the given time.
+     */
+    public long getNextIncludedTime(long timeStamp) {
+        synchronized (calendar) {
+            return calendar.getNextIncludedTime(timeStamp);
+        }
+    }
+
+    /**
+     * @return null, as the base calendars are compiled into this one.
+     */
+    public Calendar getBaseCalendar() {
+        return null;
+    }
+
+    /**
+     * @throws UnsupportedOperationException always, as a
+     * <code>CompiledCalendar</code> cannot be changed: see
+     * <code>{@link #newView()}</code> for a form of it that can.
+     */
+    public void setBaseCalendar(Calendar baseCalendar) {
+        throw new UnsupportedOperationException("A CompiledCalendar cannot be changed");
+    }
+
+    public String getDescription() {
+        return calendar.getDescription();
+    }
+
+    /**
+     * @throws UnsupportedOperationException always, as a
+     * <code>CompiledCalendar</code> cannot be changed: see
+     * <code>{@link #newView()}</code> for a form of it that can.
+     */
+    public void setDescription(String description) {
+        throw new UnsupportedOperationException("A CompiledCalendar cannot be changed");
+    }
+
+    @Override
+    public Object clone() {
+        // immutable
+        return this;
+    }
+
+    /**
+     * <p>
+     * Returns a <code>Calendar</code> that is evaluated by this one, for as
+     * long as it is not changed.  Setting its base calendar or description,
+     * or getting its base calendar (which may then be changed), turns it
+     * into a copy of the calendar this one was compiled from, which it is
+     * then evaluated by; this one is left as it is.
+     * </p>
+     *
+     * <p>
+     * This is the form to hand out to code that expects an ordinary
+     * <code>Calendar</code>, such as triggers.
+     * </p>
+     */
+    public Calendar newView() {
+        return new View(this, null);
+    }
+
+    // the ranges if they cover the given time, compiling them again if they
+    // are out of date
+    private Ranges getRanges(long timeStamp) {
+        Ranges r = ranges;
+        if (r != null && r.covers(timeStamp)) {
+            return r;
+        }
+        if (fixed) {
+            return null;
+        }
+
+        long now = System.currentTimeMillis();
+        if (r != null && now - r.compiledAt < horizon / 2) {
+            // compiled recently enough, this time is just outside
+            return null;
+        }
+
+        synchronized (calendar) {
+            r = ranges;
+            if (r == null || now - r.compiledAt >= horizon / 2) {
+                r = compile(now, now - LOOK_BEHIND, now + horizon);
+                ranges = r;
+            }
+        }
+        return r.covers(timeStamp) ? r : null;
+    }
+
+    private Ranges compile(long now, long from, long to) {
+        boolean firstIncluded = calendar.isTimeIncluded(from);
+        long[] toggles = new long[64];
+        int n = 0;
+
+        long time = from;
+        boolean included = firstIncluded;
+        for (int i = 0; i < MAX_STEPS && time < to; i++) {
+            long end = included ? calendar.getIncludedRangeEnd(time) : calendar.getExcludedRangeEnd(time);
+            if (end == Long.MAX_VALUE) {
+                time = end;
+                break;
+            }
+            time = Math.max(end, time + 1);
+            boolean next = calendar.isTimeIncluded(time);
+            if (next != included) {
+                if (n == toggles.length) {
+                    toggles = Arrays.copyOf(toggles, n * 2);
+                }
+                toggles[n++] = time;
+                included = next;
+            }
+        }
+
+        return new Ranges(now, from, time, firstIncluded, Arrays.copyOf(toggles, n));
+    }
+
+    // the calendar this one was compiled from is serialized instead
+    private Object writeReplace() {
+        return getCalendar();
+    }
+
+    /**
+     * A calendar evaluated by a <code>CompiledCalendar</code> until it is
+     * changed, and by its own copy of the calendar compiled from after.
+     */
+    private static final class View implements Calendar {
+
+        private static final long serialVersionUID = -6042175873521458367L;
+
+        private final CompiledCalendar compiled;
+
+        private Calendar copy;
+
+        View(CompiledCalendar compiled, Calendar copy) {
+            this.compiled = compiled;
+            this.copy = copy;
+        }
+
+        private synchronized Calendar getTarget() {
+            return (copy != null) ? copy : compiled;
+        }
+
+        private synchronized Calendar getCopy() {
+            if (copy == null) {
+                copy = compiled.getCalendar();
+            }
+            return copy;
+        }
+
+        public boolean isTimeIncluded(long timeStamp) {
+            return getTarget().isTimeIncluded(timeStamp);
+        }
+
+        public long getNextIncludedTime(long timeStamp) {
+            return getTarget().getNextIncludedTime(timeStamp);
+        }
+
+        @Override
+        public long getExcludedRangeEnd(long timeStamp) {
+            return getTarget().getExcludedRangeEnd(timeStamp);
+        }
+
+        @Override
+        public long getIncludedRangeEnd(long timeStamp) {
+            return getTarget().getIncludedRangeEnd(timeStamp);
+        }
+
+        public Calendar getBaseCalendar() {
+            return getCopy().getBaseCalendar();
+        }
+
+        public void setBaseCalendar(Calendar baseCalendar) {
+            getCopy().setBaseCalendar(baseCalendar);
+        }
+
+        public String getDescription() {
+            return getTarget().getDescription();
+        }
+
+        public void setDescription(String description) {
+            getCopy().setDescription(description);
+        }
+
+        @Override
+        public synchronized Object clone() {
+            return new View(compiled, (copy != null) ? (Calendar) copy.clone() : null);
+        }
+
+        // serialized as the calendar it is evaluated by
+        private Object writeReplace() {
+            Calendar target = getTarget();
+            return (target == compiled) ? compiled.getCalendar() : target;
+        }
+    }
+
+    /**
+     * The ranges of times included, and excluded, over [from, to): the
+     * first range starts at from, every following one at a toggle.
+     */
+    private static final class Ranges {
+
+        private final long compiledAt;
+
+        private final long from;
+
+        private final long to;
+
+        private final boolean firstIncluded;
+
+        private final long[] toggles;
+
+        Ranges(long compiledAt, long from, long to, boolean firstIncluded, long[] toggles) {
+            this.compiledAt = compiledAt;
+            this.from = from;
+            this.to = to;
+            this.firstIncluded = firstIncluded;
+            this.toggles = toggles;
+        }
+
+        boolean covers(long time) {
+            return time >= from && time < to;
+        }
+
+        // the number of the range the (covered) time falls in
+        int indexOf(long time) {
+            int i = Arrays.binarySearch(toggles, time);
+            return (i >= 0) ? i + 1 : -i - 1;
+        }
+
+        boolean isIncluded(int index) {
+            return firstIncluded == ((index & 1) == 0);
+        }
+
+        long getEnd(int index) {
+            return (index < toggles.length) ? toggles[index] : to;
+        }
+    }
+}
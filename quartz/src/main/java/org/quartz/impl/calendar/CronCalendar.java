@@ -128,6 +128,30 @@ public class CronCalendar extends BaseCalendar {
         return (!(cronExpression.isSatisfiedBy(new Date(timeInMillis))));
     }
 
+    /**
+     * Determines the end of the range of times this <CODE>CronCalendar</CODE>
+     * excludes that the given time falls in: the next time the
+     * <CODE>CronExpression</CODE> is not satisfied.
+     */
+    @Override
+    protected long getOwnExcludedRangeEnd(long timeInMillis) {
+        if (!cronExpression.isSatisfiedBy(new Date(timeInMillis))) {
+            return timeInMillis;
+        }
+        return cronExpression.getNextInvalidTimeAfter(new Date(timeInMillis)).getTime();
+    }
+
+    /**
+     * Determines the end of the range of times this <CODE>CronCalendar</CODE>
+     * includes that the given time falls in: the next time the
+     * <CODE>CronExpression</CODE> is satisfied.
+     */
+    @Override
+    protected long getOwnIncludedRangeEnd(long timeInMillis) {
+        Date next = cronExpression.getNextSatisfyingTimeAfter(new Date(timeInMillis));
+        return (next == null) ? Long.MAX_VALUE : next.getTime();
+    }
+
     /**
      * Determines the next time included by the <CODE>CronCalendar</CODE>
      * after the specified time.
@@ -486,6 +486,66 @@ public class DailyCalendar extends BaseCalendar {
         }
     }
 
+    /**
+     * <p>
+     * Determine the end of the range of times this Calendar excludes that
+     * the given time falls in: the end of the excluded time range, or the
+     * start of the time range if it is inverted.
+     * </p>
+     */
+    @Override
+    protected long getOwnExcludedRangeEnd(long timeInMillis) {
+        long timeRangeStartingTimeInMillis =
+            getTimeRangeStartingTimeInMillis(timeInMillis);
+        long timeRangeEndingTimeInMillis =
+            getTimeRangeEndingTimeInMillis(timeInMillis);
+        if (!invertTimeRange) {
+            if (timeInMillis >= timeRangeStartingTimeInMillis &&
+                    timeInMillis <= timeRangeEndingTimeInMillis) {
+                return timeRangeEndingTimeInMillis + oneMillis;
+            }
+            // the first and last milliseconds of the day are excluded too
+            if (timeInMillis == getStartOfDayJavaCalendar(timeInMillis).getTime().getTime() ||
+                    timeInMillis == getEndOfDayJavaCalendar(timeInMillis).getTime().getTime()) {
+                return timeInMillis + oneMillis;
+            }
+            return timeInMillis;
+        } else {
+            if (timeInMillis < timeRangeStartingTimeInMillis) {
+                return timeRangeStartingTimeInMillis;
+            }
+            if (timeInMillis > timeRangeEndingTimeInMillis) {
+                //(move to start of next day)
+                return getEndOfDayJavaCalendar(timeInMillis).getTime().getTime() + oneMillis;
+            }
+            return timeInMillis;
+        }
+    }
+
+    /**
+     * <p>
+     * Determine the end of the range of times this Calendar includes that
+     * the given time falls in: the start of the excluded time range, or the
+     * end of the time range if it is inverted.
+     * </p>
+     */
+    @Override
+    protected long getOwnIncludedRangeEnd(long timeInMillis) {
+        long timeRangeStartingTimeInMillis =
+            getTimeRangeStartingTimeInMillis(timeInMillis);
+        long timeRangeEndingTimeInMillis =
+            getTimeRangeEndingTimeInMillis(timeInMillis);
+        if (!invertTimeRange) {
+            if (timeInMillis < timeRangeStartingTimeInMillis) {
+                return timeRangeStartingTimeInMillis;
+            }
+            // the last millisecond of the day is excluded
+            return getEndOfDayJavaCalendar(timeInMillis).getTime().getTime();
+        } else {
+            return timeRangeEndingTimeInMillis + oneMillis;
+        }
+    }
+
     /**
      * Determines the next time included by the <CODE>DailyCalendar</CODE>
      * after the specified time.
@@ -19,6 +19,7 @@
 package org.quartz.impl.calendar;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.SortedSet;
@@ -49,6 +50,10 @@ public class HolidayCalendar extends BaseCalendar implements Calendar,
     // A sorted set to store the holidays
     private TreeSet<Date> dates = new TreeSet<>();
 
+    // The holidays as sorted epoch days in a given time zone, built from
+    // dates when first needed
+    private transient volatile HolidayIndex index;
+
     public HolidayCalendar() {
     }
 
@@ -87,9 +92,45 @@ public class HolidayCalendar extends BaseCalendar implements Calendar,
             return false;
         }
 
-        Date lookFor = getStartOfDayJavaCalendar(timeStamp).getTime();
+        TimeZone timeZone = getEffectiveTimeZone();
+
+        return getIndex(timeZone).indexOf(getEpochDay(timeStamp, timeZone)) < 0;
+    }
+
+    /**
+     * <p>
+     * Determine the end of the range of holidays this Calendar excludes
+     * that the given time falls in: the start of the next day that is not
+     * a holiday.
+     * </p>
+     */
+    @Override
+    protected long getOwnExcludedRangeEnd(long timeStamp) {
+        TimeZone timeZone = getEffectiveTimeZone();
+        long day = getEpochDay(timeStamp, timeZone);
+        long end = getIndex(timeZone).getEndOfHolidays(day);
+        if (end == day) {
+            return timeStamp;
+        }
+
+        return getStartOfEpochDay(end, timeZone);
+    }
+
+    /**
+     * <p>
+     * Determine the end of the range of days this Calendar includes that
+     * the given time falls in: the start of the next holiday.
+     * </p>
+     */
+    @Override
+    protected long getOwnIncludedRangeEnd(long timeStamp) {
+        TimeZone timeZone = getEffectiveTimeZone();
+        long holiday = getIndex(timeZone).getNextHoliday(getEpochDay(timeStamp, timeZone));
+        if (holiday == Long.MAX_VALUE) {
+            return Long.MAX_VALUE;
+        }
 
-        return !(dates.contains(lookFor));
+        return getStartOfEpochDay(holiday, timeZone);
     }
 
     /**
@@ -111,13 +152,18 @@ public class HolidayCalendar extends BaseCalendar implements Calendar,
             timeStamp = baseTime;
         }
 
-        // Get timestamp for 00:00:00
-        java.util.Calendar day = getStartOfDayJavaCalendar(timeStamp);
-        while (!isTimeIncluded(day.getTime().getTime())) {
-            day.add(java.util.Calendar.DATE, 1);
+        TimeZone timeZone = getEffectiveTimeZone();
+        HolidayIndex holidays = getIndex(timeZone);
+        long day = getEpochDay(timeStamp, timeZone);
+        while (true) {
+            day = holidays.getEndOfHolidays(day);
+            // Get timestamp for 00:00:00
+            long startOfDay = getStartOfEpochDay(day, timeZone);
+            if (super.isTimeIncluded(startOfDay)) {
+                return startOfDay;
+            }
+            day++;
         }
-
-        return day.getTime().getTime();
     }
 
     /**
@@ -133,11 +179,13 @@ public class HolidayCalendar extends BaseCalendar implements Calendar,
          * excludedDate.toLocaleString());
          */
         this.dates.add(date);
+        this.index = null;
     }
 
     public void removeExcludedDate(Date dateToRemove) {
         Date date = getStartOfDayJavaCalendar(dateToRemove.getTime()).getTime();
         dates.remove(date);
+        index = null;
     }
 
     /**
@@ -150,4 +198,70 @@ public class HolidayCalendar extends BaseCalendar implements Calendar,
     public SortedSet<Date> getExcludedDates() {
         return Collections.unmodifiableSortedSet(dates);
     }
+
+    private HolidayIndex getIndex(TimeZone timeZone) {
+        HolidayIndex holidays = index;
+        if (holidays == null || !holidays.timeZone.equals(timeZone)) {
+            long[] days = new long[dates.size()];
+            int n = 0;
+            for (Date date : dates) {
+                // only a date that is the start of its day can be looked up
+                if (getStartOfDayJavaCalendar(date.getTime()).getTimeInMillis() == date.getTime()) {
+                    days[n++] = getEpochDay(date.getTime(), timeZone);
+                }
+            }
+            holidays = new HolidayIndex(timeZone, Arrays.copyOf(days, n));
+            index = holidays;
+        }
+        return holidays;
+    }
+
+    /**
+     * The holidays as a sorted array of epoch days, so that looking one up
+     * needs neither a <code>java.util.Calendar</code> nor a <code>Date</code>.
+     */
+    private static final class HolidayIndex {
+
+        private final TimeZone timeZone;
+
+        private final long[] days;
+
+        // the days are sorted, as the dates they are built from are
+        HolidayIndex(TimeZone timeZone, long[] days) {
+            this.timeZone = timeZone;
+            this.days = days;
+        }
+
+        int indexOf(long day) {
+            return Arrays.binarySearch(days, day);
+        }
+
+        /**
+         * @return the first day, starting with the given one, that is not a
+         * holiday.
+         */
+        long getEndOfHolidays(long day) {
+            int i = indexOf(day);
+            if (i < 0) {
+                return day;
+            }
+            while (i + 1 < days.length && days[i + 1] == day + 1) {
+                i++;
+                day++;
+            }
+            return day + 1;
+        }
+
+        /**
+         * @return the first holiday after the given day, or
+         * <code>Long.MAX_VALUE</code> if there is none.
+         */
+        long getNextHoliday(long day) {
+            int i = indexOf(day + 1);
+            if (i < 0) {
+                i = -i - 1;
+            }
+            return (i < days.length) ? days[i] : Long.MAX_VALUE;
+        }
+    }
 }
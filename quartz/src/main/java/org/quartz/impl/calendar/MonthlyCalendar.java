@@ -182,6 +182,52 @@ public class MonthlyCalendar extends BaseCalendar implements Calendar,
         return !(isDayExcluded(day));
     }
 
+    /**
+     * <p>
+     * Determine the end of the range of days this Calendar excludes that
+     * the given time falls in: the start of the next day of a day of month
+     * that is not excluded.
+     * </p>
+     */
+    @Override
+    protected long getOwnExcludedRangeEnd(long timeStamp) {
+        if (excludeAll) {
+            return Long.MAX_VALUE;
+        }
+
+        java.util.Calendar cl = getStartOfDayJavaCalendar(timeStamp);
+        if (!isDayExcluded(cl.get(java.util.Calendar.DAY_OF_MONTH))) {
+            return timeStamp;
+        }
+
+        do {
+            cl.add(java.util.Calendar.DATE, 1);
+        } while (isDayExcluded(cl.get(java.util.Calendar.DAY_OF_MONTH)));
+
+        return cl.getTime().getTime();
+    }
+
+    /**
+     * <p>
+     * Determine the end of the range of days this Calendar includes that
+     * the given time falls in: the start of the next day of a day of month
+     * that is excluded.
+     * </p>
+     */
+    @Override
+    protected long getOwnIncludedRangeEnd(long timeStamp) {
+        java.util.Calendar cl = getStartOfDayJavaCalendar(timeStamp);
+        // two months at most, as the range may be ended later still
+        for (int i = 0; i < 62; i++) {
+            cl.add(java.util.Calendar.DATE, 1);
+            if (isDayExcluded(cl.get(java.util.Calendar.DAY_OF_MONTH))) {
+                break;
+            }
+        }
+
+        return cl.getTime().getTime();
+    }
+
     /**
      * <p>
      * Determine the next time (in milliseconds) that is 'included' by the
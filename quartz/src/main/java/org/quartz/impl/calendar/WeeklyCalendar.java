@@ -164,6 +164,51 @@ public class WeeklyCalendar extends BaseCalendar implements Calendar,
         return !(isDayExcluded(wday));
     }
 
+    /**
+     * <p>
+     * Determine the end of the range of days this Calendar excludes that
+     * the given time falls in: the start of the next day of a week day that
+     * is not excluded.
+     * </p>
+     */
+    @Override
+    protected long getOwnExcludedRangeEnd(long timeStamp) {
+        if (excludeAll) {
+            return Long.MAX_VALUE;
+        }
+
+        java.util.Calendar cl = getStartOfDayJavaCalendar(timeStamp);
+        if (!isDayExcluded(cl.get(java.util.Calendar.DAY_OF_WEEK))) {
+            return timeStamp;
+        }
+
+        do {
+            cl.add(java.util.Calendar.DATE, 1);
+        } while (isDayExcluded(cl.get(java.util.Calendar.DAY_OF_WEEK)));
+
+        return cl.getTime().getTime();
+    }
+
+    /**
+     * <p>
+     * Determine the end of the range of days this Calendar includes that
+     * the given time falls in: the start of the next day of a week day that
+     * is excluded.
+     * </p>
+     */
+    @Override
+    protected long getOwnIncludedRangeEnd(long timeStamp) {
+        java.util.Calendar cl = getStartOfDayJavaCalendar(timeStamp);
+        for (int i = 0; i < 7; i++) {
+            cl.add(java.util.Calendar.DATE, 1);
+            if (isDayExcluded(cl.get(java.util.Calendar.DAY_OF_WEEK))) {
+                return cl.getTime().getTime();
+            }
+        }
+
+        return Long.MAX_VALUE;
+    }
+
     /**
      * <p>
      * Determine the next time (in milliseconds) that is 'included' by the
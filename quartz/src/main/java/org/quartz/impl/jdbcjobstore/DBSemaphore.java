@@ -20,6 +20,7 @@ package org.quartz.impl.jdbcjobstore;
 import java.sql.Connection;
 import java.util.HashSet;
 
+import org.quartz.utils.LockStatistics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,6 +44,8 @@ public abstract class DBSemaphore implements Semaphore, Constants,
 
     final ThreadLocal<HashSet<String>> lockOwners = new ThreadLocal<>();
 
+    private final LockStatistics lockStatistics = new LockStatistics();
+
     private String sql;
     private String insertSql;
 
@@ -109,7 +112,15 @@ public abstract class DBSemaphore implements Semaphore, Constants,
         }
         if (!isLockOwner(lockName)) {
 
-            executeSQL(conn, lockName, expandedSQL, expandedInsertSQL);
+            long start = System.nanoTime();
+            try {
+                executeSQL(conn, lockName, expandedSQL, expandedInsertSQL);
+            } catch (LockException le) {
+                lockStatistics.lockFailed(lockName, System.nanoTime() - start, Util.isDeadlock(le.getCause()));
+                throw le;
+            }
+            lockStatistics.lockObtained(lockName, System.nanoTime() - start,
+                    lockStatistics.isLoggingSlowLocks() ? Util.lockOperation() : null);
             
             if(log.isDebugEnabled()) {
                 log.debug("Lock '{}' given to: {}", lockName, Thread.currentThread().getName());
@@ -136,6 +147,7 @@ public abstract class DBSemaphore implements Semaphore, Constants,
                 getLog().debug("Lock '{}' returned by: {}", lockName, Thread.currentThread().getName());
             }
             getThreadLocks().remove(lockName);
+            lockStatistics.lockReleased(lockName);
             //getThreadLocksObtainer().remove(lockName);
         } else if (getLog().isDebugEnabled()) {
             getLog().warn("Lock '{}' attempt to return by: {} -- but not owner!", lockName, Thread.currentThread().getName(), new Exception("stack-trace of wrongful returner"));
@@ -150,6 +162,15 @@ public abstract class DBSemaphore implements Semaphore, Constants,
         return getThreadLocks().contains(lockName);
     }
 
+    /**
+     * The statistics of the locks granted by this Semaphore, which
+     * subclasses report retries to.
+     */
+    @Override
+    public LockStatistics getLockStatistics() {
+        return lockStatistics;
+    }
+
     /**
      * This Semaphore implementation does use the database.
      */
@@ -82,6 +82,7 @@ public class DailyTimeIntervalTriggerPersistenceDelegate extends SimplePropertie
         props.setString3(timeOfDayBuffer.toString());
         
         props.setLong1(dailyTrigger.getRepeatCount());
+        props.setBoolean1(dailyTrigger.isCacheDaySchedule());
         
         return props;
     }
@@ -111,7 +112,8 @@ public class DailyTimeIntervalTriggerPersistenceDelegate extends SimplePropertie
         DailyTimeIntervalScheduleBuilder scheduleBuilder = DailyTimeIntervalScheduleBuilder
                 .dailyTimeIntervalSchedule()
                 .withInterval(interval, intervalUnit)
-                .withRepeatCount(repeatCount);
+                .withRepeatCount(repeatCount)
+                .cacheDaySchedule(props.isBoolean1());
                 
         if (daysOfWeekStr != null) {
             Set<Integer> daysOfWeek = new HashSet<>();
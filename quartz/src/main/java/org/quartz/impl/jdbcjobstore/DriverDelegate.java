@@ -21,7 +21,9 @@ package org.quartz.impl.jdbcjobstore;
 import java.io.IOException;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.quartz.Calendar;
@@ -34,7 +36,9 @@ import org.quartz.Trigger;
 import org.quartz.TriggerKey;
 import org.quartz.impl.matchers.GroupMatcher;
 import org.quartz.spi.ClassLoadHelper;
+import org.quartz.spi.ExecutionLane;
 import org.quartz.spi.OperableTrigger;
+import org.quartz.spi.TriggerBacklog;
 import org.quartz.utils.Key;
 import org.slf4j.Logger;
 
@@ -750,6 +754,34 @@ public interface DriverDelegate {
     List<TriggerKey> selectTriggersInState(Connection conn, String state)
         throws SQLException;
 
+    /**
+     * <p>
+     * Select the states of all of the triggers contained in the matching
+     * groups.
+     * </p>
+     * 
+     * <p>
+     * The default implementation selects the state of each trigger in turn.
+     * </p>
+     * 
+     * @param conn
+     *          the DB Connection
+     * @param matcher
+     *          to evaluate against known triggers
+     * @return a Map of the state of each matching trigger, by its <code>TriggerKey</code>
+     */
+    default Map<TriggerKey, String> selectTriggerStatesInGroup(Connection conn, GroupMatcher<TriggerKey> matcher)
+        throws SQLException {
+        Map<TriggerKey, String> states = new HashMap<>();
+        for (TriggerKey triggerKey : selectTriggersInGroup(conn, matcher)) {
+            String state = selectTriggerState(conn, triggerKey);
+            if (state != null) {
+                states.put(triggerKey, state);
+            }
+        }
+        return states;
+    }
+
     int insertPausedTriggerGroup(Connection conn, String groupName)
         throws SQLException;
 
@@ -912,6 +944,30 @@ public interface DriverDelegate {
     @Deprecated
     long selectNextFireTime(Connection conn) throws SQLException;
 
+    /**
+     * <p>
+     * Count the waiting triggers whose next fire time is before the given
+     * time, or within the given window after it.
+     * </p>
+     * 
+     * <p>
+     * The default implementation returns null, for delegates without a query
+     * for the backlog.
+     * </p>
+     * 
+     * @param conn
+     *          the DB Connection
+     * @param now
+     *          the time to count the overdue triggers at
+     * @param dueWindow
+     *          the window, in milliseconds after <code>now</code>, to count
+     *          the due triggers within
+     * @return the backlog of the waiting triggers, or null if it cannot be counted
+     */
+    default TriggerBacklog selectTriggerBacklog(Connection conn, long now, long dueWindow) throws SQLException {
+        return null;
+    }
+
     /**
      * <p>
      * Select the trigger that will be fired at the given fire time.
@@ -969,6 +1025,36 @@ public interface DriverDelegate {
     List<TriggerKey> selectTriggerToAcquire(Connection conn, long noLaterThan, long noEarlierThan, int maxCount)
         throws SQLException;
 
+    /**
+     * <p>
+     * Select the next triggers of the given lane which will fire between the two
+     * given timestamps in ascending order of fire time, and then descending by priority.
+     * </p>
+     * 
+     * <p>
+     * The default implementation ignores the lane, and selects with
+     * <code>{@link #selectTriggerToAcquire(Connection, long, long, int)}</code>;
+     * it is only suitable for delegates of stores never used with lanes.
+     * </p>
+     * 
+     * @param conn
+     *          the DB Connection
+     * @param noLaterThan
+     *          highest value of <code>getNextFireTime()</code> of the triggers (exclusive)
+     * @param noEarlierThan 
+     *          highest value of <code>getNextFireTime()</code> of the triggers (inclusive)
+     * @param maxCount 
+     *          maximum number of trigger keys allow to acquired in the returning list.
+     * @param lane
+     *          the lane whose triggers to select, or <code>null</code> to select triggers of any lane.
+     *          
+     * @return A (never null, possibly empty) list of the identifiers (Key objects) of the next triggers to be fired.
+     */
+    default List<TriggerKey> selectTriggerToAcquire(Connection conn, long noLaterThan, long noEarlierThan, int maxCount, ExecutionLane lane)
+        throws SQLException {
+        return selectTriggerToAcquire(conn, noLaterThan, noEarlierThan, maxCount);
+    }
+
     /**
      * <p>
      * Insert a fired trigger.
@@ -1022,6 +1108,24 @@ public interface DriverDelegate {
      */
     List<FiredTriggerRecord> selectFiredTriggerRecordsByJob(Connection conn, String jobName, String groupName) throws SQLException;
 
+    /**
+     * <p>
+     * Count the fired-trigger records (acquired or executing) of a given job,
+     * or job group if job name is <code>null</code>.
+     * </p>
+     * 
+     * <p>
+     * The default implementation counts the records
+     * <code>{@link #selectFiredTriggerRecordsByJob(Connection, String, String)}</code>
+     * selects, which leaves out acquired records that do not name their job yet.
+     * </p>
+     * 
+     * @return the number of fired-trigger records.
+     */
+    default int selectNumFiredTriggersForJob(Connection conn, String jobName, String groupName) throws SQLException {
+        return selectFiredTriggerRecordsByJob(conn, jobName, groupName).size();
+    }
+
     /**
      * <p>
      * Select the states of all fired-trigger records for a given scheduler
@@ -27,6 +27,7 @@ import jakarta.transaction.SystemException;
 import jakarta.transaction.Transaction;
 import jakarta.transaction.TransactionManager;
 
+import org.quartz.utils.LockStatistics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -77,6 +78,8 @@ public class JTANonClusteredSemaphore implements Semaphore {
 
     final HashSet<String> locks = new HashSet<>();
 
+    private final LockStatistics lockStatistics = new LockStatistics();
+
     private final Logger log = LoggerFactory.getLogger(getClass());
 
     private String transactionManagerJNDIName = DEFAULT_TRANSACTION_MANAGER_LOCATION;
@@ -125,6 +128,7 @@ public class JTANonClusteredSemaphore implements Semaphore {
             if(log.isDebugEnabled()) {
                 log.debug("Lock '{}' is being obtained: {}", lockName, Thread.currentThread().getName());
             }
+            long start = System.nanoTime();
             
             while (locks.contains(lockName)) {
                 try {
@@ -154,6 +158,8 @@ public class JTANonClusteredSemaphore implements Semaphore {
             
             getThreadLocks().add(lockName);
             locks.add(lockName);
+            lockStatistics.lockObtained(lockName, System.nanoTime() - start,
+                    lockStatistics.isLoggingSlowLocks() ? Util.lockOperation() : null);
         } else if(log.isDebugEnabled()) {
             log.debug("Lock '{}' already owned by: {} -- but not owner!", lockName, Thread.currentThread().getName(), new Exception("stack-trace of wrongful returner"));
         }
@@ -233,6 +239,7 @@ public class JTANonClusteredSemaphore implements Semaphore {
             }
             getThreadLocks().remove(lockName);
             locks.remove(lockName);
+            lockStatistics.lockReleased(lockName);
             this.notify();
         } else if (getLog().isDebugEnabled()) {
             getLog().debug("Lock '{}' attempt to return by: {} -- but not owner!", lockName, Thread.currentThread().getName(), new Exception("stack-trace of wrongful returner"));
@@ -249,6 +256,14 @@ public class JTANonClusteredSemaphore implements Semaphore {
         return getThreadLocks().contains(lockName);
     }
 
+    /**
+     * The statistics of the locks granted by this Semaphore.
+     */
+    @Override
+    public LockStatistics getLockStatistics() {
+        return lockStatistics;
+    }
+
     /**
      * This Semaphore implementation does not use the database.
      */
@@ -232,7 +232,7 @@ public class JobStoreCMT extends JobStoreSupport {
                     conn = getConnection();
                 }
                 
-                transOwner = getLockHandler().obtainLock(conn, lockName);
+                transOwner = obtainLock(conn, lockName);
             }
 
             if (conn == null) {
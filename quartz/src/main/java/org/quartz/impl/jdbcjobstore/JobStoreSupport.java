@@ -27,6 +27,8 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -47,19 +49,31 @@ import org.quartz.Trigger;
 import org.quartz.Trigger.CompletedExecutionInstruction;
 import org.quartz.Trigger.TriggerState;
 import org.quartz.TriggerKey;
+import org.quartz.core.jfr.ClusterCheckInEvent;
+import org.quartz.core.jfr.ClusterRecoveryEvent;
+import org.quartz.core.jfr.LockAcquisitionEvent;
+import org.quartz.core.jfr.MisfireHandlingEvent;
 import org.quartz.impl.DefaultThreadExecutor;
 import org.quartz.impl.matchers.GroupMatcher;
 import org.quartz.impl.matchers.StringMatcher;
 import org.quartz.impl.matchers.StringMatcher.StringOperatorName;
 import org.quartz.impl.triggers.SimpleTriggerImpl;
+import org.quartz.spi.BacklogAwareJobStore;
 import org.quartz.spi.ClassLoadHelper;
-import org.quartz.spi.JobStore;
+import org.quartz.spi.ExecutionLane;
+import org.quartz.spi.LockStatisticsAwareJobStore;
 import org.quartz.spi.OperableTrigger;
+import org.quartz.spi.RateLimitAwareJobStore;
 import org.quartz.spi.SchedulerSignaler;
 import org.quartz.spi.ThreadExecutor;
+import org.quartz.spi.TriggerBacklog;
 import org.quartz.spi.TriggerFiredBundle;
 import org.quartz.spi.TriggerFiredResult;
+import org.quartz.spi.TriggerRateLimiter;
+import org.quartz.utils.ConcurrencyLimits;
 import org.quartz.utils.DBConnectionManager;
+import org.quartz.utils.LockStatistics;
+import org.quartz.utils.PipelineMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -72,7 +86,8 @@ import org.slf4j.LoggerFactory;
  * @author <a href="mailto:jeff@binaryfeed.org">Jeffrey Wescott</a>
  * @author James House
  */
-public abstract class JobStoreSupport implements JobStore, Constants {
+public abstract class JobStoreSupport implements RateLimitAwareJobStore, BacklogAwareJobStore,
+        LockStatisticsAwareJobStore, Constants {
 
     /*
      * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -143,6 +158,28 @@ public abstract class JobStoreSupport implements JobStore, Constants {
     private boolean setTxIsolationLevelSequential = false;
     
     private boolean acquireTriggersWithinLock = false;
+
+    private ConcurrencyLimits concurrencyLimits = ConcurrencyLimits.parse(null);
+
+    private TriggerRateLimiter rateLimiter;
+
+    private PipelineMetrics pipelineMetrics;
+
+    private boolean flightRecorderEvents = false;
+
+    private long backlogRefreshInterval = 5000L;
+
+    private long slowLockThreshold = 0L;
+
+    private final Object backlogLock = new Object();
+
+    // the last counted backlog for each of the few most recently asked windows, guarded by backlogLock
+    private final Map<Long, TriggerBacklog> lastBacklogs = new LinkedHashMap<Long, TriggerBacklog>(8, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, TriggerBacklog> eldest) {
+            return size() > 4;
+        }
+    };
     
     private long dbRetryInterval = 15000L; // 15 secs
     
@@ -483,6 +520,78 @@ public abstract class JobStoreSupport implements JobStore, Constants {
         this.acquireTriggersWithinLock = acquireTriggersWithinLock;
     }
 
+    public String getJobGroupConcurrencyLimits() {
+        return concurrencyLimits.toString();
+    }
+
+    /**
+     * The maximum number of concurrent executions of the jobs of a job group,
+     * as a comma separated list of <code>group=limit</code> pairs.  Triggers
+     * of a job group that reached its limit are not acquired (they stay in the
+     * WAITING state) until one of the group's executions completes.
+     * 
+     * The executions in progress are counted from the fired-trigger records of
+     * all cluster nodes, so for the limits to hold strictly across a cluster,
+     * triggers must be acquired within the lock (see 
+     * {@link #setAcquireTriggersWithinLock(boolean)}).
+     * 
+     * @see org.quartz.ConcurrentExecutionLimit
+     */
+    @SuppressWarnings("UnusedDeclaration") /* called reflectively */
+    public void setJobGroupConcurrencyLimits(String jobGroupConcurrencyLimits) {
+        this.concurrencyLimits = ConcurrencyLimits.parse(jobGroupConcurrencyLimits);
+    }
+
+    protected ConcurrencyLimits getConcurrencyLimits() {
+        return concurrencyLimits;
+    }
+
+    public void setTriggerRateLimiter(TriggerRateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    public TriggerRateLimiter getTriggerRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * Set the metrics the time spent waiting for locks is recorded in, or
+     * <code>null</code> for none.
+     */
+    public void setPipelineMetrics(PipelineMetrics pipelineMetrics) {
+        this.pipelineMetrics = pipelineMetrics;
+    }
+
+    public PipelineMetrics getPipelineMetrics() {
+        return pipelineMetrics;
+    }
+
+    /**
+     * Set whether to emit JDK Flight Recorder events for lock acquisitions,
+     * misfire handling and cluster check-ins and recoveries.
+     */
+    public void setFlightRecorderEvents(boolean flightRecorderEvents) {
+        this.flightRecorderEvents = flightRecorderEvents;
+    }
+
+    public boolean isFlightRecorderEvents() {
+        return flightRecorderEvents;
+    }
+
+    /**
+     * Set the number of milliseconds for which a counted trigger backlog is
+     * reused, rather than counted again, 5000 by default.
+     *
+     * @see #getTriggerBacklog(long)
+     */
+    public void setBacklogRefreshInterval(long backlogRefreshInterval) {
+        this.backlogRefreshInterval = backlogRefreshInterval;
+    }
+
+    public long getBacklogRefreshInterval() {
+        return backlogRefreshInterval;
+    }
+
     
     /**
      * <p>
@@ -816,6 +925,37 @@ public abstract class JobStoreSupport implements JobStore, Constants {
         return conn;
     }
 
+    /**
+     * Obtain the given lock from the lock handler, recording the time spent
+     * waiting for it.
+     */
+    protected boolean obtainLock(Connection conn, String lockName) throws LockException {
+        LockAcquisitionEvent event = null;
+        if (flightRecorderEvents) {
+            event = new LockAcquisitionEvent();
+            event.begin();
+        }
+        long start = System.nanoTime();
+        try {
+            return getLockHandler().obtainLock(conn, lockName);
+        } finally {
+            long wait = System.nanoTime() - start;
+            if (pipelineMetrics != null) {
+                pipelineMetrics.record(PipelineMetrics.Stage.LOCK_WAIT, wait / 1000L);
+            }
+            if (event != null) {
+                LockAcquisitionEvent.addLockWait(wait);
+                event.end();
+                if (event.shouldCommit()) {
+                    event.schedulerName = instanceName;
+                    event.lockName = lockName;
+                    event.semaphoreClass = getLockHandler().getClass();
+                    event.commit();
+                }
+            }
+        }
+    }
+
     protected void releaseLock(String lockName, boolean doIt) {
         if (doIt) {
             try {
@@ -1542,35 +1682,36 @@ public abstract class JobStoreSupport implements JobStore, Constants {
     public TriggerState getTriggerState(Connection conn, TriggerKey key)
         throws JobPersistenceException {
         try {
-            String ts = getDelegate().selectTriggerState(conn, key);
-
-            if (ts == null) {
-                return TriggerState.NONE;
-            }
-
-            switch (ts) {
-                case STATE_DELETED:
-                    return TriggerState.NONE;
-                case STATE_COMPLETE:
-                    return TriggerState.COMPLETE;
-                case STATE_PAUSED:
-                    return TriggerState.PAUSED;
-                case STATE_PAUSED_BLOCKED:
-                    return TriggerState.PAUSED;
-                case STATE_ERROR:
-                    return TriggerState.ERROR;
-                case STATE_BLOCKED:
-                    return TriggerState.BLOCKED;
-            }
-
-            return TriggerState.NORMAL;
-
+            return toTriggerState(getDelegate().selectTriggerState(conn, key));
         } catch (SQLException e) {
             throw new JobPersistenceException(
                     "Couldn't determine state of trigger (" + key + "): " + e.getMessage(), e);
         }
     }
 
+    private static TriggerState toTriggerState(String ts) {
+        if (ts == null) {
+            return TriggerState.NONE;
+        }
+
+        switch (ts) {
+            case STATE_DELETED:
+                return TriggerState.NONE;
+            case STATE_COMPLETE:
+                return TriggerState.COMPLETE;
+            case STATE_PAUSED:
+                return TriggerState.PAUSED;
+            case STATE_PAUSED_BLOCKED:
+                return TriggerState.PAUSED;
+            case STATE_ERROR:
+                return TriggerState.ERROR;
+            case STATE_BLOCKED:
+                return TriggerState.BLOCKED;
+        }
+
+        return TriggerState.NORMAL;
+    }
+
     /**
      * Reset the current state of the identified <code>{@link Trigger}</code>
      * from {@link TriggerState#ERROR} to {@link TriggerState#NORMAL} or
@@ -1811,6 +1952,87 @@ public abstract class JobStoreSupport implements JobStore, Constants {
         }
     }
 
+    /**
+     * <p>
+     * Count the waiting triggers that are overdue or due within the given
+     * window.
+     * </p>
+     * 
+     * <p>
+     * The triggers are counted with a single query, which only reads the
+     * index on their state and next fire time up to the end of the window,
+     * at most once per <code>backlogRefreshInterval</code>: in between, the
+     * last count is returned, less the triggers this scheduler has acquired
+     * since.
+     * </p>
+     */
+    public TriggerBacklog getTriggerBacklog(final long dueWindow)
+        throws JobPersistenceException {
+        synchronized (backlogLock) {
+            TriggerBacklog backlog = lastBacklogs.get(dueWindow);
+            if (backlog != null && System.currentTimeMillis() - backlog.getTime() < backlogRefreshInterval) {
+                return backlog;
+            }
+        }
+        TriggerBacklog backlog = executeWithoutLock( // no locks necessary for read...
+                conn -> getTriggerBacklog(conn, dueWindow));
+        if (backlog != null) {
+            synchronized (backlogLock) {
+                lastBacklogs.put(dueWindow, backlog);
+            }
+        }
+        return backlog;
+    }
+
+    protected TriggerBacklog getTriggerBacklog(Connection conn, long dueWindow)
+        throws JobPersistenceException {
+        try {
+            return getDelegate().selectTriggerBacklog(conn, System.currentTimeMillis(), dueWindow);
+        } catch (SQLException e) {
+            throw new JobPersistenceException(
+                    "Couldn't count trigger backlog: " + e.getMessage(), e);
+        }
+    }
+
+    // take the acquired triggers out of the last counted backlogs, until they are counted again
+    private void removeFromTriggerBacklogs(List<OperableTrigger> acquiredTriggers) {
+        if (acquiredTriggers.isEmpty()) {
+            return;
+        }
+        synchronized (backlogLock) {
+            for (Iterator<Map.Entry<Long, TriggerBacklog>> it = lastBacklogs.entrySet().iterator(); it.hasNext();) {
+                Map.Entry<Long, TriggerBacklog> entry = it.next();
+                TriggerBacklog backlog = removeFromTriggerBacklog(entry.getValue(), acquiredTriggers);
+                if (backlog == null) {
+                    it.remove();
+                } else {
+                    entry.setValue(backlog);
+                }
+            }
+        }
+    }
+
+    // null if the oldest overdue trigger was acquired, as the next oldest is
+    // not known until the backlog is counted again
+    private static TriggerBacklog removeFromTriggerBacklog(TriggerBacklog backlog, List<OperableTrigger> acquiredTriggers) {
+        int overdueCount = backlog.getOverdueCount();
+        int dueCount = backlog.getDueCount();
+        for (OperableTrigger trigger : acquiredTriggers) {
+            long fireTime = trigger.getNextFireTime().getTime();
+            if (fireTime < backlog.getTime()) {
+                if (fireTime <= backlog.getOldestOverdueFireTime()) {
+                    return null;
+                }
+                overdueCount = Math.max(0, overdueCount - 1);
+            } else if (fireTime <= backlog.getTime() + backlog.getDueWindow()) {
+                dueCount = Math.max(0, dueCount - 1);
+            }
+        }
+        return new TriggerBacklog(backlog.getTime(), overdueCount,
+                overdueCount > 0 ? backlog.getOldestOverdueFireTime() : -1L,
+                backlog.getDueWindow(), dueCount);
+    }
+
     /**
      * <p>
      * Get the number of <code>{@link org.quartz.Trigger}</code> s that are
@@ -1988,6 +2210,40 @@ public abstract class JobStoreSupport implements JobStore, Constants {
         return trigNames;
     }
 
+    /**
+     * <p>
+     * Get the names of all of the <code>{@link org.quartz.Trigger}</code> s
+     * that match the given groupMatcher and are in the given state, reading
+     * the states of the whole group with one query.
+     * </p>
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Set<TriggerKey> getTriggerKeys(final GroupMatcher<TriggerKey> matcher, final TriggerState state)
+        throws JobPersistenceException {
+        return (Set<TriggerKey>)executeWithoutLock( // no locks necessary for read...
+                (TransactionCallback) conn -> getTriggerNames(conn, matcher, state));
+    }
+
+    protected Set<TriggerKey> getTriggerNames(Connection conn,
+            GroupMatcher<TriggerKey> matcher, TriggerState state) throws JobPersistenceException {
+
+        Set<TriggerKey> trigNames = new HashSet<>();
+
+        try {
+            for (Map.Entry<TriggerKey, String> entry : getDelegate().selectTriggerStatesInGroup(conn, matcher).entrySet()) {
+                if (toTriggerState(entry.getValue()) == state) {
+                    trigNames.add(entry.getKey());
+                }
+            }
+        } catch (SQLException e) {
+            throw new JobPersistenceException("Couldn't obtain trigger names: "
+                    + e.getMessage(), e);
+        }
+
+        return trigNames;
+    }
+
 
     /**
      * <p>
@@ -2689,9 +2945,23 @@ public abstract class JobStoreSupport implements JobStore, Constants {
      * 
      * @see #releaseAcquiredTrigger(OperableTrigger)
      */
-    @SuppressWarnings("unchecked")
     public List<OperableTrigger> acquireNextTriggers(final long noLaterThan, final int maxCount, final long timeWindow)
         throws JobPersistenceException {
+        return acquireNextTriggers(noLaterThan, maxCount, timeWindow, null);
+    }
+
+    /**
+     * <p>
+     * Get a handle to the next N triggers of the given lane to be fired, and
+     * mark them as 'reserved' by the calling scheduler.
+     * </p>
+     * 
+     * @param lane the lane to acquire triggers for, or <code>null</code> for any trigger.
+     * @see #releaseAcquiredTrigger(OperableTrigger)
+     */
+    @SuppressWarnings("unchecked")
+    public List<OperableTrigger> acquireNextTriggers(final long noLaterThan, final int maxCount, final long timeWindow,
+            final ExecutionLane lane) throws JobPersistenceException {
         
         String lockName;
         if(isAcquireTriggersWithinLock() || maxCount > 1) { 
@@ -2699,60 +2969,110 @@ public abstract class JobStoreSupport implements JobStore, Constants {
         } else {
             lockName = null;
         }
-        return executeInNonManagedTXLock(lockName,
-                conn -> acquireNextTrigger(conn, noLaterThan, maxCount, timeWindow),
-                (conn, result) -> {
-                    try {
-                        List<FiredTriggerRecord> acquired = getDelegate().selectInstancesFiredTriggerRecords(conn, getInstanceId());
-                        Set<String> fireInstanceIds = new HashSet<>();
-                        for (FiredTriggerRecord ft : acquired) {
-                            fireInstanceIds.add(ft.getFireInstanceId());
-                        }
-                        for (OperableTrigger tr : result) {
-                            if (fireInstanceIds.contains(tr.getFireInstanceId())) {
-                                return true;
+        // the triggers rate limit permits were taken for, given back if the
+        // acquisition is rolled back
+        final List<OperableTrigger> permitted = new ArrayList<>();
+        List<OperableTrigger> acquiredTriggers;
+        try {
+            acquiredTriggers = executeInNonManagedTXLock(lockName,
+                    conn -> {
+                        List<OperableTrigger> result = acquireNextTrigger(conn, noLaterThan, maxCount, timeWindow, lane);
+                        permitted.addAll(result);
+                        return result;
+                    },
+                    (conn, result) -> {
+                        try {
+                            List<FiredTriggerRecord> acquired = getDelegate().selectInstancesFiredTriggerRecords(conn, getInstanceId());
+                            Set<String> fireInstanceIds = new HashSet<>();
+                            for (FiredTriggerRecord ft : acquired) {
+                                fireInstanceIds.add(ft.getFireInstanceId());
                             }
+                            for (OperableTrigger tr : result) {
+                                if (fireInstanceIds.contains(tr.getFireInstanceId())) {
+                                    return true;
+                                }
+                            }
+                            return false;
+                        } catch (SQLException e) {
+                            throw new JobPersistenceException("error validating trigger acquisition", e);
                         }
-                        return false;
-                    } catch (SQLException e) {
-                        throw new JobPersistenceException("error validating trigger acquisition", e);
-                    }
-                });
+                    });
+        } catch (JobPersistenceException e) {
+            releaseRateLimitPermits(permitted);
+            throw e;
+        }
+        removeFromTriggerBacklogs(acquiredTriggers);
+        return acquiredTriggers;
     }
     
     // FUTURE_TODO: this really ought to return something like a FiredTriggerBundle,
     // so that the fireInstanceId doesn't have to be on the trigger...
     protected List<OperableTrigger> acquireNextTrigger(Connection conn, long noLaterThan, int maxCount, long timeWindow)
         throws JobPersistenceException {
+        return acquireNextTrigger(conn, noLaterThan, maxCount, timeWindow, null);
+    }
+
+    protected List<OperableTrigger> acquireNextTrigger(Connection conn, long noLaterThan, int maxCount, long timeWindow,
+            ExecutionLane lane) throws JobPersistenceException {
         if (timeWindow < 0) {
           throw new IllegalArgumentException();
         }
         
         List<OperableTrigger> acquiredTriggers = new ArrayList<>();
+        // the triggers rate limit permits were taken for
+        List<OperableTrigger> permitted = new ArrayList<>();
         Set<JobKey> acquiredJobKeysForNoConcurrentExec = new HashSet<>();
+        Set<TriggerKey> throttledTriggerKeys = new HashSet<>();
         final int MAX_DO_LOOP_RETRY = 3;
         int currentLoopCount = 0;
+        long batchEnd = noLaterThan;
         do {
             currentLoopCount ++;
             try {
-                List<TriggerKey> keys = getDelegate().selectTriggerToAcquire(conn, noLaterThan + timeWindow, getMisfireTime(), maxCount);
+                // Triggers held back by a concurrency limit stay WAITING, so select past them.
+                int selectCount = maxCount + throttledTriggerKeys.size();
+                int throttledCount = throttledTriggerKeys.size();
+                List<TriggerKey> keys = getDelegate().selectTriggerToAcquire(conn, noLaterThan + timeWindow, getMisfireTime(), selectCount, lane);
                 
                 // No trigger is ready to fire yet.
                 if (keys == null || keys.isEmpty())
                     return acquiredTriggers;
 
-                long batchEnd = noLaterThan;
-
                 for(TriggerKey triggerKey: keys) {
+                    if (acquiredTriggers.size() >= maxCount) {
+                        break;
+                    }
+                    if (throttledTriggerKeys.contains(triggerKey)) {
+                        continue; // next trigger
+                    }
+
+                    // Skip the triggers of a trigger group over its rate limit without retrieving them.
+                    if (rateLimiter != null && rateLimiter.isDeferring(TriggerRateLimiter.Scope.TRIGGER_GROUP,
+                            triggerKey.getGroup(), System.currentTimeMillis())) {
+                        throttledTriggerKeys.add(triggerKey);
+                        continue; // next trigger
+                    }
+
                     // If our trigger is no longer available, try a new one.
                     OperableTrigger nextTrigger = retrieveTrigger(conn, triggerKey);
                     if(nextTrigger == null) {
                         continue; // next trigger
                     }
+
+                    // The selection is already restricted to the lane, this guards against
+                    // the trigger having been replaced since it was selected.
+                    if (lane != null && !lane.accepts(nextTrigger)) {
+                        continue; // next trigger
+                    }
                     
                     // If trigger's job is set as @DisallowConcurrentExecution, and it has already been added to result, then
                     // put it back into the timeTriggers set and continue to search for next trigger.
                     JobKey jobKey = nextTrigger.getJobKey();
+                    if (rateLimiter != null && rateLimiter.isDeferring(TriggerRateLimiter.Scope.JOB_GROUP,
+                            jobKey.getGroup(), System.currentTimeMillis())) {
+                        throttledTriggerKeys.add(triggerKey);
+                        continue; // next trigger
+                    }
                     JobDetail job;
                     try {
                         job = retrieveJob(conn, jobKey);
@@ -2765,12 +3085,21 @@ public abstract class JobStoreSupport implements JobStore, Constants {
                         }
                         continue;
                     }
+
+                    // If the job or its group already has as many executions in progress (or acquired)
+                    // as its concurrency limit allows, leave the trigger WAITING until a permit is returned.
+                    if (!isConcurrencyPermitAvailable(conn, job)) {
+                        throttledTriggerKeys.add(triggerKey);
+                        continue; // next trigger
+                    }
                     
                     if (job.isConcurrentExecutionDisallowed()) {
                         if (acquiredJobKeysForNoConcurrentExec.contains(jobKey)) {
                             continue; // next trigger
-                        } else {
-                            acquiredJobKeysForNoConcurrentExec.add(jobKey);
+                        }
+                        // A sibling may have been acquired for another lane, and not fired yet.
+                        if (lane != null && getDelegate().selectNumFiredTriggersForJob(conn, jobKey.getName(), jobKey.getGroup()) > 0) {
+                            continue; // next trigger
                         }
                     }
 
@@ -2790,12 +3119,30 @@ public abstract class JobStoreSupport implements JobStore, Constants {
                     if (nextFireTime.getTime() > batchEnd) {
                       break;
                     }
+
+                    // If the trigger's group or job group is acquired faster than its rate limit allows,
+                    // leave the trigger WAITING for a later acquisition.
+                    if (rateLimiter != null) {
+                        if (!rateLimiter.tryAcquire(nextTrigger, System.currentTimeMillis())) {
+                            throttledTriggerKeys.add(triggerKey);
+                            continue; // next trigger
+                        }
+                        permitted.add(nextTrigger);
+                    }
+
                     // We now have a acquired trigger, let's add to return list.
                     // If our trigger was no longer in the expected state, try a new one.
                     int rowsUpdated = getDelegate().updateTriggerStateFromOtherState(conn, triggerKey, STATE_ACQUIRED, STATE_WAITING);
                     if (rowsUpdated <= 0) {
+                        if (rateLimiter != null) {
+                            permitted.remove(nextTrigger);
+                            rateLimiter.release(nextTrigger, System.currentTimeMillis());
+                        }
                         continue; // next trigger
                     }
+                    if (job.isConcurrentExecutionDisallowed()) {
+                        acquiredJobKeysForNoConcurrentExec.add(jobKey);
+                    }
                     nextTrigger.setFireInstanceId(getFiredTriggerRecordId());
                     getDelegate().insertFiredTrigger(conn, nextTrigger, STATE_ACQUIRED, null);
 
@@ -2810,10 +3157,20 @@ public abstract class JobStoreSupport implements JobStore, Constants {
                 if(acquiredTriggers.isEmpty() && currentLoopCount < MAX_DO_LOOP_RETRY) {
                     continue;
                 }
+
+                // if throttled triggers took up part of the selection, there may be
+                // more triggers to acquire behind them (the throttled set only grows,
+                // so this terminates once the selection is exhausted).
+                if(acquiredTriggers.size() < maxCount && throttledTriggerKeys.size() > throttledCount
+                        && keys.size() >= selectCount) {
+                    continue;
+                }
                 
                 // We are done with the while loop.
                 break;
             } catch (Exception e) {
+                // the acquisition is rolled back
+                releaseRateLimitPermits(permitted);
                 throw new JobPersistenceException(
                           "Couldn't acquire next trigger: " + e.getMessage(), e);
             }
@@ -2822,6 +3179,31 @@ public abstract class JobStoreSupport implements JobStore, Constants {
         // Return the acquired trigger list
         return acquiredTriggers;
     }
+
+    private void releaseRateLimitPermits(List<OperableTrigger> triggers) {
+        if (rateLimiter != null) {
+            long now = System.currentTimeMillis();
+            for (OperableTrigger trigger : triggers) {
+                rateLimiter.release(trigger, now);
+            }
+        }
+    }
+
+    /**
+     * Determine whether the given job may be acquired for another execution,
+     * given the fired-trigger records of the job (and of its group) that are
+     * acquired or executing on any node.
+     */
+    protected boolean isConcurrencyPermitAvailable(Connection conn, JobDetail job) throws SQLException, NoSuchDelegateException {
+        int jobLimit = concurrencyLimits.getJobLimit(job);
+        if (jobLimit > 0
+                && getDelegate().selectNumFiredTriggersForJob(conn, job.getKey().getName(), job.getKey().getGroup()) >= jobLimit) {
+            return false;
+        }
+        int groupLimit = concurrencyLimits.getJobGroupLimit(job.getKey().getGroup());
+        return groupLimit <= 0
+                || getDelegate().selectNumFiredTriggersForJob(conn, null, job.getKey().getGroup()) < groupLimit;
+    }
     
     /**
      * <p>
@@ -2838,6 +3220,9 @@ public abstract class JobStoreSupport implements JobStore, Constants {
                     releaseAcquiredTrigger(conn, trigger);
                 }
             });
+        if (rateLimiter != null) {
+            rateLimiter.release(trigger, System.currentTimeMillis());
+        }
     }
     
     protected void releaseAcquiredTrigger(Connection conn,
@@ -3057,6 +3442,10 @@ public abstract class JobStoreSupport implements JobStore, Constants {
 
                 signalSchedulingChangeOnTxCompletion(0L);
             }
+            if (concurrencyLimits.isLimited(jobDetail)) {
+                // let the triggers held back by a concurrency limit be acquired again
+                signalSchedulingChangeOnTxCompletion(0L);
+            }
             if (jobDetail.isPersistJobDataAfterExecution()) {
                 try {
                     if (jobDetail.getJobDataMap().isDirty()) {
@@ -3118,6 +3507,36 @@ public abstract class JobStoreSupport implements JobStore, Constants {
 
     public void setLockHandler(Semaphore lockHandler) {
         this.lockHandler = lockHandler;
+        applySlowLockThreshold();
+    }
+
+    /**
+     * @return the statistics of the locks taken through the lock handler,
+     * or null if it keeps none.
+     */
+    public LockStatistics getLockStatistics() {
+        return lockHandler == null ? null : lockHandler.getLockStatistics();
+    }
+
+    /**
+     * Set the number of milliseconds of waiting for, or holding, a lock
+     * above which the lock handler logs the lock's usage, 0 (the default)
+     * not to log it.
+     */
+    public void setSlowLockThreshold(long slowLockThreshold) {
+        this.slowLockThreshold = slowLockThreshold;
+        applySlowLockThreshold();
+    }
+
+    public long getSlowLockThreshold() {
+        return slowLockThreshold;
+    }
+
+    private void applySlowLockThreshold() {
+        LockStatistics lockStatistics = getLockStatistics();
+        if (lockStatistics != null) {
+            lockStatistics.setSlowLockThreshold(slowLockThreshold);
+        }
     }
 
     //---------------------------------------------------------------------------
@@ -3142,9 +3561,22 @@ public abstract class JobStoreSupport implements JobStore, Constants {
                 getLog().debug(
                     "Found 0 triggers that missed their scheduled fire-time.");
             } else {
-                transOwner = getLockHandler().obtainLock(conn, LOCK_TRIGGER_ACCESS);
+                MisfireHandlingEvent event = null;
+                if (flightRecorderEvents) {
+                    event = new MisfireHandlingEvent();
+                    event.begin();
+                }
+
+                transOwner = obtainLock(conn, LOCK_TRIGGER_ACCESS);
                 
                 result = recoverMisfiredJobs(conn, false);
+
+                if (event != null) {
+                    event.schedulerName = instanceName;
+                    event.count = result.getProcessedMisfiredTriggerCount();
+                    event.hasMore = result.hasMoreMisfiredTriggers();
+                    event.commit();
+                }
             }
             
             commitConnection(conn);
@@ -3202,6 +3634,12 @@ public abstract class JobStoreSupport implements JobStore, Constants {
         boolean transStateOwner = false;
         boolean recovered = false;
 
+        ClusterCheckInEvent event = null;
+        if (flightRecorderEvents) {
+            event = new ClusterCheckInEvent();
+            event.begin();
+        }
+
         Connection conn = getNonManagedTXConnection();
         try {
             // Other than the first time, always checkin first to make sure there is 
@@ -3215,7 +3653,7 @@ public abstract class JobStoreSupport implements JobStore, Constants {
             }
             
             if (firstCheckIn || (!failedRecords.isEmpty())) {
-                getLockHandler().obtainLock(conn, LOCK_STATE_ACCESS);
+                obtainLock(conn, LOCK_STATE_ACCESS);
                 transStateOwner = true;
     
                 // Now that we own the lock, make sure we still have work to do. 
@@ -3223,7 +3661,7 @@ public abstract class JobStoreSupport implements JobStore, Constants {
                 failedRecords = (firstCheckIn) ? clusterCheckIn(conn) : findFailedInstances(conn);
     
                 if (!failedRecords.isEmpty()) {
-                    getLockHandler().obtainLock(conn, LOCK_TRIGGER_ACCESS);
+                    obtainLock(conn, LOCK_TRIGGER_ACCESS);
                     //getLockHandler().obtainLock(conn, LOCK_JOB_ACCESS);
                     transOwner = true;
     
@@ -3250,6 +3688,13 @@ public abstract class JobStoreSupport implements JobStore, Constants {
 
         firstCheckIn = false;
 
+        if (event != null) {
+            event.schedulerName = instanceName;
+            event.instanceId = getInstanceId();
+            event.recovered = recovered;
+            event.commit();
+        }
+
         return recovered;
     }
 
@@ -3379,6 +3824,12 @@ public abstract class JobStoreSupport implements JobStore, Constants {
                             + " failed or restarted instances.");
             try {
                 for (SchedulerStateRecord rec : failedInstances) {
+                    ClusterRecoveryEvent event = null;
+                    if (flightRecorderEvents) {
+                        event = new ClusterRecoveryEvent();
+                        event.begin();
+                    }
+
                     getLog().info("ClusterManager: Scanning for instance \"{}\"'s failed in-progress jobs.", rec.getSchedulerInstanceId());
 
                     List<FiredTriggerRecord> firedTriggerRecs = getDelegate()
@@ -3504,6 +3955,16 @@ public abstract class JobStoreSupport implements JobStore, Constants {
                         getDelegate().deleteSchedulerState(conn,
                                 rec.getSchedulerInstanceId());
                     }
+
+                    if (event != null) {
+                        event.schedulerName = instanceName;
+                        event.failedInstanceId = rec.getSchedulerInstanceId();
+                        event.freedCount = acquiredCount;
+                        event.recoveredCount = recoveredCount;
+                        event.deletedCount = completeCount;
+                        event.otherCount = otherCount;
+                        event.commit();
+                    }
                 }
             } catch (Throwable e) {
                 throw new JobPersistenceException("Failure recovering jobs: "
@@ -3726,7 +4187,7 @@ public abstract class JobStoreSupport implements JobStore, Constants {
                     conn = getNonManagedTXConnection();
                 }
                 
-                transOwner = getLockHandler().obtainLock(conn, lockName);
+                transOwner = obtainLock(conn, lockName);
             }
             
             if (conn == null) {
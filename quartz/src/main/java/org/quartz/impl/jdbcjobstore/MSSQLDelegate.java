@@ -18,20 +18,11 @@
 
 package org.quartz.impl.jdbcjobstore;
 
-import static org.quartz.TriggerKey.triggerKey;
-
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInputStream;
-import java.math.BigDecimal;
-import java.sql.Connection;
-import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.LinkedList;
-import java.util.List;
-
-import org.quartz.TriggerKey;
 
 /**
  * <p>
@@ -91,40 +82,8 @@ public class MSSQLDelegate extends StdJDBCDelegate {
     }
     
     @Override
-    public List<TriggerKey> selectTriggerToAcquire(Connection conn, long noLaterThan, long noEarlierThan, int maxCount)
-            throws SQLException {
-        // Set max rows to retrieve
-        if (maxCount < 1)
-            maxCount = 1; // we want at least one trigger back.
-        String selectTriggerToAcquire = "SELECT TOP " + maxCount + " " + SELECT_NEXT_TRIGGER_TO_ACQUIRE.substring(6);
-        PreparedStatement ps = null;
-        ResultSet rs = null;
-        List<TriggerKey> nextTriggers = new LinkedList<>();
-        try {
-            ps = conn.prepareStatement(rtp(selectTriggerToAcquire));
-            
-            ps.setMaxRows(maxCount);
-            
-            // Try to give jdbc driver a hint to hopefully not pull over more than the few rows we actually need.
-            // Note: in some jdbc drivers, such as MySQL, you must set maxRows before fetchSize, or you get exception!
-            ps.setFetchSize(maxCount);
-            
-            ps.setString(1, STATE_WAITING);
-            ps.setBigDecimal(2, new BigDecimal(String.valueOf(noLaterThan)));
-            ps.setBigDecimal(3, new BigDecimal(String.valueOf(noEarlierThan)));
-            rs = ps.executeQuery();
-            
-            while (rs.next() && nextTriggers.size() < maxCount) {
-                nextTriggers.add(triggerKey(
-                        rs.getString(COL_TRIGGER_NAME),
-                        rs.getString(COL_TRIGGER_GROUP)));
-            }
-            
-            return nextTriggers;
-        } finally {
-            closeResultSet(rs);
-            closeStatement(ps);
-        }      
+    protected String getSelectNextTriggerToAcquireSql(int maxCount) {
+        return "SELECT TOP " + maxCount + " " + SELECT_NEXT_TRIGGER_TO_ACQUIRE.substring(6);
     }
     
 }
@@ -19,6 +19,8 @@ package org.quartz.impl.jdbcjobstore;
 
 import java.sql.Connection;
 
+import org.quartz.utils.LockStatistics;
+
 /**
  * An interface for providing thread/resource locking in order to protect
  * resources from being altered by multiple threads at the same time.
@@ -60,4 +62,13 @@ public interface Semaphore {
      * @see #releaseLock(String)
      */
     boolean requiresConnection();
+
+    /**
+     * The statistics this Semaphore keeps about the locks it grants, if any.
+     * 
+     * @return the statistics, or null if it keeps none.
+     */
+    default LockStatistics getLockStatistics() {
+        return null;
+    }
 }
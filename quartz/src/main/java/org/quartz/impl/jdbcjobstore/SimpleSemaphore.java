@@ -21,6 +21,7 @@ package org.quartz.impl.jdbcjobstore;
 import java.sql.Connection;
 import java.util.HashSet;
 
+import org.quartz.utils.LockStatistics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,6 +46,8 @@ public class SimpleSemaphore implements Semaphore {
 
     final HashSet<String> locks = new HashSet<>();
 
+    private final LockStatistics lockStatistics = new LockStatistics();
+
     private final Logger log = LoggerFactory.getLogger(getClass());
 
     /*
@@ -86,6 +89,7 @@ public class SimpleSemaphore implements Semaphore {
             if(log.isDebugEnabled()) {
                 log.debug("Lock '{}' is being obtained: {}", lockName, Thread.currentThread().getName());
             }
+            long start = System.nanoTime();
             while (locks.contains(lockName)) {
                 try {
                     this.wait();
@@ -101,6 +105,8 @@ public class SimpleSemaphore implements Semaphore {
             }
             getThreadLocks().add(lockName);
             locks.add(lockName);
+            lockStatistics.lockObtained(lockName, System.nanoTime() - start,
+                    lockStatistics.isLoggingSlowLocks() ? Util.lockOperation() : null);
         } else if(log.isDebugEnabled()) {
             log.debug("Lock '{}' already owned by: {} -- but not owner!", lockName, Thread.currentThread().getName(), new Exception("stack-trace of wrongful returner"));
         }
@@ -122,6 +128,7 @@ public class SimpleSemaphore implements Semaphore {
             }
             getThreadLocks().remove(lockName);
             locks.remove(lockName);
+            lockStatistics.lockReleased(lockName);
             this.notifyAll();
         } else if (getLog().isDebugEnabled()) {
             getLog().debug("Lock '{}' attempt to return by: {} -- but not owner!", lockName, Thread.currentThread().getName(), new Exception("stack-trace of wrongful returner"));
@@ -139,6 +146,14 @@ public class SimpleSemaphore implements Semaphore {
         return getThreadLocks().contains(lockName);
     }
 
+    /**
+     * The statistics of the locks granted by this Semaphore.
+     */
+    @Override
+    public LockStatistics getLockStatistics() {
+        return lockStatistics;
+    }
+
     /**
      * This Semaphore implementation does not use the database.
      */
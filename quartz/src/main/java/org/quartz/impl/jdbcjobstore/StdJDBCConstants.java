@@ -458,6 +458,16 @@ public interface StdJDBCConstants extends Constants {
             + " WHERE " + COL_SCHEDULER_NAME + " = " + SCHED_NAME_SUBST
             + " AND " + COL_TRIGGER_GROUP + " = ?";
 
+    String SELECT_TRIGGER_STATES_IN_GROUP_LIKE = "SELECT "
+            + COL_TRIGGER_NAME + ", " + COL_TRIGGER_GROUP + ", " + COL_TRIGGER_STATE + " FROM " + TABLE_PREFIX_SUBST + TABLE_TRIGGERS
+            + " WHERE " + COL_SCHEDULER_NAME + " = " + SCHED_NAME_SUBST
+            + " AND " + COL_TRIGGER_GROUP + " LIKE ?";
+
+    String SELECT_TRIGGER_STATES_IN_GROUP = "SELECT "
+            + COL_TRIGGER_NAME + ", " + COL_TRIGGER_GROUP + ", " + COL_TRIGGER_STATE + " FROM " + TABLE_PREFIX_SUBST + TABLE_TRIGGERS
+            + " WHERE " + COL_SCHEDULER_NAME + " = " + SCHED_NAME_SUBST
+            + " AND " + COL_TRIGGER_GROUP + " = ?";
+
     String INSERT_CALENDAR = "INSERT INTO "
             + TABLE_PREFIX_SUBST + TABLE_CALENDARS + " (" + COL_SCHEDULER_NAME + ", " + COL_CALENDAR_NAME
             + ", " + COL_CALENDAR + ") " + " VALUES(" + SCHED_NAME_SUBST + ", ?, ?)";
@@ -501,6 +511,13 @@ public interface StdJDBCConstants extends Constants {
             + COL_SCHEDULER_NAME + " = " + SCHED_NAME_SUBST
             + " AND " + COL_TRIGGER_STATE + " = ? AND " + COL_NEXT_FIRE_TIME + " >= 0";
 
+    // bounded by the fire time, so as to range-scan the (SCHED_NAME, TRIGGER_STATE, NEXT_FIRE_TIME) index
+    String SELECT_TRIGGER_BACKLOG = "SELECT COUNT(CASE WHEN "
+            + COL_NEXT_FIRE_TIME + " < ? THEN 1 END), MIN(" + COL_NEXT_FIRE_TIME + "), COUNT(CASE WHEN "
+            + COL_NEXT_FIRE_TIME + " >= ? THEN 1 END) FROM " + TABLE_PREFIX_SUBST + TABLE_TRIGGERS + " WHERE "
+            + COL_SCHEDULER_NAME + " = " + SCHED_NAME_SUBST + " AND " + COL_TRIGGER_STATE + " = ? AND "
+            + COL_NEXT_FIRE_TIME + " >= 0 AND " + COL_NEXT_FIRE_TIME + " <= ?";
+
     String SELECT_TRIGGER_FOR_FIRE_TIME = "SELECT "
             + COL_TRIGGER_NAME + ", " + COL_TRIGGER_GROUP + " FROM "
             + TABLE_PREFIX_SUBST + TABLE_TRIGGERS + " WHERE "
@@ -580,6 +597,25 @@ public interface StdJDBCConstants extends Constants {
             + COL_SCHEDULER_NAME + " = " + SCHED_NAME_SUBST
             + " AND " + COL_JOB_GROUP + " = ?";
 
+    // ACQUIRED records carry no job columns, so they are matched to the job through their trigger
+    String COUNT_FIRED_TRIGGERS_OF_JOB = "SELECT COUNT(F."
+            + COL_ENTRY_ID + ") FROM " + TABLE_PREFIX_SUBST + TABLE_FIRED_TRIGGERS + " F WHERE F."
+            + COL_SCHEDULER_NAME + " = " + SCHED_NAME_SUBST + " AND ((F." + COL_JOB_NAME + " = ? AND F."
+            + COL_JOB_GROUP + " = ?) OR (F." + COL_JOB_NAME + " IS NULL AND EXISTS (SELECT T."
+            + COL_TRIGGER_NAME + " FROM " + TABLE_PREFIX_SUBST + TABLE_TRIGGERS + " T WHERE T."
+            + COL_SCHEDULER_NAME + " = " + SCHED_NAME_SUBST + " AND T." + COL_TRIGGER_NAME + " = F."
+            + COL_TRIGGER_NAME + " AND T." + COL_TRIGGER_GROUP + " = F." + COL_TRIGGER_GROUP
+            + " AND T." + COL_JOB_NAME + " = ? AND T." + COL_JOB_GROUP + " = ?)))";
+
+    String COUNT_FIRED_TRIGGERS_OF_JOB_GROUP = "SELECT COUNT(F."
+            + COL_ENTRY_ID + ") FROM " + TABLE_PREFIX_SUBST + TABLE_FIRED_TRIGGERS + " F WHERE F."
+            + COL_SCHEDULER_NAME + " = " + SCHED_NAME_SUBST + " AND (F." + COL_JOB_GROUP
+            + " = ? OR (F." + COL_JOB_NAME + " IS NULL AND EXISTS (SELECT T."
+            + COL_TRIGGER_NAME + " FROM " + TABLE_PREFIX_SUBST + TABLE_TRIGGERS + " T WHERE T."
+            + COL_SCHEDULER_NAME + " = " + SCHED_NAME_SUBST + " AND T." + COL_TRIGGER_NAME + " = F."
+            + COL_TRIGGER_NAME + " AND T." + COL_TRIGGER_GROUP + " = F." + COL_TRIGGER_GROUP
+            + " AND T." + COL_JOB_GROUP + " = ?)))";
+
     String DELETE_FIRED_TRIGGER = "DELETE FROM "
             + TABLE_PREFIX_SUBST + TABLE_FIRED_TRIGGERS + " WHERE "
             + COL_SCHEDULER_NAME + " = " + SCHED_NAME_SUBST
@@ -62,7 +62,9 @@ import org.quartz.impl.matchers.GroupMatcher;
 import org.quartz.impl.matchers.StringMatcher;
 import org.quartz.impl.triggers.SimpleTriggerImpl;
 import org.quartz.spi.ClassLoadHelper;
+import org.quartz.spi.ExecutionLane;
 import org.quartz.spi.OperableTrigger;
+import org.quartz.spi.TriggerBacklog;
 import org.slf4j.Logger;
 
 /**
@@ -2107,6 +2109,34 @@ public class StdJDBCDelegate implements DriverDelegate, StdJDBCConstants {
         }
     }
 
+    public Map<TriggerKey, String> selectTriggerStatesInGroup(Connection conn, GroupMatcher<TriggerKey> matcher)
+        throws SQLException {
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+
+        try {
+            if(isMatcherEquals(matcher)) {
+                ps = conn.prepareStatement(rtp(SELECT_TRIGGER_STATES_IN_GROUP));
+                ps.setString(1, toSqlEqualsClause(matcher));
+            }
+            else {
+                ps = conn.prepareStatement(rtp(SELECT_TRIGGER_STATES_IN_GROUP_LIKE));
+                ps.setString(1, toSqlLikeClause(matcher));
+            }
+            rs = ps.executeQuery();
+
+            Map<TriggerKey, String> states = new HashMap<>();
+            while (rs.next()) {
+                states.put(triggerKey(rs.getString(1), rs.getString(2)), rs.getString(3));
+            }
+
+            return states;
+        } finally {
+            closeResultSet(rs);
+            closeStatement(ps);
+        }
+    }
+
     public int insertPausedTriggerGroup(Connection conn, String groupName)
         throws SQLException {
         PreparedStatement ps = null;
@@ -2482,6 +2512,29 @@ public class StdJDBCDelegate implements DriverDelegate, StdJDBCConstants {
         }
     }
 
+    public TriggerBacklog selectTriggerBacklog(Connection conn, long now, long dueWindow) throws SQLException {
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+        try {
+            ps = conn.prepareStatement(rtp(SELECT_TRIGGER_BACKLOG));
+            ps.setBigDecimal(1, new BigDecimal(String.valueOf(now)));
+            ps.setBigDecimal(2, new BigDecimal(String.valueOf(now)));
+            ps.setString(3, STATE_WAITING);
+            ps.setBigDecimal(4, new BigDecimal(String.valueOf(now + Math.max(0L, dueWindow))));
+            rs = ps.executeQuery();
+
+            if (rs.next()) {
+                int overdueCount = rs.getInt(1);
+                long oldestFireTime = overdueCount > 0 ? rs.getLong(2) : -1L;
+                return new TriggerBacklog(now, overdueCount, oldestFireTime, dueWindow, rs.getInt(3));
+            }
+            return new TriggerBacklog(now, 0, -1L, dueWindow, 0);
+        } finally {
+            closeResultSet(rs);
+            closeStatement(ps);
+        }
+    }
+
     /**
      * <p>
      * Select the trigger that will be fired at the given fire time.
@@ -2561,16 +2614,55 @@ public class StdJDBCDelegate implements DriverDelegate, StdJDBCConstants {
      * @return A (never null, possibly empty) list of the identifiers (Key objects) of the next triggers to be fired.
      */
     public List<TriggerKey> selectTriggerToAcquire(Connection conn, long noLaterThan, long noEarlierThan, int maxCount)
+        throws SQLException {
+        return selectNextTriggersToAcquire(conn, noLaterThan, noEarlierThan, maxCount, null);
+    }
+
+    /**
+     * <p>
+     * Select the next triggers of the given lane which will fire between the two
+     * given timestamps in ascending order of fire time, and then descending by priority.
+     * </p>
+     * 
+     * @param conn
+     *          the DB Connection
+     * @param noLaterThan
+     *          highest value of <code>getNextFireTime()</code> of the triggers (exclusive)
+     * @param noEarlierThan 
+     *          highest value of <code>getNextFireTime()</code> of the triggers (inclusive)
+     * @param maxCount 
+     *          maximum number of trigger keys allow to acquired in the returning list.
+     * @param lane
+     *          the lane whose triggers to select, or <code>null</code> to select triggers of any lane.
+     *          
+     * @return A (never null, possibly empty) list of the identifiers (Key objects) of the next triggers to be fired.
+     */
+    public List<TriggerKey> selectTriggerToAcquire(Connection conn, long noLaterThan, long noEarlierThan, int maxCount, ExecutionLane lane)
+        throws SQLException {
+        // without a lane, go through the overload that subclasses may have overridden
+        if (lane == null) {
+            return selectTriggerToAcquire(conn, noLaterThan, noEarlierThan, maxCount);
+        }
+        return selectNextTriggersToAcquire(conn, noLaterThan, noEarlierThan, maxCount, lane);
+    }
+
+    private List<TriggerKey> selectNextTriggersToAcquire(Connection conn, long noLaterThan, long noEarlierThan, int maxCount, ExecutionLane lane)
         throws SQLException {
         PreparedStatement ps = null;
         ResultSet rs = null;
         List<TriggerKey> nextTriggers = new LinkedList<>();
         try {
-            ps = conn.prepareStatement(rtp(SELECT_NEXT_TRIGGER_TO_ACQUIRE));
-            
             // Set max rows to retrieve
             if (maxCount < 1)
                 maxCount = 1; // we want at least one trigger back.
+
+            String sql = getSelectNextTriggerToAcquireSql(maxCount);
+            if (lane != null) {
+                int orderBy = sql.lastIndexOf("ORDER BY");
+                sql = sql.substring(0, orderBy) + getLaneConditionSql(lane) + " " + sql.substring(orderBy);
+            }
+            ps = conn.prepareStatement(rtp(sql));
+            
             ps.setMaxRows(maxCount);
             
             // Try to give jdbc driver a hint to hopefully not pull over more than the few rows we actually need.
@@ -2580,6 +2672,9 @@ public class StdJDBCDelegate implements DriverDelegate, StdJDBCConstants {
             ps.setString(1, STATE_WAITING);
             ps.setBigDecimal(2, new BigDecimal(String.valueOf(noLaterThan)));
             ps.setBigDecimal(3, new BigDecimal(String.valueOf(noEarlierThan)));
+            if (lane != null) {
+                setLaneConditionParameters(ps, 4, lane);
+            }
             rs = ps.executeQuery();
             
             while (rs.next() && nextTriggers.size() < maxCount) {
@@ -2595,6 +2690,87 @@ public class StdJDBCDelegate implements DriverDelegate, StdJDBCConstants {
         }      
     }
 
+    /**
+     * <p>
+     * Get the statement used to select the next triggers to acquire.  This
+     * method should be overridden by any delegate subclasses that need a
+     * vendor specific way of limiting the number of returned rows.
+     * </p>
+     */
+    protected String getSelectNextTriggerToAcquireSql(int maxCount) {
+        return SELECT_NEXT_TRIGGER_TO_ACQUIRE;
+    }
+
+    /**
+     * <p>
+     * Build the "AND ..." clause restricting a trigger selection to the given lane.
+     * </p>
+     */
+    protected String getLaneConditionSql(ExecutionLane lane) {
+        StringBuilder sb = new StringBuilder();
+        if (lane.getExcludedLanes().isEmpty()) {
+            String condition = getLaneSelectionSql(lane);
+            if (condition != null) {
+                sb.append("AND ").append(condition);
+            }
+        } else {
+            for (ExecutionLane excluded : lane.getExcludedLanes()) {
+                String condition = getLaneSelectionSql(excluded);
+                // an excluded lane selecting everything leaves nothing for this lane
+                sb.append("AND NOT ").append(condition != null ? condition : "(1 = 1)").append(" ");
+            }
+        }
+        return sb.toString();
+    }
+
+    private String getLaneSelectionSql(ExecutionLane lane) {
+        StringBuilder sb = new StringBuilder();
+        if (!lane.getTriggerGroups().isEmpty()) {
+            sb.append(COL_TRIGGER_GROUP).append(" IN (");
+            for (int i = 0; i < lane.getTriggerGroups().size(); i++) {
+                sb.append(i == 0 ? "?" : ", ?");
+            }
+            sb.append(")");
+        }
+        if (lane.getMinPriority() != Integer.MIN_VALUE) {
+            sb.append(sb.length() == 0 ? "" : " AND ").append(COL_PRIORITY).append(" >= ?");
+        }
+        if (lane.getMaxPriority() != Integer.MAX_VALUE) {
+            sb.append(sb.length() == 0 ? "" : " AND ").append(COL_PRIORITY).append(" <= ?");
+        }
+        return sb.length() == 0 ? null : "(" + sb + ")";
+    }
+
+    /**
+     * <p>
+     * Bind the parameters of the clause built by <code>{@link #getLaneConditionSql(ExecutionLane)}</code>.
+     * </p>
+     *
+     * @return the index of the next parameter to bind.
+     */
+    protected int setLaneConditionParameters(PreparedStatement ps, int index, ExecutionLane lane) throws SQLException {
+        if (lane.getExcludedLanes().isEmpty()) {
+            return setLaneSelectionParameters(ps, index, lane);
+        }
+        for (ExecutionLane excluded : lane.getExcludedLanes()) {
+            index = setLaneSelectionParameters(ps, index, excluded);
+        }
+        return index;
+    }
+
+    private int setLaneSelectionParameters(PreparedStatement ps, int index, ExecutionLane lane) throws SQLException {
+        for (String group : lane.getTriggerGroups()) {
+            ps.setString(index++, group);
+        }
+        if (lane.getMinPriority() != Integer.MIN_VALUE) {
+            ps.setInt(index++, lane.getMinPriority());
+        }
+        if (lane.getMaxPriority() != Integer.MAX_VALUE) {
+            ps.setInt(index++, lane.getMaxPriority());
+        }
+        return index;
+    }
+
     /**
      * <p>
      * Insert a fired trigger.
@@ -2791,6 +2967,34 @@ public class StdJDBCDelegate implements DriverDelegate, StdJDBCConstants {
 
     }
 
+    public int selectNumFiredTriggersForJob(Connection conn, String jobName, String groupName) throws SQLException {
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+        try {
+            if (jobName != null) {
+                ps = conn.prepareStatement(rtp(COUNT_FIRED_TRIGGERS_OF_JOB));
+                ps.setString(1, jobName);
+                ps.setString(2, groupName);
+                ps.setString(3, jobName);
+                ps.setString(4, groupName);
+            } else {
+                ps = conn.prepareStatement(rtp(COUNT_FIRED_TRIGGERS_OF_JOB_GROUP));
+                ps.setString(1, groupName);
+                ps.setString(2, groupName);
+            }
+            rs = ps.executeQuery();
+
+            if (rs.next()) {
+                return rs.getInt(1);
+            } else {
+                return 0;
+            }
+        } finally {
+            closeResultSet(rs);
+            closeStatement(ps);
+        }
+    }
+
     public List<FiredTriggerRecord> selectInstancesFiredTriggerRecords(Connection conn,
             String instanceName) throws SQLException {
         PreparedStatement ps = null;
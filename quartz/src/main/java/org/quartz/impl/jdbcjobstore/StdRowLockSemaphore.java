@@ -133,6 +133,7 @@ public class StdRowLockSemaphore extends DBSemaphore {
                     
                     if(res != 1) {
                         if(count < maxRetryLocal) {
+                            getLockStatistics().lockRetried(lockName, false);
                             // pause a bit to give another thread some time to commit the insert of the new lock row
                             try {
                                 Thread.sleep(retryPeriodLocal);
@@ -166,6 +167,7 @@ public class StdRowLockSemaphore extends DBSemaphore {
                 }
                 
                 if(count < maxRetryLocal) {
+                    getLockStatistics().lockRetried(lockName, Util.isDeadlock(sqle));
                     try {
                         conn.rollback();
                     } catch (SQLException e) {
@@ -93,6 +93,7 @@ public class UpdateLockRowSemaphore extends DBSemaphore {
                     getLog().debug("Lock '{}' was not obtained by: {}", lockName, Thread.currentThread().getName());
                 } else {
                     getLog().debug("Lock '{}' was not obtained by: {} - will try again.", lockName, Thread.currentThread().getName());
+                    getLockStatistics().lockRetried(lockName, Util.isDeadlock(e));
                 }
                 try {
                     Thread.sleep(1000L);
@@ -24,9 +24,13 @@ import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLTransactionRollbackException;
 import java.sql.Statement;
 import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Locale;
+import java.util.Set;
 
 import org.quartz.JobPersistenceException;
 
@@ -179,6 +183,62 @@ public final class Util {
         return null;
     }
 
+    // the methods of the job store that only take locks on behalf of their callers
+    private static final Set<String> LOCKING_METHODS = new HashSet<>(Arrays.asList("obtainLock", "executeInLock",
+            "executeInNonManagedTXLock", "retryExecuteInNonManagedTXLock", "executeWithoutLock"));
+
+    /**
+     * <p>
+     * Find the job store operation a lock is being obtained for: the
+     * innermost method of the calling thread's stack, in this package, that
+     * is neither one of a <code>{@link Semaphore}</code> nor one that merely
+     * takes the lock.
+     * </p>
+     * 
+     * @return the operation, as <code>SimpleClassName.methodName</code>, or
+     *         null if there is none.
+     */
+    public static String lockOperation() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(f -> f.getClassName().startsWith(Util.class.getPackage().getName() + ".")
+                        && !f.getClassName().equals(Util.class.getName())
+                        && !f.getClassName().endsWith("Semaphore")
+                        && !f.getMethodName().startsWith("lambda$")
+                        && !LOCKING_METHODS.contains(f.getMethodName()))
+                .findFirst()
+                .map(f -> f.getClassName().substring(f.getClassName().lastIndexOf('.') + 1) + "." + f.getMethodName())
+                .orElse(null));
+    }
+
+    /**
+     * <p>
+     * Determine whether the given exception, or one of its causes, reports
+     * that the transaction was rolled back because of a deadlock (or a lock
+     * wait timeout treated as one by the database).
+     * </p>
+     */
+    public static boolean isDeadlock(Throwable t) {
+        for (Throwable cause = t; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLTransactionRollbackException) {
+                return true;
+            }
+            if (cause instanceof SQLException) {
+                SQLException sqle = (SQLException) cause;
+                String state = sqle.getSQLState();
+                // 40001: serialization failure (most databases), 40P01: PostgreSQL deadlock,
+                // 1213: MySQL deadlock, 60: Oracle ORA-00060, 1205: SQL Server deadlock or MySQL lock wait timeout
+                if ("40001".equals(state) || "40P01".equals(state) || sqle.getErrorCode() == 1213
+                        || sqle.getErrorCode() == 60 || sqle.getErrorCode() == 1205) {
+                    return true;
+                }
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+
 }
 
 // EOF
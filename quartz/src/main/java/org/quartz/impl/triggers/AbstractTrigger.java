@@ -19,6 +19,8 @@
 
 package org.quartz.impl.triggers;
 
+import java.util.Date;
+
 import org.quartz.Calendar;
 import org.quartz.CronTrigger;
 import org.quartz.JobDataMap;
@@ -86,6 +88,21 @@ public abstract class AbstractTrigger<T extends Trigger> implements OperableTrig
     @SuppressWarnings("unused")
     private static final boolean VOLATILITY = false; // still here for serialization backward compatibility
 
+    // whether a trigger class overrides getFireTimeAfter(Date) below the
+    // class that implements getFireTimeAfter(long)
+    private static final ClassValue<Boolean> DATE_FIRE_TIME_OVERRIDDEN = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                Class<?> dateDeclarer = type.getMethod("getFireTimeAfter", Date.class).getDeclaringClass();
+                Class<?> longDeclarer = type.getMethod("getFireTimeAfter", long.class).getDeclaringClass();
+                return dateDeclarer != longDeclarer && longDeclarer.isAssignableFrom(dateDeclarer);
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
     private String calendarName = null;
 
     private String fireInstanceId = null;
@@ -708,4 +725,75 @@ public abstract class AbstractTrigger<T extends Trigger> implements OperableTrig
     }
 
     public abstract ScheduleBuilder<T> getScheduleBuilder();
+
+    /**
+     * <p>
+     * Returns the first fire time after the given one that is not in the
+     * range of times the calendar excludes around it: the whole range is
+     * skipped at once, rather than one fire time at a time.
+     * </p>
+     *
+     * @param excludedFireTime a fire time the calendar does not include.
+     * @see Calendar#getExcludedRangeEnd(long)
+     */
+    protected Date getFireTimeAfterExcluded(Date excludedFireTime, Calendar calendar) {
+        long rangeEnd = calendar.getExcludedRangeEnd(excludedFireTime.getTime());
+        if (rangeEnd == Long.MAX_VALUE) {
+            return null;
+        }
+        if (rangeEnd > excludedFireTime.getTime() + 1) {
+            return getFireTimeAfter(new Date(rangeEnd - 1));
+        }
+        return getFireTimeAfter(excludedFireTime);
+    }
+
+    /**
+     * <p>
+     * Returns the first fire time after the given one that is not in the
+     * range of times the calendar excludes around it, in milliseconds.
+     * </p>
+     *
+     * @return the fire time, or <code>{@link #NO_FIRE_TIME}</code>.
+     * @see #getFireTimeAfterExcluded(Date, Calendar)
+     */
+    protected long getFireTimeAfterExcluded(long excludedFireTime, Calendar calendar) {
+        long rangeEnd = calendar.getExcludedRangeEnd(excludedFireTime);
+        if (rangeEnd == Long.MAX_VALUE) {
+            return NO_FIRE_TIME;
+        }
+        if (rangeEnd > excludedFireTime + 1) {
+            return getNextFireTimeAfter(rangeEnd - 1);
+        }
+        return getNextFireTimeAfter(excludedFireTime);
+    }
+
+    /**
+     * <p>
+     * Returns the next fire time after the given time, in milliseconds:
+     * through <code>{@link #getFireTimeAfter(Date)}</code> if a subclass
+     * overrides it, and otherwise through
+     * <code>{@link #getFireTimeAfter(long)}</code>.
+     * </p>
+     *
+     * @return the fire time, or <code>{@link #NO_FIRE_TIME}</code>.
+     */
+    protected long getNextFireTimeAfter(long afterTime) {
+        if (DATE_FIRE_TIME_OVERRIDDEN.get(getClass())) {
+            Date time = getFireTimeAfter(new Date(afterTime));
+            return (time == null) ? NO_FIRE_TIME : time.getTime();
+        }
+        return getFireTimeAfter(afterTime);
+    }
+
+    /**
+     * @return the first millisecond of the given (Gregorian) year, in the
+     * default time zone: the time from which fire times are given up on, to
+     * avoid looping forever over a calendar that excludes every fire time.
+     */
+    protected static long getStartOfYear(int year) {
+        java.util.Calendar c = new java.util.GregorianCalendar();
+        c.clear();
+        c.set(year, java.util.Calendar.JANUARY, 1);
+        return c.getTimeInMillis();
+    }
 }
@@ -19,6 +19,12 @@
 
 package org.quartz.impl.triggers;
 
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.TimeZone;
@@ -52,7 +58,9 @@ import org.quartz.TriggerUtils;
  * if you choose a start time that occurs on January 31st, and have a trigger with unit
  * <code>MONTH</code> and interval <code>1</code>, then the next fire time will be February 28th, 
  * and the next time after that will be March 28th - and essentially each subsequent firing will 
- * occur on the 28th of the month, even if a 31st day exists.  If you want a trigger that always
+ * occur on the 28th of the month, even if a 31st day exists.  Likewise, a trigger with unit
+ * <code>YEAR</code> that starts on February 29th fires on February 28th from the following year on.
+ * If you want a trigger that always
  * fires on the last day of the month - regardless of the number of days in the month, 
  * you should use <code>CronTrigger</code>.</p> 
  * 
@@ -80,6 +88,8 @@ public class CalendarIntervalTriggerImpl extends AbstractTrigger<CalendarInterva
     
     private static final int YEAR_TO_GIVEUP_SCHEDULING_AT = java.util.Calendar.getInstance().get(java.util.Calendar.YEAR) + 100;
 
+    private static final long GIVE_UP_SCHEDULING_AT = getStartOfYear(YEAR_TO_GIVEUP_SCHEDULING_AT + 1);
+
     /*
      * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
      * 
@@ -483,7 +493,7 @@ public class CalendarIntervalTriggerImpl extends AbstractTrigger<CalendarInterva
             Date newFireTime = getFireTimeAfter(new Date());
             while (newFireTime != null && cal != null
                     && !cal.isTimeIncluded(newFireTime.getTime())) {
-                newFireTime = getFireTimeAfter(newFireTime);
+                newFireTime = getFireTimeAfterExcluded(newFireTime, cal);
             }
             setNextFireTime(newFireTime);
         } else if (instr == MISFIRE_INSTRUCTION_FIRE_ONCE_NOW) { 
@@ -510,23 +520,20 @@ public class CalendarIntervalTriggerImpl extends AbstractTrigger<CalendarInterva
     public void triggered(org.quartz.Calendar calendar) {
         timesTriggered++;
         previousFireTime = nextFireTime;
-        nextFireTime = getFireTimeAfter(nextFireTime);
+        long time = getNextFireTimeAfter((nextFireTime == null) ? System.currentTimeMillis() : nextFireTime.getTime());
 
-        while (nextFireTime != null && calendar != null
-                && !calendar.isTimeIncluded(nextFireTime.getTime())) {
-            
-            nextFireTime = getFireTimeAfter(nextFireTime);
+        while (time != NO_FIRE_TIME && calendar != null
+                && !calendar.isTimeIncluded(time)) {
+
+            time = getFireTimeAfterExcluded(time, calendar);
 
-            if(nextFireTime == null)
-                break;
-            
             //avoid infinite loop
-            java.util.Calendar c = java.util.Calendar.getInstance();
-            c.setTime(nextFireTime);
-            if (c.get(java.util.Calendar.YEAR) > YEAR_TO_GIVEUP_SCHEDULING_AT) {
-                nextFireTime = null;
+            if (time >= GIVE_UP_SCHEDULING_AT) {
+                time = NO_FIRE_TIME;
             }
         }
+
+        nextFireTime = (time == NO_FIRE_TIME) ? null : new Date(time);
     }
 
 
@@ -546,15 +553,13 @@ public class CalendarIntervalTriggerImpl extends AbstractTrigger<CalendarInterva
         Date now = new Date();
         while (nextFireTime != null && !calendar.isTimeIncluded(nextFireTime.getTime())) {
 
-            nextFireTime = getFireTimeAfter(nextFireTime);
+            nextFireTime = getFireTimeAfterExcluded(nextFireTime, calendar);
 
             if(nextFireTime == null)
                 break;
             
             //avoid infinite loop
-            java.util.Calendar c = java.util.Calendar.getInstance();
-            c.setTime(nextFireTime);
-            if (c.get(java.util.Calendar.YEAR) > YEAR_TO_GIVEUP_SCHEDULING_AT) {
+            if (nextFireTime.getTime() >= GIVE_UP_SCHEDULING_AT) {
                 nextFireTime = null;
             }
 
@@ -586,23 +591,22 @@ public class CalendarIntervalTriggerImpl extends AbstractTrigger<CalendarInterva
     @Override
     public Date computeFirstFireTime(org.quartz.Calendar calendar) {
         nextFireTime = getStartTime();
+        if (nextFireTime == null || calendar == null || calendar.isTimeIncluded(nextFireTime.getTime())) {
+            return nextFireTime;
+        }
 
-        while (nextFireTime != null && calendar != null
-                && !calendar.isTimeIncluded(nextFireTime.getTime())) {
-            
-            nextFireTime = getFireTimeAfter(nextFireTime);
-            
-            if(nextFireTime == null)
-                break;
+        long time = nextFireTime.getTime();
+        do {
+            time = getFireTimeAfterExcluded(time, calendar);
 
             //avoid infinite loop
-            java.util.Calendar c = java.util.Calendar.getInstance();
-            c.setTime(nextFireTime);
-            if (c.get(java.util.Calendar.YEAR) > YEAR_TO_GIVEUP_SCHEDULING_AT) {
+            if (time >= GIVE_UP_SCHEDULING_AT) {
+                nextFireTime = (time == NO_FIRE_TIME) ? null : new Date(time);
                 return null;
             }
-        }
-        
+        } while (!calendar.isTimeIncluded(time));
+
+        nextFireTime = new Date(time);
         return nextFireTime;
     }
 
@@ -673,192 +677,181 @@ public class CalendarIntervalTriggerImpl extends AbstractTrigger<CalendarInterva
     public Date getFireTimeAfter(Date afterTime) {
         return getFireTimeAfter(afterTime, false);
     }
-    
+
+    /**
+     * <p>
+     * Returns the next time at which the <code>DateIntervalTrigger</code> will
+     * fire, after the given time, in milliseconds. If the trigger will not
+     * fire after the given time, <code>NO_FIRE_TIME</code> will be returned.
+     * </p>
+     */
+    @Override
+    public long getFireTimeAfter(long afterTime) {
+        return getFireTimeAfter(afterTime, false);
+    }
+
     protected Date getFireTimeAfter(Date afterTime, boolean ignoreEndTime) {
-        if (complete) {
-            return null;
-        }
+        long time = getFireTimeAfter((afterTime == null) ? System.currentTimeMillis() : afterTime.getTime(),
+                ignoreEndTime);
+        return (time == NO_FIRE_TIME) ? null : new Date(time);
+    }
 
-        // increment afterTime by a second, so that we are 
-        // comparing against a time after it!
-        if (afterTime == null) {
-            afterTime = new Date();
+    protected long getFireTimeAfter(long afterMillis, boolean ignoreEndTime) {
+        if (complete) {
+            return NO_FIRE_TIME;
         }
 
         long startMillis = getStartTime().getTime();
-        long afterMillis = afterTime.getTime();
         long endMillis = (getEndTime() == null) ? Long.MAX_VALUE : getEndTime()
                 .getTime();
 
         if (!ignoreEndTime && (endMillis <= afterMillis)) {
-            return null;
+            return NO_FIRE_TIME;
         }
 
         if (afterMillis < startMillis) {
-            return new Date(startMillis);
+            return startMillis;
         }
 
-        
+        long time;
+        switch (getRepeatIntervalUnit()) {
+            case SECOND:
+                time = getFireTimeAfter(startMillis, afterMillis, 1000L);
+                break;
+            case MINUTE:
+                time = getFireTimeAfter(startMillis, afterMillis, 60L * 1000L);
+                break;
+            case HOUR:
+                time = getFireTimeAfter(startMillis, afterMillis, 60L * 60L * 1000L);
+                break;
+            case DAY:
+                time = getFireTimeAfter(startMillis, afterMillis, ChronoUnit.DAYS);
+                break;
+            case WEEK:
+                time = getFireTimeAfter(startMillis, afterMillis, ChronoUnit.WEEKS);
+                break;
+            case MONTH:
+                time = getFireTimeAfter(startMillis, afterMillis, Calendar.MONTH);
+                break;
+            case YEAR:
+                time = getFireTimeAfter(startMillis, afterMillis, Calendar.YEAR);
+                break;
+            default:
+                throw new IllegalStateException("Repeat interval unit " + getRepeatIntervalUnit() + " is not supported");
+        }
+
+        if (!ignoreEndTime && (endMillis <= time)) {
+            return NO_FIRE_TIME;
+        }
+
+        return time;
+    }
+
+    // the first fire time of a fixed length interval after the given time,
+    // counting whole seconds after the start time
+    private long getFireTimeAfter(long startMillis, long afterMillis, long unitMillis) {
         long secondsAfterStart = 1 + (afterMillis - startMillis) / 1000L;
+        long intervalSeconds = getRepeatInterval() * (unitMillis / 1000L);
 
-        Date time = null;
-        long repeatLong = getRepeatInterval();
-        
-        Calendar aTime = Calendar.getInstance();
-        aTime.setTime(afterTime);
+        long jumpCount = secondsAfterStart / intervalSeconds;
+        if (secondsAfterStart % intervalSeconds != 0)
+            jumpCount++;
+        return startMillis + jumpCount * intervalSeconds * 1000L;
+    }
 
-        Calendar sTime = Calendar.getInstance();
-        if(timeZone != null)
-            sTime.setTimeZone(timeZone);
-        sTime.setTime(getStartTime());
-        sTime.setLenient(true);
-        
-        if(getRepeatIntervalUnit().equals(IntervalUnit.SECOND)) {
-            long jumpCount = secondsAfterStart / repeatLong;
-            if(secondsAfterStart % repeatLong != 0)
-                jumpCount++;
-            sTime.add(Calendar.SECOND, getRepeatInterval() * (int)jumpCount);
-            time = sTime.getTime();
+    // the first fire time of a day or week interval after the given time:
+    // the start time's local date and time, that many intervals later
+    private long getFireTimeAfter(long startMillis, long afterMillis, ChronoUnit unit) {
+        ZoneId zone = getZoneId();
+        if (zone == null) {
+            return getFireTimeAfter(startMillis, afterMillis,
+                    (unit == ChronoUnit.DAYS) ? Calendar.DAY_OF_YEAR : Calendar.WEEK_OF_YEAR);
         }
-        else if(getRepeatIntervalUnit().equals(IntervalUnit.MINUTE)) {
-            long jumpCount = secondsAfterStart / (repeatLong * 60L);
-            if(secondsAfterStart % (repeatLong * 60L) != 0)
-                jumpCount++;
-            sTime.add(Calendar.MINUTE, getRepeatInterval() * (int)jumpCount);
-            time = sTime.getTime();
+        LocalDateTime start = LocalDateTime.ofInstant(Instant.ofEpochMilli(startMillis), zone);
+        LocalDateTime after = LocalDateTime.ofInstant(Instant.ofEpochMilli(afterMillis), zone);
+
+        // the local times of the fire times are close to the time after, but
+        // may be an interval either side of it around transitions
+        long count = Math.max(0, unit.between(start, after) / getRepeatInterval());
+        ZonedDateTime time = getFireTime(start, zone, unit, count);
+        while (count > 0 && time.toInstant().toEpochMilli() > afterMillis) {
+            time = getFireTime(start, zone, unit, --count);
         }
-        else if(getRepeatIntervalUnit().equals(IntervalUnit.HOUR)) {
-            long jumpCount = secondsAfterStart / (repeatLong * 60L * 60L);
-            if(secondsAfterStart % (repeatLong * 60L * 60L) != 0)
-                jumpCount++;
-            sTime.add(Calendar.HOUR_OF_DAY, getRepeatInterval() * (int)jumpCount);
-            time = sTime.getTime();
+        while (time.toInstant().toEpochMilli() <= afterMillis) {
+            time = getFireTime(start, zone, unit, ++count);
         }
-        else { // intervals a day or greater ...
 
-            int initialHourOfDay = sTime.get(Calendar.HOUR_OF_DAY);
-            
-            if(getRepeatIntervalUnit().equals(IntervalUnit.DAY)) {
-                sTime.setLenient(true);
-                
-                // Because intervals greater than an hour have an non-fixed number 
-                // of seconds in them (due to daylight savings, variation number of 
-                // days in each month, leap year, etc. ) we can't jump forward an
-                // exact number of seconds to calculate the fire time as we can
-                // with the second, minute and hour intervals.   But, rather
-                // than slowly crawling our way there by iteratively adding the 
-                // increment to the start time until we reach the "after time",
-                // we can first make a big leap most of the way there...
-                
-                long jumpCount = secondsAfterStart / (repeatLong * 24L * 60L * 60L);
-                // if we need to make a big jump, jump most of the way there, 
-                // but not all the way because in some cases we may over-shoot or under-shoot
-                if(jumpCount > 20) {
-                    if(jumpCount < 50)
-                        jumpCount = (long) (jumpCount * 0.80);
-                    else if(jumpCount < 500)
-                        jumpCount = (long) (jumpCount * 0.90);
-                    else
-                        jumpCount = (long) (jumpCount * 0.95);
-                    sTime.add(java.util.Calendar.DAY_OF_YEAR, (int) (getRepeatInterval() * jumpCount));
-                }
-                
-                // now baby-step the rest of the way there...
-                while(!sTime.getTime().after(afterTime) &&
-                        (sTime.get(java.util.Calendar.YEAR) < YEAR_TO_GIVEUP_SCHEDULING_AT)) {            
-                    sTime.add(java.util.Calendar.DAY_OF_YEAR, getRepeatInterval());
-                }
-                while(daylightSavingHourShiftOccurredAndAdvanceNeeded(sTime, initialHourOfDay, afterTime) &&
-                        (sTime.get(java.util.Calendar.YEAR) < YEAR_TO_GIVEUP_SCHEDULING_AT)) {
-                    sTime.add(java.util.Calendar.DAY_OF_YEAR, getRepeatInterval());
-                }
-                time = sTime.getTime();
-            }
-            else if(getRepeatIntervalUnit().equals(IntervalUnit.WEEK)) {
-                sTime.setLenient(true);
-    
-                // Because intervals greater than an hour have an non-fixed number 
-                // of seconds in them (due to daylight savings, variation number of 
-                // days in each month, leap year, etc. ) we can't jump forward an
-                // exact number of seconds to calculate the fire time as we can
-                // with the second, minute and hour intervals.   But, rather
-                // than slowly crawling our way there by iteratively adding the 
-                // increment to the start time until we reach the "after time",
-                // we can first make a big leap most of the way there...
-                
-                long jumpCount = secondsAfterStart / (repeatLong * 7L * 24L * 60L * 60L);
-                // if we need to make a big jump, jump most of the way there, 
-                // but not all the way because in some cases we may over-shoot or under-shoot
-                if(jumpCount > 20) {
-                    if(jumpCount < 50)
-                        jumpCount = (long) (jumpCount * 0.80);
-                    else if(jumpCount < 500)
-                        jumpCount = (long) (jumpCount * 0.90);
-                    else
-                        jumpCount = (long) (jumpCount * 0.95);
-                    sTime.add(java.util.Calendar.WEEK_OF_YEAR, (int) (getRepeatInterval() * jumpCount));
-                }
-                
-                while(!sTime.getTime().after(afterTime) &&
-                        (sTime.get(java.util.Calendar.YEAR) < YEAR_TO_GIVEUP_SCHEDULING_AT)) {            
-                    sTime.add(java.util.Calendar.WEEK_OF_YEAR, getRepeatInterval());
-                }
-                while(daylightSavingHourShiftOccurredAndAdvanceNeeded(sTime, initialHourOfDay, afterTime) &&
-                        (sTime.get(java.util.Calendar.YEAR) < YEAR_TO_GIVEUP_SCHEDULING_AT)) {
-                    sTime.add(java.util.Calendar.WEEK_OF_YEAR, getRepeatInterval());
-                }
-                time = sTime.getTime();
-            }
-            else if(getRepeatIntervalUnit().equals(IntervalUnit.MONTH)) {
-                sTime.setLenient(true);
-    
-                // because of the large variation in size of months, and 
-                // because months are already large blocks of time, we will
-                // just advance via brute-force iteration.
-                
-                while(!sTime.getTime().after(afterTime) &&
-                        (sTime.get(java.util.Calendar.YEAR) < YEAR_TO_GIVEUP_SCHEDULING_AT)) {            
-                    sTime.add(java.util.Calendar.MONTH, getRepeatInterval());
-                }
-                while(daylightSavingHourShiftOccurredAndAdvanceNeeded(sTime, initialHourOfDay, afterTime) &&
-                        (sTime.get(java.util.Calendar.YEAR) < YEAR_TO_GIVEUP_SCHEDULING_AT)) {
-                    sTime.add(java.util.Calendar.MONTH, getRepeatInterval());
-                }
-                time = sTime.getTime();
-            }
-            else if(getRepeatIntervalUnit().equals(IntervalUnit.YEAR)) {
-    
-                while(!sTime.getTime().after(afterTime) &&
-                        (sTime.get(java.util.Calendar.YEAR) < YEAR_TO_GIVEUP_SCHEDULING_AT)) {            
-                    sTime.add(java.util.Calendar.YEAR, getRepeatInterval());
-                }
-                while(daylightSavingHourShiftOccurredAndAdvanceNeeded(sTime, initialHourOfDay, afterTime) &&
-                        (sTime.get(java.util.Calendar.YEAR) < YEAR_TO_GIVEUP_SCHEDULING_AT)) {
-                    sTime.add(java.util.Calendar.YEAR, getRepeatInterval());
-                }
-                time = sTime.getTime();
-            }
-        } // case of interval of a day or greater
-        
-        if (!ignoreEndTime && (endMillis <= time.getTime())) {
+        // a time of day that does not exist on a day is moved forward
+        while (isPreserveHourOfDayAcrossDaylightSavings() && isSkipDayIfHourDoesNotExist()
+                && time.getHour() != start.getHour() && time.toInstant().toEpochMilli() < GIVE_UP_SCHEDULING_AT) {
+            time = getFireTime(start, zone, unit, ++count);
+        }
+
+        return time.toInstant().toEpochMilli();
+    }
+
+    // the zone of the trigger's time zone, or null if java.time does not
+    // have its rules, such as for a custom SimpleTimeZone
+    private ZoneId getZoneId() {
+        TimeZone tz = (timeZone != null) ? timeZone : TimeZone.getDefault();
+        try {
+            ZoneId zone = tz.toZoneId();
+            return TimeZone.getTimeZone(zone).hasSameRules(tz) ? zone : null;
+        } catch (DateTimeException e) {
             return null;
         }
+    }
 
-        return time;
+    private ZonedDateTime getFireTime(LocalDateTime start, ZoneId zone, ChronoUnit unit, long count) {
+        return ZonedDateTime.of(start.plus(count * getRepeatInterval(), unit), zone);
+    }
+
+    // the first fire time of a month or year interval (or a day or week
+    // interval in a time zone java.time does not know) after the given time,
+    // stepping a Calendar from the start time an interval at a time: once a
+    // shorter month moves the day of the month back (such as January 31st to
+    // February 28th), the later fire times stay on that day
+    private long getFireTimeAfter(long startMillis, long afterMillis, int calendarField) {
+        Calendar sTime = Calendar.getInstance();
+        if (timeZone != null)
+            sTime.setTimeZone(timeZone);
+        sTime.setTimeInMillis(startMillis);
+        sTime.setLenient(true);
+
+        // days and weeks have a length, give or take daylight saving time, so
+        // all but the last interval before the time after can be jumped over
+        if (calendarField == Calendar.DAY_OF_YEAR || calendarField == Calendar.WEEK_OF_YEAR) {
+            long intervalMillis = getRepeatInterval() * ((calendarField == Calendar.DAY_OF_YEAR) ? 1L : 7L) * 24L * 60L * 60L * 1000L;
+            long jumpCount = (afterMillis - startMillis) / intervalMillis - 1;
+            if (jumpCount > 0) {
+                sTime.add(calendarField, (int) Math.min(Integer.MAX_VALUE / getRepeatInterval(), jumpCount) * getRepeatInterval());
+            }
+        }
+
+        int initialHourOfDay = sTime.get(Calendar.HOUR_OF_DAY);
+        while (sTime.getTimeInMillis() <= afterMillis &&
+                (sTime.get(Calendar.YEAR) < YEAR_TO_GIVEUP_SCHEDULING_AT)) {
+            sTime.add(calendarField, getRepeatInterval());
+        }
+        while (daylightSavingHourShiftOccurredAndAdvanceNeeded(sTime, initialHourOfDay, afterMillis) &&
+                (sTime.get(Calendar.YEAR) < YEAR_TO_GIVEUP_SCHEDULING_AT)) {
+            sTime.add(calendarField, getRepeatInterval());
+        }
+        return sTime.getTimeInMillis();
     }
 
-    private boolean daylightSavingHourShiftOccurredAndAdvanceNeeded(Calendar newTime, int initialHourOfDay, Date afterTime) {
+    private boolean daylightSavingHourShiftOccurredAndAdvanceNeeded(Calendar newTime, int initialHourOfDay, long afterMillis) {
         if(isPreserveHourOfDayAcrossDaylightSavings() && newTime.get(Calendar.HOUR_OF_DAY) != initialHourOfDay) {
             newTime.set(Calendar.HOUR_OF_DAY, initialHourOfDay);
             if (newTime.get(Calendar.HOUR_OF_DAY) != initialHourOfDay) {
                 return isSkipDayIfHourDoesNotExist();
             } else {
-                return !newTime.getTime().after(afterTime);
+                return newTime.getTimeInMillis() <= afterMillis;
             }
         }
         return false;
     }
-    
+
     /**
      * <p>
      * Returns the final time at which the <code>DateIntervalTrigger</code> will
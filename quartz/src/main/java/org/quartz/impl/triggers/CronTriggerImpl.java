@@ -68,6 +68,8 @@ public class CronTriggerImpl extends AbstractTrigger<CronTrigger> implements Cro
     private static final Logger LOGGER = LoggerFactory.getLogger(CronTriggerImpl.class);
 
     protected static final int YEAR_TO_GIVEUP_SCHEDULING_AT = CronExpression.MAX_YEAR;
+
+    private static final long GIVE_UP_SCHEDULING_AT = getStartOfYear(YEAR_TO_GIVEUP_SCHEDULING_AT + 1);
     
     
     /*
@@ -400,7 +402,7 @@ public class CronTriggerImpl extends AbstractTrigger<CronTrigger> implements Cro
             Date newFireTime = getFireTimeAfter(new Date());
             while (newFireTime != null && cal != null
                     && !cal.isTimeIncluded(newFireTime.getTime())) {
-                newFireTime = getFireTimeAfter(newFireTime);
+                newFireTime = getFireTimeAfterExcluded(newFireTime, cal);
             }
             setNextFireTime(newFireTime);
         } else if (instr == MISFIRE_INSTRUCTION_FIRE_ONCE_NOW) {
@@ -499,7 +501,7 @@ public class CronTriggerImpl extends AbstractTrigger<CronTrigger> implements Cro
 
         while (nextFireTime != null && calendar != null
                 && !calendar.isTimeIncluded(nextFireTime.getTime())) {
-            nextFireTime = getFireTimeAfter(nextFireTime);
+            nextFireTime = getFireTimeAfterExcluded(nextFireTime, calendar);
         }
     }
 
@@ -519,16 +521,13 @@ public class CronTriggerImpl extends AbstractTrigger<CronTrigger> implements Cro
         Date now = new Date();
         while (nextFireTime != null && !calendar.isTimeIncluded(nextFireTime.getTime())) {
 
-            nextFireTime = getFireTimeAfter(nextFireTime);
+            nextFireTime = getFireTimeAfterExcluded(nextFireTime, calendar);
 
             if(nextFireTime == null)
                 break;
             
             //avoid infinite loop
-            // Use gregorian only because the constant is based on Gregorian
-            java.util.Calendar c = new java.util.GregorianCalendar(); 
-            c.setTime(nextFireTime);
-            if (c.get(java.util.Calendar.YEAR) > YEAR_TO_GIVEUP_SCHEDULING_AT) {
+            if (nextFireTime.getTime() >= GIVE_UP_SCHEDULING_AT) {
                 nextFireTime = null;
             }
             
@@ -563,7 +562,7 @@ public class CronTriggerImpl extends AbstractTrigger<CronTrigger> implements Cro
 
         while (nextFireTime != null && calendar != null
                 && !calendar.isTimeIncluded(nextFireTime.getTime())) {
-            nextFireTime = getFireTimeAfter(nextFireTime);
+            nextFireTime = getFireTimeAfterExcluded(nextFireTime, calendar);
         }
 
         return nextFireTime;
@@ -20,6 +20,7 @@ package org.quartz.impl.triggers;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Set;
+import java.util.TimeZone;
 
 import org.quartz.DailyTimeIntervalScheduleBuilder;
 import org.quartz.DailyTimeIntervalTrigger;
@@ -85,6 +86,8 @@ public class DailyTimeIntervalTriggerImpl extends AbstractTrigger<DailyTimeInter
      */
     private static final int YEAR_TO_GIVEUP_SCHEDULING_AT = java.util.Calendar.getInstance().get(java.util.Calendar.YEAR) + 100;
 
+    private static final long GIVE_UP_SCHEDULING_AT = getStartOfYear(YEAR_TO_GIVEUP_SCHEDULING_AT + 1);
+
     /*
      * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
      * 
@@ -117,6 +120,12 @@ public class DailyTimeIntervalTriggerImpl extends AbstractTrigger<DailyTimeInter
 
     private boolean complete = false;
 
+    private boolean cacheDaySchedule = false;
+
+    // the fire times of the day of the last fire time computed, if they are
+    // cached
+    private transient volatile DaySchedule daySchedule;
+
     /*
      * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
      * 
@@ -369,6 +378,7 @@ public class DailyTimeIntervalTriggerImpl extends AbstractTrigger<DailyTimeInter
                 repeatIntervalUnit.equals(IntervalUnit.HOUR))))
             throw new IllegalArgumentException("Invalid repeat IntervalUnit (must be SECOND, MINUTE or HOUR).");
         this.repeatIntervalUnit = intervalUnit;
+        this.daySchedule = null;
     }
 
     /* (non-Javadoc)
@@ -395,6 +405,7 @@ public class DailyTimeIntervalTriggerImpl extends AbstractTrigger<DailyTimeInter
         }
 
         this.repeatInterval = repeatInterval;
+        this.daySchedule = null;
     }
 
     /* (non-Javadoc)
@@ -450,7 +461,7 @@ public class DailyTimeIntervalTriggerImpl extends AbstractTrigger<DailyTimeInter
             Date newFireTime = getFireTimeAfter(new Date());
             while (newFireTime != null && cal != null
                     && !cal.isTimeIncluded(newFireTime.getTime())) {
-                newFireTime = getFireTimeAfter(newFireTime);
+                newFireTime = getFireTimeAfterExcluded(newFireTime, cal);
             }
             setNextFireTime(newFireTime);
         } else if (instr == MISFIRE_INSTRUCTION_FIRE_ONCE_NOW) { 
@@ -477,26 +488,24 @@ public class DailyTimeIntervalTriggerImpl extends AbstractTrigger<DailyTimeInter
     public void triggered(org.quartz.Calendar calendar) {
         timesTriggered++;
         previousFireTime = nextFireTime;
-        nextFireTime = getFireTimeAfter(nextFireTime);
+        long time = getFireTimeAfter((nextFireTime == null) ? System.currentTimeMillis() : nextFireTime.getTime());
 
-        while (nextFireTime != null && calendar != null
-                && !calendar.isTimeIncluded(nextFireTime.getTime())) {
-            
-            nextFireTime = getFireTimeAfter(nextFireTime);
+        while (time != NO_FIRE_TIME && calendar != null
+                && !calendar.isTimeIncluded(time)) {
+
+            time = getFireTimeAfterExcluded(time, calendar);
 
-            if(nextFireTime == null)
-                break;
-            
             //avoid infinite loop
-            java.util.Calendar c = java.util.Calendar.getInstance();
-            c.setTime(nextFireTime);
-            if (c.get(java.util.Calendar.YEAR) > YEAR_TO_GIVEUP_SCHEDULING_AT) {
-                nextFireTime = null;
+            if (time >= GIVE_UP_SCHEDULING_AT) {
+                time = NO_FIRE_TIME;
             }
         }
-        
-        if (nextFireTime == null) {
+
+        if (time == NO_FIRE_TIME) {
+            nextFireTime = null;
             complete = true;
+        } else {
+            nextFireTime = new Date(time);
         }
     }
 
@@ -507,6 +516,7 @@ public class DailyTimeIntervalTriggerImpl extends AbstractTrigger<DailyTimeInter
     @Override
     public void updateWithNewCalendar(org.quartz.Calendar calendar, long misfireThreshold)
     {
+        daySchedule = null;
         nextFireTime = getFireTimeAfter(previousFireTime);
 
         if (nextFireTime == null || calendar == null) {
@@ -516,15 +526,13 @@ public class DailyTimeIntervalTriggerImpl extends AbstractTrigger<DailyTimeInter
         Date now = new Date();
         while (nextFireTime != null && !calendar.isTimeIncluded(nextFireTime.getTime())) {
 
-            nextFireTime = getFireTimeAfter(nextFireTime);
+            nextFireTime = getFireTimeAfterExcluded(nextFireTime, calendar);
 
             if(nextFireTime == null)
                 break;
             
             //avoid infinite loop
-            java.util.Calendar c = java.util.Calendar.getInstance();
-            c.setTime(nextFireTime);
-            if (c.get(java.util.Calendar.YEAR) > YEAR_TO_GIVEUP_SCHEDULING_AT) {
+            if (nextFireTime.getTime() >= GIVE_UP_SCHEDULING_AT) {
                 nextFireTime = null;
             }
 
@@ -562,15 +570,13 @@ public class DailyTimeIntervalTriggerImpl extends AbstractTrigger<DailyTimeInter
       while (nextFireTime != null && calendar != null
               && !calendar.isTimeIncluded(nextFireTime.getTime())) {
           
-          nextFireTime = getFireTimeAfter(nextFireTime);
+          nextFireTime = getFireTimeAfterExcluded(nextFireTime, calendar);
           
           if(nextFireTime == null)
               break;
       
           //avoid infinite loop
-          java.util.Calendar c = java.util.Calendar.getInstance();
-          c.setTime(nextFireTime);
-          if (c.get(java.util.Calendar.YEAR) > YEAR_TO_GIVEUP_SCHEDULING_AT) {
+          if (nextFireTime.getTime() >= GIVE_UP_SCHEDULING_AT) {
               return null;
           }
       }
@@ -649,27 +655,68 @@ public class DailyTimeIntervalTriggerImpl extends AbstractTrigger<DailyTimeInter
      */
     @Override
     public Date getFireTimeAfter(Date afterTime) {
+        long time = getFireTimeAfter((afterTime == null) ? System.currentTimeMillis() : afterTime.getTime());
+        return (time == NO_FIRE_TIME) ? null : new Date(time);
+    }
+
+    /**
+     * <p>
+     * Returns the next time at which the <code>DailyTimeIntervalTrigger</code> will
+     * fire, after the given time, in milliseconds. If the trigger will not
+     * fire after the given time, <code>NO_FIRE_TIME</code> will be returned.
+     * </p>
+     *
+     * @see #setCacheDaySchedule(boolean)
+     */
+    @Override
+    public long getFireTimeAfter(long afterTime) {
         // Check if trigger has completed or not.
         if (complete) {
-            return null;
+            return NO_FIRE_TIME;
         }
         
         // Check repeatCount limit
         if (repeatCount != REPEAT_INDEFINITELY && timesTriggered > repeatCount) {
-          return null;
+          return NO_FIRE_TIME;
         }
       
         // a. Increment afterTime by a second, so that we are comparing against a time after it!
-        if (afterTime == null) {
-          afterTime = new Date(System.currentTimeMillis() + 1000L);
-        } else {
-          afterTime = new Date(afterTime.getTime() + 1000L);
-        }
+        long time = afterTime + 1000L;
          
         // make sure afterTime is at least startTime
-        if(afterTime.before(startTime))
-          afterTime = startTime;
+        if (time < startTime.getTime())
+          time = startTime.getTime();
+
+        if (!cacheDaySchedule) {
+            Date fireTime = getFireTimeAtOrAfter(new Date(time));
+            return (fireTime == null) ? NO_FIRE_TIME : fireTime.getTime();
+        }
+
+        TimeZone timeZone = TimeZone.getDefault();
+        DaySchedule schedule = daySchedule;
+        if (schedule != null && schedule.covers(time, timeZone)) {
+            if (endTime != null && time > endTime.getTime()) {
+                return NO_FIRE_TIME;
+            }
+            long fireTime = schedule.getFireTimeAtOrAfter(time);
+            if (fireTime != NO_FIRE_TIME) {
+                return fireTime;
+            }
+        }
+
+        Date fireTime = getFireTimeAtOrAfter(new Date(time));
+        if (fireTime == null) {
+            return NO_FIRE_TIME;
+        }
+        if (schedule == null || !schedule.covers(fireTime.getTime(), timeZone)) {
+            daySchedule = DaySchedule.of(this, fireTime, timeZone);
+        }
+        return fireTime.getTime();
+    }
 
+    // the fire time at or after the given time (already a second after the
+    // time to fire after), truncated to the second
+    private Date getFireTimeAtOrAfter(Date afterTime) {
         // b.Check to see if afterTime is after endTimeOfDay or not. If yes, then we need to advance to next day as well.
         boolean afterTimePastEndTimeOfDay = false;
         if (endTimeOfDay != null) {
@@ -877,6 +924,7 @@ public class DailyTimeIntervalTriggerImpl extends AbstractTrigger<DailyTimeInter
             throw new IllegalArgumentException("DaysOfWeek set must be a set that contains at least one day.");
 
         this.daysOfWeek = daysOfWeek;
+        this.daySchedule = null;
     }
 
     /**
@@ -901,6 +949,7 @@ public class DailyTimeIntervalTriggerImpl extends AbstractTrigger<DailyTimeInter
         }
 
         this.startTimeOfDay = startTimeOfDay;
+        this.daySchedule = null;
     }
 
     /**
@@ -920,6 +969,7 @@ public class DailyTimeIntervalTriggerImpl extends AbstractTrigger<DailyTimeInter
                     "End time of day cannot be before start time of day");
         }
         this.endTimeOfDay = endTimeOfDay;
+        this.daySchedule = null;
     }
     
     /**
@@ -933,7 +983,8 @@ public class DailyTimeIntervalTriggerImpl extends AbstractTrigger<DailyTimeInter
         
         DailyTimeIntervalScheduleBuilder cb = DailyTimeIntervalScheduleBuilder.dailyTimeIntervalSchedule()
                 .withInterval(getRepeatInterval(), getRepeatIntervalUnit())
-                .onDaysOfTheWeek(getDaysOfWeek()).startingDailyAt(getStartTimeOfDay()).endingDailyAt(getEndTimeOfDay());
+                .onDaysOfTheWeek(getDaysOfWeek()).startingDailyAt(getStartTimeOfDay()).endingDailyAt(getEndTimeOfDay())
+                .cacheDaySchedule(isCacheDaySchedule());
             
         switch(getMisfireInstruction()) {
             case MISFIRE_INSTRUCTION_DO_NOTHING : cb.withMisfireHandlingInstructionDoNothing();
@@ -962,4 +1013,120 @@ public class DailyTimeIntervalTriggerImpl extends AbstractTrigger<DailyTimeInter
 
         this.repeatCount = repeatCount;
     }
+
+    /**
+     * <p>
+     * Whether the fire times of the day the trigger last fired on are kept,
+     * so that the next fire time within the same day is computed by adding
+     * the repeat interval, rather than by recomputing the day's start and end
+     * times of day.  Defaults to false.
+     * </p>
+     *
+     * <p>
+     * The cached day is dropped when the trigger's schedule, its calendar or
+     * the default time zone changes.  Days of the week must be changed with
+     * <code>{@link #setDaysOfWeek(Set)}</code>, not by changing the set.
+     * </p>
+     */
+    public boolean isCacheDaySchedule() {
+        return cacheDaySchedule;
+    }
+
+    public void setCacheDaySchedule(boolean cacheDaySchedule) {
+        this.cacheDaySchedule = cacheDaySchedule;
+        this.daySchedule = null;
+    }
+
+    /**
+     * The fire times of one day: the start time of day, then every repeat
+     * interval up to the end time of day.  Only days without a daylight
+     * saving transition at either end are cached, so that a time is on the
+     * day if and only if it is between the day's first and last
+     * millisecond.
+     */
+    private static final class DaySchedule {
+
+        private final String timeZoneId;
+
+        private final int rawOffset;
+
+        private final long dayStart;
+
+        private final long dayEnd;
+
+        private final long first;
+
+        private final long last;
+
+        private final long interval;
+
+        private DaySchedule(TimeZone timeZone, long dayStart, long dayEnd, long first, long last, long interval) {
+            this.timeZoneId = timeZone.getID();
+            this.rawOffset = timeZone.getRawOffset();
+            this.dayStart = dayStart;
+            this.dayEnd = dayEnd;
+            this.first = first;
+            this.last = last;
+            this.interval = interval;
+        }
+
+        static DaySchedule of(DailyTimeIntervalTriggerImpl trigger, Date fireTime, TimeZone timeZone) {
+            long interval;
+            switch (trigger.getRepeatIntervalUnit()) {
+                case SECOND:
+                    interval = 1000L;
+                    break;
+                case MINUTE:
+                    interval = 60L * 1000L;
+                    break;
+                case HOUR:
+                    interval = 60L * 60L * 1000L;
+                    break;
+                default:
+                    return null;
+            }
+            interval *= trigger.getRepeatInterval();
+
+            Calendar cal = Calendar.getInstance(timeZone);
+            cal.setTime(fireTime);
+            cal.set(Calendar.HOUR_OF_DAY, 0);
+            cal.set(Calendar.MINUTE, 0);
+            cal.set(Calendar.SECOND, 0);
+            cal.set(Calendar.MILLISECOND, 0);
+            long dayStart = cal.getTimeInMillis();
+            cal.add(Calendar.DATE, 1);
+            cal.set(Calendar.HOUR_OF_DAY, 0);
+            long dayEnd = cal.getTimeInMillis();
+
+            int offset = timeZone.getOffset(dayStart);
+            if (timeZone.getOffset(dayStart - 1) != offset || timeZone.getOffset(dayEnd - 1) != offset
+                    || timeZone.getOffset(dayEnd) != offset) {
+                return null;
+            }
+
+            TimeOfDay endTimeOfDay = trigger.getEndTimeOfDay();
+            if (endTimeOfDay == null) {
+                endTimeOfDay = new TimeOfDay(23, 59, 59);
+            }
+            long first = trigger.getStartTimeOfDay().getTimeOfDayForDate(fireTime).getTime();
+            long last = endTimeOfDay.getTimeOfDayForDate(fireTime).getTime();
+            return new DaySchedule(timeZone, dayStart, dayEnd, first, last, interval);
+        }
+
+        // whether the time, a second after the time to fire after, is on
+        // this day and not after its end time of day
+        boolean covers(long time, TimeZone timeZone) {
+            return time >= dayStart && time < dayEnd && time <= last
+                    && timeZone.getRawOffset() == rawOffset && timeZone.getID().equals(timeZoneId);
+        }
+
+        long getFireTimeAtOrAfter(long time) {
+            long second = time - Math.floorMod(time, 1000L);
+            if (second <= first) {
+                return first;
+            }
+            long fireTime = first + ((second - first + interval - 1) / interval) * interval;
+            return (fireTime <= last) ? fireTime : NO_FIRE_TIME;
+        }
+    }
 }
@@ -67,6 +67,8 @@ public class SimpleTriggerImpl extends AbstractTrigger<SimpleTrigger> implements
     private static final long serialVersionUID = -3735980074222850397L;
 
     private static final int YEAR_TO_GIVEUP_SCHEDULING_AT = java.util.Calendar.getInstance().get(java.util.Calendar.YEAR) + 100;
+
+    private static final long GIVE_UP_SCHEDULING_AT = getStartOfYear(YEAR_TO_GIVEUP_SCHEDULING_AT + 1);
     
     /*
      * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -485,15 +487,13 @@ public class SimpleTriggerImpl extends AbstractTrigger<SimpleTrigger> implements
             Date newFireTime = getFireTimeAfter(new Date());
             while (newFireTime != null && cal != null
                     && !cal.isTimeIncluded(newFireTime.getTime())) {
-                newFireTime = getFireTimeAfter(newFireTime);
+                newFireTime = getFireTimeAfterExcluded(newFireTime, cal);
 
                 if(newFireTime == null)
                     break;
                 
                 //avoid infinite loop
-                java.util.Calendar c = java.util.Calendar.getInstance();
-                c.setTime(newFireTime);
-                if (c.get(java.util.Calendar.YEAR) > YEAR_TO_GIVEUP_SCHEDULING_AT) {
+                if (newFireTime.getTime() >= GIVE_UP_SCHEDULING_AT) {
                     newFireTime = null;
                 }
             }
@@ -502,15 +502,13 @@ public class SimpleTriggerImpl extends AbstractTrigger<SimpleTrigger> implements
             Date newFireTime = getFireTimeAfter(new Date());
             while (newFireTime != null && cal != null
                     && !cal.isTimeIncluded(newFireTime.getTime())) {
-                newFireTime = getFireTimeAfter(newFireTime);
+                newFireTime = getFireTimeAfterExcluded(newFireTime, cal);
 
                 if(newFireTime == null)
                     break;
                 
                 //avoid infinite loop
-                java.util.Calendar c = java.util.Calendar.getInstance();
-                c.setTime(newFireTime);
-                if (c.get(java.util.Calendar.YEAR) > YEAR_TO_GIVEUP_SCHEDULING_AT) {
+                if (newFireTime.getTime() >= GIVE_UP_SCHEDULING_AT) {
                     newFireTime = null;
                 }
             }
@@ -574,23 +572,20 @@ public class SimpleTriggerImpl extends AbstractTrigger<SimpleTrigger> implements
     public void triggered(Calendar calendar) {
         timesTriggered++;
         previousFireTime = nextFireTime;
-        nextFireTime = getFireTimeAfter(nextFireTime);
+        long time = getNextFireTimeAfter((nextFireTime == null) ? System.currentTimeMillis() : nextFireTime.getTime());
 
-        while (nextFireTime != null && calendar != null
-                && !calendar.isTimeIncluded(nextFireTime.getTime())) {
-            
-            nextFireTime = getFireTimeAfter(nextFireTime);
+        while (time != NO_FIRE_TIME && calendar != null
+                && !calendar.isTimeIncluded(time)) {
+
+            time = getFireTimeAfterExcluded(time, calendar);
 
-            if(nextFireTime == null)
-                break;
-            
             //avoid infinite loop
-            java.util.Calendar c = java.util.Calendar.getInstance();
-            c.setTime(nextFireTime);
-            if (c.get(java.util.Calendar.YEAR) > YEAR_TO_GIVEUP_SCHEDULING_AT) {
-                nextFireTime = null;
+            if (time >= GIVE_UP_SCHEDULING_AT) {
+                time = NO_FIRE_TIME;
             }
         }
+
+        nextFireTime = (time == NO_FIRE_TIME) ? null : new Date(time);
     }
 
     /**
@@ -608,15 +603,13 @@ public class SimpleTriggerImpl extends AbstractTrigger<SimpleTrigger> implements
         Date now = new Date();
         while (nextFireTime != null && !calendar.isTimeIncluded(nextFireTime.getTime())) {
 
-            nextFireTime = getFireTimeAfter(nextFireTime);
+            nextFireTime = getFireTimeAfterExcluded(nextFireTime, calendar);
 
             if(nextFireTime == null)
                 break;
             
             //avoid infinite loop
-            java.util.Calendar c = java.util.Calendar.getInstance();
-            c.setTime(nextFireTime);
-            if (c.get(java.util.Calendar.YEAR) > YEAR_TO_GIVEUP_SCHEDULING_AT) {
+            if (nextFireTime.getTime() >= GIVE_UP_SCHEDULING_AT) {
                 nextFireTime = null;
             }
 
@@ -648,22 +641,22 @@ public class SimpleTriggerImpl extends AbstractTrigger<SimpleTrigger> implements
     @Override
     public Date computeFirstFireTime(Calendar calendar) {
         nextFireTime = getStartTime();
+        if (nextFireTime == null || calendar == null || calendar.isTimeIncluded(nextFireTime.getTime())) {
+            return nextFireTime;
+        }
+
+        long time = nextFireTime.getTime();
+        do {
+            time = getFireTimeAfterExcluded(time, calendar);
 
-        while (nextFireTime != null && calendar != null
-                && !calendar.isTimeIncluded(nextFireTime.getTime())) {
-            nextFireTime = getFireTimeAfter(nextFireTime);
-            
-            if(nextFireTime == null)
-                break;
-            
             //avoid infinite loop
-            java.util.Calendar c = java.util.Calendar.getInstance();
-            c.setTime(nextFireTime);
-            if (c.get(java.util.Calendar.YEAR) > YEAR_TO_GIVEUP_SCHEDULING_AT) {
+            if (time >= GIVE_UP_SCHEDULING_AT) {
+                nextFireTime = (time == NO_FIRE_TIME) ? null : new Date(time);
                 return null;
             }
-        }
-        
+        } while (!calendar.isTimeIncluded(time));
+
+        nextFireTime = new Date(time);
         return nextFireTime;
     }
 
@@ -734,47 +727,56 @@ public class SimpleTriggerImpl extends AbstractTrigger<SimpleTrigger> implements
      */
     @Override
     public Date getFireTimeAfter(Date afterTime) {
+        long time = getFireTimeAfter((afterTime == null) ? System.currentTimeMillis() : afterTime.getTime());
+        return (time == NO_FIRE_TIME) ? null : new Date(time);
+    }
+
+    /**
+     * <p>
+     * Returns the next time at which the <code>SimpleTrigger</code> will
+     * fire, after the given time, in milliseconds. If the trigger will not
+     * fire after the given time, <code>NO_FIRE_TIME</code> will be returned.
+     * </p>
+     */
+    @Override
+    public long getFireTimeAfter(long afterMillis) {
         if (complete) {
-            return null;
+            return NO_FIRE_TIME;
         }
 
         if ((timesTriggered > repeatCount)
                 && (repeatCount != REPEAT_INDEFINITELY)) {
-            return null;
+            return NO_FIRE_TIME;
         }
 
-        if (afterTime == null) {
-            afterTime = new Date();
-        }
+        long startMillis = getStartTime().getTime();
 
-        if (repeatCount == 0 && afterTime.compareTo(getStartTime()) >= 0) {
-            return null;
+        if (repeatCount == 0 && afterMillis >= startMillis) {
+            return NO_FIRE_TIME;
         }
 
-        long startMillis = getStartTime().getTime();
-        long afterMillis = afterTime.getTime();
         long endMillis = (getEndTime() == null) ? Long.MAX_VALUE : getEndTime()
                 .getTime();
 
         if (endMillis <= afterMillis) {
-            return null;
+            return NO_FIRE_TIME;
         }
 
         if (afterMillis < startMillis) {
-            return new Date(startMillis);
+            return startMillis;
         }
 
         long numberOfTimesExecuted = ((afterMillis - startMillis) / repeatInterval) + 1;
 
         if ((numberOfTimesExecuted > repeatCount) && 
             (repeatCount != REPEAT_INDEFINITELY)) {
-            return null;
+            return NO_FIRE_TIME;
         }
 
-        Date time = new Date(startMillis + (numberOfTimesExecuted * repeatInterval));
+        long time = startMillis + (numberOfTimesExecuted * repeatInterval);
 
-        if (endMillis <= time.getTime()) {
-            return null;
+        if (endMillis <= time) {
+            return NO_FIRE_TIME;
         }
 
         return time;
@@ -0,0 +1,213 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.management;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongSupplier;
+import java.util.regex.Pattern;
+
+import org.quartz.utils.LatencyHistogram;
+import org.quartz.utils.PipelineMetrics;
+
+/**
+ * <p>
+ * The named metrics of a scheduler, handed to its
+ * <code>{@link org.quartz.spi.MetricsExporter}</code>s.
+ * </p>
+ *
+ * <p>
+ * A metric only refers to a value the scheduler already maintains (a
+ * counter, a gauge or a <code>{@link LatencyHistogram}</code>): reading it
+ * aggregates nothing and takes none of the scheduler's or the job store's
+ * locks, so that metrics can be read as often as a monitoring system
+ * wishes.  Applications may add metrics of their own, named after the
+ * Prometheus conventions (<code>[a-zA-Z_:][a-zA-Z0-9_:]*</code>, with the
+ * unit as suffix).
+ * </p>
+ *
+ * @see org.quartz.core.QuartzScheduler#getMetricsRegistry()
+ */
+public class MetricsRegistry {
+
+    public enum Type {
+        /** A value that only ever increases, until the scheduler restarts. */
+        COUNTER,
+        /** A value that may go up and down. */
+        GAUGE,
+        /** The distribution of recorded values, from one histogram per label value. */
+        SUMMARY
+    }
+
+    private static final Pattern NAME_PATTERN = Pattern.compile("[a-zA-Z_:][a-zA-Z0-9_:]*");
+
+    private final PipelineMetrics pipelineMetrics;
+
+    private final List<Metric> metrics = new CopyOnWriteArrayList<>();
+
+    public MetricsRegistry(PipelineMetrics pipelineMetrics) {
+        this.pipelineMetrics = pipelineMetrics;
+    }
+
+    /**
+     * @return the latency histograms of the scheduler's trigger pipeline,
+     * which are also registered as summaries.
+     */
+    public PipelineMetrics getPipelineMetrics() {
+        return pipelineMetrics;
+    }
+
+    public void addCounter(String name, String help, LongSupplier value) {
+        add(new Metric(name, help, Type.COUNTER, value, null, null, 1.0));
+    }
+
+    public void addGauge(String name, String help, LongSupplier value) {
+        add(new Metric(name, help, Type.GAUGE, value, null, null, 1.0));
+    }
+
+    /**
+     * Add a summary of the values recorded by a histogram.
+     *
+     * @param scale the factor converting the recorded values to the unit
+     * of the metric, e.g. <code>1.0e-6</code> for microseconds recorded in a
+     * metric named <code>..._seconds</code>.
+     */
+    public void addSummary(String name, String help, LatencyHistogram histogram, double scale) {
+        add(new Metric(name, help, Type.SUMMARY, null, null, Collections.singletonMap("", histogram), scale));
+    }
+
+    /**
+     * Add a summary of the values recorded by several histograms, told
+     * apart by the value of the given label.
+     *
+     * @param histograms the histograms by label value; a live view, so that
+     * histograms added to it later are exported too.
+     * @param scale the factor converting the recorded values to the unit
+     * of the metric.
+     */
+    public void addSummary(String name, String help, String labelName, Map<String, LatencyHistogram> histograms,
+            double scale) {
+        if (labelName == null || !NAME_PATTERN.matcher(labelName).matches() || labelName.contains(":")) {
+            throw new IllegalArgumentException("Invalid label name: " + labelName);
+        }
+        add(new Metric(name, help, Type.SUMMARY, null, labelName, histograms, scale));
+    }
+
+    private void add(Metric metric) {
+        synchronized (metrics) {
+            for (Metric m : metrics) {
+                if (m.getName().equals(metric.getName())) {
+                    throw new IllegalArgumentException("A metric named '" + metric.getName()
+                            + "' is already registered.");
+                }
+            }
+            metrics.add(metric);
+        }
+    }
+
+    /**
+     * @return the registered metrics, in the order they were added.
+     */
+    public List<Metric> getMetrics() {
+        return Collections.unmodifiableList(metrics);
+    }
+
+    public static class Metric {
+
+        private final String name;
+
+        private final String help;
+
+        private final Type type;
+
+        private final LongSupplier value;
+
+        private final String labelName;
+
+        private final Map<String, LatencyHistogram> histograms;
+
+        private final double scale;
+
+        Metric(String name, String help, Type type, LongSupplier value, String labelName,
+                Map<String, LatencyHistogram> histograms, double scale) {
+            if (name == null || !NAME_PATTERN.matcher(name).matches()) {
+                throw new IllegalArgumentException("Invalid metric name: " + name);
+            }
+            if (value == null && histograms == null) {
+                throw new IllegalArgumentException("Metric '" + name + "' has no value.");
+            }
+            this.name = name;
+            this.help = help;
+            this.type = type;
+            this.value = value;
+            this.labelName = labelName;
+            this.histograms = histograms;
+            this.scale = scale;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getHelp() {
+            return help;
+        }
+
+        public Type getType() {
+            return type;
+        }
+
+        /**
+         * @return the current value of a counter or gauge.
+         */
+        public long getValue() {
+            return value.getAsLong();
+        }
+
+        /**
+         * @return the name of the label telling the histograms of a summary
+         * apart, or null if it has a single histogram.
+         */
+        public String getLabelName() {
+            return labelName;
+        }
+
+        /**
+         * @return the histograms of a summary, by label value (the empty
+         * string if it has a single histogram).
+         */
+        public Map<String, LatencyHistogram> getHistograms() {
+            return histograms;
+        }
+
+        /**
+         * @return the factor converting the values recorded by the
+         * histograms of a summary to the unit of the metric.
+         */
+        public double getScale() {
+            return scale;
+        }
+
+        @Override
+        public String toString() {
+            return "Metric [name=" + name + ", type=" + type + "]";
+        }
+    }
+}
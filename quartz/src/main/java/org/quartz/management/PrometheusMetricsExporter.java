@@ -0,0 +1,256 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.management;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerConfigException;
+import org.quartz.SchedulerException;
+import org.quartz.spi.MetricsExporter;
+import org.quartz.utils.LatencyHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>
+ * A <code>{@link MetricsExporter}</code> that serves the scheduler's
+ * <code>{@link MetricsRegistry}</code> in the Prometheus text exposition
+ * format, over the HTTP server built into the JDK, from a daemon thread of
+ * its own.
+ * </p>
+ *
+ * <p>
+ * Every sample is labelled with the name of the scheduler.  Summaries are
+ * exported with their 50th, 90th and 99th percentiles, their sum and their
+ * count.
+ * </p>
+ */
+public class PrometheusMetricsExporter implements MetricsExporter {
+
+    static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final double[] QUANTILES = { 0.5, 0.9, 0.99 };
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private String bindAddress = null;
+
+    private int port = 9404;
+
+    private String path = "/metrics";
+
+    private String schedulerName;
+
+    private MetricsRegistry registry;
+
+    private HttpServer server;
+
+    private ExecutorService executor;
+
+    /**
+     * Get the address to listen on, null for all addresses.
+     */
+    public String getBindAddress() {
+        return bindAddress;
+    }
+
+    /**
+     * Set the address to listen on, all addresses by default.
+     */
+    public void setBindAddress(String bindAddress) {
+        this.bindAddress = bindAddress;
+    }
+
+    /**
+     * Get the port to listen on.
+     */
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * Set the port to listen on, 9404 by default; 0 picks a free port.
+     */
+    public void setPort(int port) {
+        this.port = port;
+    }
+
+    /**
+     * Get the path the metrics are served at.
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Set the path the metrics are served at, "/metrics" by default.
+     */
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    /**
+     * @return the port the exporter listens on, or -1 if it is not
+     * listening.
+     */
+    public int getLocalPort() {
+        HttpServer s = server;
+        return s == null ? -1 : s.getAddress().getPort();
+    }
+
+    public void initialize(String name, Scheduler scheduler, MetricsRegistry registry) throws SchedulerException {
+        if (port < 0 || port > 65535) {
+            throw new SchedulerConfigException("PrometheusMetricsExporter '" + name
+                    + "' port must be between 0 and 65535.");
+        }
+        if (path == null || !path.startsWith("/")) {
+            throw new SchedulerConfigException("PrometheusMetricsExporter '" + name + "' path must start with '/'.");
+        }
+        this.schedulerName = scheduler.getSchedulerName();
+        this.registry = registry;
+        InetSocketAddress address = bindAddress == null || bindAddress.trim().isEmpty()
+                ? new InetSocketAddress(port) : new InetSocketAddress(bindAddress.trim(), port);
+        try {
+            server = HttpServer.create(address, 0);
+        } catch (IOException e) {
+            throw new SchedulerConfigException("PrometheusMetricsExporter '" + name + "' could not listen on "
+                    + address + ".", e);
+        }
+        final String threadName = schedulerName + "_" + name;
+        executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, threadName);
+            t.setDaemon(true);
+            return t;
+        });
+        server.setExecutor(executor);
+        server.createContext(path, this::handle);
+        server.start();
+        log.info("Serving Prometheus metrics of scheduler {} at http://{}:{}{}", schedulerName,
+                address.getHostString(), getLocalPort(), path);
+    }
+
+    public void shutdown() {
+        if (server != null) {
+            server.stop(0);
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            if ("HEAD".equals(method)) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to export the metrics of scheduler {}", schedulerName, e);
+            exchange.sendResponseHeaders(500, -1);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * @return the metrics, in the Prometheus text exposition format.
+     */
+    String scrape() {
+        StringBuilder sb = new StringBuilder(4096);
+        String schedulerLabel = "scheduler=\"" + escapeLabelValue(schedulerName) + "\"";
+        for (MetricsRegistry.Metric metric : registry.getMetrics()) {
+            String name = metric.getName();
+            if (metric.getHelp() != null) {
+                sb.append("# HELP ").append(name).append(' ').append(escapeHelp(metric.getHelp())).append('\n');
+            }
+            sb.append("# TYPE ").append(name).append(' ')
+                    .append(metric.getType().name().toLowerCase(Locale.ROOT)).append('\n');
+            if (metric.getType() != MetricsRegistry.Type.SUMMARY) {
+                sb.append(name).append('{').append(schedulerLabel).append("} ").append(metric.getValue()).append('\n');
+                continue;
+            }
+            // copied, as histograms may be added concurrently
+            List<Map.Entry<String, LatencyHistogram>> histograms = new ArrayList<>(metric.getHistograms().entrySet());
+            histograms.sort(Map.Entry.comparingByKey());
+            for (Map.Entry<String, LatencyHistogram> entry : histograms) {
+                String labels = metric.getLabelName() == null ? schedulerLabel
+                        : schedulerLabel + "," + metric.getLabelName() + "=\"" + escapeLabelValue(entry.getKey()) + "\"";
+                appendSummary(sb, name, labels, entry.getValue(), metric.getScale());
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void appendSummary(StringBuilder sb, String name, String labels, LatencyHistogram histogram,
+            double scale) {
+        // read the count first: concurrent recordings then show in the sum
+        // rather than make the mean look smaller than it is
+        long count = histogram.getCount();
+        for (double quantile : QUANTILES) {
+            sb.append(name).append('{').append(labels).append(",quantile=\"").append(quantile).append("\"} ");
+            appendValue(sb, histogram.getValueAtPercentile(quantile * 100), scale);
+            sb.append('\n');
+        }
+        sb.append(name).append("_sum{").append(labels).append("} ");
+        appendValue(sb, histogram.getSum(), scale);
+        sb.append('\n');
+        sb.append(name).append("_count{").append(labels).append("} ").append(count).append('\n');
+    }
+
+    private static void appendValue(StringBuilder sb, long value, double scale) {
+        if (scale == 1.0) {
+            sb.append(value);
+        } else {
+            // in decimal, as binary floating point would print micros as 0.0014709999999999999
+            sb.append(BigDecimal.valueOf(value).multiply(BigDecimal.valueOf(scale)).stripTrailingZeros().toPlainString());
+        }
+    }
+
+    static String escapeHelp(String help) {
+        return help.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+
+    static String escapeLabelValue(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
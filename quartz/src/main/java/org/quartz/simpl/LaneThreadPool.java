@@ -0,0 +1,356 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.simpl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.quartz.SchedulerConfigException;
+import org.quartz.spi.ExecutionLane;
+import org.quartz.spi.LaneAwareThreadPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>
+ * A <code>{@link LaneAwareThreadPool}</code> that gives each
+ * <code>{@link ExecutionLane}</code> its own fixed set of worker threads (a
+ * <code>{@link SimpleThreadPool}</code> per lane), so that the threads
+ * reserved for one lane are never consumed by the jobs of another.
+ * </p>
+ *
+ * <p>
+ * Lanes are configured with the properties
+ * <code>org.quartz.threadPool.lane.NAME.threadCount</code>,
+ * <code>.triggerGroups</code> (comma separated), <code>.minPriority</code>,
+ * <code>.maxPriority</code> and <code>.weight</code>.  The
+ * <code>threadCount</code> of the pool itself sizes the default lane, which
+ * runs every trigger that no other lane selects.
+ * </p>
+ *
+ * @see ExecutionLane
+ */
+public class LaneThreadPool implements LaneAwareThreadPool {
+
+    /*
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *
+     * Data members.
+     *
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+
+    private int count = -1;
+
+    private int defaultLaneWeight = 1;
+
+    private int prio = Thread.NORM_PRIORITY;
+
+    private boolean inheritLoader = false;
+
+    private boolean inheritGroup = true;
+
+    private boolean makeThreadsDaemons = false;
+
+    private String threadNamePrefix;
+
+    private String schedulerInstanceName;
+
+    private final List<ExecutionLane> explicitLanes = new ArrayList<>();
+
+    private final Map<String, Lane> lanes = new LinkedHashMap<>();
+
+    private List<ExecutionLane> laneList = Collections.emptyList();
+
+    private final Object availabilityLock = new Object();
+
+    private boolean isShutdown = false;
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    /*
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *
+     * Constructors.
+     *
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+
+    public LaneThreadPool() {
+    }
+
+    /**
+     * @param threadCount the number of worker threads of the default lane.
+     * @param threadPriority the thread priority for all worker threads.
+     */
+    public LaneThreadPool(int threadCount, int threadPriority) {
+        setThreadCount(threadCount);
+        setThreadPriority(threadPriority);
+    }
+
+    /*
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *
+     * Interface.
+     *
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+
+    public Logger getLog() {
+        return log;
+    }
+
+    /**
+     * <p>
+     * Set the number of worker threads of the default lane.
+     * </p>
+     */
+    public void setThreadCount(int count) {
+        this.count = count;
+    }
+
+    public int getThreadCount() {
+        return count;
+    }
+
+    /**
+     * <p>
+     * Set the acquisition weight of the default lane (defaults to 1).
+     * </p>
+     */
+    public void setDefaultLaneWeight(int defaultLaneWeight) {
+        this.defaultLaneWeight = defaultLaneWeight;
+    }
+
+    public int getDefaultLaneWeight() {
+        return defaultLaneWeight;
+    }
+
+    public void setThreadPriority(int prio) {
+        this.prio = prio;
+    }
+
+    public int getThreadPriority() {
+        return prio;
+    }
+
+    public void setThreadNamePrefix(String prefix) {
+        threadNamePrefix = prefix;
+    }
+
+    public String getThreadNamePrefix() {
+        return threadNamePrefix;
+    }
+
+    public boolean isThreadsInheritContextClassLoaderOfInitializingThread() {
+        return inheritLoader;
+    }
+
+    public void setThreadsInheritContextClassLoaderOfInitializingThread(boolean inheritLoader) {
+        this.inheritLoader = inheritLoader;
+    }
+
+    public boolean isThreadsInheritGroupOfInitializingThread() {
+        return inheritGroup;
+    }
+
+    public void setThreadsInheritGroupOfInitializingThread(boolean inheritGroup) {
+        this.inheritGroup = inheritGroup;
+    }
+
+    public boolean isMakeThreadsDaemons() {
+        return makeThreadsDaemons;
+    }
+
+    public void setMakeThreadsDaemons(boolean makeThreadsDaemons) {
+        this.makeThreadsDaemons = makeThreadsDaemons;
+    }
+
+    public void setInstanceId(String schedInstId) {
+    }
+
+    public void setInstanceName(String schedName) {
+        schedulerInstanceName = schedName;
+    }
+
+    public void addLane(ExecutionLane lane) {
+        if (!lanes.isEmpty()) {
+            throw new IllegalStateException("Lanes cannot be added after the pool was initialized.");
+        }
+        if (lane.isDefaultLane()) {
+            throw new IllegalArgumentException("The default lane is created by the pool itself: " + lane);
+        }
+        for (ExecutionLane other : explicitLanes) {
+            if (other.getName().equals(lane.getName())) {
+                throw new IllegalArgumentException("Duplicate lane name: " + lane.getName());
+            }
+        }
+        explicitLanes.add(lane);
+    }
+
+    public List<ExecutionLane> getLanes() {
+        return laneList;
+    }
+
+    public void initialize() throws SchedulerConfigException {
+        if (!lanes.isEmpty()) // already initialized...
+            return;
+
+        if (count <= 0) {
+            throw new SchedulerConfigException("Thread count must be > 0");
+        }
+        if (defaultLaneWeight <= 0) {
+            throw new SchedulerConfigException("Default lane weight must be > 0");
+        }
+
+        List<ExecutionLane> all = new ArrayList<>(explicitLanes);
+        all.add(new ExecutionLane(ExecutionLane.DEFAULT_LANE_NAME, count, defaultLaneWeight,
+                new ArrayList<>(explicitLanes)));
+
+        for (ExecutionLane lane : all) {
+            if (lanes.containsKey(lane.getName())) {
+                throw new SchedulerConfigException("Duplicate lane name: " + lane.getName());
+            }
+            SimpleThreadPool pool = new SimpleThreadPool(lane.getThreadCount(), prio);
+            String prefix = threadNamePrefix != null ? threadNamePrefix : schedulerInstanceName + "_Worker";
+            pool.setThreadNamePrefix(prefix + "-" + lane.getName());
+            pool.setInstanceName(schedulerInstanceName);
+            pool.setMakeThreadsDaemons(makeThreadsDaemons);
+            pool.setThreadsInheritContextClassLoaderOfInitializingThread(inheritLoader);
+            pool.setThreadsInheritGroupOfInitializingThread(inheritGroup);
+            pool.initialize();
+            lanes.put(lane.getName(), new Lane(lane, pool));
+            getLog().info("Initialized {}", lane);
+        }
+        laneList = Collections.unmodifiableList(all);
+    }
+
+    public void shutdown(boolean waitForJobsToComplete) {
+        synchronized (availabilityLock) {
+            isShutdown = true;
+            availabilityLock.notifyAll();
+        }
+        for (Lane lane : lanes.values()) {
+            lane.pool.shutdown(waitForJobsToComplete);
+        }
+    }
+
+    public int getPoolSize() {
+        int size = 0;
+        for (Lane lane : lanes.values()) {
+            size += lane.lane.getThreadCount();
+        }
+        return size;
+    }
+
+    public boolean runInThread(Runnable runnable) {
+        return runInThread(laneList.get(laneList.size() - 1), runnable);
+    }
+
+    public boolean runInThread(ExecutionLane lane, final Runnable runnable) {
+        if (runnable == null) {
+            return false;
+        }
+        final Lane l = lookup(lane);
+        synchronized (availabilityLock) {
+            l.busy++;
+        }
+        boolean handedOff = false;
+        try {
+            handedOff = l.pool.runInThread(() -> {
+                try {
+                    runnable.run();
+                } finally {
+                    release(l);
+                }
+            });
+        } finally {
+            if (!handedOff) {
+                release(l);
+            }
+        }
+        return handedOff;
+    }
+
+    public int getAvailableThreads(ExecutionLane lane) {
+        Lane l = lookup(lane);
+        synchronized (availabilityLock) {
+            return Math.max(0, l.lane.getThreadCount() - l.busy);
+        }
+    }
+
+    public int blockForAvailableThreads() {
+        synchronized (availabilityLock) {
+            while (!isShutdown) {
+                int avail = 0;
+                for (Lane l : lanes.values()) {
+                    avail += Math.max(0, l.lane.getThreadCount() - l.busy);
+                }
+                if (avail > 0) {
+                    return avail;
+                }
+                try {
+                    availabilityLock.wait(500);
+                } catch (InterruptedException ignore) {
+                }
+            }
+            return 0;
+        }
+    }
+
+    private void release(Lane l) {
+        synchronized (availabilityLock) {
+            l.busy--;
+            availabilityLock.notifyAll();
+        }
+    }
+
+    private Lane lookup(ExecutionLane lane) {
+        Lane l = lanes.get(lane.getName());
+        if (l == null) {
+            throw new IllegalArgumentException("Unknown lane: " + lane.getName());
+        }
+        return l;
+    }
+
+    /*
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *
+     * Lane Class.
+     *
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+
+    private static class Lane {
+
+        private final ExecutionLane lane;
+
+        private final SimpleThreadPool pool;
+
+        // guarded by availabilityLock
+        private int busy;
+
+        private Lane(ExecutionLane lane, SimpleThreadPool pool) {
+            this.lane = lane;
+            this.pool = pool;
+        }
+    }
+}
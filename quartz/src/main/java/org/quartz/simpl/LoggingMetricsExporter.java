@@ -0,0 +1,115 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.simpl;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.quartz.Scheduler;
+import org.quartz.SchedulerConfigException;
+import org.quartz.SchedulerException;
+import org.quartz.management.MetricsRegistry;
+import org.quartz.spi.MetricsExporter;
+import org.quartz.utils.LatencyHistogram;
+import org.quartz.utils.PipelineMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>
+ * A <code>{@link MetricsExporter}</code> that periodically logs a summary
+ * of the latency histograms of the scheduler's trigger pipeline, at INFO
+ * level, from a daemon thread of its own.
+ * </p>
+ */
+public class LoggingMetricsExporter implements MetricsExporter {
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private long logInterval = 60000L;
+
+    private String name;
+
+    private PipelineMetrics metrics;
+
+    private ScheduledExecutorService executor;
+
+    /**
+     * Get the number of milliseconds between summaries.
+     */
+    public long getLogInterval() {
+        return logInterval;
+    }
+
+    /**
+     * Set the number of milliseconds between summaries, 60000 by default.
+     */
+    public void setLogInterval(long logInterval) {
+        this.logInterval = logInterval;
+    }
+
+    public void initialize(String name, Scheduler scheduler, MetricsRegistry registry) throws SchedulerException {
+        if (logInterval <= 0) {
+            throw new SchedulerConfigException("LoggingMetricsExporter '" + name + "' logInterval must be > 0.");
+        }
+        this.name = name;
+        this.metrics = registry.getPipelineMetrics();
+        final String threadName = scheduler.getSchedulerName() + "_" + name;
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, threadName);
+            t.setDaemon(true);
+            return t;
+        });
+        executor.scheduleAtFixedRate(this::logMetrics, logInterval, logInterval, TimeUnit.MILLISECONDS);
+    }
+
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    void logMetrics() {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        StringBuilder sb = new StringBuilder("Scheduler pipeline metrics (").append(name).append("):");
+        for (PipelineMetrics.Stage stage : PipelineMetrics.Stage.values()) {
+            appendHistogram(sb, stage.name(), metrics.getHistogram(stage));
+        }
+        for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(metrics.getJobRunTimes()).entrySet()) {
+            appendHistogram(sb, "JOB_RUN_TIME[" + entry.getKey() + "]", entry.getValue());
+        }
+        log.info(sb.toString());
+    }
+
+    private static void appendHistogram(StringBuilder sb, String label, LatencyHistogram histogram) {
+        if (histogram.getCount() == 0) {
+            return;
+        }
+        sb.append("\n  ").append(label)
+                .append(": count=").append(histogram.getCount())
+                .append(", mean=").append(histogram.getMean())
+                .append(", p50=").append(histogram.getValueAtPercentile(50))
+                .append(", p99=").append(histogram.getValueAtPercentile(99))
+                .append(", max=").append(histogram.getMax());
+    }
+}
@@ -45,14 +45,21 @@ import org.quartz.TriggerKey;
 import org.quartz.Trigger.CompletedExecutionInstruction;
 import org.quartz.Trigger.TriggerState;
 import org.quartz.Trigger.TriggerTimeComparator;
+import org.quartz.impl.calendar.CompiledCalendar;
 import org.quartz.impl.matchers.GroupMatcher;
 import org.quartz.impl.matchers.StringMatcher;
+import org.quartz.spi.BacklogAwareJobStore;
 import org.quartz.spi.ClassLoadHelper;
-import org.quartz.spi.JobStore;
+import org.quartz.spi.ExecutionLane;
 import org.quartz.spi.OperableTrigger;
+import org.quartz.spi.RateLimitAwareJobStore;
 import org.quartz.spi.SchedulerSignaler;
+import org.quartz.spi.TriggerBacklog;
 import org.quartz.spi.TriggerFiredBundle;
 import org.quartz.spi.TriggerFiredResult;
+import org.quartz.spi.TriggerRateLimiter;
+import org.quartz.utils.ConcurrencyLimits;
+import org.quartz.utils.FireTimeCounter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -73,7 +80,7 @@ import org.slf4j.LoggerFactory;
  * @author Sharada Jambula
  * @author Eric Mueller
  */
-public class RAMJobStore implements JobStore {
+public class RAMJobStore implements RateLimitAwareJobStore, BacklogAwareJobStore {
 
     /*
      * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -93,8 +100,15 @@ public class RAMJobStore implements JobStore {
 
     protected final TreeSet<TriggerWrapper> timeTriggers = new TreeSet<>(new TriggerWrapperComparator());
 
+    // the next fire times of timeTriggers, for counting the backlog
+    private final FireTimeCounter timeTriggerFireTimes = new FireTimeCounter();
+
     protected final HashMap<String, Calendar> calendarsByName = new HashMap<>(25);
 
+    protected final HashMap<String, CompiledCalendar> compiledCalendarsByName = new HashMap<>(25);
+
+    protected boolean compileCalendars = false;
+
     protected final Map<JobKey, List<TriggerWrapper>> triggersByJob = new HashMap<>(1000);
 
     protected final Object lock = new Object();
@@ -104,6 +118,17 @@ public class RAMJobStore implements JobStore {
     protected final HashSet<String> pausedJobGroups = new HashSet<>();
 
     protected final HashSet<JobKey> blockedJobs = new HashSet<>();
+
+    // fire instance ids of the acquired or executing triggers holding a concurrency permit
+    protected final HashMap<String, JobKey> concurrencyPermits = new HashMap<>();
+
+    protected final HashMap<JobKey, Integer> jobPermitsInUse = new HashMap<>();
+
+    protected final HashMap<String, Integer> jobGroupPermitsInUse = new HashMap<>();
+
+    protected ConcurrencyLimits concurrencyLimits = ConcurrencyLimits.parse(null);
+
+    protected TriggerRateLimiter rateLimiter;
     
     protected long misfireThreshold = 5000L;
 
@@ -183,6 +208,84 @@ public class RAMJobStore implements JobStore {
         this.misfireThreshold = misfireThreshold;
     }
 
+    public String getJobGroupConcurrencyLimits() {
+        return concurrencyLimits.toString();
+    }
+
+    /**
+     * The maximum number of concurrent executions of the jobs of a job group,
+     * as a comma separated list of <code>group=limit</code> pairs.  Triggers
+     * of a job group that reached its limit are not acquired (they stay
+     * queued) until one of the group's executions completes.
+     *
+     * @see org.quartz.ConcurrentExecutionLimit
+     */
+    @SuppressWarnings("UnusedDeclaration")
+    public void setJobGroupConcurrencyLimits(String jobGroupConcurrencyLimits) {
+        this.concurrencyLimits = ConcurrencyLimits.parse(jobGroupConcurrencyLimits);
+    }
+
+    public boolean isCompileCalendars() {
+        return compileCalendars;
+    }
+
+    /**
+     * Whether triggers are evaluated against compiled forms of the stored
+     * calendars, which are faster to evaluate than deep chains of base
+     * calendars, rather than against copies of them.  The compiled form of a
+     * calendar is discarded when it is stored again.
+     *
+     * @see CompiledCalendar
+     */
+    @SuppressWarnings("UnusedDeclaration")
+    public void setCompileCalendars(boolean compileCalendars) {
+        this.compileCalendars = compileCalendars;
+    }
+
+    public void setTriggerRateLimiter(TriggerRateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    public TriggerRateLimiter getTriggerRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * <p>
+     * Count the waiting triggers that are overdue or due within the given
+     * window, from counts kept up to date as triggers are stored, acquired
+     * and fired.
+     * </p>
+     */
+    public TriggerBacklog getTriggerBacklog(long dueWindow) {
+        synchronized (lock) {
+            long now = System.currentTimeMillis();
+            int overdueCount = timeTriggerFireTimes.getOverdueCount(now);
+            long oldestFireTime = -1;
+            if (overdueCount > 0) {
+                oldestFireTime = timeTriggers.first().trigger.getNextFireTime().getTime();
+            }
+            return new TriggerBacklog(now, overdueCount, oldestFireTime, dueWindow,
+                    timeTriggerFireTimes.getDueWithin(now, dueWindow));
+        }
+    }
+
+    protected boolean addTimeTrigger(TriggerWrapper tw) {
+        boolean added = timeTriggers.add(tw);
+        if (added && tw.trigger.getNextFireTime() != null) {
+            timeTriggerFireTimes.add(tw.trigger.getNextFireTime().getTime());
+        }
+        return added;
+    }
+
+    protected boolean removeTimeTrigger(TriggerWrapper tw) {
+        boolean removed = timeTriggers.remove(tw);
+        if (removed && tw.trigger.getNextFireTime() != null) {
+            timeTriggerFireTimes.remove(tw.trigger.getNextFireTime().getTime());
+        }
+        return removed;
+    }
+
     /**
      * <p>
      * Called by the QuartzScheduler to inform the <code>JobStore</code> that
@@ -436,7 +539,7 @@ public class RAMJobStore implements JobStore {
             } else if (blockedJobs.contains(tw.jobKey)) {
                 tw.state = TriggerWrapper.STATE_BLOCKED;
             } else {
-                timeTriggers.add(tw);
+                addTimeTrigger(tw);
             }
         }
     }
@@ -480,7 +583,7 @@ public class RAMJobStore implements JobStore {
                     }
                 }
                
-                timeTriggers.remove(tw);
+                removeTimeTrigger(tw);
 
                 if (removeOrphanedJob) {
                     JobWrapper jw = jobsByKey.get(tw.jobKey);
@@ -534,7 +637,7 @@ public class RAMJobStore implements JobStore {
                     }
                 }
                 
-                timeTriggers.remove(tw);
+                removeTimeTrigger(tw);
 
                 try {
                     storeTrigger(newTrigger, false);
@@ -629,31 +732,35 @@ public class RAMJobStore implements JobStore {
             if (tw == null) {
                 return TriggerState.NONE;
             }
-    
-            if (tw.state == TriggerWrapper.STATE_COMPLETE) {
-                return TriggerState.COMPLETE;
-            }
-    
-            if (tw.state == TriggerWrapper.STATE_PAUSED) {
-                return TriggerState.PAUSED;
-            }
-    
-            if (tw.state == TriggerWrapper.STATE_PAUSED_BLOCKED) {
-                return TriggerState.PAUSED;
-            }
-    
-            if (tw.state == TriggerWrapper.STATE_BLOCKED) {
-                return TriggerState.BLOCKED;
-            }
-    
-            if (tw.state == TriggerWrapper.STATE_ERROR) {
-                return TriggerState.ERROR;
-            }
-    
-            return TriggerState.NORMAL;
+
+            return getTriggerState(tw);
         }
     }
 
+    private TriggerState getTriggerState(TriggerWrapper tw) {
+        if (tw.state == TriggerWrapper.STATE_COMPLETE) {
+            return TriggerState.COMPLETE;
+        }
+
+        if (tw.state == TriggerWrapper.STATE_PAUSED) {
+            return TriggerState.PAUSED;
+        }
+
+        if (tw.state == TriggerWrapper.STATE_PAUSED_BLOCKED) {
+            return TriggerState.PAUSED;
+        }
+
+        if (tw.state == TriggerWrapper.STATE_BLOCKED) {
+            return TriggerState.BLOCKED;
+        }
+
+        if (tw.state == TriggerWrapper.STATE_ERROR) {
+            return TriggerState.ERROR;
+        }
+
+        return TriggerState.NORMAL;
+    }
+
     /**
      * Reset the current state of the identified <code>{@link Trigger}</code>
      * from {@link TriggerState#ERROR} to {@link TriggerState#NORMAL} or
@@ -685,7 +792,7 @@ public class RAMJobStore implements JobStore {
             }
             else {
                 tw.state = TriggerWrapper.STATE_WAITING;
-                timeTriggers.add(tw);
+                addTimeTrigger(tw);
             }
         }
     }
@@ -728,16 +835,18 @@ public class RAMJobStore implements JobStore {
             }
     
             calendarsByName.put(name, calendar);
+            compiledCalendarsByName.remove(name);
     
             if(obj != null && updateTriggers) {
+                Calendar triggerCalendar = retrieveCompiledCalendar(name, calendar);
                 for (TriggerWrapper tw : getTriggerWrappersForCalendar(name)) {
                     OperableTrigger trig = tw.getTrigger();
-                    boolean removed = timeTriggers.remove(tw);
+                    boolean removed = removeTimeTrigger(tw);
 
-                    trig.updateWithNewCalendar(calendar, getMisfireThreshold());
+                    trig.updateWithNewCalendar(triggerCalendar, getMisfireThreshold());
 
                     if (removed) {
-                        timeTriggers.add(tw);
+                        addTimeTrigger(tw);
                     }
                 }
             }
@@ -778,7 +887,10 @@ public class RAMJobStore implements JobStore {
                     "Calender cannot be removed if it referenced by a Trigger!");
         }
 
-        return (calendarsByName.remove(calName) != null);
+        synchronized (lock) {
+            compiledCalendarsByName.remove(calName);
+            return (calendarsByName.remove(calName) != null);
+        }
     }
 
     /**
@@ -800,6 +912,30 @@ public class RAMJobStore implements JobStore {
         }
     }
 
+    /**
+     * Returns the compiled form of the calendar with the given name, if
+     * calendars are compiled, for triggers to be evaluated against, or else
+     * the given calendar.  The compiled form is shared, so triggers are given
+     * a view of it, which they may change like a copy of the calendar.
+     */
+    protected Calendar retrieveCompiledCalendar(String calName, Calendar calendar) {
+        if (!compileCalendars || calendar == null) {
+            return calendar;
+        }
+        synchronized (lock) {
+            CompiledCalendar compiled = compiledCalendarsByName.get(calName);
+            if (compiled == null) {
+                Calendar stored = calendarsByName.get(calName);
+                if (stored == null) {
+                    return calendar;
+                }
+                compiled = new CompiledCalendar(stored);
+                compiledCalendarsByName.put(calName, compiled);
+            }
+            return compiled.newView();
+        }
+    }
+
     /**
      * <p>
      * Get the number of <code>{@link org.quartz.JobDetail}</code> s that are
@@ -947,6 +1083,26 @@ public class RAMJobStore implements JobStore {
         return outList == null ? Collections.emptySet() : outList;
     }
 
+    /**
+     * <p>
+     * Get the names of all of the <code>{@link org.quartz.Trigger}</code> s
+     * that match the given groupMatcher and are in the given state.
+     * </p>
+     */
+    @Override
+    public Set<TriggerKey> getTriggerKeys(GroupMatcher<TriggerKey> matcher, TriggerState state) {
+        Set<TriggerKey> outList = new HashSet<>();
+        synchronized (lock) {
+            for (TriggerKey triggerKey : getTriggerKeys(matcher)) {
+                if (getTriggerState(triggersByKey.get(triggerKey)) == state) {
+                    outList.add(triggerKey);
+                }
+            }
+        }
+
+        return outList;
+    }
+
     /**
      * <p>
      * Get the names of all of the <code>{@link org.quartz.Job}</code>
@@ -1058,7 +1214,7 @@ public class RAMJobStore implements JobStore {
                 tw.state = TriggerWrapper.STATE_PAUSED;
             }
 
-            timeTriggers.remove(tw);
+            removeTimeTrigger(tw);
         }
     }
 
@@ -1211,7 +1367,7 @@ public class RAMJobStore implements JobStore {
             applyMisfire(tw);
 
             if (tw.state == TriggerWrapper.STATE_WAITING) {
-                timeTriggers.add(tw);
+                addTimeTrigger(tw);
             }
         }
     }
@@ -1398,13 +1554,13 @@ public class RAMJobStore implements JobStore {
 
         signaler.notifyTriggerListenersMisfired((OperableTrigger)tw.trigger.clone());
 
-        tw.trigger.updateAfterMisfire(cal);
+        tw.trigger.updateAfterMisfire(retrieveCompiledCalendar(tw.trigger.getCalendarName(), cal));
 
         if (tw.trigger.getNextFireTime() == null) {
             tw.state = TriggerWrapper.STATE_COMPLETE;
             signaler.notifySchedulerListenersFinalized(tw.trigger);
             synchronized (lock) {
-                timeTriggers.remove(tw);
+                removeTimeTrigger(tw);
             }
         } else return !tnft.equals(tw.trigger.getNextFireTime());
 
@@ -1426,11 +1582,25 @@ public class RAMJobStore implements JobStore {
      * @see #releaseAcquiredTrigger(OperableTrigger)
      */
     public List<OperableTrigger> acquireNextTriggers(long noLaterThan, int maxCount, long timeWindow) {
+        return acquireNextTriggers(noLaterThan, maxCount, timeWindow, null);
+    }
+
+    /**
+     * <p>
+     * Get a handle to the next triggers of the given lane to be fired, and
+     * mark them as 'reserved' by the calling scheduler.
+     * </p>
+     *
+     * @param lane the lane to acquire triggers for, or <code>null</code> for any trigger.
+     * @see #releaseAcquiredTrigger(OperableTrigger)
+     */
+    public List<OperableTrigger> acquireNextTriggers(long noLaterThan, int maxCount, long timeWindow, ExecutionLane lane) {
         synchronized (lock) {
             List<OperableTrigger> result = new ArrayList<>();
             Set<JobKey> acquiredJobKeysForNoConcurrentExec = new HashSet<>();
             Set<TriggerWrapper> excludedTriggers = new HashSet<>();
             long batchEnd = noLaterThan;
+            long now = System.currentTimeMillis();
             
             // return empty list if store has no triggers.
             if (timeTriggers.isEmpty())
@@ -1443,7 +1613,7 @@ public class RAMJobStore implements JobStore {
                     tw = timeTriggers.first();
                     if (tw == null)
                         break;
-                    timeTriggers.remove(tw);
+                    removeTimeTrigger(tw);
                 } catch (java.util.NoSuchElementException nsee) {
                     break;
                 }
@@ -1454,22 +1624,29 @@ public class RAMJobStore implements JobStore {
 
                 if (applyMisfire(tw)) {
                     if (tw.trigger.getNextFireTime() != null) {
-                        timeTriggers.add(tw);
+                        addTimeTrigger(tw);
                     }
                     continue;
                 }
 
                 if (tw.getTrigger().getNextFireTime().getTime() > batchEnd) {
-                    timeTriggers.add(tw);
+                    addTimeTrigger(tw);
                     break;
                 }
+
+                // Leave triggers of other lanes for the acquisition of their own lane.
+                if (lane != null && !lane.accepts(tw.trigger)) {
+                    excludedTriggers.add(tw);
+                    continue;
+                }
                 
                 // If trigger's job is set as @DisallowConcurrentExecution, and it has already been added to result, then
                 // put it back into the timeTriggers set and continue to search for next trigger.
                 JobKey jobKey = tw.trigger.getJobKey();
                 JobDetail job = jobsByKey.get(tw.trigger.getJobKey()).jobDetail;
                 if (job.isConcurrentExecutionDisallowed()) {
-                    if (acquiredJobKeysForNoConcurrentExec.contains(jobKey)) {
+                    // a sibling may also have been acquired by an earlier acquisition, for another lane
+                    if (acquiredJobKeysForNoConcurrentExec.contains(jobKey) || hasAcquiredTrigger(jobKey)) {
                         excludedTriggers.add(tw);
                         continue; // go to next trigger in store.
                     } else {
@@ -1477,8 +1654,29 @@ public class RAMJobStore implements JobStore {
                     }
                 }
 
+                // If the job or its group already has as many executions in progress (or acquired)
+                // as its concurrency limit allows, leave the trigger queued until a permit is returned.
+                boolean limited = concurrencyLimits.isLimited(job);
+                if (limited && !isConcurrencyPermitAvailable(job)) {
+                    excludedTriggers.add(tw);
+                    continue;
+                }
+
+                // If the trigger's group or job group is acquired faster than its rate limit allows,
+                // defer the trigger to a later acquisition.
+                if (rateLimiter != null && !rateLimiter.tryAcquire(tw.trigger, now)) {
+                    if (job.isConcurrentExecutionDisallowed()) {
+                        acquiredJobKeysForNoConcurrentExec.remove(jobKey);
+                    }
+                    excludedTriggers.add(tw);
+                    continue;
+                }
+
                 tw.state = TriggerWrapper.STATE_ACQUIRED;
                 tw.trigger.setFireInstanceId(getFiredTriggerRecordId());
+                if (limited) {
+                    takeConcurrencyPermit(tw.trigger.getFireInstanceId(), jobKey);
+                }
                 OperableTrigger trig = (OperableTrigger) tw.trigger.clone();
                 if (result.isEmpty()) {
                     batchEnd = Math.max(tw.trigger.getNextFireTime().getTime(), System.currentTimeMillis()) + timeWindow;
@@ -1488,9 +1686,11 @@ public class RAMJobStore implements JobStore {
                     break;
             }
 
-            // If we did excluded triggers to prevent ACQUIRE state due to DisallowConcurrentExecution, we need to add them back to store.
-            if (!excludedTriggers.isEmpty())
-                timeTriggers.addAll(excludedTriggers);
+            // If we did excluded triggers to prevent ACQUIRE state due to DisallowConcurrentExecution,
+            // a concurrency or rate limit, or because they belong to another lane, we need to add them back to store.
+            for (TriggerWrapper excluded : excludedTriggers) {
+                addTimeTrigger(excluded);
+            }
             return result;
         }
     }
@@ -1507,9 +1707,58 @@ public class RAMJobStore implements JobStore {
             TriggerWrapper tw = triggersByKey.get(trigger.getKey());
             if (tw != null && tw.state == TriggerWrapper.STATE_ACQUIRED) {
                 tw.state = TriggerWrapper.STATE_WAITING;
-                timeTriggers.add(tw);
+                addTimeTrigger(tw);
+            }
+            returnConcurrencyPermit(trigger.getFireInstanceId());
+            if (rateLimiter != null) {
+                rateLimiter.release(trigger, System.currentTimeMillis());
+            }
+        }
+    }
+
+    private boolean hasAcquiredTrigger(JobKey jobKey) {
+        List<TriggerWrapper> jobList = triggersByJob.get(jobKey);
+        if (jobList != null) {
+            for (TriggerWrapper tw : jobList) {
+                if (tw.state == TriggerWrapper.STATE_ACQUIRED) {
+                    return true;
+                }
             }
         }
+        return false;
+    }
+
+    private boolean isConcurrencyPermitAvailable(JobDetail job) {
+        int jobLimit = concurrencyLimits.getJobLimit(job);
+        if (jobLimit > 0 && permitsInUse(jobPermitsInUse, job.getKey()) >= jobLimit) {
+            return false;
+        }
+        int groupLimit = concurrencyLimits.getJobGroupLimit(job.getKey().getGroup());
+        return groupLimit <= 0 || permitsInUse(jobGroupPermitsInUse, job.getKey().getGroup()) < groupLimit;
+    }
+
+    private void takeConcurrencyPermit(String fireInstanceId, JobKey jobKey) {
+        concurrencyPermits.put(fireInstanceId, jobKey);
+        jobPermitsInUse.merge(jobKey, 1, Integer::sum);
+        jobGroupPermitsInUse.merge(jobKey.getGroup(), 1, Integer::sum);
+    }
+
+    /**
+     * @return true if the given fire instance held a concurrency permit.
+     */
+    private boolean returnConcurrencyPermit(String fireInstanceId) {
+        JobKey jobKey = fireInstanceId == null ? null : concurrencyPermits.remove(fireInstanceId);
+        if (jobKey == null) {
+            return false;
+        }
+        jobPermitsInUse.computeIfPresent(jobKey, (k, n) -> n > 1 ? n - 1 : null);
+        jobGroupPermitsInUse.computeIfPresent(jobKey.getGroup(), (k, n) -> n > 1 ? n - 1 : null);
+        return true;
+    }
+
+    private static <K> int permitsInUse(Map<K, Integer> permits, K key) {
+        Integer n = permits.get(key);
+        return n == null ? 0 : n;
     }
 
     /**
@@ -1528,25 +1777,30 @@ public class RAMJobStore implements JobStore {
                 TriggerWrapper tw = triggersByKey.get(trigger.getKey());
                 // was the trigger deleted since being acquired?
                 if (tw == null) {
+                    returnConcurrencyPermit(trigger.getFireInstanceId());
                     continue;
                 }
                 // was the trigger completed, paused, blocked, etc. since being acquired?
                 if (tw.state != TriggerWrapper.STATE_ACQUIRED) {
+                    returnConcurrencyPermit(trigger.getFireInstanceId());
                     continue;
                 }
 
                 Calendar cal = null;
                 if (tw.trigger.getCalendarName() != null) {
                     cal = retrieveCalendar(tw.trigger.getCalendarName());
-                    if(cal == null)
+                    if(cal == null) {
+                        returnConcurrencyPermit(trigger.getFireInstanceId());
                         continue;
+                    }
                 }
                 Date prevFireTime = trigger.getPreviousFireTime();
                 // in case trigger was replaced between acquiring and firing
-                timeTriggers.remove(tw);
+                removeTimeTrigger(tw);
                 // call triggered on our copy, and the scheduler's copy
-                tw.trigger.triggered(cal);
-                trigger.triggered(cal);
+                Calendar triggerCal = retrieveCompiledCalendar(tw.trigger.getCalendarName(), cal);
+                tw.trigger.triggered(triggerCal);
+                trigger.triggered(triggerCal);
                 //tw.state = TriggerWrapper.STATE_EXECUTING;
                 tw.state = TriggerWrapper.STATE_WAITING;
 
@@ -1566,12 +1820,12 @@ public class RAMJobStore implements JobStore {
                         if (ttw.state == TriggerWrapper.STATE_PAUSED) {
                             ttw.state = TriggerWrapper.STATE_PAUSED_BLOCKED;
                         }
-                        timeTriggers.remove(ttw);
+                        removeTimeTrigger(ttw);
                     }
                     blockedJobs.add(job.getKey());
                 } else if (tw.trigger.getNextFireTime() != null) {
                     synchronized (lock) {
-                        timeTriggers.add(tw);
+                        addTimeTrigger(tw);
                     }
                 }
 
@@ -1620,7 +1874,7 @@ public class RAMJobStore implements JobStore {
                     for(TriggerWrapper ttw : trigs) {
                         if (ttw.state == TriggerWrapper.STATE_BLOCKED) {
                             ttw.state = TriggerWrapper.STATE_WAITING;
-                            timeTriggers.add(ttw);
+                            addTimeTrigger(ttw);
                         }
                         if (ttw.state == TriggerWrapper.STATE_PAUSED_BLOCKED) {
                             ttw.state = TriggerWrapper.STATE_PAUSED;
@@ -1631,6 +1885,11 @@ public class RAMJobStore implements JobStore {
             } else { // even if it was deleted, there may be cleanup to do
                 blockedJobs.remove(jobDetail.getKey());
             }
+
+            // let the triggers held back by a concurrency limit be acquired again
+            if (returnConcurrencyPermit(trigger.getFireInstanceId())) {
+                signaler.signalSchedulingChange(0L);
+            }
     
             // check for trigger deleted during execution...
             if (tw != null) {
@@ -1648,7 +1907,7 @@ public class RAMJobStore implements JobStore {
                     }
                 } else if (triggerInstCode == CompletedExecutionInstruction.SET_TRIGGER_COMPLETE) {
                     tw.state = TriggerWrapper.STATE_COMPLETE;
-                    timeTriggers.remove(tw);
+                    removeTimeTrigger(tw);
                     signaler.signalSchedulingChange(0L);
                 } else if(triggerInstCode == CompletedExecutionInstruction.SET_TRIGGER_ERROR) {
                     getLog().info("Trigger {} set to ERROR state.", trigger.getKey());
@@ -1676,7 +1935,7 @@ public class RAMJobStore implements JobStore {
         for (TriggerWrapper tw : tws) {
             tw.state = state;
             if (state != TriggerWrapper.STATE_WAITING) {
-                timeTriggers.remove(tw);
+                removeTimeTrigger(tw);
             }
         }
     }
@@ -0,0 +1,37 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.spi;
+
+import org.quartz.JobPersistenceException;
+
+/**
+ * <p>
+ * A <code>{@link JobStore}</code> that can tell how many of its triggers
+ * are overdue or due soon, without scanning all of its triggers.
+ * </p>
+ */
+public interface BacklogAwareJobStore extends JobStore {
+
+    /**
+     * @param dueWindow the window, in milliseconds from now, to count the
+     * triggers due within.
+     * @return the backlog of the triggers waiting to be acquired, or null if
+     * it cannot be counted.
+     */
+    TriggerBacklog getTriggerBacklog(long dueWindow) throws JobPersistenceException;
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.spi;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.quartz.Trigger;
+
+/**
+ * <p>
+ * Describes a partition of the scheduler's worker threads that is reserved
+ * for a subset of triggers, selected by trigger group and/or by trigger
+ * priority.
+ * </p>
+ *
+ * <p>
+ * A lane either selects triggers explicitly (by group and priority range), or
+ * is the <i>default</i> lane, which selects every trigger that is not selected
+ * by any of the explicit lanes it was created with.  The
+ * <code>{@link org.quartz.core.QuartzSchedulerThread}</code> acquires triggers
+ * separately for each lane, so that a backlog in one lane can not prevent the
+ * triggers of another lane from being acquired and fired.
+ * </p>
+ *
+ * @see LaneAwareThreadPool
+ * @see JobStore#acquireNextTriggers(long, int, long, ExecutionLane)
+ */
+public class ExecutionLane implements java.io.Serializable {
+
+    private static final long serialVersionUID = 5230871640942750013L;
+
+    public static final String DEFAULT_LANE_NAME = "default";
+
+    /*
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *
+     * Data members.
+     *
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+
+    private final String name;
+
+    private final int threadCount;
+
+    private final int weight;
+
+    private final Set<String> triggerGroups;
+
+    private final int minPriority;
+
+    private final int maxPriority;
+
+    private final List<ExecutionLane> excludedLanes;
+
+    /*
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *
+     * Constructors.
+     *
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+
+    /**
+     * Create an explicit lane.
+     *
+     * @param name the unique name of the lane.
+     * @param threadCount the number of worker threads reserved for the lane, must be &gt; 0.
+     * @param weight the relative share of trigger acquisition effort the lane receives, must be &gt; 0.
+     * @param triggerGroups the trigger groups selected by the lane, or an empty set to select every group.
+     * @param minPriority the lowest trigger priority selected by the lane (inclusive).
+     * @param maxPriority the highest trigger priority selected by the lane (inclusive).
+     */
+    public ExecutionLane(String name, int threadCount, int weight,
+            Set<String> triggerGroups, int minPriority, int maxPriority) {
+        this(name, threadCount, weight, triggerGroups, minPriority, maxPriority,
+                Collections.<ExecutionLane>emptyList());
+    }
+
+    /**
+     * Create a default lane, selecting every trigger that none of the given
+     * lanes selects.
+     *
+     * @param name the unique name of the lane.
+     * @param threadCount the number of worker threads reserved for the lane, must be &gt; 0.
+     * @param weight the relative share of trigger acquisition effort the lane receives, must be &gt; 0.
+     * @param excludedLanes the explicit lanes whose triggers this lane must not select.
+     */
+    public ExecutionLane(String name, int threadCount, int weight, List<ExecutionLane> excludedLanes) {
+        this(name, threadCount, weight, Collections.<String>emptySet(),
+                Integer.MIN_VALUE, Integer.MAX_VALUE, excludedLanes);
+    }
+
+    private ExecutionLane(String name, int threadCount, int weight, Set<String> triggerGroups,
+            int minPriority, int maxPriority, List<ExecutionLane> excludedLanes) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Lane name cannot be empty.");
+        }
+        if (threadCount <= 0) {
+            throw new IllegalArgumentException("Lane thread count must be > 0.");
+        }
+        if (weight <= 0) {
+            throw new IllegalArgumentException("Lane weight must be > 0.");
+        }
+        if (minPriority > maxPriority) {
+            throw new IllegalArgumentException("Lane minimum priority cannot exceed its maximum priority.");
+        }
+        for (ExecutionLane excluded : excludedLanes) {
+            if (excluded.isDefaultLane()) {
+                throw new IllegalArgumentException("A default lane cannot exclude another default lane.");
+            }
+        }
+        this.name = name;
+        this.threadCount = threadCount;
+        this.weight = weight;
+        this.triggerGroups = Collections.unmodifiableSet(new LinkedHashSet<>(triggerGroups));
+        this.minPriority = minPriority;
+        this.maxPriority = maxPriority;
+        this.excludedLanes = Collections.unmodifiableList(excludedLanes);
+    }
+
+    /*
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *
+     * Interface.
+     *
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+
+    public String getName() {
+        return name;
+    }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    /**
+     * @return the trigger groups selected by this lane, an empty set meaning "any group".
+     */
+    public Set<String> getTriggerGroups() {
+        return triggerGroups;
+    }
+
+    public int getMinPriority() {
+        return minPriority;
+    }
+
+    public int getMaxPriority() {
+        return maxPriority;
+    }
+
+    /**
+     * @return the explicit lanes whose triggers are not selected by this lane,
+     * never <code>null</code>.
+     */
+    public List<ExecutionLane> getExcludedLanes() {
+        return excludedLanes;
+    }
+
+    /**
+     * @return true if this lane selects whatever its excluded lanes do not.
+     */
+    public boolean isDefaultLane() {
+        return !excludedLanes.isEmpty() || (triggerGroups.isEmpty()
+                && minPriority == Integer.MIN_VALUE && maxPriority == Integer.MAX_VALUE);
+    }
+
+    /**
+     * Determine whether the given trigger belongs to this lane.
+     */
+    public boolean accepts(Trigger trigger) {
+        return accepts(trigger.getKey().getGroup(), trigger.getPriority());
+    }
+
+    /**
+     * Determine whether a trigger with the given group and priority belongs
+     * to this lane.
+     */
+    public boolean accepts(String triggerGroup, int priority) {
+        for (ExecutionLane excluded : excludedLanes) {
+            if (excluded.accepts(triggerGroup, priority)) {
+                return false;
+            }
+        }
+        if (!triggerGroups.isEmpty() && !triggerGroups.contains(triggerGroup)) {
+            return false;
+        }
+        return priority >= minPriority && priority <= maxPriority;
+    }
+
+    @Override
+    public String toString() {
+        return "ExecutionLane '" + name + "' [threads=" + threadCount + ", weight=" + weight
+                + (triggerGroups.isEmpty() ? "" : ", groups=" + triggerGroups)
+                + (minPriority == Integer.MIN_VALUE ? "" : ", minPriority=" + minPriority)
+                + (maxPriority == Integer.MAX_VALUE ? "" : ", maxPriority=" + maxPriority) + "]";
+    }
+}
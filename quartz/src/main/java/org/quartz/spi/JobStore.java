@@ -19,6 +19,7 @@
 package org.quartz.spi;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -374,6 +375,31 @@ public interface JobStore {
     Set<TriggerKey> getTriggerKeys(GroupMatcher<TriggerKey> matcher)
         throws JobPersistenceException;
 
+    /**
+     * Get the names of all of the <code>{@link org.quartz.Trigger}</code> s
+     * that have the given group name and are in the given state.
+     *
+     * <p>
+     * If there are no such triggers, the result should be a zero-length
+     * array (not <code>null</code>).  The default implementation gets the
+     * state of each trigger in the group in turn; stores that can read the
+     * states of a whole group at once should override it.
+     * </p>
+     *
+     * @see #getTriggerState(TriggerKey)
+     * @since 2.5.1
+     */
+    default Set<TriggerKey> getTriggerKeys(GroupMatcher<TriggerKey> matcher, TriggerState state)
+        throws JobPersistenceException {
+        Set<TriggerKey> keys = new HashSet<>();
+        for (TriggerKey triggerKey : getTriggerKeys(matcher)) {
+            if (getTriggerState(triggerKey) == state) {
+                keys.add(triggerKey);
+            }
+        }
+        return keys;
+    }
+
     /**
      * Get the names of all of the <code>{@link org.quartz.Job}</code>
      * groups.
@@ -597,6 +623,26 @@ public interface JobStore {
     List<OperableTrigger> acquireNextTriggers(long noLaterThan, int maxCount, long timeWindow)
         throws JobPersistenceException;
 
+    /**
+     * Get a handle to the next triggers to be fired that belong to the given
+     * <code>{@link ExecutionLane}</code>, and mark them as 'reserved' by the
+     * calling scheduler.
+     *
+     * <p>
+     * Triggers that do not belong to the lane must be left untouched, so that
+     * they remain available to the acquisition of their own lane.  The default
+     * implementation ignores the lane and is only suitable for stores that are
+     * never used with a <code>{@link LaneAwareThreadPool}</code>.
+     * </p>
+     *
+     * @see #acquireNextTriggers(long, int, long)
+     * @since 2.5.1
+     */
+    default List<OperableTrigger> acquireNextTriggers(long noLaterThan, int maxCount, long timeWindow, ExecutionLane lane)
+        throws JobPersistenceException {
+        return acquireNextTriggers(noLaterThan, maxCount, timeWindow);
+    }
+
     /**
      * Inform the <code>JobStore</code> that the scheduler no longer plans to
      * fire the given <code>Trigger</code>, that it had previously acquired
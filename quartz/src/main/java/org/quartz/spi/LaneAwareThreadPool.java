@@ -0,0 +1,73 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.spi;
+
+import java.util.List;
+
+/**
+ * <p>
+ * A <code>{@link ThreadPool}</code> whose threads are partitioned into
+ * <code>{@link ExecutionLane}</code>s, each with its own reserved capacity.
+ * </p>
+ *
+ * <p>
+ * When the scheduler's thread pool implements this interface, the
+ * <code>{@link org.quartz.core.QuartzSchedulerThread}</code> acquires triggers
+ * per lane, limited by the threads available in that lane, and hands each
+ * fired job to the lane it was acquired for.  <code>blockForAvailableThreads()</code>
+ * must block until at least one lane has an available thread, and
+ * <code>runInThread(Runnable)</code> runs the given work in the default lane.
+ * </p>
+ *
+ * @see org.quartz.simpl.LaneThreadPool
+ */
+public interface LaneAwareThreadPool extends ThreadPool {
+
+    /**
+     * <p>
+     * Add an explicit lane to the pool.  Must be called before
+     * <code>initialize()</code>.
+     * </p>
+     */
+    void addLane(ExecutionLane lane);
+
+    /**
+     * <p>
+     * Get the lanes of the (initialized) pool, the default lane being last.
+     * </p>
+     */
+    List<ExecutionLane> getLanes();
+
+    /**
+     * <p>
+     * Determine, without blocking, the number of threads currently available
+     * in the given lane.
+     * </p>
+     */
+    int getAvailableThreads(ExecutionLane lane);
+
+    /**
+     * <p>
+     * Execute the given <code>{@link java.lang.Runnable}</code> in the next
+     * available <code>Thread</code> of the given lane.
+     * </p>
+     *
+     * @return true, if the runnable was assigned to run on a Thread.
+     */
+    boolean runInThread(ExecutionLane lane, Runnable runnable);
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.spi;
+
+import org.quartz.utils.LockStatistics;
+
+/**
+ * <p>
+ * A <code>{@link JobStore}</code> that keeps statistics about the locks it
+ * takes to coordinate the threads, or cluster nodes, using it.
+ * </p>
+ */
+public interface LockStatisticsAwareJobStore extends JobStore {
+
+    /**
+     * @return the statistics of the locks taken by the job store, or null if
+     * it keeps none.
+     */
+    LockStatistics getLockStatistics();
+}
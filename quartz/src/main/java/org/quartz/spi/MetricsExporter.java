@@ -0,0 +1,77 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.spi;
+
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.management.MetricsRegistry;
+
+/**
+ * <p>
+ * Publishes the metrics of a scheduler to a monitoring system.
+ * </p>
+ *
+ * <p>
+ * If you use <code>{@link org.quartz.impl.StdSchedulerFactory}</code> to
+ * initialize your Scheduler, it can create and initialize your exporters,
+ * configured with the <code>org.quartz.metricsExporter.NAME.class</code>
+ * property (and any further <code>org.quartz.metricsExporter.NAME.*</code>
+ * bean properties).
+ * </p>
+ *
+ * <p>
+ * The metrics are recorded on the scheduling and worker threads: exporters
+ * should only read them, preferably from a thread of their own, and never
+ * block those threads.
+ * </p>
+ *
+ * @see org.quartz.simpl.LoggingMetricsExporter
+ * @see org.quartz.management.PrometheusMetricsExporter
+ */
+public interface MetricsExporter {
+
+    /**
+     * <p>
+     * Called during creation of the <code>Scheduler</code>, after its
+     * <code>SchedulerPlugin</code>s are initialized.
+     * </p>
+     *
+     * @param name
+     *          The name by which the exporter is identified.
+     * @param scheduler
+     *          The scheduler whose metrics are exported.
+     * @param registry
+     *          The metrics of the scheduler, including the latency
+     *          histograms of its trigger pipeline.
+     *
+     * @throws org.quartz.SchedulerConfigException
+     *           if there is an error initializing.
+     */
+    void initialize(String name, Scheduler scheduler, MetricsRegistry registry)
+        throws SchedulerException;
+
+    /**
+     * <p>
+     * Called in order to inform the <code>MetricsExporter</code> that it
+     * should free up all of its resources because the scheduler is shutting
+     * down.
+     * </p>
+     */
+    void shutdown();
+
+}
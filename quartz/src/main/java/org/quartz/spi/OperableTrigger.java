@@ -10,6 +10,28 @@ import org.quartz.SchedulerException;
 
 public interface OperableTrigger extends MutableTrigger {
 
+    /**
+     * The value <code>{@link #getFireTimeAfter(long)}</code> returns when
+     * the trigger will not fire after the given time.
+     */
+    long NO_FIRE_TIME = Long.MAX_VALUE;
+
+    /**
+     * <p>
+     * Returns the next time at which the <code>Trigger</code> will fire,
+     * after the given time, in milliseconds: the same time as
+     * <code>{@link #getFireTimeAfter(Date)}</code>, without the
+     * <code>Date</code>.
+     * </p>
+     *
+     * @return the fire time, or <code>{@link #NO_FIRE_TIME}</code> if the
+     *         trigger will not fire after the given time.
+     */
+    default long getFireTimeAfter(long afterTime) {
+        Date fireTime = getFireTimeAfter(new Date(afterTime));
+        return (fireTime == null) ? NO_FIRE_TIME : fireTime.getTime();
+    }
+
     /**
      * <p>
      * This method should not be used by the Quartz client.
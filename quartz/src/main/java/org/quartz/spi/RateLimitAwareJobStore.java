@@ -0,0 +1,47 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.spi;
+
+/**
+ * <p>
+ * A <code>{@link JobStore}</code> that can limit the rate at which it
+ * acquires triggers with a <code>{@link TriggerRateLimiter}</code>.
+ * </p>
+ *
+ * <p>
+ * Triggers deferred by the limiter must stay in the store (in their normal
+ * waiting state) and be considered again by later calls to
+ * <code>acquireNextTriggers</code>.  Triggers passed to
+ * <code>releaseAcquiredTrigger</code> give their permits back.
+ * </p>
+ */
+public interface RateLimitAwareJobStore extends JobStore {
+
+    /**
+     * <p>
+     * Set the limiter to enforce when acquiring triggers, or <code>null</code>
+     * for none.  Called before <code>initialize</code>.
+     * </p>
+     */
+    void setTriggerRateLimiter(TriggerRateLimiter rateLimiter);
+
+    /**
+     * @return the limiter enforced when acquiring triggers, or <code>null</code>.
+     */
+    TriggerRateLimiter getTriggerRateLimiter();
+}
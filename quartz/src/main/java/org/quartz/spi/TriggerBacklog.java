@@ -0,0 +1,108 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.spi;
+
+/**
+ * <p>
+ * A snapshot of the triggers of a <code>{@link JobStore}</code> that are
+ * waiting to be acquired and are overdue, or due soon.  These are the
+ * signals for scaling the number of threads or nodes executing jobs.
+ * </p>
+ *
+ * @see BacklogAwareJobStore
+ */
+public class TriggerBacklog implements java.io.Serializable {
+
+    private static final long serialVersionUID = 2617826591430436085L;
+
+    private final long time;
+
+    private final int overdueCount;
+
+    private final long oldestOverdueFireTime;
+
+    private final long dueWindow;
+
+    private final int dueCount;
+
+    /**
+     * @param time the time of the snapshot.
+     * @param oldestOverdueFireTime the earliest fire time of the overdue
+     * triggers, or -1 if none.
+     * @param dueWindow the window, in milliseconds, <code>dueCount</code>
+     * was counted in.
+     */
+    public TriggerBacklog(long time, int overdueCount, long oldestOverdueFireTime, long dueWindow, int dueCount) {
+        this.time = time;
+        this.overdueCount = overdueCount;
+        this.oldestOverdueFireTime = oldestOverdueFireTime;
+        this.dueWindow = dueWindow;
+        this.dueCount = dueCount;
+    }
+
+    /**
+     * @return the time at which the backlog was counted.
+     */
+    public long getTime() {
+        return time;
+    }
+
+    /**
+     * @return the number of waiting triggers whose next fire time has passed.
+     */
+    public int getOverdueCount() {
+        return overdueCount;
+    }
+
+    /**
+     * @return the age now, in milliseconds, of the oldest overdue trigger's
+     * next fire time, or 0 if none is overdue.
+     */
+    public long getOldestOverdueAge() {
+        return oldestOverdueFireTime < 0 ? 0 : Math.max(0, System.currentTimeMillis() - oldestOverdueFireTime);
+    }
+
+    /**
+     * @return the earliest next fire time of the overdue triggers, or -1 if
+     * none is overdue.
+     */
+    public long getOldestOverdueFireTime() {
+        return oldestOverdueFireTime;
+    }
+
+    /**
+     * @return the window, in milliseconds, of <code>getDueCount</code>.
+     */
+    public long getDueWindow() {
+        return dueWindow;
+    }
+
+    /**
+     * @return the number of waiting triggers that are due within the window,
+     * and not overdue.
+     */
+    public int getDueCount() {
+        return dueCount;
+    }
+
+    @Override
+    public String toString() {
+        return "TriggerBacklog [overdueCount=" + overdueCount + ", oldestOverdueAge=" + getOldestOverdueAge()
+                + ", dueWindow=" + dueWindow + ", dueCount=" + dueCount + "]";
+    }
+}
@@ -61,6 +61,8 @@ public class TriggerFiredBundle implements java.io.Serializable {
 
     private final Date nextFireTime;
 
+    private int fireCount = 1;
+
     /*
      * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
      * 
@@ -134,4 +136,18 @@ public class TriggerFiredBundle implements java.io.Serializable {
         return scheduledFireTime;
     }
 
+    /**
+     * @return the number of fires this execution stands for, greater than 1
+     * if fires were coalesced into it.
+     * @see org.quartz.CoalesceFires
+     */
+    public int getFireCount() {
+        // bundles serialized before the fire count existed deserialize with 0
+        return Math.max(fireCount, 1);
+    }
+
+    public void setFireCount(int fireCount) {
+        this.fireCount = fireCount;
+    }
+
 }
\ No newline at end of file
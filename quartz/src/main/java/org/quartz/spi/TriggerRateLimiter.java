@@ -0,0 +1,222 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.spi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.quartz.Trigger;
+import org.quartz.utils.TokenBucket;
+
+/**
+ * <p>
+ * Limits the rate at which a <code>{@link JobStore}</code> acquires the
+ * triggers of given trigger groups or job groups, with a token bucket per
+ * group.  A trigger is only acquired when every limit that applies to it has
+ * a permit available; otherwise it is deferred, i.e. left waiting in the
+ * store to be acquired later.
+ * </p>
+ *
+ * <p>
+ * The limits are local to the scheduler instance: in a cluster, each node
+ * enforces them for the triggers it acquires.
+ * </p>
+ *
+ * @see RateLimitAwareJobStore
+ */
+public class TriggerRateLimiter {
+
+    public enum Scope { TRIGGER_GROUP, JOB_GROUP }
+
+    /*
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *
+     * Data members.
+     *
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+
+    private final List<Limit> limits = new ArrayList<>();
+
+    /*
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *
+     * Interface.
+     *
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+
+    /**
+     * Add a limit.
+     *
+     * @param name the unique name of the limit.
+     * @param scope whether the limit applies to a trigger group or to a job group.
+     * @param group the name of the group the limit applies to.
+     * @param permitsPerSecond the sustained rate triggers are acquired at, must be &gt; 0.
+     * @param burst the number of triggers that may be acquired at once, must be &gt; 0.
+     */
+    public synchronized void addLimit(String name, Scope scope, String group, double permitsPerSecond, int burst) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Rate limit name cannot be empty.");
+        }
+        if (scope == null || group == null) {
+            throw new IllegalArgumentException("Rate limit '" + name + "' must name a trigger group or a job group.");
+        }
+        for (Limit limit : limits) {
+            if (limit.getName().equals(name)) {
+                throw new IllegalArgumentException("Duplicate rate limit name: " + name);
+            }
+        }
+        limits.add(new Limit(name, scope, group, new TokenBucket(permitsPerSecond, burst)));
+    }
+
+    public synchronized List<Limit> getLimits() {
+        return Collections.unmodifiableList(new ArrayList<>(limits));
+    }
+
+    /**
+     * Take a permit from every limit that applies to the given trigger, if
+     * all of them have one available.
+     *
+     * @return true if the trigger may be acquired, false if it must be deferred.
+     */
+    public synchronized boolean tryAcquire(Trigger trigger, long now) {
+        boolean available = true;
+        for (Limit limit : limits) {
+            if (limit.appliesTo(trigger) && !limit.bucket.hasPermit(now)) {
+                limit.bucket.defer();
+                available = false;
+            }
+        }
+        if (!available) {
+            return false;
+        }
+        for (Limit limit : limits) {
+            if (limit.appliesTo(trigger)) {
+                limit.bucket.tryAcquire(now);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether a limit on the given group has no permit available, so that
+     * every trigger it applies to is deferred: lets a job store skip such
+     * triggers before it retrieves them.  No permit is taken.
+     */
+    public synchronized boolean isDeferring(Scope scope, String group, long now) {
+        boolean deferring = false;
+        for (Limit limit : limits) {
+            if (limit.scope == scope && limit.group.equals(group) && !limit.bucket.hasPermit(now)) {
+                limit.bucket.defer();
+                deferring = true;
+            }
+        }
+        return deferring;
+    }
+
+    /**
+     * Give back the permits taken for a trigger that was acquired, but
+     * released without being fired.
+     */
+    public synchronized void release(Trigger trigger, long now) {
+        for (Limit limit : limits) {
+            if (limit.appliesTo(trigger)) {
+                limit.bucket.release(now);
+            }
+        }
+    }
+
+    /**
+     * @return the earliest time at which a limit that deferred triggers has a
+     * permit available again, or -1 if no triggers are being deferred.  A
+     * limit that has a permit available is reported (as <code>now</code>)
+     * only once, until it defers triggers again.
+     */
+    public synchronized long getRetryTime(long now) {
+        long retryTime = -1;
+        for (Limit limit : limits) {
+            if (limit.bucket.isDeferring()) {
+                long t = limit.bucket.getNextPermitTime(now);
+                if (t <= now) {
+                    limit.bucket.clearDeferring();
+                }
+                if (retryTime < 0 || t < retryTime) {
+                    retryTime = t;
+                }
+            }
+        }
+        return retryTime;
+    }
+
+    /*
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     *
+     * Limit Class.
+     *
+     * ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+     */
+
+    public static class Limit {
+
+        private final String name;
+
+        private final Scope scope;
+
+        private final String group;
+
+        private final TokenBucket bucket;
+
+        private Limit(String name, Scope scope, String group, TokenBucket bucket) {
+            this.name = name;
+            this.scope = scope;
+            this.group = group;
+            this.bucket = bucket;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Scope getScope() {
+            return scope;
+        }
+
+        public String getGroup() {
+            return group;
+        }
+
+        public TokenBucket getBucket() {
+            return bucket;
+        }
+
+        public boolean appliesTo(Trigger trigger) {
+            if (scope == Scope.TRIGGER_GROUP) {
+                return group.equals(trigger.getKey().getGroup());
+            }
+            return group.equals(trigger.getJobKey().getGroup());
+        }
+
+        @Override
+        public String toString() {
+            return "TriggerRateLimit '" + name + "' [" + (scope == Scope.TRIGGER_GROUP ? "triggerGroup=" : "jobGroup=")
+                    + group + ", permitsPerSecond=" + bucket.getPermitsPerSecond() + ", burst=" + bucket.getBurst() + "]";
+        }
+    }
+}
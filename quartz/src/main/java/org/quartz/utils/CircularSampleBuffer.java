@@ -0,0 +1,139 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.utils;
+
+/**
+ * A circular buffer of timestamped <code>long</code> samples, held in
+ * primitive arrays so that recording a sample allocates nothing.  When more
+ * samples are recorded than the buffer holds, the oldest ones are lost.
+ *
+ * @see CircularLossyQueue
+ */
+public class CircularSampleBuffer {
+    private final long[] timestamps;
+    private final long[] values;
+    private final int maxSize;
+    // total number of samples ever recorded
+    private long count;
+
+    /**
+     * Constructs the buffer with the specified capacity
+     *
+     * @param size
+     */
+    public CircularSampleBuffer(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Size (" + size + ") must be greater than or equal to 1");
+        }
+        this.timestamps = new long[size];
+        this.values = new long[size];
+        this.maxSize = size;
+    }
+
+    /**
+     * Records a sample
+     *
+     * @param timestamp
+     * @param value
+     */
+    public synchronized void push(long timestamp, long value) {
+        int index = (int) (count % maxSize);
+        timestamps[index] = timestamp;
+        values[index] = value;
+        count++;
+    }
+
+    /**
+     * Returns the number of samples currently in the buffer
+     */
+    public synchronized int depth() {
+        return (int) Math.min(count, maxSize);
+    }
+
+    public synchronized boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Returns the value of the most recent sample
+     *
+     * @throws IllegalStateException if the buffer is empty
+     */
+    public synchronized long peekValue() {
+        return values[mostRecentIndex()];
+    }
+
+    /**
+     * Returns the timestamp of the most recent sample
+     *
+     * @throws IllegalStateException if the buffer is empty
+     */
+    public synchronized long peekTimestamp() {
+        return timestamps[mostRecentIndex()];
+    }
+
+    /**
+     * Returns the value of the sample recorded <code>age</code> samples
+     * before the most recent one
+     *
+     * @throws IndexOutOfBoundsException if there is no such sample
+     */
+    public synchronized long peekValue(int age) {
+        return values[indexOf(age)];
+    }
+
+    /**
+     * Returns the timestamp of the sample recorded <code>age</code> samples
+     * before the most recent one
+     *
+     * @throws IndexOutOfBoundsException if there is no such sample
+     */
+    public synchronized long peekTimestamp(int age) {
+        return timestamps[indexOf(age)];
+    }
+
+    /**
+     * Copies the samples into the given arrays, most recent first, as far as
+     * they hold.
+     *
+     * @return the number of samples copied
+     */
+    public synchronized int copyTo(long[] timestampsOut, long[] valuesOut) {
+        int n = Math.min(Math.min(timestampsOut.length, valuesOut.length), depth());
+        for (int k = 0; k < n; k++) {
+            int index = (int) ((count - 1 - k) % maxSize);
+            timestampsOut[k] = timestamps[index];
+            valuesOut[k] = values[index];
+        }
+        return n;
+    }
+
+    private int mostRecentIndex() {
+        if (count == 0) {
+            throw new IllegalStateException("No samples recorded");
+        }
+        return (int) ((count - 1) % maxSize);
+    }
+
+    private int indexOf(int age) {
+        if (age < 0 || age >= Math.min(count, maxSize)) {
+            throw new IndexOutOfBoundsException("No sample of age " + age + ", depth is " + Math.min(count, maxSize));
+        }
+        return (int) ((count - 1 - age) % maxSize);
+    }
+}
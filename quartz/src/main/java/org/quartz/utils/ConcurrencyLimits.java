@@ -0,0 +1,127 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.utils;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.quartz.JobDetail;
+
+/**
+ * <p>
+ * The concurrency limits a <code>JobStore</code> enforces when acquiring
+ * triggers: the per-job limit declared with
+ * <code>{@link org.quartz.ConcurrentExecutionLimit}</code>, and per-job-group
+ * limits configured on the store.
+ * </p>
+ *
+ * <p>
+ * Job group limits are given as a comma separated list of
+ * <code>group=limit</code> pairs, e.g. <code>"reports=4,billing=1"</code>.
+ * </p>
+ */
+public class ConcurrencyLimits {
+
+    private static final ConcurrencyLimits NONE = new ConcurrencyLimits(Collections.<String, Integer>emptyMap());
+
+    private final Map<String, Integer> jobGroupLimits;
+
+    private ConcurrencyLimits(Map<String, Integer> jobGroupLimits) {
+        this.jobGroupLimits = jobGroupLimits;
+    }
+
+    /**
+     * Parse a list of <code>group=limit</code> pairs.
+     *
+     * @throws IllegalArgumentException if the list is malformed, or a limit is not &gt; 0.
+     */
+    public static ConcurrencyLimits parse(String jobGroupLimits) {
+        if (jobGroupLimits == null || jobGroupLimits.trim().isEmpty()) {
+            return NONE;
+        }
+        Map<String, Integer> limits = new LinkedHashMap<>();
+        for (String pair : jobGroupLimits.split(",")) {
+            if (pair.trim().isEmpty()) {
+                continue;
+            }
+            int sep = pair.lastIndexOf('=');
+            if (sep <= 0) {
+                throw new IllegalArgumentException("Job group concurrency limit '" + pair.trim()
+                        + "' is not of the form group=limit.");
+            }
+            String group = pair.substring(0, sep).trim();
+            int limit;
+            try {
+                limit = Integer.parseInt(pair.substring(sep + 1).trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Job group concurrency limit '" + pair.trim()
+                        + "' does not have a numeric limit.");
+            }
+            if (limit <= 0) {
+                throw new IllegalArgumentException("Job group concurrency limit '" + pair.trim()
+                        + "' must be > 0.");
+            }
+            limits.put(group, limit);
+        }
+        return new ConcurrencyLimits(Collections.unmodifiableMap(limits));
+    }
+
+    /**
+     * @return the per-job-group limits, keyed by job group.
+     */
+    public Map<String, Integer> getJobGroupLimits() {
+        return jobGroupLimits;
+    }
+
+    /**
+     * @return the maximum number of concurrent executions of the given job,
+     * or 0 if it is unlimited.
+     */
+    public int getJobLimit(JobDetail job) {
+        return job.getConcurrentExecutionLimit();
+    }
+
+    /**
+     * @return the maximum number of concurrent executions of all jobs of the
+     * given group, or 0 if it is unlimited.
+     */
+    public int getJobGroupLimit(String jobGroup) {
+        Integer limit = jobGroupLimits.get(jobGroup);
+        return limit == null ? 0 : limit;
+    }
+
+    /**
+     * @return true if executions of the given job are subject to any limit.
+     */
+    public boolean isLimited(JobDetail job) {
+        return getJobLimit(job) > 0 || getJobGroupLimit(job.getKey().getGroup()) > 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Integer> e : jobGroupLimits.entrySet()) {
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+            sb.append(e.getKey()).append('=').append(e.getValue());
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.utils;
+
+/**
+ * <p>
+ * Conversions between dates of the proleptic Gregorian calendar and the
+ * number of days since 1970-01-01, computed as
+ * <code>java.time.LocalDate</code> does, but without allocating it.
+ * </p>
+ *
+ * <p>
+ * A date is packed into a single <code>long</code> by
+ * {@link #toDate(long)}, and read with {@link #getYear(long)},
+ * {@link #getMonth(long)} and {@link #getDayOfMonth(long)}.
+ * </p>
+ */
+public final class EpochDays {
+
+    private static final long DAYS_0000_TO_1970 = 719468; // from 0000-03-01
+
+    private static final long DAYS_PER_CYCLE = 146097; // in 400 years
+
+    private EpochDays() {
+    }
+
+    /**
+     * Returns the days since 1970-01-01 of the given date; the day of the
+     * month may be past the end of the month.
+     *
+     * @param month the month, from 1.
+     */
+    public static long of(int year, int month, int day) {
+        long y = (month <= 2) ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * ((month > 2) ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * DAYS_PER_CYCLE + dayOfEra - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Returns the date of the given day since 1970-01-01, packed into a
+     * <code>long</code>: the inverse of {@link #of(int, int, int)}.
+     */
+    public static long toDate(long epochDay) {
+        long zeroDay = epochDay + DAYS_0000_TO_1970;
+        long era = Math.floorDiv(zeroDay, DAYS_PER_CYCLE);
+        long dayOfEra = zeroDay - era * DAYS_PER_CYCLE;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long marchMonth = (5 * dayOfYear + 2) / 153; // 0 for March
+        long day = dayOfYear - (153 * marchMonth + 2) / 5 + 1;
+        long month = (marchMonth < 10) ? marchMonth + 3 : marchMonth - 9;
+        long year = yearOfEra + era * 400 + ((month <= 2) ? 1 : 0);
+        return (year << 9) | (month << 5) | day;
+    }
+
+    /**
+     * Returns the year of a date returned by {@link #toDate(long)}.
+     */
+    public static int getYear(long date) {
+        return (int) (date >> 9);
+    }
+
+    /**
+     * Returns the month, from 1, of a date returned by {@link #toDate(long)}.
+     */
+    public static int getMonth(long date) {
+        return (int) (date >> 5) & 0xF;
+    }
+
+    /**
+     * Returns the day of the month of a date returned by
+     * {@link #toDate(long)}.
+     */
+    public static int getDayOfMonth(long date) {
+        return (int) date & 0x1F;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.utils;
+
+import java.util.Iterator;
+import java.util.TreeMap;
+
+/**
+ * <p>
+ * Counts a set of fire times, so as to tell how many of them are overdue,
+ * and how many are due within a time window, without iterating over all
+ * of them.
+ * </p>
+ *
+ * <p>
+ * Fire times are counted to the second: those in the current second are
+ * considered due rather than overdue.  Fire times are moved to the overdue
+ * count as time passes, each at most once, so that keeping the counter up
+ * to date costs O(log n) per added or removed fire time, and answering
+ * costs at most one step per second of the window.
+ * </p>
+ *
+ * <p>
+ * Not thread-safe: callers must synchronize access to it.
+ * </p>
+ */
+public class FireTimeCounter {
+
+    private static final long RESOLUTION = 1000L;
+
+    // pending fire times (at or after overdueSlot), by second
+    private final TreeMap<Long, int[]> pending = new TreeMap<>();
+
+    // fire times in seconds before this one are counted as overdue
+    private long overdueSlot = Long.MIN_VALUE;
+
+    private int overdueCount;
+
+    private int count;
+
+    public void add(long fireTime) {
+        long slot = slot(fireTime);
+        if (slot < overdueSlot) {
+            overdueCount++;
+        } else {
+            pending.computeIfAbsent(slot, s -> new int[1])[0]++;
+        }
+        count++;
+    }
+
+    /**
+     * Remove a fire time previously added.
+     *
+     * @throws IllegalArgumentException if no such fire time was added.
+     */
+    public void remove(long fireTime) {
+        long slot = slot(fireTime);
+        if (slot < overdueSlot) {
+            if (overdueCount == 0) {
+                throw new IllegalArgumentException("Fire time " + fireTime + " was not added.");
+            }
+            overdueCount--;
+        } else {
+            int[] slotCount = pending.get(slot);
+            if (slotCount == null) {
+                throw new IllegalArgumentException("Fire time " + fireTime + " was not added.");
+            }
+            if (--slotCount[0] == 0) {
+                pending.remove(slot);
+            }
+        }
+        count--;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @return the number of fire times before the second of the given time.
+     */
+    public int getOverdueCount(long now) {
+        advance(now);
+        return overdueCount;
+    }
+
+    /**
+     * @return the number of fire times from the second of the given time up
+     * to the given time plus the window (to the second), which are not
+     * overdue.
+     */
+    public int getDueWithin(long now, long window) {
+        advance(now);
+        int due = 0;
+        for (int[] slotCount : pending.subMap(slot(now), true, slot(now + Math.max(0L, window)), true).values()) {
+            due += slotCount[0];
+        }
+        return due;
+    }
+
+    public void clear() {
+        pending.clear();
+        overdueCount = 0;
+        count = 0;
+    }
+
+    private void advance(long now) {
+        long nowSlot = slot(now);
+        if (nowSlot <= overdueSlot) {
+            return;
+        }
+        for (Iterator<int[]> it = pending.headMap(nowSlot).values().iterator(); it.hasNext();) {
+            overdueCount += it.next()[0];
+            it.remove();
+        }
+        overdueSlot = nowSlot;
+    }
+
+    private static long slot(long time) {
+        return Math.floorDiv(time, RESOLUTION);
+    }
+}
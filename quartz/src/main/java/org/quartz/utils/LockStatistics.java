@@ -0,0 +1,369 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>
+ * Statistics about the locks a job store takes, by lock name: how long
+ * threads waited for and held each lock, how often obtaining it had to be
+ * retried or failed (and how often because of a deadlock), and which thread
+ * holds it now, for which operation.
+ * </p>
+ *
+ * <p>
+ * Each lock is assumed to be held by at most one thread of the process at a
+ * time.  Waits or holds that last longer than the slow lock threshold, if
+ * set, are logged at WARN level.
+ * </p>
+ */
+public class LockStatistics {
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final ConcurrentHashMap<String, Lock> locks = new ConcurrentHashMap<>();
+
+    private volatile long slowLockThreshold = 0L;
+
+    /**
+     * Get the number of milliseconds of wait or hold above which lock
+     * usage is logged, 0 if it is not.
+     */
+    public long getSlowLockThreshold() {
+        return slowLockThreshold;
+    }
+
+    /**
+     * Set the number of milliseconds of wait or hold above which lock usage
+     * is logged, 0 (the default) not to log it.
+     */
+    public void setSlowLockThreshold(long slowLockThreshold) {
+        this.slowLockThreshold = slowLockThreshold;
+    }
+
+    /**
+     * @return whether lock usage above the slow lock threshold is logged,
+     * which names the operations the locks were obtained for.
+     */
+    public boolean isLoggingSlowLocks() {
+        return slowLockThreshold > 0L;
+    }
+
+    /**
+     * Record that the calling thread obtained the given lock.
+     *
+     * @param waitNanos the time spent obtaining the lock, in nanoseconds.
+     * @param operation what the lock was obtained for, or null if unknown.
+     *        Finding it may be costly, so callers only need to while slow
+     *        locks are logged.
+     * @see #isLoggingSlowLocks()
+     */
+    public void lockObtained(String lockName, long waitNanos, String operation) {
+        Lock lock = lock(lockName);
+        lock.waitTimes.record(waitNanos / 1000L);
+        lock.holder.set(new Holder(Thread.currentThread(), operation, System.nanoTime()));
+        if (isSlow(waitNanos)) {
+            log.warn("Lock '{}' was obtained by: {} ({}) after waiting {} ms.", lockName,
+                    Thread.currentThread().getName(), operation, TimeUnit.NANOSECONDS.toMillis(waitNanos));
+        }
+    }
+
+    /**
+     * Record that an attempt to obtain the given lock failed, and is retried.
+     *
+     * @param deadlock whether the attempt failed because of a deadlock.
+     */
+    public void lockRetried(String lockName, boolean deadlock) {
+        Lock lock = lock(lockName);
+        lock.retries.increment();
+        if (deadlock) {
+            lock.deadlocks.increment();
+        }
+    }
+
+    /**
+     * Record that the calling thread could not obtain the given lock.
+     *
+     * @param waitNanos the time spent trying, in nanoseconds.
+     * @param deadlock whether the last attempt failed because of a deadlock.
+     */
+    public void lockFailed(String lockName, long waitNanos, boolean deadlock) {
+        Lock lock = lock(lockName);
+        lock.failures.increment();
+        if (deadlock) {
+            lock.deadlocks.increment();
+        }
+        if (isSlow(waitNanos)) {
+            log.warn("Lock '{}' could not be obtained by: {} after trying for {} ms.", lockName,
+                    Thread.currentThread().getName(), TimeUnit.NANOSECONDS.toMillis(waitNanos));
+        }
+    }
+
+    /**
+     * Record that the calling thread released the given lock.
+     */
+    public void lockReleased(String lockName) {
+        Lock lock = locks.get(lockName);
+        if (lock == null) {
+            return;
+        }
+        Holder holder = lock.holder.get();
+        // another thread may have obtained a database lock before this one recorded its release
+        if (holder == null || holder.thread != Thread.currentThread() || !lock.holder.compareAndSet(holder, null)) {
+            return;
+        }
+        long holdNanos = System.nanoTime() - holder.since;
+        lock.holdTimes.record(holdNanos / 1000L);
+        if (isSlow(holdNanos)) {
+            log.warn("Lock '{}' was held by: {} ({}) for {} ms.", lockName, holder.thread.getName(),
+                    holder.operation, TimeUnit.NANOSECONDS.toMillis(holdNanos));
+        }
+    }
+
+    /**
+     * @return the statistics of each lock, by lock name.
+     */
+    public List<Snapshot> getSnapshots() {
+        long now = System.nanoTime();
+        List<Snapshot> snapshots = new ArrayList<>();
+        for (Map.Entry<String, Lock> entry : new TreeMap<>(locks).entrySet()) {
+            snapshots.add(entry.getValue().toSnapshot(entry.getKey(), now));
+        }
+        return snapshots;
+    }
+
+    /**
+     * Forget all recorded statistics, but not the current holders of the
+     * locks.
+     */
+    public void reset() {
+        for (Lock lock : locks.values()) {
+            lock.reset();
+        }
+    }
+
+    private Lock lock(String lockName) {
+        Lock lock = locks.get(lockName);
+        return lock != null ? lock : locks.computeIfAbsent(lockName, n -> new Lock());
+    }
+
+    private boolean isSlow(long nanos) {
+        long threshold = slowLockThreshold;
+        return threshold > 0 && nanos >= TimeUnit.MILLISECONDS.toNanos(threshold);
+    }
+
+    private static final class Holder {
+
+        final Thread thread;
+
+        final String operation;
+
+        final long since;
+
+        Holder(Thread thread, String operation, long since) {
+            this.thread = thread;
+            this.operation = operation;
+            this.since = since;
+        }
+    }
+
+    private static final class Lock {
+
+        // in microseconds
+        final LatencyHistogram waitTimes = new LatencyHistogram();
+
+        final LatencyHistogram holdTimes = new LatencyHistogram();
+
+        final LongAdder retries = new LongAdder();
+
+        final LongAdder failures = new LongAdder();
+
+        final LongAdder deadlocks = new LongAdder();
+
+        final AtomicReference<Holder> holder = new AtomicReference<>();
+
+        void reset() {
+            waitTimes.reset();
+            holdTimes.reset();
+            retries.reset();
+            failures.reset();
+            deadlocks.reset();
+        }
+
+        Snapshot toSnapshot(String lockName, long now) {
+            Holder h = holder.get();
+            return new Snapshot(lockName, waitTimes.getCount(), waitTimes.getMean(), waitTimes.getValueAtPercentile(99),
+                    waitTimes.getMax(), holdTimes.getMean(), holdTimes.getValueAtPercentile(99), holdTimes.getMax(),
+                    retries.sum(), failures.sum(), deadlocks.sum(),
+                    h == null ? null : h.thread.getName(), h == null ? null : h.operation,
+                    h == null ? 0L : (now - h.since) / 1000L);
+        }
+    }
+
+    /**
+     * The statistics of a lock.  All durations are in microseconds.
+     */
+    public static class Snapshot {
+
+        private final String lockName;
+
+        private final long acquisitionCount;
+
+        private final long meanWaitTime;
+
+        private final long p99WaitTime;
+
+        private final long maxWaitTime;
+
+        private final long meanHoldTime;
+
+        private final long p99HoldTime;
+
+        private final long maxHoldTime;
+
+        private final long retryCount;
+
+        private final long failureCount;
+
+        private final long deadlockCount;
+
+        private final String holderThread;
+
+        private final String holderOperation;
+
+        private final long heldFor;
+
+        Snapshot(String lockName, long acquisitionCount, long meanWaitTime, long p99WaitTime, long maxWaitTime,
+                long meanHoldTime, long p99HoldTime, long maxHoldTime, long retryCount, long failureCount,
+                long deadlockCount, String holderThread, String holderOperation, long heldFor) {
+            this.lockName = lockName;
+            this.acquisitionCount = acquisitionCount;
+            this.meanWaitTime = meanWaitTime;
+            this.p99WaitTime = p99WaitTime;
+            this.maxWaitTime = maxWaitTime;
+            this.meanHoldTime = meanHoldTime;
+            this.p99HoldTime = p99HoldTime;
+            this.maxHoldTime = maxHoldTime;
+            this.retryCount = retryCount;
+            this.failureCount = failureCount;
+            this.deadlockCount = deadlockCount;
+            this.holderThread = holderThread;
+            this.holderOperation = holderOperation;
+            this.heldFor = heldFor;
+        }
+
+        public String getLockName() {
+            return lockName;
+        }
+
+        public long getAcquisitionCount() {
+            return acquisitionCount;
+        }
+
+        public long getMeanWaitTime() {
+            return meanWaitTime;
+        }
+
+        public long getP99WaitTime() {
+            return p99WaitTime;
+        }
+
+        public long getMaxWaitTime() {
+            return maxWaitTime;
+        }
+
+        public long getMeanHoldTime() {
+            return meanHoldTime;
+        }
+
+        public long getP99HoldTime() {
+            return p99HoldTime;
+        }
+
+        public long getMaxHoldTime() {
+            return maxHoldTime;
+        }
+
+        /**
+         * @return the number of failed attempts to obtain the lock that were
+         * retried.
+         */
+        public long getRetryCount() {
+            return retryCount;
+        }
+
+        /**
+         * @return the number of times the lock could not be obtained at all.
+         */
+        public long getFailureCount() {
+            return failureCount;
+        }
+
+        /**
+         * @return the number of attempts to obtain the lock that failed
+         * because of a deadlock, whether they were retried or not.
+         */
+        public long getDeadlockCount() {
+            return deadlockCount;
+        }
+
+        /**
+         * @return the name of the thread holding the lock, or null if none
+         * of this process does.
+         */
+        public String getHolderThread() {
+            return holderThread;
+        }
+
+        /**
+         * @return the operation the lock is held for, or null if unknown
+         * (it is only looked up while slow locks are logged).
+         */
+        public String getHolderOperation() {
+            return holderOperation;
+        }
+
+        /**
+         * @return for how long the current holder has held the lock, 0 if
+         * none of this process does.
+         */
+        public long getHeldFor() {
+            return heldFor;
+        }
+
+        @Override
+        public String toString() {
+            return "Snapshot [lockName=" + lockName + ", acquisitionCount=" + acquisitionCount + ", meanWaitTime="
+                    + meanWaitTime + ", maxWaitTime=" + maxWaitTime + ", meanHoldTime=" + meanHoldTime
+                    + ", maxHoldTime=" + maxHoldTime + ", retryCount=" + retryCount + ", failureCount="
+                    + failureCount + ", deadlockCount=" + deadlockCount + ", holderThread=" + holderThread
+                    + ", holderOperation=" + holderOperation + ", heldFor=" + heldFor + "]";
+        }
+    }
+}
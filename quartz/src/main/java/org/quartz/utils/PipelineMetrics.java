@@ -0,0 +1,95 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.utils;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * The latency histograms of the stages a trigger goes through in a
+ * scheduler, from its acquisition to the completion of its job.  Every
+ * duration is recorded in microseconds.
+ * </p>
+ *
+ * @see LatencyHistogram
+ */
+public class PipelineMetrics {
+
+    public enum Stage {
+        /** Duration of <code>JobStore.acquireNextTriggers</code>. */
+        ACQUIRE_TRIGGERS,
+        /** Number of triggers acquired by <code>JobStore.acquireNextTriggers</code> (a count, not a duration). */
+        ACQUIRE_BATCH_SIZE,
+        /** Time spent waiting for the locks of a JDBC job store. */
+        LOCK_WAIT,
+        /** Duration of <code>JobStore.triggersFired</code>. */
+        TRIGGERS_FIRED,
+        /** Time between the scheduled fire time of a trigger and the hand-off of its job to the thread pool. */
+        FIRE_LATENESS,
+        /** Time between the hand-off of a job to the thread pool and the start of its execution. */
+        THREAD_POOL_HANDOFF,
+        /** Duration of <code>JobStore.triggeredJobComplete</code>. */
+        TRIGGERED_JOB_COMPLETE
+    }
+
+    private final Map<Stage, LatencyHistogram> stages = new EnumMap<>(Stage.class);
+
+    private final ConcurrentHashMap<String, LatencyHistogram> jobRunTimes = new ConcurrentHashMap<>();
+
+    public PipelineMetrics() {
+        for (Stage stage : Stage.values()) {
+            stages.put(stage, new LatencyHistogram());
+        }
+    }
+
+    public void record(Stage stage, long value) {
+        stages.get(stage).record(value);
+    }
+
+    /**
+     * Record the run time of a job of the given job group.
+     */
+    public void recordJobRunTime(String jobGroup, long micros) {
+        LatencyHistogram histogram = jobRunTimes.get(jobGroup);
+        if (histogram == null) {
+            histogram = jobRunTimes.computeIfAbsent(jobGroup, g -> new LatencyHistogram());
+        }
+        histogram.record(micros);
+    }
+
+    public LatencyHistogram getHistogram(Stage stage) {
+        return stages.get(stage);
+    }
+
+    /**
+     * @return the job run time histograms, by job group.
+     */
+    public Map<String, LatencyHistogram> getJobRunTimes() {
+        return Collections.unmodifiableMap(jobRunTimes);
+    }
+
+    public void reset() {
+        for (LatencyHistogram histogram : stages.values()) {
+            histogram.reset();
+        }
+        jobRunTimes.clear();
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.utils;
+
+/**
+ * <p>
+ * A thread-safe token bucket: permits are added at a fixed rate, up to a
+ * maximum burst, and every permit granted removes one.
+ * </p>
+ */
+public class TokenBucket {
+
+    private final double permitsPerSecond;
+
+    private final int burst;
+
+    private double permits;
+
+    private long lastRefill;
+
+    private long grantedCount;
+
+    private long deferredCount;
+
+    private boolean deferring;
+
+    /**
+     * Create a full bucket.
+     *
+     * @param permitsPerSecond the rate permits are added at, must be &gt; 0.
+     * @param burst the maximum number of permits the bucket holds, must be &gt; 0.
+     */
+    public TokenBucket(double permitsPerSecond, int burst) {
+        if (!(permitsPerSecond > 0)) {
+            throw new IllegalArgumentException("Permits per second must be > 0.");
+        }
+        if (burst <= 0) {
+            throw new IllegalArgumentException("Burst must be > 0.");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.permits = burst;
+        this.lastRefill = System.currentTimeMillis();
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    /**
+     * Determine whether a permit is available at the given time, without taking it.
+     */
+    public synchronized boolean hasPermit(long now) {
+        refill(now);
+        return permits >= 1;
+    }
+
+    /**
+     * Take a permit if one is available at the given time.
+     *
+     * @return true if a permit was taken, false if the request is deferred.
+     */
+    public synchronized boolean tryAcquire(long now) {
+        refill(now);
+        if (permits >= 1) {
+            permits -= 1;
+            grantedCount++;
+            deferring = false;
+            return true;
+        }
+        defer();
+        return false;
+    }
+
+    /**
+     * Record a request that was deferred for want of a permit.
+     */
+    public synchronized void defer() {
+        deferredCount++;
+        deferring = true;
+    }
+
+    /**
+     * Give back a permit that was taken, but not used.
+     */
+    public synchronized void release(long now) {
+        refill(now);
+        permits = Math.min(burst, permits + 1);
+        grantedCount--;
+    }
+
+    /**
+     * @return the time at which the next permit is available, which is
+     * <code>now</code> if one is available already.
+     */
+    public synchronized long getNextPermitTime(long now) {
+        refill(now);
+        if (permits >= 1) {
+            return now;
+        }
+        return now + (long) Math.ceil((1 - permits) * 1000 / permitsPerSecond);
+    }
+
+    public synchronized double getAvailablePermits(long now) {
+        refill(now);
+        return permits;
+    }
+
+    /**
+     * @return the number of permits granted (and not released).
+     */
+    public synchronized long getGrantedCount() {
+        return grantedCount;
+    }
+
+    /**
+     * @return the number of requests deferred for want of a permit.
+     */
+    public synchronized long getDeferredCount() {
+        return deferredCount;
+    }
+
+    /**
+     * @return true if a request was deferred since the last permit was granted.
+     */
+    public synchronized boolean isDeferring() {
+        return deferring;
+    }
+
+    public synchronized void clearDeferring() {
+        deferring = false;
+    }
+
+    private void refill(long now) {
+        if (now > lastRefill) {
+            permits = Math.min(burst, permits + (now - lastRefill) * permitsPerSecond / 1000);
+            lastRefill = now;
+        }
+    }
+}
@@ -32,6 +32,16 @@ public interface Counter {
      */
     long increment();
 
+    /**
+     * Add the given amount to the counter, without returning its new value.
+     * Prefer this to {@link #increment(long)} on hot paths: striped
+     * implementations then need not read every stripe.
+     * @param amount
+     */
+    default void add(long amount) {
+        increment(amount);
+    }
+
     /**
      * Decrement the counter by 1
      * 
@@ -20,11 +20,15 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Timer;
 
+import org.quartz.utils.counter.sampled.CounterSampler;
 import org.quartz.utils.counter.sampled.SampledCounter;
 import org.quartz.utils.counter.sampled.SampledCounterImpl;
+import org.quartz.utils.counter.sampled.StripedSampledCounterImpl;
 
 /**
- * An implementation of a {@link CounterManager}.
+ * An implementation of a {@link CounterManager}.  Its sampled counters are
+ * sampled by a {@link CounterSampler}, by default the one shared by all the
+ * counter managers of the JVM.
  * 
  * @author <a href="mailto:asanoujam@terracottatech.com">Abhishek Sanoujam</a>
  * @since 1.8
@@ -33,18 +37,44 @@ import org.quartz.utils.counter.sampled.SampledCounterImpl;
 public class CounterManagerImpl implements CounterManager {
 
     private final Timer timer;
+    private final CounterSampler sampler;
     private boolean shutdown;
     private final List<Counter> counters = new ArrayList<>();
 
+    /**
+     * Constructor for a counter manager whose sampled counters are sampled by
+     * the shared {@link CounterSampler}
+     */
+    public CounterManagerImpl() {
+        this(CounterSampler.shared());
+    }
+
+    /**
+     * Constructor that accepts the sampler of the sampled counters, if any is
+     * created
+     */
+    public CounterManagerImpl(CounterSampler sampler) {
+        if (sampler == null) {
+            throw new IllegalArgumentException("Sampler cannot be null");
+        }
+        this.timer = null;
+        this.sampler = sampler;
+    }
+
     /**
      * Constructor that accepts a timer that will be used for scheduling sampled
      * counter if any is created
+     * 
+     * @deprecated a timer has a thread of its own, use
+     * {@link #CounterManagerImpl(CounterSampler)}
      */
+    @Deprecated
     public CounterManagerImpl(Timer timer) {
         if (timer == null) {
             throw new IllegalArgumentException("Timer cannot be null");
         }
         this.timer = timer;
+        this.sampler = null;
     }
 
     /**
@@ -61,7 +91,7 @@ public class CounterManagerImpl implements CounterManager {
                     ((SampledCounter) counter).shutdown();
                 }
             }
-            if(killTimer)
+            if(killTimer && timer != null)
                 timer.cancel();
         } finally {
             shutdown = true;
@@ -71,6 +101,7 @@ public class CounterManagerImpl implements CounterManager {
     /**
      * {@inheritDoc}
      */
+    @SuppressWarnings("deprecation")
     public synchronized Counter createCounter(CounterConfig config) {
         if (shutdown) {
             throw new IllegalStateException("counter manager is shutdown");
@@ -79,9 +110,16 @@ public class CounterManagerImpl implements CounterManager {
             throw new NullPointerException("config cannot be null");
         }
         Counter counter = config.createCounter();
-        if (counter instanceof SampledCounterImpl) {
+        if (sampler != null) {
+            if (counter instanceof SampledCounterImpl || counter instanceof StripedSampledCounterImpl) {
+                sampler.register((SampledCounter) counter);
+            }
+        } else if (counter instanceof SampledCounterImpl) {
             SampledCounterImpl sampledCounter = (SampledCounterImpl) counter;
             timer.schedule(sampledCounter.getTimerTask(), sampledCounter.getIntervalMillis(), sampledCounter.getIntervalMillis());
+        } else if (counter instanceof StripedSampledCounterImpl) {
+            StripedSampledCounterImpl sampledCounter = (StripedSampledCounterImpl) counter;
+            timer.schedule(sampledCounter.getTimerTask(), sampledCounter.getIntervalMillis(), sampledCounter.getIntervalMillis());
         }
         counters.add(counter);
         return counter;
@@ -0,0 +1,123 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.utils.counter;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A counter that spreads concurrent updates over several cells, like a
+ * {@link LongAdder}, so that threads updating it at the same time do not
+ * contend on a single memory location.
+ * <p>
+ * Updates are cheap, but reading the value sums every cell: use
+ * {@link #add(long)} rather than the increment methods, which return the new
+ * value, on hot paths.  Setting the value never loses concurrent updates, as
+ * it only moves the offset the value is read relative to.
+ * </p>
+ */
+public class StripedCounterImpl implements Counter, Serializable {
+
+    private static final long serialVersionUID = 4387135240712474862L;
+
+    private final LongAdder adder = new LongAdder();
+
+    // the value is the sum of the cells minus this offset
+    private volatile long offset;
+
+    /**
+     * Default Constructor
+     */
+    public StripedCounterImpl() {
+        this(0L);
+    }
+
+    /**
+     * Constructor with initial value
+     *
+     * @param initialValue
+     */
+    public StripedCounterImpl(long initialValue) {
+        this.offset = -initialValue;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void add(long amount) {
+        adder.add(amount);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long increment() {
+        adder.increment();
+        return getValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long decrement() {
+        adder.decrement();
+        return getValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public synchronized long getAndSet(long newValue) {
+        long sum = adder.sum();
+        long oldValue = sum - offset;
+        offset = sum - newValue;
+        return oldValue;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long getValue() {
+        return adder.sum() - offset;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long increment(long amount) {
+        adder.add(amount);
+        return getValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long decrement(long amount) {
+        adder.add(-amount);
+        return getValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public synchronized void setValue(long newValue) {
+        offset = adder.sum() - newValue;
+    }
+
+}
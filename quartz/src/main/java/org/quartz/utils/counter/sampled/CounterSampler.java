@@ -0,0 +1,159 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.utils.counter.sampled;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>
+ * Takes the samples of {@link SampledCounter}s.
+ * </p>
+ *
+ * <p>
+ * The {@link #shared() shared} sampler serves every scheduler of the JVM
+ * from a single daemon thread, which samples all the counters that are due
+ * in one pass, once a second.  The thread is only running while counters
+ * are registered.  The {@link #lazy() lazy} sampler has no thread at all:
+ * its counters take the sample that is due when their samples are read, so
+ * that a sample then covers all the time since the previous one, however
+ * long that was.
+ * </p>
+ *
+ * @see org.quartz.utils.counter.CounterManagerImpl
+ */
+public final class CounterSampler {
+
+    static final long TICK_MILLIS = 1000L;
+
+    private static final CounterSampler SHARED = new CounterSampler(false);
+
+    private static final CounterSampler LAZY = new CounterSampler(true);
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final boolean lazy;
+
+    private final CopyOnWriteArrayList<SampleSchedule> schedules = new CopyOnWriteArrayList<>();
+
+    private ScheduledExecutorService executor;
+
+    private CounterSampler(boolean lazy) {
+        this.lazy = lazy;
+    }
+
+    /**
+     * @return the sampler shared by all the schedulers of the JVM, which
+     * samples its counters from a background thread.
+     */
+    public static CounterSampler shared() {
+        return SHARED;
+    }
+
+    /**
+     * @return the sampler whose counters take their samples when they are
+     * read, without any background thread.
+     */
+    public static CounterSampler lazy() {
+        return LAZY;
+    }
+
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    /**
+     * Start sampling the given counter, until it is shut down or
+     * unregistered.
+     *
+     * @throws IllegalArgumentException if the counter is not a
+     * {@link SampledCounterImpl} or a {@link StripedSampledCounterImpl}.
+     */
+    public void register(SampledCounter counter) {
+        SampleSchedule schedule = scheduleOf(counter);
+        schedule.scheduled(this, lazy);
+        if (lazy) {
+            return;
+        }
+        synchronized (this) {
+            schedules.addIfAbsent(schedule);
+            if (executor == null) {
+                executor = Executors.newSingleThreadScheduledExecutor(r -> {
+                    Thread t = new Thread(r, "QuartzCounterSampler");
+                    t.setDaemon(true);
+                    return t;
+                });
+                executor.scheduleAtFixedRate(this::sampleAll, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Stop sampling the given counter.
+     */
+    public void unregister(SampledCounter counter) {
+        scheduleOf(counter).cancel();
+    }
+
+    void unregister(SampleSchedule schedule) {
+        if (lazy) {
+            return;
+        }
+        synchronized (this) {
+            schedules.remove(schedule);
+            if (schedules.isEmpty() && executor != null) {
+                executor.shutdownNow();
+                executor = null;
+            }
+        }
+    }
+
+    /**
+     * @return the number of counters sampled by the background thread.
+     */
+    public int getCounterCount() {
+        return schedules.size();
+    }
+
+    void sampleAll() {
+        long now = System.currentTimeMillis();
+        for (SampleSchedule schedule : schedules) {
+            try {
+                // ticks may come a little early, which must not skip a sample
+                schedule.sampleIfDue(now, TICK_MILLIS / 2);
+            } catch (RuntimeException e) {
+                // an exception would cancel all further ticks
+                log.error("Failed to sample counter.", e);
+            }
+        }
+    }
+
+    private static SampleSchedule scheduleOf(SampledCounter counter) {
+        if (counter instanceof SampledCounterImpl) {
+            return ((SampledCounterImpl) counter).getSchedule();
+        } else if (counter instanceof StripedSampledCounterImpl) {
+            return ((StripedSampledCounterImpl) counter).getSchedule();
+        }
+        throw new IllegalArgumentException("Cannot sample counters of type " + counter.getClass().getName());
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.utils.counter.sampled;
+
+import java.util.function.LongConsumer;
+
+/**
+ * When a sampled counter takes its samples: on the ticks of a
+ * {@link CounterSampler}, or lazily, when its samples are read.
+ */
+final class SampleSchedule {
+
+    private final long intervalMillis;
+
+    // the lock of the counter's history, taking a sample must be atomic
+    private final Object lock;
+
+    private final LongConsumer recorder;
+
+    private long lastSampleTime;
+
+    private volatile CounterSampler sampler;
+
+    private volatile boolean lazy;
+
+    SampleSchedule(long intervalMillis, Object lock, LongConsumer recorder) {
+        this.intervalMillis = intervalMillis;
+        this.lock = lock;
+        this.recorder = recorder;
+    }
+
+    long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    /**
+     * Take a sample now, whether or not one is due.
+     */
+    void sample(long now) {
+        synchronized (lock) {
+            recorder.accept(now);
+            lastSampleTime = now;
+        }
+    }
+
+    /**
+     * Take a sample if at least the sampling interval, less the given
+     * tolerance, has elapsed since the previous one.
+     */
+    boolean sampleIfDue(long now, long tolerance) {
+        synchronized (lock) {
+            if (now - lastSampleTime < intervalMillis - tolerance) {
+                return false;
+            }
+            recorder.accept(now);
+            lastSampleTime = now;
+            return true;
+        }
+    }
+
+    /**
+     * Called before the samples are read, to take the one that is due if
+     * sampling is lazy.
+     */
+    void beforeRead() {
+        if (lazy) {
+            sampleIfDue(System.currentTimeMillis(), 0L);
+        }
+    }
+
+    void scheduled(CounterSampler sampler, boolean lazy) {
+        this.sampler = sampler;
+        this.lazy = lazy;
+    }
+
+    void cancel() {
+        CounterSampler s = sampler;
+        sampler = null;
+        lazy = false;
+        if (s != null) {
+            s.unregister(this);
+        }
+    }
+}
@@ -43,8 +43,8 @@ public class SampledCounterImpl extends CounterImpl implements SampledCounter {
      * Should the counter reset on each sample?
      */
     protected final boolean resetOnSample;
+    private final SampleSchedule schedule;
     private final TimerTask samplerTask;
-    private final long intervalMillis;
 
     /**
      * Constructor accepting a {@link SampledCounterConfig}
@@ -54,24 +54,25 @@ public class SampledCounterImpl extends CounterImpl implements SampledCounter {
     public SampledCounterImpl(SampledCounterConfig config) {
         super(config.getInitialValue());
 
-        this.intervalMillis = config.getIntervalSecs() * MILLIS_PER_SEC;
         this.history = new CircularLossyQueue<>(config.getHistorySize());
         this.resetOnSample = config.isResetOnSample();
+        this.schedule = new SampleSchedule(config.getIntervalSecs() * MILLIS_PER_SEC, history, this::recordSample);
 
         this.samplerTask = new TimerTask() {
             @Override
             public void run() {
-                recordSample();
+                schedule.sample(System.currentTimeMillis());
             }
         };
 
-        recordSample();
+        schedule.sample(System.currentTimeMillis());
     }
 
     /**
      * {@inheritDoc}
      */
     public TimeStampedCounterValue getMostRecentSample() {
+        schedule.beforeRead();
         return this.history.peek();
     }
 
@@ -79,6 +80,7 @@ public class SampledCounterImpl extends CounterImpl implements SampledCounter {
      * {@inheritDoc}
      */
     public TimeStampedCounterValue[] getAllSampleValues() {
+        schedule.beforeRead();
         return this.history.toArray(new TimeStampedCounterValue[this.history.depth()]);
     }
 
@@ -89,13 +91,16 @@ public class SampledCounterImpl extends CounterImpl implements SampledCounter {
         if (samplerTask != null) {
             samplerTask.cancel();
         }
+        schedule.cancel();
     }
 
     /**
      * Returns the timer task for this sampled counter
      * 
      * @return the timer task for this sampled counter
+     * @deprecated counters are sampled by a {@link CounterSampler}
      */
+    @Deprecated
     public TimerTask getTimerTask() {
         return this.samplerTask;
     }
@@ -106,13 +111,14 @@ public class SampledCounterImpl extends CounterImpl implements SampledCounter {
      * @return the sampling thread interval in millis
      */
     public long getIntervalMillis() {
-        return intervalMillis;
+        return schedule.getIntervalMillis();
     }
 
-    /**
-     * {@inheritDoc}
-     */
-    void recordSample() {
+    SampleSchedule getSchedule() {
+        return schedule;
+    }
+
+    void recordSample(long now) {
         final long sample;
         if (resetOnSample) {
             sample = getAndReset();
@@ -120,7 +126,6 @@ public class SampledCounterImpl extends CounterImpl implements SampledCounter {
             sample = getValue();
         }
 
-        final long now = System.currentTimeMillis();
         TimeStampedCounterValue timedSample = new TimeStampedCounterValue(now, sample);
 
         history.push(timedSample);
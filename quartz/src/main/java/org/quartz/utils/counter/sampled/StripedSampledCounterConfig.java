@@ -0,0 +1,47 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.utils.counter.sampled;
+
+import org.quartz.utils.counter.Counter;
+
+/**
+ * Config for a {@link StripedSampledCounterImpl}
+ */
+public class StripedSampledCounterConfig extends SampledCounterConfig {
+
+    /**
+     * Make a new striped sampled counter config
+     * @param intervalSecs
+     *            the interval (in seconds) between sampling
+     * @param historySize
+     *            number of counter samples that will be retained in memory
+     * @param isResetOnSample
+     *            true if the counter should be reset to 0 upon each sample
+     */
+    public StripedSampledCounterConfig(int intervalSecs, int historySize, boolean isResetOnSample, long initialValue) {
+        super(intervalSecs, historySize, isResetOnSample, initialValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Counter createCounter() {
+        return new StripedSampledCounterImpl(this);
+    }
+}
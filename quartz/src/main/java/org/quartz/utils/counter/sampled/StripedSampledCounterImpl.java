@@ -0,0 +1,162 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.quartz.utils.counter.sampled;
+
+import java.util.TimerTask;
+
+import org.quartz.utils.CircularSampleBuffer;
+import org.quartz.utils.counter.StripedCounterImpl;
+
+/**
+ * An implementation of {@link SampledCounter} that is cheap to update from
+ * many threads at once (see {@link StripedCounterImpl}), and that keeps its
+ * history in a {@link CircularSampleBuffer}, so that taking a sample
+ * allocates nothing.
+ */
+public class StripedSampledCounterImpl extends StripedCounterImpl implements SampledCounter {
+
+    private static final long serialVersionUID = -2137654081739468417L;
+
+    private static final int MILLIS_PER_SEC = 1000;
+
+    /**
+     * The history of this counter
+     */
+    protected final CircularSampleBuffer history;
+
+    /**
+     * Should the counter reset on each sample?
+     */
+    protected final boolean resetOnSample;
+    private final SampleSchedule schedule;
+    private final TimerTask samplerTask;
+
+    /**
+     * Constructor accepting a {@link SampledCounterConfig}
+     *
+     * @param config
+     */
+    public StripedSampledCounterImpl(SampledCounterConfig config) {
+        super(config.getInitialValue());
+
+        this.history = new CircularSampleBuffer(config.getHistorySize());
+        this.resetOnSample = config.isResetOnSample();
+        this.schedule = new SampleSchedule(config.getIntervalSecs() * MILLIS_PER_SEC, history, this::recordSample);
+
+        this.samplerTask = new TimerTask() {
+            @Override
+            public void run() {
+                schedule.sample(System.currentTimeMillis());
+            }
+        };
+
+        schedule.sample(System.currentTimeMillis());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public TimeStampedCounterValue getMostRecentSample() {
+        schedule.beforeRead();
+        synchronized (history) {
+            return history.isEmpty() ? null : new TimeStampedCounterValue(history.peekTimestamp(), history.peekValue());
+        }
+    }
+
+    /**
+     * Returns the value of the most recent sample, without allocating
+     *
+     * @return the value of the most recent sample
+     */
+    public long getMostRecentSampleValue() {
+        schedule.beforeRead();
+        return history.peekValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public TimeStampedCounterValue[] getAllSampleValues() {
+        long[] timestamps;
+        long[] values;
+        int n;
+        schedule.beforeRead();
+        synchronized (history) {
+            timestamps = new long[history.depth()];
+            values = new long[timestamps.length];
+            n = history.copyTo(timestamps, values);
+        }
+        TimeStampedCounterValue[] samples = new TimeStampedCounterValue[n];
+        for (int i = 0; i < n; i++) {
+            samples[i] = new TimeStampedCounterValue(timestamps[i], values[i]);
+        }
+        return samples;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void shutdown() {
+        if (samplerTask != null) {
+            samplerTask.cancel();
+        }
+        schedule.cancel();
+    }
+
+    /**
+     * Returns the timer task for this sampled counter
+     *
+     * @return the timer task for this sampled counter
+     * @deprecated counters are sampled by a {@link CounterSampler}
+     */
+    @Deprecated
+    public TimerTask getTimerTask() {
+        return this.samplerTask;
+    }
+
+    /**
+     * Returns the sampling thread interval in millis
+     *
+     * @return the sampling thread interval in millis
+     */
+    public long getIntervalMillis() {
+        return schedule.getIntervalMillis();
+    }
+
+    SampleSchedule getSchedule() {
+        return schedule;
+    }
+
+    void recordSample(long now) {
+        final long sample;
+        if (resetOnSample) {
+            sample = getAndReset();
+        } else {
+            sample = getValue();
+        }
+
+        history.push(now, sample);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long getAndReset() {
+        return getAndSet(0L);
+    }
+}
@@ -16,7 +16,10 @@
  */
 package org.quartz;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -25,6 +28,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.quartz.Trigger.CompletedExecutionInstruction;
 import org.quartz.Trigger.TriggerState;
 import org.quartz.impl.JobDetailImpl;
 import org.quartz.impl.jdbcjobstore.JobStoreSupport;
@@ -32,6 +36,7 @@ import org.quartz.impl.matchers.GroupMatcher;
 import org.quartz.impl.triggers.SimpleTriggerImpl;
 import org.quartz.simpl.CascadingClassLoadHelper;
 import org.quartz.spi.*;
+import org.quartz.utils.TokenBucket;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -222,6 +227,185 @@ public abstract class AbstractJobStoreTest  {
         this.fJobStore.releaseAcquiredTrigger(trigger1);
     }
 
+    @SuppressWarnings("deprecation")
+    @Test
+    void testAcquireNextTriggersByLane() throws Exception {
+        long baseFireTime = System.currentTimeMillis() + 1000;
+
+        OperableTrigger report1 =
+            new SimpleTriggerImpl("report1", "reports", this.fJobDetail.getName(),
+                    this.fJobDetail.getGroup(), new Date(baseFireTime), null, 0, 0);
+        OperableTrigger report2 =
+            new SimpleTriggerImpl("report2", "reports", this.fJobDetail.getName(),
+                    this.fJobDetail.getGroup(), new Date(baseFireTime + 100), null, 0, 0);
+        OperableTrigger urgent =
+            new SimpleTriggerImpl("urgent", "triggerGroup1", this.fJobDetail.getName(),
+                    this.fJobDetail.getGroup(), new Date(baseFireTime + 200), null, 0, 0);
+        OperableTrigger other =
+            new SimpleTriggerImpl("other", "triggerGroup1", this.fJobDetail.getName(),
+                    this.fJobDetail.getGroup(), new Date(baseFireTime + 300), null, 0, 0);
+        urgent.setPriority(9);
+
+        for (OperableTrigger trigger : new OperableTrigger[] {report1, report2, urgent, other}) {
+            trigger.computeFirstFireTime(null);
+            this.fJobStore.storeTrigger(trigger, false);
+        }
+
+        ExecutionLane reports = new ExecutionLane("reports", 1, 1,
+                Collections.singleton("reports"), Integer.MIN_VALUE, Integer.MAX_VALUE);
+        ExecutionLane critical = new ExecutionLane("critical", 1, 1,
+                Collections.<String>emptySet(), 8, Integer.MAX_VALUE);
+        ExecutionLane defaultLane = new ExecutionLane(ExecutionLane.DEFAULT_LANE_NAME, 1, 1,
+                Arrays.asList(reports, critical));
+
+        long noLaterThan = baseFireTime + 10000;
+
+        List<OperableTrigger> acquired = this.fJobStore.acquireNextTriggers(noLaterThan, 5, 1000L, critical);
+        assertEquals(1, acquired.size());
+        assertEquals(urgent.getKey(), acquired.get(0).getKey());
+
+        acquired = this.fJobStore.acquireNextTriggers(noLaterThan, 5, 1000L, defaultLane);
+        assertEquals(1, acquired.size());
+        assertEquals(other.getKey(), acquired.get(0).getKey());
+
+        acquired = this.fJobStore.acquireNextTriggers(noLaterThan, 5, 1000L, reports);
+        assertEquals(2, acquired.size());
+        assertEquals(report1.getKey(), acquired.get(0).getKey());
+        assertEquals(report2.getKey(), acquired.get(1).getKey());
+
+        assertTrue(this.fJobStore.acquireNextTriggers(noLaterThan, 5, 1000L, critical).isEmpty());
+    }
+
+    @SuppressWarnings("deprecation")
+    @Test
+    void testAcquireNextTriggersByLaneDisallowsConcurrentExecution() throws Exception {
+        JobDetailImpl serialJob = new JobDetailImpl("serialJob", "jobGroup1", SerialJob.class);
+        serialJob.setDurability(true);
+        this.fJobStore.storeJob(serialJob, false);
+        assertTrue(serialJob.isConcurrentExecutionDisallowed());
+
+        long baseFireTime = System.currentTimeMillis() + 1000;
+        OperableTrigger report =
+            new SimpleTriggerImpl("serialReport", "reports", serialJob.getName(),
+                    serialJob.getGroup(), new Date(baseFireTime), null, 0, 0);
+        OperableTrigger other =
+            new SimpleTriggerImpl("serialOther", "triggerGroup1", serialJob.getName(),
+                    serialJob.getGroup(), new Date(baseFireTime + 100), null, 0, 0);
+        for (OperableTrigger trigger : new OperableTrigger[] {report, other}) {
+            trigger.computeFirstFireTime(null);
+            this.fJobStore.storeTrigger(trigger, false);
+        }
+
+        ExecutionLane reports = new ExecutionLane("reports", 1, 1,
+                Collections.singleton("reports"), Integer.MIN_VALUE, Integer.MAX_VALUE);
+        ExecutionLane defaultLane = new ExecutionLane(ExecutionLane.DEFAULT_LANE_NAME, 1, 1,
+                Collections.singletonList(reports));
+
+        long noLaterThan = baseFireTime + 10000;
+
+        List<OperableTrigger> acquired = this.fJobStore.acquireNextTriggers(noLaterThan, 5, 1000L, reports);
+        assertEquals(1, acquired.size());
+        assertEquals(report.getKey(), acquired.get(0).getKey());
+
+        // the trigger of the other lane waits until the job has been executed
+        assertTrue(this.fJobStore.acquireNextTriggers(noLaterThan, 5, 1000L, defaultLane).isEmpty());
+
+        OperableTrigger executing = acquired.get(0);
+        assertEquals(1, this.fJobStore.triggersFired(Collections.singletonList(executing)).size());
+        assertTrue(this.fJobStore.acquireNextTriggers(noLaterThan, 5, 1000L, defaultLane).isEmpty());
+        this.fJobStore.triggeredJobComplete(executing, serialJob, CompletedExecutionInstruction.NOOP);
+
+        acquired = this.fJobStore.acquireNextTriggers(noLaterThan, 5, 1000L, defaultLane);
+        assertEquals(1, acquired.size());
+        assertEquals(other.getKey(), acquired.get(0).getKey());
+    }
+
+    @Test
+    void testAcquireNextTriggersWithConcurrencyLimit() throws Exception {
+        JobDetail limitedJob = JobBuilder.newJob(LimitedJob.class).withIdentity("limitedJob", "limitedGroup")
+                .storeDurably().build();
+        this.fJobStore.storeJob(limitedJob, false);
+        assertEquals(2, limitedJob.getConcurrentExecutionLimit());
+
+        long baseFireTime = System.currentTimeMillis() + 1000;
+        OperableTrigger[] triggers = new OperableTrigger[3];
+        for (int i = 0; i < triggers.length; i++) {
+            triggers[i] = (OperableTrigger) TriggerBuilder.newTrigger().withIdentity("limited" + i, "limitedGroup")
+                    .forJob(limitedJob).startAt(new Date(baseFireTime + i * 100)).build();
+            triggers[i].computeFirstFireTime(null);
+            this.fJobStore.storeTrigger(triggers[i], false);
+        }
+
+        long noLaterThan = baseFireTime + 10000;
+
+        List<OperableTrigger> acquired = this.fJobStore.acquireNextTriggers(noLaterThan, 5, 1000L);
+        assertEquals(2, acquired.size());
+        assertEquals(triggers[0].getKey(), acquired.get(0).getKey());
+        assertEquals(triggers[1].getKey(), acquired.get(1).getKey());
+
+        // the third trigger stays queued while both permits are taken
+        assertTrue(this.fJobStore.acquireNextTriggers(noLaterThan, 5, 1000L).isEmpty());
+        assertEquals(TriggerState.NORMAL, this.fJobStore.getTriggerState(triggers[2].getKey()));
+
+        // releasing an acquired trigger returns its permit
+        this.fJobStore.releaseAcquiredTrigger(acquired.get(1));
+        List<OperableTrigger> reacquired = this.fJobStore.acquireNextTriggers(noLaterThan, 5, 1000L);
+        assertEquals(1, reacquired.size());
+        assertEquals(triggers[1].getKey(), reacquired.get(0).getKey());
+
+        // so does completing an execution
+        OperableTrigger executing = acquired.get(0);
+        assertEquals(1, this.fJobStore.triggersFired(Collections.singletonList(executing)).size());
+        assertTrue(this.fJobStore.acquireNextTriggers(noLaterThan, 5, 1000L).isEmpty());
+        this.fJobStore.triggeredJobComplete(executing, limitedJob, CompletedExecutionInstruction.NOOP);
+        acquired = this.fJobStore.acquireNextTriggers(noLaterThan, 5, 1000L);
+        assertEquals(1, acquired.size());
+        assertEquals(triggers[2].getKey(), acquired.get(0).getKey());
+    }
+
+    @Test
+    void testAcquireNextTriggersWithRateLimit() throws Exception {
+        TriggerRateLimiter rateLimiter = new TriggerRateLimiter();
+        // a permit every 1000 seconds, so only the burst is available during the test
+        rateLimiter.addLimit("slow", TriggerRateLimiter.Scope.TRIGGER_GROUP, "throttledGroup", 0.001, 2);
+        ((RateLimitAwareJobStore) this.fJobStore).setTriggerRateLimiter(rateLimiter);
+
+        long baseFireTime = System.currentTimeMillis() + 1000;
+        OperableTrigger[] triggers = new OperableTrigger[3];
+        for (int i = 0; i < triggers.length; i++) {
+            triggers[i] = (OperableTrigger) TriggerBuilder.newTrigger().withIdentity("throttled" + i, "throttledGroup")
+                    .forJob(this.fJobDetail).startAt(new Date(baseFireTime + i * 100)).build();
+            triggers[i].computeFirstFireTime(null);
+            this.fJobStore.storeTrigger(triggers[i], false);
+        }
+        OperableTrigger other = (OperableTrigger) TriggerBuilder.newTrigger().withIdentity("unthrottled", "otherGroup")
+                .forJob(this.fJobDetail).startAt(new Date(baseFireTime + 500)).build();
+        other.computeFirstFireTime(null);
+        this.fJobStore.storeTrigger(other, false);
+
+        long noLaterThan = baseFireTime + 10000;
+
+        List<OperableTrigger> acquired = this.fJobStore.acquireNextTriggers(noLaterThan, 5, 1000L);
+        assertEquals(3, acquired.size());
+        assertEquals(triggers[0].getKey(), acquired.get(0).getKey());
+        assertEquals(triggers[1].getKey(), acquired.get(1).getKey());
+        assertEquals(other.getKey(), acquired.get(2).getKey());
+
+        // the third throttled trigger is deferred, and stays waiting
+        assertTrue(this.fJobStore.acquireNextTriggers(noLaterThan, 5, 1000L).isEmpty());
+        assertEquals(TriggerState.NORMAL, this.fJobStore.getTriggerState(triggers[2].getKey()));
+        TokenBucket bucket = rateLimiter.getLimits().get(0).getBucket();
+        assertTrue(bucket.isDeferring());
+        assertTrue(rateLimiter.getRetryTime(System.currentTimeMillis()) > System.currentTimeMillis());
+
+        // releasing an acquired trigger gives its permit back
+        this.fJobStore.releaseAcquiredTrigger(acquired.get(1));
+        List<OperableTrigger> reacquired = this.fJobStore.acquireNextTriggers(noLaterThan, 5, 1000L);
+        assertEquals(1, reacquired.size());
+        assertEquals(triggers[1].getKey(), reacquired.get(0).getKey());
+        assertEquals(2, bucket.getGrantedCount());
+    }
+
     @SuppressWarnings("deprecation")
     @Test
     void testTriggerStates() throws Exception {
@@ -250,6 +434,26 @@ public abstract class AbstractJobStoreTest  {
                 new Date(trigger.getNextFireTime().getTime()).getTime() + 10000, 1, 1L).isEmpty());
     }
 
+    @SuppressWarnings("deprecation")
+    @Test
+    void testTriggerKeysInState() throws Exception {
+        long start = System.currentTimeMillis() + 100000;
+        for (int i = 0; i < 3; i++) {
+            OperableTrigger trigger = new SimpleTriggerImpl("trigger" + i, "stateGroup", this.fJobDetail.getName(),
+                    this.fJobDetail.getGroup(), new Date(start), null, 2, 2000);
+            trigger.computeFirstFireTime(null);
+            this.fJobStore.storeTrigger(trigger, false);
+        }
+        this.fJobStore.pauseTrigger(new TriggerKey("trigger1", "stateGroup"));
+
+        assertEquals(new HashSet<>(Arrays.asList(new TriggerKey("trigger0", "stateGroup"), new TriggerKey("trigger2", "stateGroup"))),
+                this.fJobStore.getTriggerKeys(GroupMatcher.triggerGroupEquals("stateGroup"), TriggerState.NORMAL));
+        assertEquals(Collections.singleton(new TriggerKey("trigger1", "stateGroup")),
+                this.fJobStore.getTriggerKeys(GroupMatcher.triggerGroupStartsWith("state"), TriggerState.PAUSED));
+        assertTrue(this.fJobStore.getTriggerKeys(GroupMatcher.triggerGroupEquals("stateGroup"), TriggerState.ERROR).isEmpty());
+        assertTrue(this.fJobStore.getTriggerKeys(GroupMatcher.triggerGroupEquals("otherGroup"), TriggerState.NORMAL).isEmpty());
+    }
+
     // See: http://jira.opensymphony.com/browse/QUARTZ-606
     @SuppressWarnings("deprecation")
     @Disabled
@@ -568,6 +772,24 @@ public abstract class AbstractJobStoreTest  {
         assertEquals(TriggerState.NORMAL, state);
     }
 
+    @Test
+    void testTriggerBacklog() throws Exception {
+        long now = System.currentTimeMillis();
+        long[] fireTimes = { now - 120000, now - 60000, now + 30000, now + 600000 };
+        for (int i = 0; i < fireTimes.length; i++) {
+            OperableTrigger trigger = new SimpleTriggerImpl("backlogTrigger" + i, "backlogGroup",
+                    this.fJobDetail.getName(), this.fJobDetail.getGroup(), new Date(fireTimes[i]), null, 0, 0);
+            trigger.computeFirstFireTime(null);
+            this.fJobStore.storeTrigger(trigger, false);
+        }
+
+        TriggerBacklog backlog = ((BacklogAwareJobStore) this.fJobStore).getTriggerBacklog(300000L);
+        assertEquals(2, backlog.getOverdueCount());
+        assertTrue(backlog.getOldestOverdueAge() >= 120000);
+        assertEquals(300000L, backlog.getDueWindow());
+        assertEquals(1, backlog.getDueCount());
+    }
+
     public static class SampleSignaler implements SchedulerSignaler {
         volatile int fMisfireCount = 0;
 
@@ -596,4 +818,20 @@ public abstract class AbstractJobStoreTest  {
         }
     }
 
+    /** An empty job disallowing concurrent executions. */
+    @DisallowConcurrentExecution
+    public static class SerialJob implements Job {
+        public void execute(JobExecutionContext context) throws JobExecutionException {
+            //
+        }
+    }
+
+    /** An empty job allowing two concurrent executions. */
+    @ConcurrentExecutionLimit(2)
+    public static class LimitedJob implements Job {
+        public void execute(JobExecutionContext context) throws JobExecutionException {
+            //
+        }
+    }
+
 }
@@ -16,6 +16,7 @@
  */
 package org.quartz;
 
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Locale;
 import java.util.TimeZone;
@@ -171,4 +172,65 @@ public class AnnualCalendarTest extends SerializationTestSupport {
         assertFalse(annualCalendar.isDayExcluded(day), "The day 23 June is not expected to be excluded but it is");
     }
 
+    /**
+     * Excluded days are looked up by month and day of month in the time
+     * zone of the calendar, whatever the year, including February 29th.
+     */
+    @Test
+    void testTimeIncludedInTimeZone() {
+        AnnualCalendar annualCalendar = new AnnualCalendar(EST_TIME_ZONE);
+        Calendar day = Calendar.getInstance(EST_TIME_ZONE, Locale.US);
+        day.clear();
+        day.set(2024, Calendar.FEBRUARY, 29);
+        annualCalendar.setDayExcluded((Calendar) day.clone(), true);
+        day.set(2023, Calendar.DECEMBER, 31);
+        annualCalendar.setDayExcluded((Calendar) day.clone(), true);
+
+        day.set(2028, Calendar.FEBRUARY, 29, 23, 30);
+        assertFalse(annualCalendar.isTimeIncluded(day.getTimeInMillis()));
+        day.set(2027, Calendar.MARCH, 1, 0, 0);
+        assertTrue(annualCalendar.isTimeIncluded(day.getTimeInMillis()));
+        day.set(2025, Calendar.DECEMBER, 31, 12, 0);
+        assertFalse(annualCalendar.isTimeIncluded(day.getTimeInMillis()));
+
+        day.set(2026, Calendar.JANUARY, 1, 0, 0);
+        long newYear = day.getTimeInMillis();
+        day.set(2025, Calendar.DECEMBER, 31, 12, 0);
+        assertEquals(newYear, annualCalendar.getNextIncludedTime(day.getTimeInMillis()));
+        // 2025-12-31 is still the 30th of December in Honolulu
+        annualCalendar.setTimeZone(TimeZone.getTimeZone("Pacific/Honolulu"));
+        day.set(2025, Calendar.DECEMBER, 31, 1, 0);
+        assertTrue(annualCalendar.isTimeIncluded(day.getTimeInMillis()));
+    }
+
+    /**
+     * The days excluded are copied in and out, so that changing them does
+     * not leave the calendar looking up stale ones.
+     */
+    @Test
+    void testDaysExcludedAreCopied() {
+        AnnualCalendar annualCalendar = new AnnualCalendar(EST_TIME_ZONE);
+        Calendar day = Calendar.getInstance(EST_TIME_ZONE, Locale.US);
+        day.clear();
+        day.set(2025, Calendar.JULY, 4);
+        long july4 = day.getTimeInMillis();
+        annualCalendar.setDayExcluded(day, true);
+        assertFalse(annualCalendar.isTimeIncluded(july4));
+
+        day.set(Calendar.DAY_OF_MONTH, 5);
+        assertFalse(annualCalendar.isTimeIncluded(july4));
+        assertTrue(annualCalendar.isTimeIncluded(day.getTimeInMillis()));
+
+        ArrayList<Calendar> days = annualCalendar.getDaysExcluded();
+        days.set(0, (Calendar) day.clone());
+        days.get(0).set(Calendar.MONTH, Calendar.AUGUST);
+        assertFalse(annualCalendar.isTimeIncluded(july4));
+
+        annualCalendar.setDaysExcluded(days);
+        days.clear();
+        assertTrue(annualCalendar.isTimeIncluded(july4));
+        day.set(2025, Calendar.AUGUST, 5);
+        assertFalse(annualCalendar.isTimeIncluded(day.getTimeInMillis()));
+    }
+
 }
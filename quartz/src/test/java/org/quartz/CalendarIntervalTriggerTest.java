@@ -27,6 +27,7 @@ import java.text.ParseException;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
+import java.util.SimpleTimeZone;
 import java.util.TimeZone;
 
 import org.junit.jupiter.api.Test;
@@ -397,6 +398,102 @@ public class CalendarIntervalTriggerTest  extends SerializationTestSupport {
         assertEquals(targetCalendar.getTime(), testTime, "Day increment result not as expected over fall 2011 daylight savings transition.");
     }
 
+    @Test
+    void testIntervalsCountedFromStartTime() {
+        TimeZone cet = TimeZone.getTimeZone("Europe/Berlin");
+
+        // monthly on the 31st: the 29th from February on, as documented
+        Calendar startCalendar = Calendar.getInstance(cet);
+        startCalendar.clear();
+        startCalendar.set(2024, Calendar.JANUARY, 31, 10, 0, 0);
+
+        CalendarIntervalTriggerImpl monthlyTrigger = new CalendarIntervalTriggerImpl("monthly", startCalendar.getTime(), null, IntervalUnit.MONTH, 1);
+        monthlyTrigger.setTimeZone(cet);
+
+        List<Date> fireTimes = TriggerUtils.computeFireTimes(monthlyTrigger, null, 4);
+        Calendar testCal = Calendar.getInstance(cet);
+        int[] days = {31, 29, 29, 29};
+        for (int i = 0; i < days.length; i++) {
+            testCal.setTime(fireTimes.get(i));
+            assertEquals(days[i], testCal.get(Calendar.DAY_OF_MONTH), "Day of month of fire time " + i);
+            assertEquals(10, testCal.get(Calendar.HOUR_OF_DAY), "Hour of day of fire time " + i);
+        }
+        // ... and the 28th once a February has 28 days
+        testCal.setTime(monthlyTrigger.getFireTimeAfter(new Date(startCalendar.getTimeInMillis() + 3L * 365 * 24 * 60 * 60 * 1000)));
+        assertEquals(28, testCal.get(Calendar.DAY_OF_MONTH));
+
+        // yearly on February 29th: the 28th from the next year on
+        startCalendar.set(2024, Calendar.FEBRUARY, 29, 10, 0, 0);
+        CalendarIntervalTriggerImpl yearlyTrigger = new CalendarIntervalTriggerImpl("yearly", startCalendar.getTime(), null, IntervalUnit.YEAR, 1);
+        yearlyTrigger.setTimeZone(cet);
+
+        fireTimes = TriggerUtils.computeFireTimes(yearlyTrigger, null, 6);
+        days = new int[] {29, 28, 28, 28, 28, 28};
+        for (int i = 0; i < days.length; i++) {
+            testCal.setTime(fireTimes.get(i));
+            assertEquals(days[i], testCal.get(Calendar.DAY_OF_MONTH), "Day of month of yearly fire time " + i);
+        }
+
+        // daily at a time of day that does not exist on the day of the spring transition
+        startCalendar.clear();
+        startCalendar.set(2024, Calendar.MARCH, 30, 2, 30, 0);
+
+        CalendarIntervalTriggerImpl dailyTrigger = new CalendarIntervalTriggerImpl("daily", startCalendar.getTime(), null, IntervalUnit.DAY, 1);
+        dailyTrigger.setTimeZone(cet);
+
+        fireTimes = TriggerUtils.computeFireTimes(dailyTrigger, null, 3);
+        testCal.setTime(fireTimes.get(1));
+        assertEquals(3, testCal.get(Calendar.HOUR_OF_DAY), "Day increment result not as expected on spring 2024 daylight savings transition.");
+        testCal.setTime(fireTimes.get(2));
+        assertEquals(2, testCal.get(Calendar.HOUR_OF_DAY), "Day increment result not as expected after spring 2024 daylight savings transition.");
+
+        // ... or skipped, if asked for
+        dailyTrigger.setPreserveHourOfDayAcrossDaylightSavings(true);
+        dailyTrigger.setSkipDayIfHourDoesNotExist(true);
+
+        fireTimes = TriggerUtils.computeFireTimes(dailyTrigger, null, 2);
+        assertEquals(2L * 24 * 60 * 60 * 1000 - 60 * 60 * 1000, fireTimes.get(1).getTime() - fireTimes.get(0).getTime());
+
+        // a second interval over decades, as a number of seconds
+        CalendarIntervalTriggerImpl secondlyTrigger = new CalendarIntervalTriggerImpl("secondly", startCalendar.getTime(), null, IntervalUnit.SECOND, 1);
+        long after = startCalendar.getTimeInMillis() + 70L * 365 * 24 * 60 * 60 * 1000 + 500;
+        assertEquals(after + 500, secondlyTrigger.getFireTimeAfter(after));
+        assertEquals(new Date(after + 500), secondlyTrigger.getFireTimeAfter(new Date(after)));
+    }
+
+    @Test
+    void testCustomTimeZone() {
+        // central European time, with daylight saving time from the last
+        // Sunday of March to the last Sunday of October
+        TimeZone custom = new SimpleTimeZone(60 * 60 * 1000, "Custom",
+                Calendar.MARCH, -1, Calendar.SUNDAY, 2 * 60 * 60 * 1000,
+                Calendar.OCTOBER, -1, Calendar.SUNDAY, 3 * 60 * 60 * 1000);
+        // ... and the same without daylight saving time, under a tzdb ID
+        TimeZone fixed = new SimpleTimeZone(60 * 60 * 1000, "Europe/Berlin");
+
+        for (TimeZone timeZone : new TimeZone[] {custom, fixed}) {
+            Calendar startCalendar = Calendar.getInstance(timeZone);
+            startCalendar.clear();
+            startCalendar.set(2024, Calendar.JANUARY, 1, 10, 0, 0);
+
+            for (IntervalUnit unit : new IntervalUnit[] {IntervalUnit.DAY, IntervalUnit.WEEK}) {
+                CalendarIntervalTriggerImpl trigger = new CalendarIntervalTriggerImpl("custom", startCalendar.getTime(), null, unit, 1);
+                trigger.setTimeZone(timeZone);
+
+                List<Date> fireTimes = TriggerUtils.computeFireTimes(trigger, null, 60);
+                Calendar testCal = Calendar.getInstance(timeZone);
+                for (int i = 0; i < fireTimes.size(); i++) {
+                    testCal.setTime(fireTimes.get(i));
+                    assertEquals(10, testCal.get(Calendar.HOUR_OF_DAY), unit + " fire time " + i + " in " + timeZone.getID());
+                }
+
+                Date after = new Date(startCalendar.getTimeInMillis() + 200L * 24 * 60 * 60 * 1000);
+                testCal.setTime(trigger.getFireTimeAfter(after));
+                assertEquals(10, testCal.get(Calendar.HOUR_OF_DAY), unit + " fire time after " + after + " in " + timeZone.getID());
+            }
+        }
+    }
+
     @Test
     void testFinalFireTimes() {
 
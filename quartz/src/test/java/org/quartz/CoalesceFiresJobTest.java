@@ -0,0 +1,106 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.quartz;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.quartz.impl.StdSchedulerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration test for using CoalesceFires annot.
+ */
+class CoalesceFiresJobTest {
+
+    private static final long JOB_BLOCK_TIME = 300L;
+
+    private static final int FIRES = 10;
+
+    private static final String FIRE_COUNTS = "FIRE_COUNTS";
+    private static final String RUNNING = "RUNNING";
+    private static final String OVERLAPS = "OVERLAPS";
+    private static final String LATCH = "LATCH";
+
+    @CoalesceFires
+    public static class TestJob implements Job {
+        @SuppressWarnings("unchecked")
+        public void execute(JobExecutionContext context) throws JobExecutionException {
+            try {
+                SchedulerContext schedulerContext = context.getScheduler().getContext();
+                AtomicInteger running = (AtomicInteger) schedulerContext.get(RUNNING);
+                if (running.incrementAndGet() > 1) {
+                    ((AtomicInteger) schedulerContext.get(OVERLAPS)).incrementAndGet();
+                }
+                Thread.sleep(JOB_BLOCK_TIME);
+                running.decrementAndGet();
+                ((List<Integer>) schedulerContext.get(FIRE_COUNTS)).add(context.getFireCount());
+                CountDownLatch latch = (CountDownLatch) schedulerContext.get(LATCH);
+                for (int i = 0; i < context.getFireCount(); i++) {
+                    latch.countDown();
+                }
+            } catch (InterruptedException e) {
+                throw new JobExecutionException("Failed to pause job for testing.");
+            } catch (SchedulerException e) {
+                throw new JobExecutionException("Failed to lookup test state.");
+            }
+        }
+    }
+
+    @Test
+    void testFiresOfRunningJobAreCoalesced() throws Exception {
+        List<Integer> fireCounts = Collections.synchronizedList(new ArrayList<Integer>());
+        AtomicInteger overlaps = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(FIRES);
+
+        JobDetail job = JobBuilder.newJob(TestJob.class).withIdentity("job1").build();
+        Trigger trigger = TriggerBuilder.newTrigger().startNow()
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule()
+                        .withIntervalInMilliseconds(50).withRepeatCount(FIRES - 1))
+                .build();
+
+        Properties props = new Properties();
+        props.setProperty("org.quartz.scheduler.instanceName", "CoalesceFiresJobTest");
+        props.setProperty("org.quartz.threadPool.threadCount", "4");
+        Scheduler scheduler = new StdSchedulerFactory(props).getScheduler();
+        scheduler.getContext().put(FIRE_COUNTS, fireCounts);
+        scheduler.getContext().put(RUNNING, new AtomicInteger());
+        scheduler.getContext().put(OVERLAPS, overlaps);
+        scheduler.getContext().put(LATCH, latch);
+        scheduler.scheduleJob(job, trigger);
+        scheduler.start();
+
+        assertTrue(latch.await(30, TimeUnit.SECONDS), "Not every fire was executed");
+
+        scheduler.shutdown(true);
+
+        assertEquals(0, overlaps.get());
+        assertTrue(fireCounts.size() < FIRES, "Fires were not coalesced: " + fireCounts);
+        int total = 0;
+        for (int count : fireCounts) {
+            total += count;
+        }
+        assertEquals(FIRES, total);
+    }
+}
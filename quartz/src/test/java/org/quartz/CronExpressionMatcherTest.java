@@ -0,0 +1,134 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.quartz;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.text.ParseException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.Test;
+
+class CronExpressionMatcherTest {
+
+    private static final long MINUTE = 60L * 1000;
+
+    private static final String[] EXPRESSIONS = {
+            "* * * * * ?",
+            "0 * * * * ?",
+            "0/15 * * * * ?",
+            "30 0/5 * * * ?",
+            "0 0 * * * ?",
+            "0 30 1 * * ?",
+            "0 30 2 * * ?",
+            "0 0 12 ? * MON-FRI",
+            "0 15 10 ? * 6L",
+            "0 15 10 ? * 1#2",
+            "0 0 9 L * ?",
+            "0 0 9 L-3 * ?",
+            "0 0 9 15W * ?",
+            "0 0 9 LW * ?",
+            "0 0 0 1 1 ? 2030",
+            "0 0 0 29 2 ?",
+            "0 0/10 1-3 ? * SUN",
+            "15,45 * 1 * 3,11 ?",
+    };
+
+    private static List<CronExpression> expressions() throws ParseException {
+        List<CronExpression> expressions = new ArrayList<>();
+        for (String zone : new String[] {"UTC", "America/New_York"}) {
+            for (String expression : EXPRESSIONS) {
+                CronExpression cronExpression = new CronExpression(expression);
+                cronExpression.setTimeZone(TimeZone.getTimeZone(zone));
+                expressions.add(cronExpression);
+            }
+        }
+        return expressions;
+    }
+
+    @Test
+    void testSatisfiedBySameAsEachExpression() throws ParseException {
+        List<CronExpression> expressions = expressions();
+        CronExpressionMatcher matcher = new CronExpressionMatcher(expressions);
+        assertEquals(expressions.size(), matcher.size());
+
+        // around the end of daylight saving time in New York, when 1:00 to
+        // 2:00 comes twice
+        long start = DateBuilder.dateOf(0, 0, 0, 2, 11, 2025).getTime();
+        int matched = 0;
+        for (long time = start; time < start + 24 * 60 * MINUTE; time += 5000) {
+            Date date = new Date(time + 123);
+            BitSet satisfied = matcher.getSatisfiedBy(date);
+            for (int i = 0; i < expressions.size(); i++) {
+                assertEquals(expressions.get(i).isSatisfiedBy(date), satisfied.get(i),
+                        expressions.get(i) + " at " + date);
+            }
+            matched += satisfied.cardinality();
+        }
+        assertTrue(matched > 0);
+    }
+
+    @Test
+    void testFiringBetweenSameAsEachExpression() throws ParseException {
+        List<CronExpression> expressions = expressions();
+        CronExpressionMatcher matcher = new CronExpressionMatcher(expressions);
+
+        // over the start of daylight saving time in New York, when 2:00 to
+        // 3:00 is skipped, and its end, when 1:00 to 2:00 comes twice
+        assertFiringBetweenSameAsEachExpression(matcher, expressions, DateBuilder.dateOf(0, 0, 0, 8, 3, 2025));
+        assertFiringBetweenSameAsEachExpression(matcher, expressions, DateBuilder.dateOf(0, 0, 0, 1, 11, 2025));
+    }
+
+    private static void assertFiringBetweenSameAsEachExpression(CronExpressionMatcher matcher,
+            List<CronExpression> expressions, Date startDate) {
+        long start = startDate.getTime();
+        long[] lengths = {0, 999, 1000, 7 * 1000, 90 * 1000, 17 * MINUTE, 3 * 60 * MINUTE, 40 * 24 * 60 * MINUTE};
+        for (long from = start; from < start + 2 * 24 * 60 * MINUTE; from += 37 * MINUTE + 7777) {
+            for (long length : lengths) {
+                Date fromDate = new Date(from);
+                Date toDate = new Date(from + length);
+                BitSet firing = matcher.getFiringBetween(fromDate, toDate);
+                for (int i = 0; i < expressions.size(); i++) {
+                    Date fireTime = expressions.get(i).getTimeAfter(new Date(from - 1));
+                    boolean expected = fireTime != null && fireTime.getTime() < toDate.getTime();
+                    assertEquals(expected, firing.get(i),
+                            expressions.get(i) + " between " + fromDate + " and " + toDate);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testExpressionsAreCopied() throws ParseException {
+        CronExpression expression = new CronExpression("0 0 12 * * ?");
+        expression.setTimeZone(TimeZone.getTimeZone("UTC"));
+        List<CronExpression> expressions = new ArrayList<>();
+        expressions.add(expression);
+        CronExpressionMatcher matcher = new CronExpressionMatcher(expressions);
+        expression.setTimeZone(TimeZone.getTimeZone("Asia/Tokyo"));
+
+        Date noon = Date.from(Instant.parse("2025-06-01T12:00:00Z"));
+        assertTrue(matcher.getSatisfiedBy(noon).get(0));
+        assertEquals(TimeZone.getTimeZone("UTC"), matcher.getExpression(0).getTimeZone());
+    }
+}
@@ -20,8 +20,11 @@ import org.junit.jupiter.api.Test;
 
 import java.io.*;
 import java.text.ParseException;
+import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Locale;
+import java.util.SimpleTimeZone;
 import java.util.TimeZone;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -790,7 +793,98 @@ public class CronExpressionTest extends SerializationTestSupport {
             }
         }
     }
-    
+
+    @Test
+    void testEqualExpressionsShareParsedSets() throws ParseException {
+        CronExpression tokyo = new CronExpression("0 30 9 ? * MON-FRI");
+        tokyo.setTimeZone(TimeZone.getTimeZone("Asia/Tokyo"));
+        CronExpression eastern = new CronExpression("0 30 9 ? * mon-fri");
+        eastern.setTimeZone(EST_TIME_ZONE);
+
+        assertSame(tokyo.getSet(CronExpression.HOUR), eastern.getSet(CronExpression.HOUR));
+        assertSame(tokyo.getSet(CronExpression.DAY_OF_WEEK), eastern.getSet(CronExpression.DAY_OF_WEEK));
+        assertSame(tokyo.getSet(CronExpression.HOUR), new CronExpression(eastern).getSet(CronExpression.HOUR));
+
+        // each is still resolved in its own time zone
+        Date after = new Date(1_700_000_000_000L);
+        Date tokyoTime = tokyo.getTimeAfter(after);
+        Date easternTime = eastern.getTimeAfter(after);
+        assertNotEquals(tokyoTime, easternTime);
+        Calendar cal = Calendar.getInstance(EST_TIME_ZONE);
+        cal.setTime(easternTime);
+        assertEquals(9, cal.get(Calendar.HOUR_OF_DAY));
+        assertEquals(30, cal.get(Calendar.MINUTE));
+    }
+
+    @Test
+    void testDaylightSavingTransitions() throws ParseException {
+        TimeZone custom = new SimpleTimeZone(-5 * 60 * 60 * 1000, "Custom",
+                Calendar.MARCH, 8, -Calendar.SUNDAY, 2 * 60 * 60 * 1000,
+                Calendar.NOVEMBER, 1, -Calendar.SUNDAY, 2 * 60 * 60 * 1000);
+        for (TimeZone tz : new TimeZone[] { EST_TIME_ZONE, custom }) {
+            SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HH:mm Z");
+            format.setTimeZone(tz);
+
+            // 02:00 to 03:00 is skipped on March 9, 2025
+            CronExpression quarters = new CronExpression("0 0/15 * * * ?");
+            quarters.setTimeZone(tz);
+            assertEquals("2025-03-09 03:00 -0400",
+                    format.format(quarters.getTimeAfter(dateOf(2025, Calendar.MARCH, 9, 1, 50, tz))));
+            CronExpression skipped = new CronExpression("0 30 2 * * ?");
+            skipped.setTimeZone(tz);
+            assertEquals("2025-03-10 02:30 -0400",
+                    format.format(skipped.getTimeAfter(dateOf(2025, Calendar.MARCH, 9, 0, 0, tz))));
+
+            // 01:00 to 02:00 is repeated on November 2, 2025
+            assertEquals("2025-11-02 01:00 -0500",
+                    format.format(quarters.getTimeAfter(dateOf(2025, Calendar.NOVEMBER, 2, 0, 50, tz))));
+            CronExpression repeated = new CronExpression("0 30 1 * * ?");
+            repeated.setTimeZone(tz);
+            Date first = repeated.getTimeAfter(dateOf(2025, Calendar.NOVEMBER, 2, 0, 0, tz));
+            assertEquals("2025-11-02 01:30 -0500", format.format(first));
+            assertEquals("2025-11-03 01:30 -0500", format.format(repeated.getTimeAfter(first)));
+
+            // ... and both occurrences satisfy the expression
+            Date earlier = repeated.getNextSatisfyingTimeAfter(dateOf(2025, Calendar.NOVEMBER, 2, 0, 0, tz));
+            assertEquals("2025-11-02 01:30 -0400", format.format(earlier));
+            assertEquals(first, repeated.getNextSatisfyingTimeAfter(earlier));
+            assertEquals("2025-11-03 01:30 -0500", format.format(repeated.getNextSatisfyingTimeAfter(first)));
+        }
+    }
+
+    @Test
+    void testFrequentExpressions() throws ParseException {
+        SimpleDateFormat format = new SimpleDateFormat("EEE yyyy-MM-dd HH:mm:ss Z", Locale.US);
+        format.setTimeZone(EST_TIME_ZONE);
+
+        CronExpression businessHours = new CronExpression("*/1 * 9-17 ? * MON-FRI");
+        businessHours.setTimeZone(EST_TIME_ZONE);
+        Date friday = dateOf(2025, Calendar.MARCH, 7, 17, 59, EST_TIME_ZONE);
+        assertEquals("Fri 2025-03-07 17:59:01 -0500", format.format(businessHours.getTimeAfter(friday)));
+        assertEquals("Mon 2025-03-10 09:00:00 -0400",
+                format.format(businessHours.getTimeAfter(new Date(friday.getTime() + 59_000))));
+
+        CronExpression everyFiveSeconds = new CronExpression("0/5 * * 29 2 ?");
+        everyFiveSeconds.setTimeZone(EST_TIME_ZONE);
+        assertEquals("Tue 2028-02-29 00:00:00 -0500",
+                format.format(everyFiveSeconds.getTimeAfter(dateOf(2025, Calendar.MARCH, 9, 1, 59, EST_TIME_ZONE))));
+
+        // 02:00 to 03:00 is skipped on March 9, 2025
+        CronExpression everySecond = new CronExpression("* * * * * ?");
+        everySecond.setTimeZone(EST_TIME_ZONE);
+        Date beforeGap = new Date(dateOf(2025, Calendar.MARCH, 9, 2, 0, EST_TIME_ZONE).getTime() - 2000);
+        assertEquals("Sun 2025-03-09 01:59:59 -0500", format.format(everySecond.getTimeAfter(beforeGap)));
+        assertEquals("Sun 2025-03-09 03:00:00 -0400",
+                format.format(everySecond.getTimeAfter(new Date(beforeGap.getTime() + 1000))));
+    }
+
+    private static Date dateOf(int year, int month, int day, int hour, int minute, TimeZone tz) {
+        Calendar cal = Calendar.getInstance(tz);
+        cal.clear();
+        cal.set(year, month, day, hour, minute);
+        return cal.getTime();
+    }
+
     // execute with version number to generate a new version's serialized form
     public static void main(String[] args) throws Exception {
         new CronExpressionTest().writeJobDataFile("1.5.2");
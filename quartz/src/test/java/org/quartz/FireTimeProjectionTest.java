@@ -0,0 +1,168 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+package org.quartz;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.quartz.CalendarIntervalScheduleBuilder.calendarIntervalSchedule;
+import static org.quartz.CronScheduleBuilder.cronSchedule;
+import static org.quartz.DailyTimeIntervalScheduleBuilder.dailyTimeIntervalSchedule;
+import static org.quartz.SimpleScheduleBuilder.simpleSchedule;
+import static org.quartz.TriggerBuilder.newTrigger;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.quartz.impl.calendar.DailyCalendar;
+import org.quartz.impl.calendar.WeeklyCalendar;
+import org.quartz.spi.OperableTrigger;
+
+class FireTimeProjectionTest {
+
+    private static final long HOUR = 60L * 60 * 1000;
+
+    @Test
+    void testSameAsEachTrigger() {
+        Date start = DateBuilder.dateOf(0, 0, 0, 1, 6, 2025);
+        Date from = new Date(start.getTime() + 30 * HOUR + 1234);
+        Date to = new Date(from.getTime() + 7 * 24 * HOUR);
+
+        Map<String, Calendar> calendars = new HashMap<>();
+        calendars.put("weekdays", new WeeklyCalendar());
+        calendars.put("nights", new DailyCalendar(calendars.get("weekdays"), "08:00", "18:00"));
+
+        List<OperableTrigger> triggers = new ArrayList<>();
+        triggers.add(trigger("forever", start, simpleSchedule().withIntervalInSeconds(7).repeatForever(), null));
+        triggers.add(trigger("five", new Date(from.getTime() + HOUR), simpleSchedule().withIntervalInMinutes(1).withRepeatCount(5), null));
+        triggers.add(trigger("done", start, simpleSchedule().withIntervalInMinutes(1).withRepeatCount(5), null));
+        triggers.add(trigger("once", new Date(from.getTime() + 2 * HOUR), simpleSchedule(), null));
+        triggers.add(trigger("count", start, simpleSchedule().withIntervalInMinutes(13).withRepeatCount(200), null));
+        triggers.add(trigger("simpleNights", start, simpleSchedule().withIntervalInMinutes(5).repeatForever(), "nights"));
+        triggers.add(trigger("cronWeekdays", start, cronSchedule("0 */15 9-17 ? * *"), "weekdays"));
+        triggers.add(trigger("cron", start, cronSchedule("0 0/7 * * * ?"), null));
+        triggers.add(trigger("interval", start, calendarIntervalSchedule().withIntervalInHours(5), "nights"));
+        triggers.add(trigger("daily", start, dailyTimeIntervalSchedule().withIntervalInMinutes(20), "weekdays"));
+        triggers.add(trigger("dailySeconds", start, dailyTimeIntervalSchedule().withIntervalInSeconds(17), null));
+        triggers.add(trigger("dailyCount", start, dailyTimeIntervalSchedule().withIntervalInMinutes(20).withRepeatCount(200), "nights"));
+        triggers.add(trigger("countNights", start, simpleSchedule().withIntervalInMinutes(13).withRepeatCount(400), "nights"));
+
+        OperableTrigger ended = trigger("ended", start, simpleSchedule().withIntervalInSeconds(30).repeatForever(), null);
+        ended.setEndTime(new Date(from.getTime() + 3 * HOUR));
+        triggers.add(ended);
+
+        List<Long> expectedTimes = new ArrayList<>();
+        for (OperableTrigger trigger : triggers) {
+            Calendar cal = (trigger.getCalendarName() == null) ? null : calendars.get(trigger.getCalendarName());
+            for (Date d : fireTimesBetween(trigger, cal, from, to)) {
+                expectedTimes.add(d.getTime());
+            }
+        }
+        Collections.sort(expectedTimes);
+
+        Map<TriggerKey, List<Date>> actual = new HashMap<>();
+        List<Long> actualTimes = new ArrayList<>();
+        FireTimeProjection projection = TriggerUtils.projectFireTimes(triggers, calendars, from, to);
+        while (projection.hasNext()) {
+            FireTimeProjection.FireTime fireTime = projection.next();
+            actual.computeIfAbsent(fireTime.getTriggerKey(), k -> new ArrayList<>()).add(fireTime.getFireTime());
+            actualTimes.add(fireTime.getFireTimeMillis());
+        }
+
+        // in time order, with the fire times of each trigger
+        assertEquals(expectedTimes, actualTimes);
+        for (OperableTrigger trigger : triggers) {
+            Calendar cal = (trigger.getCalendarName() == null) ? null : calendars.get(trigger.getCalendarName());
+            assertEquals(fireTimesBetween(trigger, cal, from, to),
+                    actual.getOrDefault(trigger.getKey(), Collections.emptyList()), trigger.getKey().toString());
+        }
+    }
+
+    @Test
+    void testLongRunningTriggers() {
+        // projecting these triggers does not walk their fire times since
+        // they started, ten years before
+        Date from = DateBuilder.dateOf(17, 30, 0, 1, 6, 2025);
+        Date to = new Date(from.getTime() + HOUR);
+        Date start = DateBuilder.dateOf(0, 0, 0, 1, 6, 2015);
+        Date recentStart = DateBuilder.dateOf(0, 0, 0, 31, 5, 2025);
+
+        Map<String, Calendar> calendars = new HashMap<>();
+        calendars.put("nights", new DailyCalendar("08:00", "18:00"));
+        List<OperableTrigger> triggers = new ArrayList<>();
+        triggers.add(trigger("simpleNights", start, simpleSchedule().withIntervalInSeconds(1).repeatForever(), "nights"));
+        triggers.add(trigger("daily", start, dailyTimeIntervalSchedule().withIntervalInSeconds(1), null));
+
+        List<Date> simpleTimes = new ArrayList<>();
+        List<Date> dailyTimes = new ArrayList<>();
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            FireTimeProjection projection = TriggerUtils.projectFireTimes(triggers, calendars, from, to);
+            while (projection.hasNext()) {
+                FireTimeProjection.FireTime fireTime = projection.next();
+                (fireTime.getTriggerKey().getName().equals("daily") ? dailyTimes : simpleTimes).add(fireTime.getFireTime());
+            }
+        });
+
+        // the same as those of the triggers started the day before
+        assertEquals(fireTimesBetween(trigger("simpleNights", recentStart,
+                simpleSchedule().withIntervalInSeconds(1).repeatForever(), "nights"), calendars.get("nights"), from, to), simpleTimes);
+        assertEquals(fireTimesBetween(trigger("daily", recentStart,
+                dailyTimeIntervalSchedule().withIntervalInSeconds(1), null), null, from, to), dailyTimes);
+        assertEquals(1800, simpleTimes.size());
+        assertEquals(3601, dailyTimes.size());
+    }
+
+    @Test
+    void testMissingCalendar() {
+        Date from = new Date();
+        List<OperableTrigger> triggers = Collections.singletonList(
+                trigger("t", from, simpleSchedule().withIntervalInSeconds(1).repeatForever(), "missing"));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> TriggerUtils.projectFireTimes(triggers, Collections.emptyMap(), from, new Date(from.getTime() + HOUR)));
+        assertFalse(TriggerUtils.projectFireTimes(Collections.emptyList(), null, from, from).hasNext());
+    }
+
+    private static OperableTrigger trigger(String name, Date start, ScheduleBuilder<? extends Trigger> schedule,
+            String calName) {
+        return (OperableTrigger) newTrigger().withIdentity(name).startAt(start)
+                .withSchedule(schedule).modifiedByCalendar(calName).build();
+    }
+
+    // the fire times of one trigger, as they are fired
+    private static List<Date> fireTimesBetween(OperableTrigger trigger, Calendar cal, Date from, Date to) {
+        List<Date> lst = new ArrayList<>();
+        OperableTrigger t = (OperableTrigger) trigger.clone();
+        t.computeFirstFireTime(cal);
+        Date d = t.getNextFireTime();
+        while (d != null && !d.after(to)) {
+            if (!d.before(from)) {
+                lst.add(d);
+            }
+            t.triggered(cal);
+            d = t.getNextFireTime();
+        }
+        return lst;
+    }
+}
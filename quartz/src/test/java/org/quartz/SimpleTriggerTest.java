@@ -131,6 +131,38 @@ public class SimpleTriggerTest extends SerializationTestSupport {
         Date fireTimeAfter = simpleTrigger.getFireTimeAfter(new Date(34));
         assertEquals(40, fireTimeAfter.getTime());
     }
+    @Test
+    void testOverriddenGetFireTimeAfterIsUsed() {
+        // fires only at even seconds
+        SimpleTriggerImpl simpleTrigger = new SimpleTriggerImpl() {
+            @Override
+            public Date getFireTimeAfter(Date afterTime) {
+                Date time = super.getFireTimeAfter(afterTime);
+                while (time != null && time.getTime() % 2000 != 0) {
+                    time = super.getFireTimeAfter(time);
+                }
+                return time;
+            }
+        };
+        simpleTrigger.setStartTime(new Date(0));
+        simpleTrigger.setRepeatInterval(1000);
+        simpleTrigger.setRepeatCount(SimpleTrigger.REPEAT_INDEFINITELY);
+
+        simpleTrigger.computeFirstFireTime(null);
+        simpleTrigger.triggered(null);
+        assertEquals(2000, simpleTrigger.getNextFireTime().getTime());
+
+        // and when skipping the times a calendar excludes
+        org.quartz.impl.calendar.BaseCalendar calendar = new org.quartz.impl.calendar.BaseCalendar() {
+            @Override
+            public boolean isTimeIncluded(long timeStamp) {
+                return timeStamp >= 5000;
+            }
+        };
+        simpleTrigger.triggered(calendar);
+        assertEquals(6000, simpleTrigger.getNextFireTime().getTime());
+    }
+
     @Test
     void testClone() {
         SimpleTriggerImpl simpleTrigger = new SimpleTriggerImpl();
@@ -0,0 +1,112 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.quartz.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.quartz.ExecutionStatistics;
+import org.quartz.JobKey;
+import org.quartz.TriggerKey;
+
+class ExecutionStatisticsStoreTest {
+
+    @Test
+    void testRecordJobAndTriggerExecutions() {
+        ExecutionStatisticsStore store = new ExecutionStatisticsStore(16, 3);
+        JobKey jobKey = new JobKey("job", "group");
+        TriggerKey triggerKey = new TriggerKey("trigger", "group");
+        for (int i = 1; i <= 5; i++) {
+            store.record(jobKey, triggerKey, i * 1000L, i, 100, i == 5);
+        }
+
+        ExecutionStatistics stats = store.getJobStatistics(jobKey);
+        assertNotNull(stats);
+        assertEquals(jobKey, stats.getKey());
+        assertEquals(5, stats.getExecutionCount());
+        assertEquals(1, stats.getFailureCount());
+        assertEquals(100.0, stats.getMeanRunTime(), 0.001);
+        assertEquals(100, stats.getMaxRunTime());
+        assertEquals(5000L, stats.getLastFireTime().getTime());
+        assertEquals(5, stats.getLastFireLateness());
+
+        List<ExecutionStatistics.Execution> recent = stats.getRecentExecutions();
+        assertEquals(3, recent.size());
+        assertEquals(5000L, recent.get(0).getFireTime().getTime());
+        assertTrue(recent.get(0).isFailed());
+        assertEquals(3000L, recent.get(2).getFireTime().getTime());
+
+        assertEquals(5, store.getTriggerStatistics(triggerKey).getExecutionCount());
+        assertNull(store.getJobStatistics(new JobKey("other", "group")));
+    }
+
+    @Test
+    void testMeanRunTimeIsDecayed() {
+        ExecutionStatisticsStore store = new ExecutionStatisticsStore(16, 0);
+        JobKey jobKey = new JobKey("job");
+        store.record(jobKey, null, 1000L, 0, 100, false);
+        store.record(jobKey, null, 2000L, 0, 200, false);
+
+        ExecutionStatistics stats = store.getJobStatistics(jobKey);
+        assertEquals(100 + ExecutionStatisticsStore.DECAY * 100, stats.getMeanRunTime(), 0.001);
+        assertTrue(stats.getRecentExecutions().isEmpty());
+    }
+
+    @Test
+    void testRunTimePercentiles() {
+        ExecutionStatisticsStore store = new ExecutionStatisticsStore(16, 0);
+        JobKey jobKey = new JobKey("job");
+        for (int i = 1; i <= 1000; i++) {
+            store.record(jobKey, null, i, 0, i, false);
+        }
+
+        ExecutionStatistics stats = store.getJobStatistics(jobKey);
+        assertTrue(Math.abs(stats.getP50RunTime() - 500) <= 500 * 0.13, "p50 was " + stats.getP50RunTime());
+        assertTrue(Math.abs(stats.getP99RunTime() - 990) <= 990 * 0.13, "p99 was " + stats.getP99RunTime());
+        assertEquals(1000, stats.getMaxRunTime());
+    }
+
+    @Test
+    void testMemoryIsBounded() {
+        ExecutionStatisticsStore store = new ExecutionStatisticsStore(100, 2);
+        assertEquals(128, store.getCapacity());
+        for (int i = 0; i < 100000; i++) {
+            store.record(new JobKey("job" + i), new TriggerKey("trigger" + i), i, 0, 1, false);
+        }
+
+        assertTrue(store.getAllJobStatistics().size() <= 128);
+        assertTrue(store.getAllTriggerStatistics().size() <= 128);
+        // the most recently executed job is kept
+        assertNotNull(store.getJobStatistics(new JobKey("job99999")));
+
+        store.reset();
+        assertTrue(store.getAllJobStatistics().isEmpty());
+    }
+
+    @Test
+    void testDisabled() {
+        ExecutionStatisticsStore store = new ExecutionStatisticsStore(0, 10);
+        store.record(new JobKey("job"), new TriggerKey("trigger"), 1000L, 0, 1, false);
+
+        assertNull(store.getJobStatistics(new JobKey("job")));
+        assertTrue(store.getAllJobStatistics().isEmpty());
+    }
+}
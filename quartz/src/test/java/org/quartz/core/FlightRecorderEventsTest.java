@@ -0,0 +1,170 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.quartz.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.quartz.JobBuilder.newJob;
+import static org.quartz.TriggerBuilder.newTrigger;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.jupiter.api.Test;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.TriggerKey;
+import org.quartz.core.jfr.JobExecutionEvent;
+import org.quartz.core.jfr.TriggerAcquisitionEvent;
+import org.quartz.core.jfr.TriggerFiredEvent;
+import org.quartz.impl.StdSchedulerFactory;
+
+class FlightRecorderEventsTest {
+
+    private static CountDownLatch executed;
+
+    public static class SucceedingJob implements Job {
+        @Override
+        public void execute(JobExecutionContext context) {
+            executed.countDown();
+        }
+    }
+
+    public static class FailingJob implements Job {
+        @Override
+        public void execute(JobExecutionContext context) throws JobExecutionException {
+            executed.countDown();
+            throw new JobExecutionException("expected");
+        }
+    }
+
+    private static Scheduler createScheduler(String name, boolean flightRecorderEvents) throws Exception {
+        Properties properties = new Properties();
+        properties.put("org.quartz.scheduler.instanceName", name);
+        properties.put("org.quartz.scheduler.skipUpdateCheck", "true");
+        properties.put(StdSchedulerFactory.PROP_SCHED_FLIGHT_RECORDER_EVENTS, String.valueOf(flightRecorderEvents));
+        properties.put("org.quartz.threadPool.threadCount", "2");
+        properties.put("org.quartz.jobStore.class", "org.quartz.simpl.RAMJobStore");
+        return new StdSchedulerFactory(properties).getScheduler();
+    }
+
+    /**
+     * Runs one succeeding and one failing job on a new scheduler while
+     * recording, and returns the Quartz events emitted by that scheduler.
+     */
+    private static List<RecordedEvent> recordJobExecutions(String name, boolean flightRecorderEvents)
+            throws Exception {
+        executed = new CountDownLatch(2);
+        Path file = Files.createTempFile("quartz", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(TriggerAcquisitionEvent.class);
+            recording.enable(TriggerFiredEvent.class);
+            recording.enable(JobExecutionEvent.class);
+            recording.start();
+
+            Scheduler scheduler = createScheduler(name, flightRecorderEvents);
+            try {
+                scheduler.scheduleJob(newJob(SucceedingJob.class).withIdentity("succeeding").build(),
+                        newTrigger().withIdentity("succeeding").startNow().build());
+                scheduler.scheduleJob(newJob(FailingJob.class).withIdentity("failing").build(),
+                        newTrigger().withIdentity("failing").startNow().build());
+                scheduler.start();
+                assertTrue(executed.await(10, TimeUnit.SECONDS));
+            } finally {
+                // waits for the jobs to complete, and so for their events
+                scheduler.shutdown(true);
+            }
+
+            recording.stop();
+            recording.dump(file);
+            List<RecordedEvent> events = new ArrayList<>();
+            for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                if (event.getEventType().getName().startsWith("org.quartz.")
+                        && name.equals(event.getString("schedulerName"))) {
+                    events.add(event);
+                }
+            }
+            return events;
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<RecordedEvent> getEvents(List<RecordedEvent> events, String eventName) {
+        List<RecordedEvent> named = new ArrayList<>();
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals(eventName)) {
+                named.add(event);
+            }
+        }
+        return named;
+    }
+
+    @Test
+    void testEventsEmitted() throws Exception {
+        List<RecordedEvent> events = recordJobExecutions("FlightRecorderEventsTest", true);
+        String failingJob = new JobKey("failing").toString();
+
+        List<RecordedEvent> acquisitions = getEvents(events, "org.quartz.TriggerAcquisition");
+        assertFalse(acquisitions.isEmpty());
+        int acquired = 0;
+        for (RecordedEvent event : acquisitions) {
+            assertTrue(event.getInt("count") <= event.getInt("maxCount"));
+            acquired += event.getInt("count");
+        }
+        assertEquals(2, acquired);
+
+        List<RecordedEvent> fired = getEvents(events, "org.quartz.TriggerFired");
+        assertEquals(2, fired.size());
+        for (RecordedEvent event : fired) {
+            String triggerKey = event.getString("jobKey").equals(failingJob)
+                    ? new TriggerKey("failing").toString() : new TriggerKey("succeeding").toString();
+            assertEquals(triggerKey, event.getString("triggerKey"));
+            assertEquals(event.getLong("fireTime") - event.getLong("scheduledFireTime"), event.getLong("lateness"));
+        }
+
+        List<RecordedEvent> executions = getEvents(events, "org.quartz.JobExecution");
+        assertEquals(2, executions.size());
+        assertEquals(1, executions.stream()
+                .filter(event -> event.getString("jobKey").equals(failingJob)).count());
+        for (RecordedEvent event : executions) {
+            String expected = event.getString("jobKey").equals(failingJob)
+                    ? JobExecutionEvent.FAILED : JobExecutionEvent.SUCCEEDED;
+            assertEquals(expected, event.getString("outcome"));
+            assertEquals(0, event.getInt("refireCount"));
+            assertFalse(event.getDuration().isNegative());
+        }
+    }
+
+    @Test
+    void testNoEventsWhenDisabled() throws Exception {
+        List<RecordedEvent> events = recordJobExecutions("FlightRecorderEventsDisabledTest", false);
+        assertTrue(events.isEmpty(), events.toString());
+    }
+}
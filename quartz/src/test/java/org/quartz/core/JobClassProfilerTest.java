@@ -0,0 +1,80 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.quartz.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.quartz.core.JobClassProfiler.Profile;
+
+class JobClassProfilerTest {
+
+    private static final long BASE = TimeUnit.HOURS.toNanos(1);
+
+    private static long seconds(long seconds) {
+        return BASE + TimeUnit.SECONDS.toNanos(seconds);
+    }
+
+    @Test
+    void testBusySharesOverTheLastMinute() {
+        JobClassProfiler profiler = new JobClassProfiler("test", 4, 10, 0L);
+        JobClassProfiler.Entry report = profiler.begin(String.class, "reports", seconds(0));
+        profiler.begin(Integer.class, "billing", seconds(0));
+        for (int s = 5; s <= 60; s += 5) {
+            if (s == 30) {
+                profiler.end(report, seconds(0), seconds(30));
+            }
+            profiler.sample(seconds(s));
+        }
+
+        List<Profile> profiles = profiler.getTopJobClasses(10, seconds(60));
+        assertEquals(2, profiles.size());
+        assertEquals(Integer.class.getName(), profiles.get(0).getJobClassName());
+        assertEquals("billing", profiles.get(0).getJobGroup());
+        assertEquals(1, profiles.get(0).getExecutingCount());
+        assertEquals(0.25, profiles.get(0).getOneMinuteShare(), 0.0001);
+        assertEquals(String.class.getName(), profiles.get(1).getJobClassName());
+        assertEquals(0, profiles.get(1).getExecutingCount());
+        assertEquals(1, profiles.get(1).getExecutionCount());
+        assertEquals(0.125, profiles.get(1).getOneMinuteShare(), 0.0001);
+        assertEquals(1, profiler.getTopJobClasses(1, seconds(60)).size());
+    }
+
+    @Test
+    void testSharesOnlyCountTheWindow() {
+        JobClassProfiler profiler = new JobClassProfiler("test", 2, 10, 0L);
+        JobClassProfiler.Entry entry = profiler.begin(String.class, "reports", seconds(0));
+        profiler.end(entry, seconds(0), seconds(60));
+        for (int s = 5; s <= 120; s += 5) {
+            profiler.sample(seconds(s));
+        }
+
+        Profile profile = profiler.getTopJobClasses(1, seconds(120)).get(0);
+        assertEquals(0.0, profile.getOneMinuteShare(), 0.0001);
+        assertEquals(0.25, profile.getFiveMinuteShare(), 0.0001);
+    }
+
+    @Test
+    void testSameEntryForSameJobClassAndGroup() {
+        JobClassProfiler profiler = new JobClassProfiler("test", 1, 10, 0L);
+        JobClassProfiler.Entry entry = profiler.begin(String.class, "reports", seconds(0));
+        assertSame(entry, profiler.begin(String.class, "reports", seconds(1)));
+    }
+}
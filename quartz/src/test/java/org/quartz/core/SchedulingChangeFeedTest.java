@@ -0,0 +1,66 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.quartz.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.quartz.core.SchedulingChangeFeed.Change;
+import org.quartz.core.SchedulingChangeFeed.Kind;
+import org.quartz.core.SchedulingChangeFeed.Type;
+
+class SchedulingChangeFeedTest {
+
+    @Test
+    void testChangesSince() {
+        SchedulingChangeFeed feed = new SchedulingChangeFeed(10);
+        assertEquals(0, feed.getLastSequence());
+        assertTrue(feed.getChangesSince(0, 10).isEmpty());
+
+        feed.record(Kind.JOB, Type.ADDED, "group", "job");
+        feed.record(Kind.TRIGGER, Type.ADDED, "group", "trigger");
+        feed.record(Kind.TRIGGER, Type.UPDATED, "group", null);
+
+        assertEquals(3, feed.getLastSequence());
+        List<Change> changes = feed.getChangesSince(1, 10);
+        assertEquals(2, changes.size());
+        assertEquals(2, changes.get(0).getSequence());
+        assertEquals(Kind.TRIGGER, changes.get(0).getKind());
+        assertEquals("trigger", changes.get(0).getName());
+        assertNull(changes.get(1).getName());
+
+        assertEquals(1, feed.getChangesSince(0, 1).size());
+        assertTrue(feed.getChangesSince(3, 10).isEmpty());
+    }
+
+    @Test
+    void testOldChangesAreDropped() {
+        SchedulingChangeFeed feed = new SchedulingChangeFeed(4);
+        for (int i = 0; i < 10; i++) {
+            feed.record(Kind.JOB, Type.UPDATED, "group", "job" + i);
+        }
+
+        List<Change> changes = feed.getChangesSince(0, 100);
+        // the gap after sequence 0 tells the reader that it missed changes
+        assertEquals(4, changes.size());
+        assertEquals(7, changes.get(0).getSequence());
+        assertEquals("job9", changes.get(3).getName());
+    }
+}
@@ -2,9 +2,24 @@ package org.quartz.impl.calendar;
 
 
 
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
 import org.junit.jupiter.api.Test;
+import org.quartz.CronScheduleBuilder;
+import org.quartz.SimpleScheduleBuilder;
+import org.quartz.TriggerBuilder;
+import org.quartz.spi.OperableTrigger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class BaseCalendarTest  {
 
@@ -18,5 +33,92 @@ class BaseCalendarTest  {
         assertEquals(base.getTimeZone(), clone.getTimeZone());
     }
 
+    @Test
+    void testExcludedRangeEnd() {
+        TimeZone tz = TimeZone.getTimeZone("UTC");
+        WeeklyCalendar weekly = new WeeklyCalendar(null, tz);
+        DailyCalendar daily = new DailyCalendar(weekly, "08:00", "20:00");
+        daily.setTimeZone(tz);
+        GregorianCalendar cal = new GregorianCalendar(tz);
+        cal.clear();
+        // Friday
+        cal.set(2025, Calendar.MARCH, 28, 12, 0, 0);
+        long fridayNoon = cal.getTimeInMillis();
+        cal.set(2025, Calendar.MARCH, 28, 20, 0, 0);
+        long fridayEvening = cal.getTimeInMillis();
+        cal.set(2025, Calendar.MARCH, 29, 12, 0, 0);
+        long saturdayNoon = cal.getTimeInMillis();
+        cal.set(2025, Calendar.MARCH, 29, 20, 0, 0);
+        long saturdayEvening = cal.getTimeInMillis();
+        cal.set(2025, Calendar.MARCH, 31, 0, 0, 0);
+        long mondayMidnight = cal.getTimeInMillis();
+
+        assertEquals(fridayNoon, new BaseCalendar().getExcludedRangeEnd(fridayNoon));
+        assertEquals(fridayEvening + 1, daily.getExcludedRangeEnd(fridayNoon));
+        // Friday 20:00:00.001 is included, so no range is skipped
+        assertEquals(fridayEvening + 1, daily.getExcludedRangeEnd(fridayEvening + 1));
+        // the daily calendar excludes Saturday up to 20:00, and the base
+        // calendar the rest of the weekend (DailyCalendar never includes the
+        // first millisecond of a day)
+        assertEquals(mondayMidnight + 1, daily.getExcludedRangeEnd(saturdayNoon));
+        DailyCalendar unchained = new DailyCalendar("08:00", "20:00");
+        unchained.setTimeZone(tz);
+        assertEquals(saturdayEvening + 1, unchained.getExcludedRangeEnd(saturdayNoon));
+
+        for (long t : new long[] {fridayNoon, saturdayNoon}) {
+            long end = daily.getExcludedRangeEnd(t);
+            assertFalse(daily.isTimeIncluded(end - 1));
+            assertTrue(daily.isTimeIncluded(end));
+        }
+    }
+
+    @Test
+    void testTriggerSkipsExcludedRange() {
+        TimeZone tz = TimeZone.getTimeZone("UTC");
+        GregorianCalendar cal = new GregorianCalendar(tz);
+        cal.clear();
+        cal.set(2025, Calendar.MARCH, 28, 10, 17, 3);
+        Date start = cal.getTime();
+        cal.set(2025, Calendar.MARCH, 28, 20, 0, 1);
+        Date expected = cal.getTime();
+
+        OperableTrigger trigger = (OperableTrigger) TriggerBuilder.newTrigger()
+                .startAt(start)
+                .withSchedule(SimpleScheduleBuilder.repeatSecondlyForever(1))
+                .build();
+        DailyCalendar daily = new DailyCalendar("08:00", "20:00");
+        daily.setTimeZone(tz);
+
+        assertEquals(expected, trigger.computeFirstFireTime(daily));
+
+        WeeklyCalendar allExcluded = new WeeklyCalendar(tz);
+        for (int day = Calendar.SUNDAY; day <= Calendar.SATURDAY; day++) {
+            allExcluded.setDayExcluded(day, true);
+        }
+        assertNull(trigger.computeFirstFireTime(allExcluded));
+    }
+
+    @Test
+    void testCronTriggerSkipsCronCalendarRange() throws ParseException {
+        OperableTrigger trigger = (OperableTrigger) TriggerBuilder.newTrigger()
+                .withSchedule(CronScheduleBuilder.cronSchedule("0 30 2 * * ?"))
+                .build();
+        // the calendars exclude every fire time, so the trigger goes through
+        // all of the years it looks at; one excluded range per night, rather
+        // than one per second of it, keeps that quick
+        CronCalendar nights = new CronCalendar("* * 0-6 ? * *");
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> assertNull(trigger.computeFirstFireTime(nights)));
+
+        WeeklyCalendar chain = new WeeklyCalendar(new CronCalendar(new HolidayCalendar(), "* * 0-6 ? * *"));
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> assertNull(trigger.computeFirstFireTime(chain)));
+
+        GregorianCalendar cal = new GregorianCalendar();
+        cal.clear();
+        cal.set(2025, Calendar.MARCH, 28, 3, 17, 3);
+        long night = cal.getTimeInMillis();
+        cal.set(2025, Calendar.MARCH, 28, 7, 0, 0);
+        assertEquals(cal.getTimeInMillis(), nights.getExcludedRangeEnd(night));
+    }
+
 
 }
@@ -0,0 +1,183 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.quartz.impl.calendar;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.text.ParseException;
+import java.time.Instant;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompiledCalendarTest {
+
+    private static final TimeZone TIME_ZONE = TimeZone.getTimeZone("Europe/Berlin");
+
+    private static BaseCalendar createChain(long now) throws ParseException {
+        HolidayCalendar holidays = new HolidayCalendar(TIME_ZONE);
+        holidays.addExcludedDate(new Date(now + 2 * 24 * 60 * 60 * 1000L));
+        WeeklyCalendar weekends = new WeeklyCalendar(holidays, TIME_ZONE);
+        DailyCalendar maintenance = new DailyCalendar(weekends, "02:00", "03:30:15");
+        maintenance.setTimeZone(TIME_ZONE);
+        return new CronCalendar(maintenance, "* 0-14 23 ? * MON-FRI", TIME_ZONE);
+    }
+
+    @Test
+    void testSameAsChain() throws Exception {
+        long now = System.currentTimeMillis();
+        BaseCalendar chain = createChain(now);
+        CompiledCalendar compiled = new CompiledCalendar(chain);
+
+        Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            long time = now + (long) (random.nextDouble() * CompiledCalendar.DEFAULT_HORIZON);
+            if (i % 2 == 0) {
+                time -= time % 1000;
+            }
+            boolean included = chain.isTimeIncluded(time);
+            assertEquals(included, compiled.isTimeIncluded(time), "at " + time);
+            if (included) {
+                long end = compiled.getIncludedRangeEnd(time);
+                assertTrue(end > time);
+                assertTrue(chain.isTimeIncluded(end - 1), "at " + (end - 1));
+            } else {
+                long end = compiled.getExcludedRangeEnd(time);
+                assertTrue(end > time);
+                assertFalse(chain.isTimeIncluded(end - 1), "at " + (end - 1));
+                assertTrue(chain.isTimeIncluded(end), "at " + end);
+            }
+        }
+    }
+
+    @Test
+    void testSameAsCronCalendarOverDaylightSavingTimeEnd() throws Exception {
+        // the first half of every hour, including both occurrences of the
+        // hour from 01:00 repeated on 2026-10-25
+        TimeZone london = TimeZone.getTimeZone("Europe/London");
+        CronCalendar cron = new CronCalendar("* 0-29 * ? * *");
+        cron.setTimeZone(london);
+
+        long from = Instant.parse("2026-10-24T22:00:00Z").toEpochMilli();
+        long to = Instant.parse("2026-10-25T04:00:00Z").toEpochMilli();
+        CompiledCalendar compiled = new CompiledCalendar(cron, from, to);
+        for (long time = from; time < to; time += 15 * 1000) {
+            boolean included = cron.isTimeIncluded(time);
+            assertEquals(included, compiled.isTimeIncluded(time), "at " + Instant.ofEpochMilli(time));
+            if (included) {
+                long end = cron.getIncludedRangeEnd(time);
+                assertTrue(end > time);
+                assertFalse(cron.isTimeIncluded(end), "at " + Instant.ofEpochMilli(end));
+            }
+        }
+
+        // 01:30 BST is included until 01:00 GMT
+        assertEquals(Instant.parse("2026-10-25T01:00:00Z").toEpochMilli(),
+                cron.getIncludedRangeEnd(Instant.parse("2026-10-25T00:30:00Z").toEpochMilli()));
+    }
+
+    @Test
+    void testImmutable() throws Exception {
+        long now = System.currentTimeMillis();
+        WeeklyCalendar weekends = new WeeklyCalendar(null, TIME_ZONE);
+        CompiledCalendar compiled = new CompiledCalendar(weekends);
+
+        Calendar saturday = Calendar.getInstance(TIME_ZONE);
+        saturday.setTimeInMillis(now);
+        saturday.add(Calendar.DATE, 1);
+        while (saturday.get(Calendar.DAY_OF_WEEK) != Calendar.SATURDAY) {
+            saturday.add(Calendar.DATE, 1);
+        }
+        assertFalse(compiled.isTimeIncluded(saturday.getTimeInMillis()));
+
+        // changes to the calendar it was compiled from are not seen
+        weekends.setDayExcluded(Calendar.SATURDAY, false);
+        assertFalse(compiled.isTimeIncluded(saturday.getTimeInMillis()));
+        assertSame(compiled, compiled.clone());
+        assertThrows(UnsupportedOperationException.class, () -> compiled.setDescription("changed"));
+
+        // and it is serialized as the calendar it was compiled from
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(compiled);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            WeeklyCalendar deserialized = (WeeklyCalendar) in.readObject();
+            assertTrue(deserialized.isDayExcluded(Calendar.SATURDAY));
+        }
+    }
+
+    @Test
+    void testViewCanBeChanged() throws Exception {
+        long now = System.currentTimeMillis();
+        WeeklyCalendar weekends = new WeeklyCalendar(null, TIME_ZONE);
+        weekends.setDescription("weekends");
+        CompiledCalendar compiled = new CompiledCalendar(weekends);
+        org.quartz.Calendar view = compiled.newView();
+        org.quartz.Calendar other = compiled.newView();
+
+        Calendar monday = Calendar.getInstance(TIME_ZONE);
+        monday.setTimeInMillis(now);
+        monday.add(Calendar.DATE, 1);
+        while (monday.get(Calendar.DAY_OF_WEEK) != Calendar.MONDAY) {
+            monday.add(Calendar.DATE, 1);
+        }
+        long mondayTime = monday.getTimeInMillis();
+        assertTrue(view.isTimeIncluded(mondayTime));
+        assertEquals(compiled.getExcludedRangeEnd(mondayTime - 60 * 60 * 1000L),
+                view.getExcludedRangeEnd(mondayTime - 60 * 60 * 1000L));
+
+        // changing a view changes neither the compiled calendar nor other views
+        HolidayCalendar holidays = new HolidayCalendar(TIME_ZONE);
+        holidays.addExcludedDate(monday.getTime());
+        view.setBaseCalendar(holidays);
+        view.setDescription("weekends and holidays");
+        assertFalse(view.isTimeIncluded(mondayTime));
+        assertSame(holidays, view.getBaseCalendar());
+        assertEquals("weekends and holidays", view.getDescription());
+        assertTrue(compiled.isTimeIncluded(mondayTime));
+        assertTrue(other.isTimeIncluded(mondayTime));
+        assertEquals("weekends", other.getDescription());
+
+        // nor does changing a clone of one
+        org.quartz.Calendar clone = (org.quartz.Calendar) view.clone();
+        clone.setBaseCalendar(null);
+        assertTrue(clone.isTimeIncluded(mondayTime));
+        assertFalse(view.isTimeIncluded(mondayTime));
+
+        // and it is serialized as the calendar it is evaluated by
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(view);
+            out.writeObject(other);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertFalse(((WeeklyCalendar) in.readObject()).isTimeIncluded(mondayTime));
+            assertTrue(((WeeklyCalendar) in.readObject()).isTimeIncluded(mondayTime));
+        }
+    }
+}
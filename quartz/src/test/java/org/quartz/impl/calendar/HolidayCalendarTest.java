@@ -0,0 +1,53 @@
+package org.quartz.impl.calendar;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HolidayCalendarTest {
+
+    private static final TimeZone TIME_ZONE = TimeZone.getTimeZone("Europe/Paris");
+
+    private static long time(int year, int month, int day, int hour, int minute) {
+        GregorianCalendar cal = new GregorianCalendar(TIME_ZONE);
+        cal.clear();
+        cal.set(year, month, day, hour, minute);
+        return cal.getTimeInMillis();
+    }
+
+    @Test
+    void testTimeIncluded() {
+        HolidayCalendar holidays = new HolidayCalendar(TIME_ZONE);
+        holidays.addExcludedDate(new java.util.Date(time(2025, Calendar.MARCH, 30, 15, 0)));
+
+        // the day the clocks go forward is 23 hours long
+        assertTrue(holidays.isTimeIncluded(time(2025, Calendar.MARCH, 29, 23, 59)));
+        assertFalse(holidays.isTimeIncluded(time(2025, Calendar.MARCH, 30, 0, 0)));
+        assertFalse(holidays.isTimeIncluded(time(2025, Calendar.MARCH, 30, 23, 59)));
+        assertTrue(holidays.isTimeIncluded(time(2025, Calendar.MARCH, 31, 0, 0)));
+
+        holidays.removeExcludedDate(new java.util.Date(time(2025, Calendar.MARCH, 30, 10, 0)));
+        assertTrue(holidays.isTimeIncluded(time(2025, Calendar.MARCH, 30, 0, 0)));
+    }
+
+    @Test
+    void testNextIncludedTime() {
+        WeeklyCalendar weekends = new WeeklyCalendar(null, TIME_ZONE);
+        HolidayCalendar holidays = new HolidayCalendar(weekends, TIME_ZONE);
+        // Thursday and Friday
+        holidays.addExcludedDate(new java.util.Date(time(2025, Calendar.DECEMBER, 25, 0, 0)));
+        holidays.addExcludedDate(new java.util.Date(time(2025, Calendar.DECEMBER, 26, 0, 0)));
+
+        long christmasEve = time(2025, Calendar.DECEMBER, 24, 18, 0);
+        long monday = time(2025, Calendar.DECEMBER, 29, 0, 0);
+        assertEquals(time(2025, Calendar.DECEMBER, 24, 0, 0), holidays.getNextIncludedTime(christmasEve));
+        assertEquals(monday, holidays.getNextIncludedTime(christmasEve + 6 * 60 * 60 * 1000L));
+        assertEquals(monday, holidays.getExcludedRangeEnd(christmasEve + 6 * 60 * 60 * 1000L));
+    }
+}
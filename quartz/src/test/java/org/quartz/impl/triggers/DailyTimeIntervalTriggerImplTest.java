@@ -649,6 +649,36 @@ class DailyTimeIntervalTriggerImplTest  {
         assertEquals(1, trigger.getRepeatInterval());
     }
 
+    @Test
+    void testCachedDaySchedule() {
+        DailyTimeIntervalTriggerImpl trigger = new DailyTimeIntervalTriggerImpl();
+        trigger.setStartTime(dateOf(9, 31, 15, 1, 3, 2024));
+        trigger.setStartTimeOfDay(new TimeOfDay(8, 0, 0));
+        trigger.setEndTimeOfDay(new TimeOfDay(17, 0, 0));
+        trigger.setDaysOfWeek(DailyTimeIntervalScheduleBuilder.MONDAY_THROUGH_FRIDAY);
+        trigger.setRepeatIntervalUnit(DateBuilder.IntervalUnit.MINUTE);
+        trigger.setRepeatInterval(7);
+
+        DailyTimeIntervalTriggerImpl cached = (DailyTimeIntervalTriggerImpl) trigger.clone();
+        cached.setCacheDaySchedule(true);
+
+        // over weeks of days, and the weekends between them
+        assertEquals(TriggerUtils.computeFireTimes(trigger, null, 5000), TriggerUtils.computeFireTimes(cached, null, 5000));
+
+        Date after = dateOf(12, 3, 30, 4, 3, 2024);
+        assertEquals(trigger.getFireTimeAfter(after), cached.getFireTimeAfter(after));
+        assertEquals(trigger.getFireTimeAfter(dateOf(23, 0, 0, 4, 3, 2024)), cached.getFireTimeAfter(dateOf(23, 0, 0, 4, 3, 2024)));
+
+        // a changed schedule is not served from the cached day
+        cached.getFireTimeAfter(after);
+        trigger.setRepeatInterval(5);
+        cached.setRepeatInterval(5);
+        assertEquals(trigger.getFireTimeAfter(after), cached.getFireTimeAfter(after));
+        trigger.setEndTimeOfDay(new TimeOfDay(12, 0, 0));
+        cached.setEndTimeOfDay(new TimeOfDay(12, 0, 0));
+        assertEquals(trigger.getFireTimeAfter(after), cached.getFireTimeAfter(after));
+    }
+
     @ParameterizedTest
     @ValueSource(ints = { Integer.MIN_VALUE, 0})
     void testSetRepeatIntervalWithInvalidValues(int repeatInterval) {
@@ -0,0 +1,93 @@
+/*
+ * Copyright IBM Corp. 2024, 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy
+ * of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.quartz.management;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.quartz.Scheduler;
+import org.quartz.utils.LatencyHistogram;
+import org.quartz.utils.PipelineMetrics;
+
+class PrometheusMetricsExporterTest {
+
+    @Test
+    void testServesMetricsInTextFormat() throws Exception {
+        MetricsRegistry registry = new MetricsRegistry(new PipelineMetrics());
+        AtomicLong fired = new AtomicLong(42);
+        registry.addCounter("test_jobs_fired_total", "Number of jobs fired.", fired::get);
+        registry.addGauge("test_busy_threads", "Busy threads,\nnow.", () -> 3);
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(2000000L);
+        histogram.record(2000000L);
+        Map<String, LatencyHistogram> byGroup = new TreeMap<>();
+        byGroup.put("re\"ports", histogram);
+        registry.addSummary("test_run_time_seconds", "Run time.", "group", byGroup, 1.0e-6);
+
+        Scheduler scheduler = mock(Scheduler.class);
+        when(scheduler.getSchedulerName()).thenReturn("sched");
+        PrometheusMetricsExporter exporter = new PrometheusMetricsExporter();
+        exporter.setBindAddress("127.0.0.1");
+        exporter.setPort(0);
+        exporter.initialize("prometheus", scheduler, registry);
+        try {
+            fired.incrementAndGet();
+            HttpURLConnection connection = (HttpURLConnection) new URL(
+                    "http://127.0.0.1:" + exporter.getLocalPort() + "/metrics").openConnection();
+            assertEquals(200, connection.getResponseCode());
+            assertEquals(PrometheusMetricsExporter.CONTENT_TYPE, connection.getContentType());
+            String body;
+            try (InputStream in = connection.getInputStream()) {
+                body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+
+            assertTrue(body.contains("# TYPE test_jobs_fired_total counter\n"
+                    + "test_jobs_fired_total{scheduler=\"sched\"} 43\n"), body);
+            assertTrue(body.contains("# HELP test_busy_threads Busy threads,\\nnow.\n"), body);
+            assertTrue(body.contains("test_busy_threads{scheduler=\"sched\"} 3\n"), body);
+            assertTrue(body.contains("# TYPE test_run_time_seconds summary\n"), body);
+            assertTrue(body.contains("test_run_time_seconds{scheduler=\"sched\",group=\"re\\\"ports\",quantile=\"0.99\"} "),
+                    body);
+            assertTrue(body.contains("test_run_time_seconds_sum{scheduler=\"sched\",group=\"re\\\"ports\"} 4\n"), body);
+            assertTrue(body.contains("test_run_time_seconds_count{scheduler=\"sched\",group=\"re\\\"ports\"} 2\n"), body);
+        } finally {
+            exporter.shutdown();
+        }
+    }
+
+    @Test
+    void testRejectsInvalidAndDuplicateNames() {
+        MetricsRegistry registry = new MetricsRegistry(new PipelineMetrics());
+        registry.addGauge("test_gauge", null, () -> 1);
+        assertThrows(IllegalArgumentException.class, () -> registry.addGauge("test_gauge", null, () -> 2));
+        assertThrows(IllegalArgumentException.class, () -> registry.addCounter("test-counter", null, () -> 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> registry.addSummary("test_summary", null, "a:b", new TreeMap<>(), 1.0));
+        assertEquals(1, registry.getMetrics().size());
+    }
+}
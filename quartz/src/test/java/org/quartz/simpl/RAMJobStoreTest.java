@@ -16,7 +16,14 @@
  */
 package org.quartz.simpl;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import org.junit.jupiter.api.Test;
 import org.quartz.AbstractJobStoreTest;
+import org.quartz.Calendar;
+import org.quartz.impl.calendar.CompiledCalendar;
+import org.quartz.impl.calendar.WeeklyCalendar;
 import org.quartz.spi.JobStore;
 
 public class RAMJobStoreTest extends AbstractJobStoreTest {
@@ -31,4 +38,20 @@ public class RAMJobStoreTest extends AbstractJobStoreTest {
     protected void destroyJobStore(String name) {
 
     }
+
+    @Test
+    void testCompiledCalendarsCanBeChangedByTriggers() throws Exception {
+        RAMJobStore store = new RAMJobStore();
+        store.setCompileCalendars(true);
+        WeeklyCalendar weekends = new WeeklyCalendar();
+        weekends.setDescription("weekends");
+        store.storeCalendar("weekends", weekends, false, false);
+
+        Calendar calendar = store.retrieveCompiledCalendar("weekends", store.retrieveCalendar("weekends"));
+        assertFalse(calendar instanceof CompiledCalendar);
+        calendar.setDescription("changed");
+        calendar.setBaseCalendar(new WeeklyCalendar());
+        assertEquals("weekends",
+                store.retrieveCompiledCalendar("weekends", store.retrieveCalendar("weekends")).getDescription());
+    }
 }
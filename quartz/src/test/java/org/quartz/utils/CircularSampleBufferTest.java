@@ -0,0 +1,38 @@
+package org.quartz.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class CircularSampleBufferTest {
+
+	@Test
+	void testEmptyBuffer() {
+		CircularSampleBuffer buffer = new CircularSampleBuffer(3);
+
+		assertTrue(buffer.isEmpty());
+		assertEquals(0, buffer.depth());
+		assertThrows(IllegalStateException.class, buffer::peekValue);
+	}
+
+	@Test
+	void testOldestSamplesAreLost() {
+		CircularSampleBuffer buffer = new CircularSampleBuffer(3);
+		for (int i = 1; i <= 5; i++) {
+			buffer.push(i * 1000L, i);
+		}
+
+		assertEquals(3, buffer.depth());
+		assertEquals(5, buffer.peekValue());
+		assertEquals(5000L, buffer.peekTimestamp());
+
+		long[] timestamps = new long[3];
+		long[] values = new long[3];
+		assertEquals(3, buffer.copyTo(timestamps, values));
+		assertArrayEquals(new long[] { 5, 4, 3 }, values);
+		assertArrayEquals(new long[] { 5000L, 4000L, 3000L }, timestamps);
+	}
+}
@@ -0,0 +1,28 @@
+package org.quartz.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+class EpochDaysTest {
+
+	@Test
+	void testSameAsLocalDate() {
+		for (long epochDay = LocalDate.of(-801, 1, 1).toEpochDay(); epochDay < LocalDate.of(2801, 1, 1).toEpochDay(); epochDay++) {
+			LocalDate expected = LocalDate.ofEpochDay(epochDay);
+			long date = EpochDays.toDate(epochDay);
+			assertEquals(expected.getYear(), EpochDays.getYear(date));
+			assertEquals(expected.getMonthValue(), EpochDays.getMonth(date));
+			assertEquals(expected.getDayOfMonth(), EpochDays.getDayOfMonth(date));
+			assertEquals(epochDay, EpochDays.of(expected.getYear(), expected.getMonthValue(), expected.getDayOfMonth()));
+		}
+	}
+
+	@Test
+	void testDayPastEndOfMonth() {
+		assertEquals(LocalDate.of(2024, 3, 1).toEpochDay(), EpochDays.of(2024, 2, 30));
+		assertEquals(LocalDate.of(2026, 1, 31).toEpochDay(), EpochDays.of(2025, 12, 62));
+	}
+}
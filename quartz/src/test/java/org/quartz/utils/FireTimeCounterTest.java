@@ -0,0 +1,51 @@
+package org.quartz.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class FireTimeCounterTest {
+
+	@Test
+	void testOverdueAndDueCounts() {
+		FireTimeCounter counter = new FireTimeCounter();
+		counter.add(1000L);
+		counter.add(1500L);
+		counter.add(5000L);
+		counter.add(12000L);
+		counter.add(60000L);
+
+		assertEquals(5, counter.getCount());
+		assertEquals(0, counter.getOverdueCount(500L));
+		assertEquals(2, counter.getDueWithin(500L, 1000L));
+		assertEquals(2, counter.getOverdueCount(5200L));
+		assertEquals(2, counter.getDueWithin(5200L, 10000L));
+		assertEquals(3, counter.getDueWithin(5200L, 60000L));
+	}
+
+	@Test
+	void testRemoveAfterBecomingOverdue() {
+		FireTimeCounter counter = new FireTimeCounter();
+		counter.add(1000L);
+		counter.add(3000L);
+
+		assertEquals(1, counter.getOverdueCount(2000L));
+		counter.remove(1000L);
+		counter.remove(3000L);
+		assertEquals(0, counter.getOverdueCount(2000L));
+		assertEquals(0, counter.getDueWithin(2000L, 5000L));
+		assertEquals(0, counter.getCount());
+
+		// fire times added in the past count as overdue straight away
+		counter.add(500L);
+		assertEquals(1, counter.getOverdueCount(2000L));
+		counter.clear();
+		assertEquals(0, counter.getOverdueCount(4000L));
+
+		// fire times that were not added cannot be removed
+		assertThrows(IllegalArgumentException.class, () -> counter.remove(500L));
+		assertThrows(IllegalArgumentException.class, () -> counter.remove(9000L));
+		assertEquals(0, counter.getCount());
+	}
+}
@@ -0,0 +1,77 @@
+package org.quartz.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class LockStatisticsTest {
+
+	@Test
+	void testWaitHoldAndHolder() throws Exception {
+		LockStatistics statistics = new LockStatistics();
+		statistics.lockObtained("TRIGGER_ACCESS", TimeUnit.MILLISECONDS.toNanos(3), "JobStoreSupport.acquireNextTriggers");
+
+		LockStatistics.Snapshot held = statistics.getSnapshots().get(0);
+		assertEquals("TRIGGER_ACCESS", held.getLockName());
+		assertEquals(1, held.getAcquisitionCount());
+		assertTrue(held.getMaxWaitTime() >= 2900 && held.getMaxWaitTime() <= 3100);
+		assertEquals(Thread.currentThread().getName(), held.getHolderThread());
+		assertEquals("JobStoreSupport.acquireNextTriggers", held.getHolderOperation());
+
+		Thread.sleep(5);
+		statistics.lockReleased("TRIGGER_ACCESS");
+
+		LockStatistics.Snapshot released = statistics.getSnapshots().get(0);
+		assertNull(released.getHolderThread());
+		assertEquals(0, released.getHeldFor());
+		assertTrue(released.getMaxHoldTime() >= 5000);
+	}
+
+	@Test
+	void testLoggingSlowLocks() {
+		LockStatistics statistics = new LockStatistics();
+		assertFalse(statistics.isLoggingSlowLocks());
+		statistics.setSlowLockThreshold(100L);
+		assertTrue(statistics.isLoggingSlowLocks());
+		statistics.setSlowLockThreshold(0L);
+		assertFalse(statistics.isLoggingSlowLocks());
+	}
+
+	@Test
+	void testReleaseByOtherThreadIsIgnored() throws Exception {
+		LockStatistics statistics = new LockStatistics();
+		statistics.lockObtained("STATE_ACCESS", 0L, null);
+		Thread other = new Thread(() -> statistics.lockReleased("STATE_ACCESS"));
+		other.start();
+		other.join();
+
+		assertEquals(Thread.currentThread().getName(), statistics.getSnapshots().get(0).getHolderThread());
+	}
+
+	@Test
+	void testRetriesFailuresAndDeadlocks() {
+		LockStatistics statistics = new LockStatistics();
+		statistics.lockRetried("TRIGGER_ACCESS", true);
+		statistics.lockRetried("TRIGGER_ACCESS", false);
+		statistics.lockFailed("TRIGGER_ACCESS", 0L, true);
+		statistics.lockObtained("STATE_ACCESS", 0L, null);
+
+		List<LockStatistics.Snapshot> snapshots = statistics.getSnapshots();
+		assertEquals(2, snapshots.size());
+		assertEquals("STATE_ACCESS", snapshots.get(0).getLockName());
+		LockStatistics.Snapshot triggerAccess = snapshots.get(1);
+		assertEquals(0, triggerAccess.getAcquisitionCount());
+		assertEquals(2, triggerAccess.getRetryCount());
+		assertEquals(1, triggerAccess.getFailureCount());
+		assertEquals(2, triggerAccess.getDeadlockCount());
+
+		statistics.reset();
+		assertEquals(0, statistics.getSnapshots().get(1).getRetryCount());
+	}
+}
@@ -0,0 +1,43 @@
+package org.quartz.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class PipelineMetricsTest {
+
+	@Test
+	void testRecordStages() {
+		PipelineMetrics metrics = new PipelineMetrics();
+		metrics.record(PipelineMetrics.Stage.ACQUIRE_TRIGGERS, 10);
+		metrics.record(PipelineMetrics.Stage.ACQUIRE_TRIGGERS, 30);
+
+		assertEquals(2, metrics.getHistogram(PipelineMetrics.Stage.ACQUIRE_TRIGGERS).getCount());
+		assertEquals(20, metrics.getHistogram(PipelineMetrics.Stage.ACQUIRE_TRIGGERS).getMean());
+		assertEquals(0, metrics.getHistogram(PipelineMetrics.Stage.TRIGGERS_FIRED).getCount());
+	}
+
+	@Test
+	void testRecordJobRunTimesByGroup() {
+		PipelineMetrics metrics = new PipelineMetrics();
+		metrics.recordJobRunTime("reports", 100);
+		metrics.recordJobRunTime("reports", 300);
+		metrics.recordJobRunTime("billing", 5);
+
+		assertEquals(2, metrics.getJobRunTimes().size());
+		assertEquals(2, metrics.getJobRunTimes().get("reports").getCount());
+		assertEquals(5, metrics.getJobRunTimes().get("billing").getMax());
+	}
+
+	@Test
+	void testReset() {
+		PipelineMetrics metrics = new PipelineMetrics();
+		metrics.record(PipelineMetrics.Stage.FIRE_LATENESS, 1000);
+		metrics.recordJobRunTime("reports", 100);
+		metrics.reset();
+
+		assertEquals(0, metrics.getHistogram(PipelineMetrics.Stage.FIRE_LATENESS).getCount());
+		assertTrue(metrics.getJobRunTimes().isEmpty());
+	}
+}
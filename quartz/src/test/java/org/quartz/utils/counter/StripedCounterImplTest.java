@@ -0,0 +1,71 @@
+package org.quartz.utils.counter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import org.junit.jupiter.api.Test;
+import org.quartz.utils.counter.sampled.SampledCounter;
+import org.quartz.utils.counter.sampled.StripedSampledCounterConfig;
+import org.quartz.utils.counter.sampled.TimeStampedCounterValue;
+
+class StripedCounterImplTest {
+
+	@Test
+	void testCounterOperations() {
+		StripedCounterImpl counter = new StripedCounterImpl(5);
+
+		assertEquals(6, counter.increment());
+		assertEquals(10, counter.increment(4));
+		assertEquals(9, counter.decrement());
+		assertEquals(7, counter.decrement(2));
+		counter.add(3);
+		assertEquals(10, counter.getValue());
+		assertEquals(10, counter.getAndSet(1));
+		assertEquals(1, counter.getValue());
+		counter.setValue(-2);
+		assertEquals(-2, counter.getValue());
+	}
+
+	@Test
+	void testConcurrentUpdatesAreNotLost() throws Exception {
+		StripedCounterImpl counter = new StripedCounterImpl();
+		Thread[] threads = new Thread[4];
+		long[] reset = new long[1];
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread(() -> {
+				for (int k = 0; k < 100000; k++) {
+					counter.add(1);
+				}
+			});
+			threads[i].start();
+		}
+		// resetting while the counter is updated must not lose any update
+		for (int i = 0; i < 100; i++) {
+			reset[0] += counter.getAndSet(0);
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertEquals(threads.length * 100000L, reset[0] + counter.getValue());
+	}
+
+	@Test
+	void testStripedSampledCounter() {
+		CounterManager counterManager = new CounterManagerImpl(new java.util.Timer(true));
+		try {
+			SampledCounter counter = (SampledCounter) counterManager.createCounter(
+					new StripedSampledCounterConfig(1, 3, true, 0L));
+			counter.add(2);
+
+			assertEquals(2, counter.getAndReset());
+			assertEquals(0, counter.getValue());
+			TimeStampedCounterValue sample = counter.getMostRecentSample();
+			assertNotNull(sample);
+			assertEquals(0, sample.getCounterValue());
+			assertEquals(1, counter.getAllSampleValues().length);
+		} finally {
+			counterManager.shutdown(true);
+		}
+	}
+}
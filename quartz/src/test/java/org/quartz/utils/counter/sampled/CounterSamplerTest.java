@@ -0,0 +1,57 @@
+package org.quartz.utils.counter.sampled;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.quartz.utils.counter.CounterManager;
+import org.quartz.utils.counter.CounterManagerImpl;
+
+class CounterSamplerTest {
+
+	@Test
+	void testSharedSamplerTakesDueSamplesOnly() {
+		CounterSampler sampler = CounterSampler.shared();
+		int before = sampler.getCounterCount();
+		CounterManager first = new CounterManagerImpl();
+		CounterManager second = new CounterManagerImpl();
+		try {
+			StripedSampledCounterImpl counter = (StripedSampledCounterImpl) first.createCounter(
+					new StripedSampledCounterConfig(2, 5, true, 0L));
+			second.createCounter(new SampledCounterConfig(1, 5, false, 0L));
+			assertEquals(before + 2, sampler.getCounterCount());
+
+			counter.add(3);
+			long now = System.currentTimeMillis();
+			// a tick up to half a second early still takes the sample
+			assertFalse(counter.getSchedule().sampleIfDue(now + 1000, CounterSampler.TICK_MILLIS / 2));
+			assertTrue(counter.getSchedule().sampleIfDue(now + 1600, CounterSampler.TICK_MILLIS / 2));
+			assertEquals(3, counter.getMostRecentSampleValue());
+			assertEquals(2, counter.getAllSampleValues().length);
+		} finally {
+			first.shutdown(true);
+			second.shutdown(true);
+		}
+		assertEquals(before, sampler.getCounterCount());
+	}
+
+	@Test
+	void testLazySamplerSamplesWhenRead() throws Exception {
+		CounterManager counterManager = new CounterManagerImpl(CounterSampler.lazy());
+		try {
+			SampledCounter counter = (SampledCounter) counterManager.createCounter(
+					new StripedSampledCounterConfig(1, 5, true, 0L));
+			counter.add(4);
+			assertEquals(0, counter.getMostRecentSample().getCounterValue());
+			assertEquals(0, CounterSampler.lazy().getCounterCount());
+
+			Thread.sleep(1100);
+			counter.add(1);
+			assertEquals(5, counter.getMostRecentSample().getCounterValue());
+			assertEquals(2, counter.getAllSampleValues().length);
+		} finally {
+			counterManager.shutdown(true);
+		}
+	}
+}